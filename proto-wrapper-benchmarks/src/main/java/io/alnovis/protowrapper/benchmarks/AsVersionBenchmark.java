@@ -0,0 +1,55 @@
+package io.alnovis.protowrapper.benchmarks;
+
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.AllFieldTypes;
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.VersionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code asVersion} of the golden {@code AllFieldTypes} message between every
+ * pair of versions, including the same-version case.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Benchmark)
+public class AsVersionBenchmark {
+
+    @Param({"v1", "v2"})
+    public String source;
+
+    @Param({"v1", "v2"})
+    public String target;
+
+    private AllFieldTypes message;
+    private VersionContext targetContext;
+
+    @Setup
+    public void setUp() {
+        message = BenchmarkData.allFieldTypes(VersionContext.forVersionId(source));
+        targetContext = VersionContext.forVersionId(target);
+    }
+
+    @Benchmark
+    public AllFieldTypes asVersionContext() {
+        return message.asVersion(targetContext);
+    }
+
+    @Benchmark
+    public AllFieldTypes asVersionId() {
+        return message.asVersion(target);
+    }
+}
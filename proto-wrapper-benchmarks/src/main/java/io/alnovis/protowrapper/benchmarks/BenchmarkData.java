@@ -0,0 +1,256 @@
+package io.alnovis.protowrapper.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.AllFieldTypes;
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.NestedMessage;
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.TestEnum;
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.VersionContext;
+import io.alnovis.protowrapper.it.proto.v1.Conflicts;
+import io.alnovis.protowrapper.it.proto.v1.MapConflicts;
+import io.alnovis.protowrapper.it.proto.v1.Wellknown;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Shared fixtures for the wrapper benchmarks.
+ *
+ * <p>Golden messages are built through the wrapper API so both versions carry the
+ * same content. Conflict messages are built with the protoc-generated classes,
+ * because each version stores the conflicting fields in a different wire type.</p>
+ */
+public final class BenchmarkData {
+
+    /**
+     * Number of elements in repeated and map fields.
+     */
+    public static final int COLLECTION_SIZE = 16;
+
+    private BenchmarkData() {
+    }
+
+    // ==================== Golden schema ====================
+
+    /**
+     * Populate a golden {@code AllFieldTypes} builder with singular, optional,
+     * repeated, oneof and map values.
+     *
+     * @param ctx version context
+     * @return populated wrapper
+     */
+    public static AllFieldTypes allFieldTypes(VersionContext ctx) {
+        AllFieldTypes.Builder builder = ctx.newAllFieldTypesBuilder()
+                .setSingularInt32(42)
+                .setSingularInt64(4_200_000_000L)
+                .setSingularDouble(3.14159)
+                .setSingularBool(true)
+                .setSingularString("singular string value")
+                .setSingularBytes("singular bytes".getBytes(StandardCharsets.UTF_8))
+                .setSingularMessage(nested(ctx, 1))
+                .setSingularEnum(TestEnum.ENUM_VALUE_TWO)
+                .setOptionalInt32(7)
+                .setOptionalString("optional")
+                .setOneofString("oneof");
+        for (int i = 0; i < COLLECTION_SIZE; i++) {
+            builder.addRepeatedInt32(i)
+                    .addRepeatedString("item-" + i)
+                    .addRepeatedMessage(nested(ctx, i))
+                    .addRepeatedEnum(TestEnum.ENUM_VALUE_ONE)
+                    .putStringToInt32("key-" + i, i)
+                    .putStringToMessage("msg-" + i, nested(ctx, i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Serialized golden {@code AllFieldTypes} for a version.
+     *
+     * @param ctx version context
+     * @return protobuf bytes
+     */
+    public static byte[] allFieldTypesBytes(VersionContext ctx) {
+        return allFieldTypes(ctx).toBytes();
+    }
+
+    private static NestedMessage nested(VersionContext ctx, int id) {
+        return ctx.newNestedMessageBuilder()
+                .setId(id)
+                .setName("nested-" + id)
+                .build();
+    }
+
+    // ==================== Conflict scenarios ====================
+
+    /**
+     * Proto for the WIDENING conflict message.
+     *
+     * @param version "v1" or "v2"
+     * @return proto message
+     */
+    public static Message wideningConflicts(String version) {
+        if ("v1".equals(version)) {
+            return Conflicts.WideningConflicts.newBuilder()
+                    .setSmallCounter(1_000)
+                    .setIntegerValue(42)
+                    .setSinglePrecision(1.5f)
+                    .setSignedSmall(-12)
+                    .setUnsignedSmall(12)
+                    .setIdentifier("widening")
+                    .build();
+        }
+        return io.alnovis.protowrapper.it.proto.v2.Conflicts.WideningConflicts.newBuilder()
+                .setSmallCounter(1_000L)
+                .setIntegerValue(42.0)
+                .setSinglePrecision(1.5)
+                .setSignedSmall(-12L)
+                .setUnsignedSmall(12L)
+                .setIdentifier("widening")
+                .build();
+    }
+
+    /**
+     * Proto for the INT_ENUM conflict message.
+     *
+     * @param version "v1" or "v2"
+     * @return proto message
+     */
+    public static Message intEnumConflicts(String version) {
+        if ("v1".equals(version)) {
+            Conflicts.IntEnumConflicts.Builder builder = Conflicts.IntEnumConflicts.newBuilder()
+                    .setStatus(2)
+                    .setPriority(3)
+                    .setName("int-enum");
+            for (int i = 0; i < COLLECTION_SIZE; i++) {
+                builder.addCategories(i % 4);
+            }
+            return builder.build();
+        }
+        io.alnovis.protowrapper.it.proto.v2.Conflicts.IntEnumConflicts.Builder builder =
+                io.alnovis.protowrapper.it.proto.v2.Conflicts.IntEnumConflicts.newBuilder()
+                        .setStatus(io.alnovis.protowrapper.it.proto.v2.Conflicts.ConflictStatusEnum.CONFLICT_STATUS_ACTIVE)
+                        .setPriority(io.alnovis.protowrapper.it.proto.v2.Conflicts.ConflictPriorityEnum.CONFLICT_PRIORITY_URGENT)
+                        .setName("int-enum");
+        for (int i = 0; i < COLLECTION_SIZE; i++) {
+            builder.addCategories(io.alnovis.protowrapper.it.proto.v2.Conflicts.CategoryEnum.forNumber(i % 4));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Proto for the STRING_BYTES conflict message.
+     *
+     * @param version "v1" or "v2"
+     * @return proto message
+     */
+    public static Message stringBytesConflicts(String version) {
+        String text = "The quick brown fox jumps over the lazy dog";
+        if ("v1".equals(version)) {
+            Conflicts.StringBytesConflicts.Builder builder = Conflicts.StringBytesConflicts.newBuilder()
+                    .setTextData(text)
+                    .setOptionalText(text)
+                    .setIdentifier("string-bytes");
+            for (int i = 0; i < COLLECTION_SIZE; i++) {
+                builder.addTextList(text + i);
+            }
+            return builder.build();
+        }
+        io.alnovis.protowrapper.it.proto.v2.Conflicts.StringBytesConflicts.Builder builder =
+                io.alnovis.protowrapper.it.proto.v2.Conflicts.StringBytesConflicts.newBuilder()
+                        .setTextData(ByteString.copyFromUtf8(text))
+                        .setOptionalText(ByteString.copyFromUtf8(text))
+                        .setIdentifier("string-bytes");
+        for (int i = 0; i < COLLECTION_SIZE; i++) {
+            builder.addTextList(ByteString.copyFromUtf8(text + i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Proto for the repeated conflict message (WIDENING, INT_ENUM and STRING_BYTES lists).
+     *
+     * @param version "v1" or "v2"
+     * @return proto message
+     */
+    public static Message repeatedConflicts(String version) {
+        if ("v1".equals(version)) {
+            Conflicts.RepeatedConflicts.Builder builder = Conflicts.RepeatedConflicts.newBuilder()
+                    .setBatchId("repeated");
+            for (int i = 0; i < COLLECTION_SIZE; i++) {
+                builder.addNumbers(i)
+                        .addCodes(i % 4)
+                        .addTexts("text-" + i)
+                        .addValues(i * 0.5f);
+            }
+            return builder.build();
+        }
+        io.alnovis.protowrapper.it.proto.v2.Conflicts.RepeatedConflicts.Builder builder =
+                io.alnovis.protowrapper.it.proto.v2.Conflicts.RepeatedConflicts.newBuilder()
+                        .setBatchId("repeated");
+        for (int i = 0; i < COLLECTION_SIZE; i++) {
+            builder.addNumbers(i)
+                    .addCodes(io.alnovis.protowrapper.it.proto.v2.Conflicts.CodeEnum.forNumber(i % 4))
+                    .addTexts(ByteString.copyFromUtf8("text-" + i))
+                    .addValues(i * 0.5);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Proto for the map conflict message.
+     *
+     * @param version "v1" or "v2"
+     * @return proto message
+     */
+    public static Message mapConflicts(String version) {
+        List<Integer> priorities = List.of(0, 10, 50, 100);
+        if ("v1".equals(version)) {
+            MapConflicts.MapConflictMessage.Builder builder = MapConflicts.MapConflictMessage.newBuilder();
+            for (int i = 0; i < COLLECTION_SIZE; i++) {
+                builder.putWideningCounts("key-" + i, i)
+                        .putStatusMap("key-" + i, i % 3)
+                        .putPriorityMap("key-" + i, priorities.get(i % 4))
+                        .putLabels("key-" + i, "label-" + i);
+            }
+            return builder.build();
+        }
+        io.alnovis.protowrapper.it.proto.v2.MapConflicts.MapConflictMessage.Builder builder =
+                io.alnovis.protowrapper.it.proto.v2.MapConflicts.MapConflictMessage.newBuilder();
+        for (int i = 0; i < COLLECTION_SIZE; i++) {
+            builder.putWideningCounts("key-" + i, i)
+                    .putStatusMap("key-" + i, io.alnovis.protowrapper.it.proto.v2.MapConflicts.MapStatus.forNumber(i % 3))
+                    .putPriorityMap("key-" + i,
+                            io.alnovis.protowrapper.it.proto.v2.MapConflicts.TaskPriority.forNumber(priorities.get(i % 4)))
+                    .putLabels("key-" + i, "label-" + i);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Proto for the well-known type message (Timestamp and Duration fields).
+     *
+     * @param version "v1" or "v2"
+     * @return proto message
+     */
+    public static Message timestampMessage(String version) {
+        Timestamp created = Timestamp.newBuilder().setSeconds(1_700_000_000L).setNanos(123_000_000).build();
+        Timestamp updated = Timestamp.newBuilder().setSeconds(1_700_000_600L).build();
+        Duration processing = Duration.newBuilder().setSeconds(3).setNanos(500_000_000).build();
+        if ("v1".equals(version)) {
+            return Wellknown.TimestampMessage.newBuilder()
+                    .setId("wkt")
+                    .setCreatedAt(created)
+                    .setUpdatedAt(updated)
+                    .setProcessingTime(processing)
+                    .build();
+        }
+        return io.alnovis.protowrapper.it.proto.v2.Wellknown.TimestampMessage.newBuilder()
+                .setId("wkt")
+                .setCreatedAt(created)
+                .setUpdatedAt(updated)
+                .setProcessingTime(processing)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package io.alnovis.protowrapper.benchmarks;
+
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.AllFieldTypes;
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.NestedMessage;
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.TestEnum;
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.VersionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder {@code build()} of golden wrappers: a flat message with scalar fields,
+ * the fully populated {@code AllFieldTypes}, and {@code toBuilder()} modification.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Benchmark)
+public class BuilderBenchmark {
+
+    @Param({"v1", "v2"})
+    public String version;
+
+    private VersionContext ctx;
+    private AllFieldTypes existing;
+
+    @Setup
+    public void setUp() {
+        ctx = VersionContext.forVersionId(version);
+        existing = BenchmarkData.allFieldTypes(ctx);
+    }
+
+    @Benchmark
+    public NestedMessage buildNested() {
+        return ctx.newNestedMessageBuilder()
+                .setId(1)
+                .setName("nested")
+                .build();
+    }
+
+    @Benchmark
+    public AllFieldTypes buildScalars() {
+        return ctx.newAllFieldTypesBuilder()
+                .setSingularInt32(42)
+                .setSingularInt64(42L)
+                .setSingularDouble(1.5)
+                .setSingularBool(true)
+                .setSingularString("value")
+                .setSingularEnum(TestEnum.ENUM_VALUE_ONE)
+                .setOptionalInt32(7)
+                .build();
+    }
+
+    @Benchmark
+    public AllFieldTypes buildPopulated() {
+        return BenchmarkData.allFieldTypes(ctx);
+    }
+
+    @Benchmark
+    public AllFieldTypes toBuilderModify() {
+        return existing.toBuilder()
+                .setSingularInt32(43)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package io.alnovis.protowrapper.benchmarks;
+
+import io.alnovis.protowrapper.it.model.api.IntEnumConflicts;
+import io.alnovis.protowrapper.it.model.api.MapConflictMessage;
+import io.alnovis.protowrapper.it.model.api.RepeatedConflicts;
+import io.alnovis.protowrapper.it.model.api.StringBytesConflicts;
+import io.alnovis.protowrapper.it.model.api.TimestampMessage;
+import io.alnovis.protowrapper.it.model.api.VersionContext;
+import io.alnovis.protowrapper.it.model.api.WideningConflicts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Getter access on wrappers by conflict type.
+ *
+ * <p>Each benchmark reads every conflicting field of one message, so a change in
+ * how a conflict type is resolved (e.g., a stream-based list conversion) shows up
+ * in exactly one method. Results are per message, not per getter.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Benchmark)
+public class ConflictGetterBenchmark {
+
+    @Param({"v1", "v2"})
+    public String version;
+
+    private WideningConflicts widening;
+    private IntEnumConflicts intEnum;
+    private StringBytesConflicts stringBytes;
+    private RepeatedConflicts repeated;
+    private MapConflictMessage map;
+    private TimestampMessage wellKnown;
+
+    @Setup
+    public void setUp() {
+        VersionContext ctx = VersionContext.forVersionId(version);
+        widening = ctx.wrapWideningConflicts(BenchmarkData.wideningConflicts(version));
+        intEnum = ctx.wrapIntEnumConflicts(BenchmarkData.intEnumConflicts(version));
+        stringBytes = ctx.wrapStringBytesConflicts(BenchmarkData.stringBytesConflicts(version));
+        repeated = ctx.wrapRepeatedConflicts(BenchmarkData.repeatedConflicts(version));
+        map = ctx.wrapMapConflictMessage(BenchmarkData.mapConflicts(version));
+        wellKnown = ctx.wrapTimestampMessage(BenchmarkData.timestampMessage(version));
+    }
+
+    @Benchmark
+    public void widening(Blackhole bh) {
+        bh.consume(widening.getSmallCounter());
+        bh.consume(widening.getIntegerValue());
+        bh.consume(widening.getSinglePrecision());
+        bh.consume(widening.getSignedSmall());
+        bh.consume(widening.getUnsignedSmall());
+    }
+
+    @Benchmark
+    public void intEnum(Blackhole bh) {
+        bh.consume(intEnum.getStatus());
+        bh.consume(intEnum.getStatusEnum());
+        bh.consume(intEnum.getPriority());
+        bh.consume(intEnum.getPriorityEnum());
+    }
+
+    @Benchmark
+    public void stringBytes(Blackhole bh) {
+        bh.consume(stringBytes.getTextData());
+        bh.consume(stringBytes.getTextDataBytes());
+        bh.consume(stringBytes.getOptionalText());
+    }
+
+    @Benchmark
+    public void repeated(Blackhole bh) {
+        bh.consume(repeated.getNumbers());
+        bh.consume(repeated.getCodes());
+        bh.consume(repeated.getTexts());
+        bh.consume(repeated.getValues());
+        bh.consume(intEnum.getCategories());
+        bh.consume(stringBytes.getTextList());
+    }
+
+    @Benchmark
+    public long repeatedIterate() {
+        long sum = 0;
+        for (Long number : repeated.getNumbers()) {
+            sum += number;
+        }
+        for (Integer code : repeated.getCodes()) {
+            sum += code;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void map(Blackhole bh) {
+        bh.consume(map.getWideningCountsMap());
+        bh.consume(map.getStatusMapMap());
+        bh.consume(map.getPriorityMapMap());
+        bh.consume(map.getLabelsMap());
+    }
+
+    @Benchmark
+    public long mapLookup() {
+        return map.getWideningCountsOrDefault("key-7", 0L)
+                + map.getStatusMapOrDefault("key-7", 0)
+                + map.getPriorityMapOrDefault("key-7", 0);
+    }
+
+    @Benchmark
+    public void wellKnownTypes(Blackhole bh) {
+        bh.consume(wellKnown.getCreatedAt());
+        bh.consume(wellKnown.getUpdatedAt());
+        bh.consume(wellKnown.getProcessingTime());
+    }
+}
@@ -0,0 +1,73 @@
+package io.alnovis.protowrapper.benchmarks;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.AllFieldTypes;
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.VersionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse + wrap and {@code toBytes} of the golden {@code AllFieldTypes} message.
+ *
+ * <p>The {@code protobuf*} methods measure the same work on the protoc-generated
+ * class, so the wrapper overhead is the difference between the two.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    @Param({"v1", "v2"})
+    public String version;
+
+    private VersionContext ctx;
+    private byte[] bytes;
+    private AllFieldTypes wrapper;
+    private Message proto;
+    private Parser<? extends Message> parser;
+
+    @Setup
+    public void setUp() throws InvalidProtocolBufferException {
+        ctx = VersionContext.forVersionId(version);
+        bytes = BenchmarkData.allFieldTypesBytes(ctx);
+        wrapper = ctx.parseAllFieldTypesFromBytes(bytes);
+        proto = wrapper.getTypedProto();
+        parser = proto.getParserForType();
+    }
+
+    @Benchmark
+    public AllFieldTypes parseAndWrap() throws InvalidProtocolBufferException {
+        return ctx.parseAllFieldTypesFromBytes(bytes);
+    }
+
+    @Benchmark
+    public Message protobufParse() throws InvalidProtocolBufferException {
+        return parser.parseFrom(bytes);
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return wrapper.toBytes();
+    }
+
+    @Benchmark
+    public byte[] protobufToByteArray() {
+        return proto.toByteArray();
+    }
+}
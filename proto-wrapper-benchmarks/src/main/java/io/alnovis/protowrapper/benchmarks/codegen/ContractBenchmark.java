@@ -0,0 +1,66 @@
+package io.alnovis.protowrapper.benchmarks.codegen;
+
+import io.alnovis.protowrapper.contract.ContractProvider;
+import io.alnovis.protowrapper.model.MergedField;
+import io.alnovis.protowrapper.model.MergedMessage;
+import io.alnovis.protowrapper.model.MergedSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ContractProvider} contract building for every field of a merged schema.
+ *
+ * <p>{@code buildContracts} creates each contract from scratch, {@code cachedContracts}
+ * measures the per-message cache lookups the generators perform.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ContractBenchmark extends SchemaParams {
+
+    private final ContractProvider provider = ContractProvider.getInstance();
+    private MergedSchema schema;
+
+    @Setup
+    public void setUp() {
+        schema = merge(syntheticSchema());
+        for (MergedMessage message : schema.getMessages()) {
+            provider.getContracts(message);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        provider.clearCache();
+    }
+
+    @Benchmark
+    public void buildContracts(Blackhole bh) {
+        for (MergedMessage message : schema.getMessages()) {
+            for (MergedField field : message.getFields()) {
+                bh.consume(provider.getContract(field));
+            }
+        }
+    }
+
+    @Benchmark
+    public void cachedContracts(Blackhole bh) {
+        for (MergedMessage message : schema.getMessages()) {
+            for (MergedField field : message.getFields()) {
+                bh.consume(provider.getContract(message, field));
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.alnovis.protowrapper.benchmarks.codegen;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import io.alnovis.protowrapper.PluginLogger;
+import io.alnovis.protowrapper.contract.ContractProvider;
+import io.alnovis.protowrapper.generator.GenerationOrchestrator;
+import io.alnovis.protowrapper.generator.GeneratorConfig;
+import io.alnovis.protowrapper.model.MergedSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@code GenerationOrchestrator.generateAll}, sequential and parallel.
+ *
+ * <p>Sources are written to an in-memory Jimfs file system, so disk I/O does not
+ * affect the numbers. The contract cache is cleared before each run, as in a fresh
+ * build. Each measurement is a single full generation run.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GenerateAllBenchmark extends SchemaParams {
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private SyntheticSchema synthetic;
+    private MergedSchema schema;
+    private List<GenerationOrchestrator.VersionConfig> versionConfigs;
+    private FileSystem fileSystem;
+    private GenerationOrchestrator orchestrator;
+
+    @Setup
+    public void setUp() throws IOException {
+        synthetic = syntheticSchema();
+        schema = merge(synthetic);
+        versionConfigs = synthetic.versionConfigs();
+
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        Path outputDirectory = Files.createDirectories(fileSystem.getPath("/generated-sources"));
+        orchestrator = new GenerationOrchestrator(generatorConfig(outputDirectory, parallel), PluginLogger.noop());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        fileSystem.close();
+        ContractProvider.getInstance().clearCache();
+    }
+
+    @Benchmark
+    public int generateAll() throws IOException {
+        ContractProvider.getInstance().clearCache();
+        return orchestrator.generateAll(schema, versionConfigs, synthetic.protoClassNameResolver());
+    }
+
+    /**
+     * Generator configuration used by the code generation benchmarks: interfaces,
+     * abstract classes, impl classes with builders, VersionContext and ProtocolVersions.
+     *
+     * @param outputDirectory output directory
+     * @param parallel whether to enable parallel generation
+     * @return generator configuration
+     */
+    static GeneratorConfig generatorConfig(Path outputDirectory, boolean parallel) {
+        return GeneratorConfig.builder()
+                .outputDirectory(outputDirectory)
+                .apiPackage("bench.model.api")
+                .implPackagePattern("bench.model.{version}")
+                .protoPackagePattern(SyntheticSchema.PACKAGE_PREFIX + "{version}")
+                .generateBuilders(true)
+                .parallelGeneration(parallel)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package io.alnovis.protowrapper.benchmarks.codegen;
+
+import com.squareup.javapoet.JavaFile;
+import io.alnovis.protowrapper.contract.ContractProvider;
+import io.alnovis.protowrapper.generator.AbstractClassGenerator;
+import io.alnovis.protowrapper.generator.ConflictEnumGenerator;
+import io.alnovis.protowrapper.generator.EnumGenerator;
+import io.alnovis.protowrapper.generator.GenerationContext;
+import io.alnovis.protowrapper.generator.GeneratorConfig;
+import io.alnovis.protowrapper.generator.ImplClassGenerator;
+import io.alnovis.protowrapper.generator.InterfaceGenerator;
+import io.alnovis.protowrapper.generator.VersionContextGenerator;
+import io.alnovis.protowrapper.model.ConflictEnumInfo;
+import io.alnovis.protowrapper.model.MergedEnum;
+import io.alnovis.protowrapper.model.MergedMessage;
+import io.alnovis.protowrapper.model.MergedSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-generator {@code generate(...)} over a whole merged schema, without I/O.
+ *
+ * <p>Each method runs one generator for every message (or enum) it would handle in
+ * {@code generateAll}; {@code implClasses} covers all versions. {@code renderInterfaces}
+ * isolates the JavaPoet source rendering of prebuilt interface files.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GeneratorBenchmark extends SchemaParams {
+
+    private SyntheticSchema synthetic;
+    private MergedSchema schema;
+    private GenerationContext ctx;
+    private List<GenerationContext> versionContexts;
+    private List<List<String>> protoClassNames;
+
+    private InterfaceGenerator interfaceGenerator;
+    private AbstractClassGenerator abstractClassGenerator;
+    private ImplClassGenerator implClassGenerator;
+    private EnumGenerator enumGenerator;
+    private ConflictEnumGenerator conflictEnumGenerator;
+    private VersionContextGenerator versionContextGenerator;
+
+    private List<JavaFile> interfaceFiles;
+
+    @Setup
+    public void setUp() {
+        synthetic = syntheticSchema();
+        schema = merge(synthetic);
+
+        GeneratorConfig config = GenerateAllBenchmark.generatorConfig(Path.of("unused"), false);
+        ctx = GenerationContext.create(schema, config);
+        versionContexts = new ArrayList<>();
+        protoClassNames = new ArrayList<>();
+        for (String version : schema.getVersions()) {
+            versionContexts.add(ctx.withVersion(version));
+            List<String> names = new ArrayList<>();
+            for (MergedMessage message : schema.getMessages()) {
+                names.add(synthetic.protoClassNameResolver().resolve(message, () -> version));
+            }
+            protoClassNames.add(names);
+        }
+
+        interfaceGenerator = new InterfaceGenerator(config);
+        abstractClassGenerator = new AbstractClassGenerator(config);
+        implClassGenerator = new ImplClassGenerator(config);
+        enumGenerator = new EnumGenerator(config);
+        conflictEnumGenerator = new ConflictEnumGenerator(config);
+        versionContextGenerator = new VersionContextGenerator(config);
+
+        interfaceFiles = new ArrayList<>();
+        for (MergedMessage message : schema.getMessages()) {
+            interfaceFiles.add(interfaceGenerator.generate(message, ctx));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ContractProvider.getInstance().clearCache();
+    }
+
+    @Benchmark
+    public void interfaces(Blackhole bh) {
+        for (MergedMessage message : schema.getMessages()) {
+            bh.consume(interfaceGenerator.generate(message, ctx));
+        }
+    }
+
+    @Benchmark
+    public void abstractClasses(Blackhole bh) {
+        for (MergedMessage message : schema.getMessages()) {
+            bh.consume(abstractClassGenerator.generate(message, ctx));
+        }
+    }
+
+    @Benchmark
+    public void implClasses(Blackhole bh) {
+        for (int v = 0; v < versionContexts.size(); v++) {
+            GenerationContext versionCtx = versionContexts.get(v);
+            String version = versionCtx.getCurrentVersion();
+            List<String> names = protoClassNames.get(v);
+            int i = 0;
+            for (MergedMessage message : schema.getMessages()) {
+                if (message.getPresentInVersions().contains(version)) {
+                    bh.consume(implClassGenerator.generate(message, names.get(i), versionCtx));
+                }
+                i++;
+            }
+        }
+    }
+
+    @Benchmark
+    public void enums(Blackhole bh) {
+        for (MergedEnum enumInfo : schema.getEnums()) {
+            bh.consume(enumGenerator.generate(enumInfo));
+        }
+        for (ConflictEnumInfo enumInfo : schema.getConflictEnums()) {
+            bh.consume(conflictEnumGenerator.generate(enumInfo));
+        }
+    }
+
+    @Benchmark
+    public void versionContext(Blackhole bh) {
+        bh.consume(versionContextGenerator.generateInterface(schema));
+        for (String version : schema.getVersions()) {
+            bh.consume(versionContextGenerator.generateImpl(schema, version,
+                    synthetic.protoMappings(schema.getMessages(), version)));
+        }
+    }
+
+    @Benchmark
+    public void renderInterfaces(Blackhole bh) throws IOException {
+        StringBuilder out = new StringBuilder(64 * 1024);
+        for (JavaFile file : interfaceFiles) {
+            out.setLength(0);
+            file.writeTo(out);
+            bh.consume(out.length());
+        }
+    }
+}
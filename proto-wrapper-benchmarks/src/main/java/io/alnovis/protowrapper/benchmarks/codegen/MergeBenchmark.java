@@ -0,0 +1,57 @@
+package io.alnovis.protowrapper.benchmarks.codegen;
+
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import io.alnovis.protowrapper.PluginLogger;
+import io.alnovis.protowrapper.analyzer.ProtoAnalyzer.VersionSchema;
+import io.alnovis.protowrapper.merger.VersionMerger;
+import io.alnovis.protowrapper.merger.VersionMerger.MergerConfig;
+import io.alnovis.protowrapper.model.MergedSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Descriptor analysis ({@code ProtoAnalyzer}) and {@code VersionMerger.merge}
+ * of synthetic schemas; {@code merge} runs sequentially and in parallel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MergeBenchmark extends SchemaParams {
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private SyntheticSchema synthetic;
+    private List<FileDescriptorSet> descriptorSets;
+    private List<VersionSchema> versionSchemas;
+
+    @Setup
+    public void setUp() {
+        synthetic = syntheticSchema();
+        descriptorSets = synthetic.descriptorSets();
+        versionSchemas = synthetic.versionSchemas(descriptorSets);
+    }
+
+    @Benchmark
+    public List<VersionSchema> analyze() {
+        return synthetic.versionSchemas(descriptorSets);
+    }
+
+    @Benchmark
+    public MergedSchema merge() {
+        return new VersionMerger(new MergerConfig().setParallelMerge(parallel), PluginLogger.noop())
+                .merge(versionSchemas);
+    }
+}
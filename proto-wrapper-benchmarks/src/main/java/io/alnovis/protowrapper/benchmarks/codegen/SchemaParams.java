@@ -0,0 +1,49 @@
+package io.alnovis.protowrapper.benchmarks.codegen;
+
+import io.alnovis.protowrapper.PluginLogger;
+import io.alnovis.protowrapper.merger.VersionMerger;
+import io.alnovis.protowrapper.model.MergedSchema;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Schema size parameters shared by the code generation benchmarks.
+ *
+ * <p>Override on the command line to reproduce large schemas, e.g.
+ * {@code -p messages=3000 -p versions=15}.</p>
+ */
+@State(Scope.Benchmark)
+public abstract class SchemaParams {
+
+    @Param({"100", "500"})
+    public int messages;
+
+    @Param({"20"})
+    public int fieldsPerMessage;
+
+    @Param({"3", "15"})
+    public int versions;
+
+    @Param({"0.1"})
+    public double conflictDensity;
+
+    /**
+     * Synthetic schema for the current parameters.
+     *
+     * @return synthetic schema
+     */
+    protected SyntheticSchema syntheticSchema() {
+        return new SyntheticSchema(messages, fieldsPerMessage, versions, conflictDensity);
+    }
+
+    /**
+     * Analyze and merge the synthetic schema.
+     *
+     * @param synthetic synthetic schema
+     * @return merged schema
+     */
+    protected static MergedSchema merge(SyntheticSchema synthetic) {
+        return new VersionMerger(PluginLogger.noop()).merge(synthetic.versionSchemas());
+    }
+}
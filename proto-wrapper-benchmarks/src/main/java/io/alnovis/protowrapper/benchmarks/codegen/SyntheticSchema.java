@@ -0,0 +1,320 @@
+package io.alnovis.protowrapper.benchmarks.codegen;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.DescriptorProtos.FileOptions;
+import com.google.protobuf.DescriptorProtos.MessageOptions;
+import io.alnovis.protowrapper.analyzer.ProtoAnalyzer;
+import io.alnovis.protowrapper.analyzer.ProtoAnalyzer.VersionSchema;
+import io.alnovis.protowrapper.generator.GenerationOrchestrator;
+import io.alnovis.protowrapper.model.MergedMessage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates synthetic multi-version schemas for the code generation benchmarks.
+ *
+ * <p>Each version is a single proto3 file in package {@code bench.v<N>} with
+ * {@code messageCount} top-level messages, a shared {@code Status} enum and a
+ * {@code Ref} message. Every message has {@code fieldsPerMessage} fields mixing
+ * scalars, strings, enums, message references, repeated fields and one map field.</p>
+ *
+ * <p>{@code conflictDensity} is the fraction of fields whose type alternates between
+ * versions. Conflicting fields cycle through WIDENING, INT_ENUM, STRING_BYTES,
+ * FLOAT_DOUBLE and PRIMITIVE_MESSAGE. In addition, every 20th message and the last
+ * field of every message only exist from the second version on, so the merger also
+ * sees version-specific messages and fields.</p>
+ *
+ * <p>The output is fully deterministic for the same parameters.</p>
+ */
+public final class SyntheticSchema {
+
+    /**
+     * Package prefix of the synthetic proto files; the version id is appended.
+     */
+    public static final String PACKAGE_PREFIX = "bench.";
+
+    /**
+     * Outer class name of the synthetic proto files.
+     */
+    public static final String OUTER_CLASS = "Synthetic";
+
+    private static final String STATUS_ENUM = "Status";
+    private static final String REF_MESSAGE = "Ref";
+    private static final int CONFLICT_KINDS = 5;
+
+    private final int messageCount;
+    private final int fieldsPerMessage;
+    private final int versionCount;
+    private final double conflictDensity;
+
+    /**
+     * Create a synthetic schema description.
+     *
+     * @param messageCount number of top-level messages per version
+     * @param fieldsPerMessage number of fields per message (at least 2)
+     * @param versionCount number of versions
+     * @param conflictDensity fraction of fields with a type conflict, 0.0 to 1.0
+     */
+    public SyntheticSchema(int messageCount, int fieldsPerMessage, int versionCount, double conflictDensity) {
+        if (messageCount < 1 || fieldsPerMessage < 2 || versionCount < 1) {
+            throw new IllegalArgumentException("messageCount >= 1, fieldsPerMessage >= 2 and versionCount >= 1 required");
+        }
+        if (conflictDensity < 0.0 || conflictDensity > 1.0) {
+            throw new IllegalArgumentException("conflictDensity must be between 0.0 and 1.0: " + conflictDensity);
+        }
+        this.messageCount = messageCount;
+        this.fieldsPerMessage = fieldsPerMessage;
+        this.versionCount = versionCount;
+        this.conflictDensity = conflictDensity;
+    }
+
+    /**
+     * Version identifiers, {@code v1} to {@code v<versionCount>}.
+     *
+     * @return version ids in order
+     */
+    public List<String> versionIds() {
+        List<String> ids = new ArrayList<>(versionCount);
+        for (int v = 1; v <= versionCount; v++) {
+            ids.add("v" + v);
+        }
+        return ids;
+    }
+
+    /**
+     * Build the descriptor sets of all versions.
+     *
+     * @return one descriptor set per version, in version order
+     */
+    public List<FileDescriptorSet> descriptorSets() {
+        List<FileDescriptorSet> sets = new ArrayList<>(versionCount);
+        for (int v = 0; v < versionCount; v++) {
+            sets.add(FileDescriptorSet.newBuilder().addFile(file(v)).build());
+        }
+        return sets;
+    }
+
+    /**
+     * Analyze all versions with {@link ProtoAnalyzer}, as the plugins do.
+     *
+     * @return one version schema per version, in version order
+     */
+    public List<VersionSchema> versionSchemas() {
+        return versionSchemas(descriptorSets());
+    }
+
+    /**
+     * Analyze prebuilt descriptor sets with {@link ProtoAnalyzer}.
+     *
+     * @param descriptorSets descriptor sets from {@link #descriptorSets()}
+     * @return one version schema per version, in version order
+     */
+    public List<VersionSchema> versionSchemas(List<FileDescriptorSet> descriptorSets) {
+        ProtoAnalyzer analyzer = new ProtoAnalyzer();
+        List<String> ids = versionIds();
+        List<VersionSchema> schemas = new ArrayList<>(versionCount);
+        for (int v = 0; v < versionCount; v++) {
+            schemas.add(analyzer.analyze(descriptorSets.get(v), ids.get(v)));
+        }
+        return schemas;
+    }
+
+    /**
+     * Version configurations for {@link GenerationOrchestrator}.
+     *
+     * @return one config per version
+     */
+    public List<GenerationOrchestrator.VersionConfig> versionConfigs() {
+        List<GenerationOrchestrator.VersionConfig> configs = new ArrayList<>(versionCount);
+        for (String id : versionIds()) {
+            configs.add(() -> id);
+        }
+        return configs;
+    }
+
+    /**
+     * Resolver for the protoc-generated class names of the synthetic messages.
+     *
+     * @return proto class name resolver
+     */
+    public GenerationOrchestrator.ProtoClassNameResolver protoClassNameResolver() {
+        return (message, versionConfig) -> protoClassName(message, versionConfig.getVersionId());
+    }
+
+    /**
+     * Proto class names of all messages present in a version, keyed by message name.
+     *
+     * @param messages merged messages
+     * @param version version id
+     * @return message name to proto class name
+     */
+    public Map<String, String> protoMappings(Iterable<MergedMessage> messages, String version) {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        for (MergedMessage message : messages) {
+            if (message.getPresentInVersions().contains(version)) {
+                mappings.put(message.getName(), protoClassName(message, version));
+            }
+        }
+        return mappings;
+    }
+
+    private static String protoClassName(MergedMessage message, String version) {
+        return PACKAGE_PREFIX + version + "." + OUTER_CLASS + "." + message.getName();
+    }
+
+    @Override
+    public String toString() {
+        return "SyntheticSchema[messages=" + messageCount + ", fields=" + fieldsPerMessage
+                + ", versions=" + versionCount + ", conflictDensity=" + conflictDensity + "]";
+    }
+
+    // ==================== Descriptor construction ====================
+
+    private FileDescriptorProto file(int v) {
+        String pkg = PACKAGE_PREFIX + "v" + (v + 1);
+        FileDescriptorProto.Builder file = FileDescriptorProto.newBuilder()
+                .setName("v" + (v + 1) + "/synthetic.proto")
+                .setPackage(pkg)
+                .setSyntax("proto3")
+                .setOptions(FileOptions.newBuilder()
+                        .setJavaPackage(pkg)
+                        .setJavaOuterClassname(OUTER_CLASS));
+
+        file.addEnumType(statusEnum(v));
+        file.addMessageType(DescriptorProto.newBuilder()
+                .setName(REF_MESSAGE)
+                .addField(field("id", 1, Type.TYPE_INT64, Label.LABEL_OPTIONAL, null))
+                .addField(field("kind", 2, Type.TYPE_STRING, Label.LABEL_OPTIONAL, null)));
+
+        for (int i = 0; i < messageCount; i++) {
+            if (isVersionSpecificMessage(i) && v == 0 && versionCount > 1) {
+                continue;
+            }
+            file.addMessageType(message(pkg, i, v));
+        }
+        return file.build();
+    }
+
+    private EnumDescriptorProto statusEnum(int v) {
+        EnumDescriptorProto.Builder status = EnumDescriptorProto.newBuilder().setName(STATUS_ENUM)
+                .addValue(enumValue("STATUS_UNKNOWN", 0))
+                .addValue(enumValue("STATUS_ACTIVE", 1))
+                .addValue(enumValue("STATUS_INACTIVE", 2));
+        // Later versions add a value
+        if (v > 0) {
+            status.addValue(enumValue("STATUS_ARCHIVED", 3));
+        }
+        return status.build();
+    }
+
+    private DescriptorProto message(String pkg, int index, int v) {
+        String name = messageName(index);
+        DescriptorProto.Builder message = DescriptorProto.newBuilder().setName(name);
+
+        int regularFields = fieldsPerMessage - 1;
+        for (int j = 0; j < regularFields; j++) {
+            // The last regular field is added in the second version
+            if (j == regularFields - 1 && v == 0 && versionCount > 1 && regularFields > 1) {
+                continue;
+            }
+            String fieldName = "field_" + j;
+            int number = j + 1;
+            if (isConflicting(index, j)) {
+                message.addField(conflictingField(pkg, fieldName, number, (index + j) % CONFLICT_KINDS, v));
+            } else {
+                message.addField(stableField(pkg, fieldName, number, index, j));
+            }
+        }
+
+        // map<string, int32> attributes
+        String entryName = "AttributesEntry";
+        message.addNestedType(DescriptorProto.newBuilder()
+                .setName(entryName)
+                .setOptions(MessageOptions.newBuilder().setMapEntry(true))
+                .addField(field("key", 1, Type.TYPE_STRING, Label.LABEL_OPTIONAL, null))
+                .addField(field("value", 2, Type.TYPE_INT32, Label.LABEL_OPTIONAL, null)));
+        message.addField(field("attributes", fieldsPerMessage, Type.TYPE_MESSAGE, Label.LABEL_REPEATED,
+                "." + pkg + "." + name + "." + entryName));
+
+        return message.build();
+    }
+
+    private FieldDescriptorProto stableField(String pkg, String name, int number, int messageIndex, int fieldIndex) {
+        return switch (fieldIndex % 7) {
+            case 0 -> field(name, number, Type.TYPE_INT32, Label.LABEL_OPTIONAL, null);
+            case 1 -> field(name, number, Type.TYPE_STRING, Label.LABEL_OPTIONAL, null);
+            case 2 -> field(name, number, Type.TYPE_INT64, Label.LABEL_OPTIONAL, null);
+            case 3 -> field(name, number, Type.TYPE_BOOL, Label.LABEL_OPTIONAL, null);
+            case 4 -> field(name, number, Type.TYPE_ENUM, Label.LABEL_OPTIONAL, "." + pkg + "." + STATUS_ENUM);
+            case 5 -> field(name, number, Type.TYPE_MESSAGE, Label.LABEL_OPTIONAL,
+                    "." + pkg + "." + messageName(referencedMessage(messageIndex)));
+            default -> field(name, number, Type.TYPE_STRING, Label.LABEL_REPEATED, null);
+        };
+    }
+
+    private FieldDescriptorProto conflictingField(String pkg, String name, int number, int kind, int v) {
+        boolean odd = v % 2 == 1;
+        return switch (kind) {
+            // WIDENING: int32 -> int64
+            case 0 -> field(name, number, odd ? Type.TYPE_INT64 : Type.TYPE_INT32, Label.LABEL_OPTIONAL, null);
+            // INT_ENUM: int32 -> enum
+            case 1 -> odd
+                    ? field(name, number, Type.TYPE_ENUM, Label.LABEL_OPTIONAL, "." + pkg + "." + STATUS_ENUM)
+                    : field(name, number, Type.TYPE_INT32, Label.LABEL_OPTIONAL, null);
+            // STRING_BYTES: string -> bytes
+            case 2 -> field(name, number, odd ? Type.TYPE_BYTES : Type.TYPE_STRING, Label.LABEL_OPTIONAL, null);
+            // FLOAT_DOUBLE: float -> double
+            case 3 -> field(name, number, odd ? Type.TYPE_DOUBLE : Type.TYPE_FLOAT, Label.LABEL_OPTIONAL, null);
+            // PRIMITIVE_MESSAGE: int64 -> Ref
+            default -> odd
+                    ? field(name, number, Type.TYPE_MESSAGE, Label.LABEL_OPTIONAL, "." + pkg + "." + REF_MESSAGE)
+                    : field(name, number, Type.TYPE_INT64, Label.LABEL_OPTIONAL, null);
+        };
+    }
+
+    private boolean isConflicting(int messageIndex, int fieldIndex) {
+        // Deterministic spread of conflicting fields over the whole schema
+        int bucket = Math.floorMod(messageIndex * 31 + fieldIndex * 17, 100);
+        return bucket < Math.round(conflictDensity * 100);
+    }
+
+    private static boolean isVersionSpecificMessage(int index) {
+        return index % 20 == 19;
+    }
+
+    private int referencedMessage(int index) {
+        int target = (index + 1) % messageCount;
+        // Do not reference messages that are missing in the first version
+        return isVersionSpecificMessage(target) ? 0 : target;
+    }
+
+    private static String messageName(int index) {
+        return String.format("Message%05d", index);
+    }
+
+    private static FieldDescriptorProto field(String name, int number, Type type, Label label, String typeName) {
+        FieldDescriptorProto.Builder field = FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(label);
+        if (typeName != null) {
+            field.setTypeName(typeName);
+        }
+        return field.build();
+    }
+
+    private static EnumValueDescriptorProto enumValue(String name, int number) {
+        return EnumValueDescriptorProto.newBuilder().setName(name).setNumber(number).build();
+    }
+}
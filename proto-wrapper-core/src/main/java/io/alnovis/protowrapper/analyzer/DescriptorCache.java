@@ -0,0 +1,138 @@
+package io.alnovis.protowrapper.analyzer;
+
+import io.alnovis.protowrapper.PluginLogger;
+import io.alnovis.protowrapper.incremental.FileFingerprint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Content-addressed cache of protoc descriptor sets.
+ *
+ * <p>A descriptor is stored as {@code <sha256>.pb} in the cache directory. The key covers the
+ * protoc version, the source directory's position under the proto path, and the path and
+ * content hash of every {@code .proto} file under the proto path (so changed imports are
+ * picked up). An unchanged version directory therefore runs protoc once, across runs that
+ * share the cache directory.</p>
+ *
+ * <p>Safe for concurrent use: descriptors are generated into a temporary file and moved into
+ * place, so readers never see a partial file.</p>
+ *
+ * @since 2.4.0
+ */
+public class DescriptorCache {
+
+    private final Path cacheDir;
+    private final ProtocExecutor protoc;
+    private final PluginLogger logger;
+    private final String protocVersion;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a cache backed by a directory.
+     *
+     * @param cacheDir directory holding cached descriptors; created if missing
+     * @param protoc protoc executor used on cache misses
+     * @param logger the logger to use
+     * @throws IOException if the cache directory cannot be created
+     */
+    public DescriptorCache(Path cacheDir, ProtocExecutor protoc, PluginLogger logger) throws IOException {
+        this.cacheDir = Files.createDirectories(cacheDir);
+        this.protoc = protoc;
+        this.logger = logger;
+        // Resolves protoc once, before any concurrent use
+        String version = protoc.queryInstalledProtocVersion();
+        this.protocVersion = version != null ? version : "unknown";
+    }
+
+    /**
+     * Return the descriptor set for a proto directory, running protoc only on a cache miss.
+     *
+     * @param sourceDir directory containing the .proto files to compile
+     * @param includeDir proto path passed to protoc (see {@link ProtocExecutor#detectIncludePath(Path)})
+     * @return path to the cached descriptor set
+     * @throws IOException if the sources cannot be read or protoc fails
+     */
+    public Path getDescriptor(Path sourceDir, Path includeDir) throws IOException {
+        Path cached = cacheDir.resolve(computeKey(sourceDir, includeDir) + ".pb");
+        if (Files.isRegularFile(cached)) {
+            hits.increment();
+            logger.debug("Descriptor cache hit for " + sourceDir + ": " + cached.getFileName());
+            return cached;
+        }
+
+        misses.increment();
+        Path temp = Files.createTempFile(cacheDir, "descriptor-", ".tmp");
+        try {
+            protoc.generateDescriptor(sourceDir, temp, includeDir);
+            try {
+                Files.move(temp, cached, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, cached, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return cached;
+    }
+
+    /**
+     * Compute the cache key for a proto directory.
+     *
+     * @param sourceDir directory containing the .proto files to compile
+     * @param includeDir proto path passed to protoc
+     * @return hex SHA-256 key
+     * @throws IOException if the sources cannot be read
+     */
+    public String computeKey(Path sourceDir, Path includeDir) throws IOException {
+        Path root = includeDir.toAbsolutePath().normalize();
+        MessageDigest digest = sha256();
+        update(digest, protocVersion);
+        update(digest, root.relativize(sourceDir.toAbsolutePath().normalize()).toString().replace('\\', '/'));
+
+        List<Path> files = protoc.findProtoFiles(root).stream().sorted().toList();
+        for (Path file : files) {
+            FileFingerprint fingerprint = FileFingerprint.compute(file, root);
+            update(digest, fingerprint.relativePath());
+            update(digest, fingerprint.contentHash());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @return number of descriptors served from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of descriptors generated by protoc
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
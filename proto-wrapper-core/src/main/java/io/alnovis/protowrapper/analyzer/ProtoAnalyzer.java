@@ -152,6 +152,9 @@ public class ProtoAnalyzer {
         private final String version;
         private final Map<String, MessageInfo> messages;
         private final Map<String, EnumInfo> enums;
+        // One-pass indexes by nested path ("Order", "Order.Item", "Order.Item.Status")
+        private final Map<String, MessageInfo> messagesByPath;
+        private final Map<String, EnumInfo> enumsByPath;
         private ProtoSyntax detectedSyntax;
 
         /**
@@ -163,6 +166,8 @@ public class ProtoAnalyzer {
             this.version = version;
             this.messages = new LinkedHashMap<>();
             this.enums = new LinkedHashMap<>();
+            this.messagesByPath = new HashMap<>();
+            this.enumsByPath = new HashMap<>();
             this.detectedSyntax = ProtoSyntax.PROTO2; // default
         }
 
@@ -172,7 +177,31 @@ public class ProtoAnalyzer {
          * @param message the message to add
          */
         public void addMessage(MessageInfo message) {
-            messages.put(message.getName(), message);
+            MessageInfo previous = messages.put(message.getName(), message);
+            if (previous != null) {
+                unindex(previous.getName(), previous);
+            }
+            index(message.getName(), message);
+        }
+
+        private void index(String path, MessageInfo message) {
+            messagesByPath.put(path, message);
+            for (EnumInfo nestedEnum : message.getNestedEnums()) {
+                enumsByPath.put(path + "." + nestedEnum.getName(), nestedEnum);
+            }
+            for (MessageInfo nested : message.getNestedMessages()) {
+                index(path + "." + nested.getName(), nested);
+            }
+        }
+
+        private void unindex(String path, MessageInfo message) {
+            messagesByPath.remove(path);
+            for (EnumInfo nestedEnum : message.getNestedEnums()) {
+                enumsByPath.remove(path + "." + nestedEnum.getName());
+            }
+            for (MessageInfo nested : message.getNestedMessages()) {
+                unindex(path + "." + nested.getName(), nested);
+            }
         }
 
         /**
@@ -182,6 +211,7 @@ public class ProtoAnalyzer {
          */
         public void addEnum(EnumInfo enumInfo) {
             enums.put(enumInfo.getName(), enumInfo);
+            enumsByPath.put(enumInfo.getName(), enumInfo);
         }
 
         /**
@@ -231,6 +261,28 @@ public class ProtoAnalyzer {
             return Optional.ofNullable(enums.get(name));
         }
 
+        /**
+         * Get a message by nested path, e.g. {@code "Order"} or {@code "Order.Item"}.
+         *
+         * @param path the message name, with parent message names for nested messages
+         * @return an Optional containing the message if found
+         * @since 2.4.0
+         */
+        public Optional<MessageInfo> getMessageByPath(String path) {
+            return Optional.ofNullable(messagesByPath.get(path));
+        }
+
+        /**
+         * Get an enum by nested path, e.g. {@code "Status"} or {@code "Order.Status"}.
+         *
+         * @param path the enum name, with parent message names for nested enums
+         * @return an Optional containing the enum if found
+         * @since 2.4.0
+         */
+        public Optional<EnumInfo> getEnumByPath(String path) {
+            return Optional.ofNullable(enumsByPath.get(path));
+        }
+
         /**
          * Returns all messages in this schema.
          *
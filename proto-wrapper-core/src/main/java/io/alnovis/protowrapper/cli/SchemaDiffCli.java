@@ -5,20 +5,35 @@ import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 import io.alnovis.protowrapper.PluginLogger;
+import io.alnovis.protowrapper.analyzer.DescriptorCache;
 import io.alnovis.protowrapper.analyzer.ProtoAnalyzer;
 import io.alnovis.protowrapper.analyzer.ProtoAnalyzer.VersionSchema;
 import io.alnovis.protowrapper.analyzer.ProtocExecutor;
 import io.alnovis.protowrapper.diff.SchemaDiff;
+import io.alnovis.protowrapper.diff.SchemaDiffHistory;
 import io.alnovis.protowrapper.diff.formatter.DiffFormatter;
 import io.alnovis.protowrapper.diff.formatter.JsonDiffFormatter;
 import io.alnovis.protowrapper.diff.formatter.MarkdownDiffFormatter;
+import io.alnovis.protowrapper.diff.formatter.NdjsonDiffFormatter;
+import io.alnovis.protowrapper.diff.formatter.ProtobufDiffEncoder;
 import io.alnovis.protowrapper.diff.formatter.TextDiffFormatter;
+import io.alnovis.protowrapper.diff.formatter.TimelineFormatter;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * CLI tool for comparing protobuf schema versions.
@@ -32,6 +47,10 @@ import java.util.concurrent.Callable;
  * java -jar proto-wrapper-core-cli.jar diff proto/v1 proto/v2 --format=json
  * java -jar proto-wrapper-core-cli.jar diff proto/v1 proto/v2 --format=markdown
  *
+ * # Machine-readable output for CI: one JSON object per change, or binary protobuf
+ * java -jar proto-wrapper-core-cli.jar diff proto/v1 proto/v2 --format=ndjson | jq -c 'select(.breaking)'
+ * java -jar proto-wrapper-core-cli.jar diff proto/v1 proto/v2 --format=proto --output=diff.pb
+ *
  * # Show only breaking changes
  * java -jar proto-wrapper-core-cli.jar diff proto/v1 proto/v2 --breaking-only
  *
@@ -40,6 +59,9 @@ import java.util.concurrent.Callable;
  *
  * # Fail on breaking changes (for CI/CD)
  * java -jar proto-wrapper-core-cli.jar diff proto/v1 proto/v2 --fail-on-breaking
+ *
+ * # Breaking-change timeline over a whole version history, descriptors cached across runs
+ * java -jar proto-wrapper-core-cli.jar diff-history proto/v1 proto/v2 proto/v3 --cache-dir=.proto-diff-cache
  * </pre>
  */
 @Command(
@@ -47,7 +69,7 @@ import java.util.concurrent.Callable;
     mixinStandardHelpOptions = true,
     version = "proto-wrapper 1.5.0",
     description = "Proto Wrapper - version-agnostic protobuf schema tools",
-    subcommands = {SchemaDiffCli.DiffCommand.class}
+    subcommands = {SchemaDiffCli.DiffCommand.class, SchemaDiffCli.DiffHistoryCommand.class}
 )
 public class SchemaDiffCli implements Callable<Integer> {
 
@@ -106,7 +128,7 @@ public class SchemaDiffCli implements Callable<Integer> {
 
         @Option(
             names = {"-f", "--format"},
-            description = "Output format: text, json, markdown (default: text)",
+            description = "Output format: text, json, markdown, ndjson, proto (default: text)",
             defaultValue = "text"
         )
         private String format;
@@ -192,17 +214,27 @@ public class SchemaDiffCli implements Callable<Integer> {
                 // Perform comparison
                 SchemaDiff diff = SchemaDiff.compare(v1Schema, v2Schema);
 
-                // Format output
-                String output = formatOutput(diff);
-
-                // Write output
+                // Stream the report to the file or console
                 if (outputFile != null) {
-                    Files.writeString(outputFile.toPath(), output);
+                    if (isBinaryFormat()) {
+                        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(outputFile.toPath()))) {
+                            writeBinaryOutput(diff, out);
+                        }
+                    } else {
+                        try (Writer writer = Files.newBufferedWriter(outputFile.toPath())) {
+                            writeOutput(diff, writer);
+                        }
+                    }
                     if (!quiet) {
                         System.err.println("Report written to: " + outputFile.getAbsolutePath());
                     }
+                } else if (isBinaryFormat()) {
+                    writeBinaryOutput(diff, System.out);
                 } else {
-                    System.out.println(output);
+                    writeOutput(diff, System.out);
+                    if (!isLineDelimitedFormat()) {
+                        System.out.println();
+                    }
                 }
 
                 // Print summary if not quiet
@@ -288,17 +320,39 @@ public class SchemaDiffCli implements Callable<Integer> {
             return schema;
         }
 
-        private String formatOutput(SchemaDiff diff) {
+        private void writeOutput(SchemaDiff diff, Appendable out) throws IOException {
             DiffFormatter formatter = switch (format.toLowerCase()) {
                 case "json" -> new JsonDiffFormatter();
                 case "markdown", "md" -> new MarkdownDiffFormatter();
+                case "ndjson", "jsonl" -> new NdjsonDiffFormatter();
                 default -> new TextDiffFormatter();
             };
 
             if (breakingOnly) {
-                return formatter.formatBreakingOnly(diff);
+                formatter.formatBreakingOnly(diff, out);
+            } else {
+                formatter.format(diff, out);
             }
-            return formatter.format(diff);
+        }
+
+        private void writeBinaryOutput(SchemaDiff diff, OutputStream out) throws IOException {
+            ProtobufDiffEncoder encoder = new ProtobufDiffEncoder();
+            if (breakingOnly) {
+                encoder.writeBreakingOnlyTo(diff, out);
+            } else {
+                encoder.writeTo(diff, out);
+            }
+            out.flush();
+        }
+
+        private boolean isBinaryFormat() {
+            String f = format.toLowerCase();
+            return f.equals("proto") || f.equals("protobuf");
+        }
+
+        private boolean isLineDelimitedFormat() {
+            String f = format.toLowerCase();
+            return f.equals("ndjson") || f.equals("jsonl");
         }
 
         private void printSummary(SchemaDiff diff) {
@@ -316,17 +370,270 @@ public class SchemaDiffCli implements Callable<Integer> {
         }
 
         private void cleanupTempDir() {
-            if (tempDir != null) {
-                try (var paths = Files.walk(tempDir)) {
-                    paths.sorted((a, b) -> -a.compareTo(b))
-                        .forEach(path -> {
-                            try {
-                                Files.deleteIfExists(path);
-                            } catch (IOException ignored) {
-                            }
-                        });
-                } catch (IOException ignored) {
+            deleteRecursively(tempDir);
+        }
+    }
+
+    /**
+     * Subcommand comparing an ordered version history in one run.
+     *
+     * <p>protoc runs once per version (and not at all for versions found in {@code --cache-dir}),
+     * versions are compiled and adjacent pairs compared concurrently, and the result is a single
+     * breaking-change timeline.</p>
+     */
+    @Command(
+        name = "diff-history",
+        mixinStandardHelpOptions = true,
+        description = "Compare an ordered list of schema versions and report a breaking-change timeline"
+    )
+    public static class DiffHistoryCommand implements Callable<Integer> {
+
+        @Parameters(
+            arity = "2..*",
+            description = "Version directories, oldest first"
+        )
+        private List<File> versionDirectories;
+
+        @Option(
+            names = {"--names"},
+            split = ",",
+            description = "Version names, comma-separated, in the same order (default: directory names)"
+        )
+        private List<String> versionNames;
+
+        @Option(
+            names = {"-f", "--format"},
+            description = "Output format: text, json, markdown, ndjson (default: text)",
+            defaultValue = "text"
+        )
+        private String format;
+
+        @Option(
+            names = {"-o", "--output"},
+            description = "Output file (prints to console if not specified)"
+        )
+        private File outputFile;
+
+        @Option(
+            names = {"-b", "--breaking-only"},
+            description = "Show only steps with breaking changes",
+            defaultValue = "false"
+        )
+        private boolean breakingOnly;
+
+        @Option(
+            names = {"--fail-on-breaking"},
+            description = "Exit with code 1 if breaking changes detected in any step (for CI/CD)",
+            defaultValue = "false"
+        )
+        private boolean failOnBreaking;
+
+        @Option(
+            names = {"--fail-on-warning"},
+            description = "Treat warnings as errors (exit code 1)",
+            defaultValue = "false"
+        )
+        private boolean failOnWarning;
+
+        @Option(
+            names = {"--cache-dir"},
+            description = "Directory for cached descriptors, reused across runs (default: temporary, deleted on exit)"
+        )
+        private File cacheDirectory;
+
+        @Option(
+            names = {"-j", "--threads"},
+            description = "Number of concurrent protoc runs (default: available processors)"
+        )
+        private Integer threads;
+
+        @Option(
+            names = {"--protoc"},
+            description = "Path to protoc executable (default: protoc from PATH)"
+        )
+        private String protocPath;
+
+        @Option(
+            names = {"-q", "--quiet"},
+            description = "Suppress informational messages",
+            defaultValue = "false"
+        )
+        private boolean quiet;
+
+        private Path tempDir;
+
+        @Override
+        public Integer call() {
+            try {
+                List<String> names = resolveNames();
+                if (names == null || !validateDirectories()) {
+                    return 2;
+                }
+
+                PluginLogger logger = quiet
+                    ? PluginLogger.noop()
+                    : PluginLogger.console();
+                ProtocExecutor protoc = new ProtocExecutor(logger);
+
+                if (protocPath != null && !protocPath.isEmpty()) {
+                    protoc.setProtocPath(protocPath);
+                }
+
+                if (!protoc.isProtocAvailable()) {
+                    System.err.println("ERROR: protoc not found. Please install protobuf compiler or use --protoc=<path>");
+                    return 2;
+                }
+
+                Path cacheDir;
+                if (cacheDirectory != null) {
+                    cacheDir = cacheDirectory.toPath();
+                } else {
+                    tempDir = Files.createTempDirectory("proto-wrapper-diff-history");
+                    cacheDir = tempDir;
+                }
+                DescriptorCache cache = new DescriptorCache(cacheDir, protoc, logger);
+
+                if (!quiet) {
+                    System.err.println("Comparing " + names.size() + " versions: " + String.join(" -> ", names));
+                }
+
+                List<VersionSchema> schemas = analyzeVersions(cache, names);
+                SchemaDiffHistory history = SchemaDiffHistory.compare(schemas, true);
+
+                if (!quiet) {
+                    System.err.println("Descriptors: " + cache.getMisses() + " compiled, "
+                        + cache.getHits() + " from cache");
+                }
+
+                TimelineFormatter formatter = new TimelineFormatter(resolveStyle(), breakingOnly);
+                if (outputFile != null) {
+                    try (Writer writer = Files.newBufferedWriter(outputFile.toPath())) {
+                        formatter.format(history, writer);
+                    }
+                    if (!quiet) {
+                        System.err.println("Report written to: " + outputFile.getAbsolutePath());
+                    }
+                } else {
+                    formatter.format(history, System.out);
+                    System.out.flush();
+                }
+
+                if (failOnBreaking && history.hasBreakingChanges()) {
+                    System.err.println("ERROR: " + history.getErrorCount() + " breaking change(s) detected");
+                    return 1;
+                }
+
+                if (failOnWarning && history.getWarningCount() > 0) {
+                    System.err.println("ERROR: " + history.getWarningCount()
+                        + " warning(s) detected (--fail-on-warning enabled)");
+                    return 1;
+                }
+
+                if (!quiet && !history.hasBreakingChanges()) {
+                    System.err.println("No breaking changes detected");
                 }
+
+                return 0;
+
+            } catch (IOException e) {
+                System.err.println("ERROR: " + e.getMessage());
+                return 2;
+            } catch (Exception e) {
+                System.err.println("ERROR: Unexpected error - " + e.getMessage());
+                if (!quiet) {
+                    e.printStackTrace(System.err);
+                }
+                return 3;
+            } finally {
+                deleteRecursively(tempDir);
+            }
+        }
+
+        private List<String> resolveNames() {
+            List<String> names = new ArrayList<>();
+            if (versionNames != null && !versionNames.isEmpty()) {
+                if (versionNames.size() != versionDirectories.size()) {
+                    System.err.println("ERROR: --names has " + versionNames.size() + " entries for "
+                        + versionDirectories.size() + " directories");
+                    return null;
+                }
+                names.addAll(versionNames);
+            } else {
+                for (File dir : versionDirectories) {
+                    names.add(dir.getName());
+                }
+            }
+            if (new HashSet<>(names).size() != names.size()) {
+                System.err.println("ERROR: Version names must be unique: " + names + " (use --names)");
+                return null;
+            }
+            return names;
+        }
+
+        private boolean validateDirectories() {
+            for (File dir : versionDirectories) {
+                if (!dir.isDirectory()) {
+                    System.err.println("ERROR: Version directory does not exist: " + dir);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private TimelineFormatter.Style resolveStyle() {
+            return switch (format.toLowerCase()) {
+                case "json" -> TimelineFormatter.Style.JSON;
+                case "markdown", "md" -> TimelineFormatter.Style.MARKDOWN;
+                case "ndjson", "jsonl" -> TimelineFormatter.Style.NDJSON;
+                default -> TimelineFormatter.Style.TEXT;
+            };
+        }
+
+        /**
+         * Compile and analyze all versions, running up to {@code --threads} protoc processes at once.
+         */
+        private List<VersionSchema> analyzeVersions(DescriptorCache cache, List<String> names)
+                throws IOException, InterruptedException {
+            int poolSize = threads != null && threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(poolSize, versionDirectories.size()));
+            try {
+                List<Future<VersionSchema>> futures = new ArrayList<>();
+                for (int i = 0; i < versionDirectories.size(); i++) {
+                    Path protoDir = versionDirectories.get(i).toPath();
+                    String name = names.get(i);
+                    futures.add(executor.submit(() -> {
+                        Path descriptor = cache.getDescriptor(protoDir, ProtocExecutor.detectIncludePath(protoDir));
+                        return new ProtoAnalyzer().analyze(descriptor, name);
+                    }));
+                }
+
+                List<VersionSchema> schemas = new ArrayList<>();
+                for (Future<VersionSchema> future : futures) {
+                    schemas.add(future.get());
+                }
+                return schemas;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException io) {
+                    throw io;
+                }
+                throw new IOException("Failed to analyze versions", e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static void deleteRecursively(Path dir) {
+        if (dir != null) {
+            try (var paths = Files.walk(dir)) {
+                paths.sorted((a, b) -> -a.compareTo(b))
+                    .forEach(path -> {
+                        try {
+                            Files.deleteIfExists(path);
+                        } catch (IOException ignored) {
+                        }
+                    });
+            } catch (IOException ignored) {
             }
         }
     }
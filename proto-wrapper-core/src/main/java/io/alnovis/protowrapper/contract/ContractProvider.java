@@ -5,8 +5,11 @@ import io.alnovis.protowrapper.model.MergedField;
 import io.alnovis.protowrapper.model.MergedMessage;
 import io.alnovis.protowrapper.model.ProtoSyntax;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
 
@@ -33,7 +36,10 @@ import static com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
  *
  * <h2>Caching</h2>
  * <p>Contracts are cached per message to avoid repeated construction. The cache
- * is thread-safe using {@link ConcurrentHashMap}.</p>
+ * is thread-safe using {@link ConcurrentHashMap}. Messages are held by identity through
+ * weak references: an entry disappears once its message is no longer reachable, so a
+ * long-lived JVM (Gradle daemon, IDE import) does not accumulate the schemas of past
+ * builds. Hit and miss counts are available from {@link #getCacheStats()}.</p>
  *
  * <h2>Usage</h2>
  * <pre>{@code
@@ -55,9 +61,12 @@ public final class ContractProvider {
 
     /**
      * Cache of contracts per MergedMessage.
-     * Key is System.identityHashCode to handle messages with same name.
+     * Keys compare messages by identity to handle messages with same name.
      */
-    private final Map<Integer, Map<MergedField, MergedFieldContract>> contractCache;
+    private final Map<MessageKey, Map<MergedField, MergedFieldContract>> contractCache;
+    private final ReferenceQueue<MergedMessage> collectedMessages = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
 
     private ContractProvider() {
         this.contractCache = new ConcurrentHashMap<>();
@@ -92,11 +101,19 @@ public final class ContractProvider {
      * <p>Results are cached per message identity for performance.</p>
      *
      * @param message the merged message
-     * @return map of field to contract
+     * @return unmodifiable map of field to contract
      */
     public Map<MergedField, MergedFieldContract> getContracts(MergedMessage message) {
-        int messageId = System.identityHashCode(message);
-        return contractCache.computeIfAbsent(messageId, id -> buildContractsForMessage(message));
+        expungeCollectedMessages();
+        Map<MergedField, MergedFieldContract> contracts = contractCache.get(new MessageKey(message, null));
+        if (contracts != null) {
+            hits.increment();
+            return contracts;
+        }
+        return contractCache.computeIfAbsent(new MessageKey(message, collectedMessages), key -> {
+            misses.increment();
+            return buildContractsForMessage(message);
+        });
     }
 
     /**
@@ -109,14 +126,15 @@ public final class ContractProvider {
      * @return the contract for the field
      */
     public MergedFieldContract getContract(MergedMessage message, MergedField field) {
-        Map<MergedField, MergedFieldContract> contracts = getContracts(message);
-        return contracts.computeIfAbsent(field, this::getContract);
+        MergedFieldContract contract = getContracts(message).get(field);
+        // Fields added to the message after its contracts were cached are built on demand
+        return contract != null ? contract : getContract(field);
     }
 
     /**
      * Clear the contract cache.
      *
-     * <p>Useful when the schema changes or for memory management.</p>
+     * <p>Useful when the schema changes or for memory management. Statistics are kept.</p>
      */
     public void clearCache() {
         contractCache.clear();
@@ -128,7 +146,53 @@ public final class ContractProvider {
      * @param message the message to clear cache for
      */
     public void clearCache(MergedMessage message) {
-        contractCache.remove(System.identityHashCode(message));
+        contractCache.remove(new MessageKey(message, null));
+    }
+
+    /**
+     * Get the cache statistics since the JVM started (or since {@link #resetCacheStats()}).
+     *
+     * @return hit and miss counts and the number of cached messages
+     * @since 2.4.0
+     */
+    public CacheStats getCacheStats() {
+        expungeCollectedMessages();
+        return new CacheStats(hits.sum(), misses.sum(), contractCache.size());
+    }
+
+    /**
+     * Reset the hit and miss counters.
+     *
+     * @since 2.4.0
+     */
+    public void resetCacheStats() {
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Contract cache statistics.
+     *
+     * @param hits lookups answered from the cache
+     * @param misses lookups that built the contracts of a message
+     * @param size messages currently cached
+     * @since 2.4.0
+     */
+    public record CacheStats(long hits, long misses, int size) {
+
+        /**
+         * @return fraction of lookups answered from the cache, 0 if there were none
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d hits, %d misses (%.1f%% hit rate), %d messages cached",
+                    hits, misses, hitRate() * 100, size);
+        }
     }
 
     // ==================== Internal Methods ====================
@@ -138,7 +202,43 @@ public final class ContractProvider {
         for (MergedField field : message.getFields()) {
             contracts.put(field, getContract(field));
         }
-        return contracts;
+        return Collections.unmodifiableMap(contracts);
+    }
+
+    private void expungeCollectedMessages() {
+        for (Object key; (key = collectedMessages.poll()) != null; ) {
+            contractCache.remove(key);
+        }
+    }
+
+    /**
+     * Weak identity key. A cleared key is only equal to itself, so it can still be removed.
+     */
+    private static final class MessageKey extends WeakReference<MergedMessage> {
+
+        private final int hash;
+
+        MessageKey(MergedMessage message, ReferenceQueue<MergedMessage> queue) {
+            super(message, queue);
+            this.hash = System.identityHashCode(message);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MessageKey other)) {
+                return false;
+            }
+            MergedMessage message = get();
+            return message != null && message == other.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
     }
 
     /**
@@ -8,16 +8,24 @@ import io.alnovis.protowrapper.model.FieldInfo;
 import io.alnovis.protowrapper.model.MessageInfo;
 
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Engine for comparing two protobuf schema versions.
  * Detects added, removed, and modified messages, fields, and enums.
+ *
+ * <p>{@link #compareAdjacent(List)} and {@link #compareAllPairs(List)} compare many versions
+ * at once. Field and nested type lookups use the indexes each {@link MessageInfo} builds once,
+ * so a version compared in several pairs is not re-indexed per pair. With
+ * {@link #setParallel(boolean)} the pairs (and the messages within a pair) are compared in
+ * parallel; results are identical to the sequential comparison.</p>
  */
 public class SchemaDiffEngine {
 
     private final BreakingChangeDetector breakingDetector;
+    private boolean parallel;
 
     /**
      * Creates a new SchemaDiffEngine with default settings.
@@ -26,6 +34,66 @@ public class SchemaDiffEngine {
         this.breakingDetector = new BreakingChangeDetector();
     }
 
+    /**
+     * Enable parallel comparison of version pairs and of messages within a pair.
+     *
+     * @param parallel true to compare in parallel
+     * @return this engine
+     * @since 2.4.0
+     */
+    public SchemaDiffEngine setParallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * @return true if comparisons run in parallel
+     * @since 2.4.0
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Compares each version with the next one: v1-v2, v2-v3, ...
+     *
+     * @param schemas version schemas in version order
+     * @return one diff per adjacent pair, in order; empty for fewer than two schemas
+     * @since 2.4.0
+     */
+    public List<SchemaDiff> compareAdjacent(List<VersionSchema> schemas) {
+        return comparePairs(schemas, IntStream.range(0, Math.max(0, schemas.size() - 1))
+                .mapToObj(i -> new int[]{i, i + 1})
+                .toList());
+    }
+
+    /**
+     * Compares every version with every later version: v1-v2, v1-v3, ..., v2-v3, ...
+     *
+     * @param schemas version schemas in version order
+     * @return one diff per pair (i &lt; j), ordered by i then j
+     * @since 2.4.0
+     */
+    public List<SchemaDiff> compareAllPairs(List<VersionSchema> schemas) {
+        List<int[]> pairs = new ArrayList<>();
+        for (int i = 0; i < schemas.size(); i++) {
+            for (int j = i + 1; j < schemas.size(); j++) {
+                pairs.add(new int[]{i, j});
+            }
+        }
+        return comparePairs(schemas, pairs);
+    }
+
+    private List<SchemaDiff> comparePairs(List<VersionSchema> schemas, List<int[]> pairs) {
+        return stream(pairs)
+                .map(pair -> compare(schemas.get(pair[0]), schemas.get(pair[1])))
+                .toList();
+    }
+
+    private <T> Stream<T> stream(Collection<T> items) {
+        return parallel ? items.parallelStream() : items.stream();
+    }
+
     /**
      * Compares two version schemas and returns the differences.
      *
@@ -57,7 +125,7 @@ public class SchemaDiffEngine {
         allNames.addAll(v1.getMessageNames());
         allNames.addAll(v2.getMessageNames());
 
-        return allNames.stream()
+        return stream(allNames)
                 .map(name -> compareMessage(name, v1, v2))
                 .filter(diff -> diff.changeType() != ChangeType.UNCHANGED)
                 .sorted(Comparator.comparing(MessageDiff::messageName))
@@ -81,6 +149,10 @@ public class SchemaDiffEngine {
      * Compares the contents of two messages (fields, nested types).
      */
     private MessageDiff compareMessageContents(MessageInfo m1, MessageInfo m2) {
+        if (m1 == m2 || m1.hasSameContent(m2)) {
+            // Same definition, including all nested types: nothing to walk
+            return MessageDiff.compared(m1, m2, List.of(), List.of(), List.of());
+        }
         List<FieldChange> fieldChanges = compareFields(m1, m2);
         List<MessageDiff> nestedChanges = compareNestedMessages(m1, m2);
         List<EnumDiff> nestedEnumChanges = compareNestedEnums(m1, m2);
@@ -94,11 +166,8 @@ public class SchemaDiffEngine {
      * Compares all fields between two messages.
      */
     private List<FieldChange> compareFields(MessageInfo m1, MessageInfo m2) {
-        // Group fields by number for comparison
-        Map<Integer, FieldInfo> v1Fields = m1.getFields().stream()
-                .collect(Collectors.toMap(FieldInfo::getNumber, Function.identity()));
-        Map<Integer, FieldInfo> v2Fields = m2.getFields().stream()
-                .collect(Collectors.toMap(FieldInfo::getNumber, Function.identity()));
+        Map<Integer, FieldInfo> v1Fields = m1.getFieldsByNumber();
+        Map<Integer, FieldInfo> v2Fields = m2.getFieldsByNumber();
 
         Set<Integer> allNumbers = new HashSet<>();
         allNumbers.addAll(v1Fields.keySet());
@@ -196,10 +265,11 @@ public class SchemaDiffEngine {
      * Compares nested messages between two parent messages.
      */
     private List<MessageDiff> compareNestedMessages(MessageInfo m1, MessageInfo m2) {
-        Map<String, MessageInfo> v1Nested = m1.getNestedMessages().stream()
-                .collect(Collectors.toMap(MessageInfo::getName, Function.identity()));
-        Map<String, MessageInfo> v2Nested = m2.getNestedMessages().stream()
-                .collect(Collectors.toMap(MessageInfo::getName, Function.identity()));
+        Map<String, MessageInfo> v1Nested = m1.getNestedMessagesByName();
+        Map<String, MessageInfo> v2Nested = m2.getNestedMessagesByName();
+        if (v1Nested.isEmpty() && v2Nested.isEmpty()) {
+            return List.of();
+        }
 
         Set<String> allNames = new HashSet<>();
         allNames.addAll(v1Nested.keySet());
@@ -235,10 +305,11 @@ public class SchemaDiffEngine {
      * Compares nested enums between two parent messages.
      */
     private List<EnumDiff> compareNestedEnums(MessageInfo m1, MessageInfo m2) {
-        Map<String, EnumInfo> v1Enums = m1.getNestedEnums().stream()
-                .collect(Collectors.toMap(EnumInfo::getName, Function.identity()));
-        Map<String, EnumInfo> v2Enums = m2.getNestedEnums().stream()
-                .collect(Collectors.toMap(EnumInfo::getName, Function.identity()));
+        Map<String, EnumInfo> v1Enums = m1.getNestedEnumsByName();
+        Map<String, EnumInfo> v2Enums = m2.getNestedEnumsByName();
+        if (v1Enums.isEmpty() && v2Enums.isEmpty()) {
+            return List.of();
+        }
 
         Set<String> allNames = new HashSet<>();
         allNames.addAll(v1Enums.keySet());
@@ -292,6 +363,9 @@ public class SchemaDiffEngine {
      * Compares the values of two enums.
      */
     private EnumDiff compareEnumContents(EnumInfo e1, EnumInfo e2) {
+        if (e1 == e2 || e1.hasSameContent(e2)) {
+            return EnumDiff.modified(e1, e2, List.of());
+        }
         Map<String, Integer> v1Values = e1.getValues().stream()
                 .collect(Collectors.toMap(EnumInfo.EnumValue::name, EnumInfo.EnumValue::number));
         Map<String, Integer> v2Values = e2.getValues().stream()
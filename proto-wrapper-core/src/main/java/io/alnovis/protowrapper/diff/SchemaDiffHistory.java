@@ -0,0 +1,129 @@
+package io.alnovis.protowrapper.diff;
+
+import io.alnovis.protowrapper.analyzer.ProtoAnalyzer.VersionSchema;
+import io.alnovis.protowrapper.diff.model.BreakingChange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Comparison of an ordered version history: one {@link SchemaDiff} per adjacent pair
+ * (v1-v2, v2-v3, ...) and the combined breaking-change timeline.
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * SchemaDiffHistory history = SchemaDiffHistory.compare(schemas, true);
+ *
+ * for (SchemaDiffHistory.TimelineEntry entry : history.getTimeline()) {
+ *     System.err.println(entry.fromVersion() + " -> " + entry.toVersion() + ": "
+ *         + entry.change().description());
+ * }
+ * }</pre>
+ *
+ * @since 2.4.0
+ */
+public class SchemaDiffHistory {
+
+    private final List<String> versions;
+    private final List<SchemaDiff> diffs;
+
+    /**
+     * Creates a history from adjacent diffs.
+     *
+     * @param diffs one diff per adjacent version pair, in version order
+     * @throws IllegalArgumentException if a diff does not start where the previous one ended
+     */
+    public SchemaDiffHistory(List<SchemaDiff> diffs) {
+        this.diffs = List.copyOf(diffs);
+        List<String> names = new ArrayList<>();
+        for (SchemaDiff diff : this.diffs) {
+            if (names.isEmpty()) {
+                names.add(diff.getV1Name());
+            } else if (!names.get(names.size() - 1).equals(diff.getV1Name())) {
+                throw new IllegalArgumentException("Diff " + diff.getV1Name() + " -> " + diff.getV2Name()
+                        + " does not follow " + names.get(names.size() - 1));
+            }
+            names.add(diff.getV2Name());
+        }
+        this.versions = List.copyOf(names);
+    }
+
+    /**
+     * Compares each version with the next one.
+     *
+     * @param schemas version schemas in version order
+     * @param parallel true to compare the pairs concurrently
+     * @return the history; empty for fewer than two schemas
+     */
+    public static SchemaDiffHistory compare(List<VersionSchema> schemas, boolean parallel) {
+        return new SchemaDiffHistory(new SchemaDiffEngine().setParallel(parallel).compareAdjacent(schemas));
+    }
+
+    /**
+     * @return version names in order
+     */
+    public List<String> getVersions() {
+        return versions;
+    }
+
+    /**
+     * @return one diff per adjacent pair, in order
+     */
+    public List<SchemaDiff> getDiffs() {
+        return diffs;
+    }
+
+    /**
+     * Returns every breaking change (errors and warnings), in version order.
+     *
+     * @return the combined breaking-change timeline
+     */
+    public List<TimelineEntry> getTimeline() {
+        List<TimelineEntry> timeline = new ArrayList<>();
+        for (SchemaDiff diff : diffs) {
+            for (BreakingChange change : diff.getBreakingChanges()) {
+                if (change.isError() || change.isWarning()) {
+                    timeline.add(new TimelineEntry(diff.getV1Name(), diff.getV2Name(), change));
+                }
+            }
+        }
+        return timeline;
+    }
+
+    /**
+     * @return true if any step has ERROR-level breaking changes
+     */
+    public boolean hasBreakingChanges() {
+        return diffs.stream().anyMatch(SchemaDiff::hasBreakingChanges);
+    }
+
+    /**
+     * @return total number of ERROR-level breaking changes over all steps
+     */
+    public int getErrorCount() {
+        return diffs.stream().mapToInt(diff -> diff.getSummary().errorCount()).sum();
+    }
+
+    /**
+     * @return total number of WARNING-level breaking changes over all steps
+     */
+    public int getWarningCount() {
+        return diffs.stream().mapToInt(diff -> diff.getSummary().warningCount()).sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SchemaDiffHistory[%s, %d errors, %d warnings]",
+                String.join(" -> ", versions), getErrorCount(), getWarningCount());
+    }
+
+    /**
+     * A breaking change introduced between two adjacent versions.
+     *
+     * @param fromVersion the older version
+     * @param toVersion the newer version
+     * @param change the breaking change
+     */
+    public record TimelineEntry(String fromVersion, String toVersion, BreakingChange change) {
+    }
+}
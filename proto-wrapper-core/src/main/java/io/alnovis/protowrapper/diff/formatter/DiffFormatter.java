@@ -2,9 +2,15 @@ package io.alnovis.protowrapper.diff.formatter;
 
 import io.alnovis.protowrapper.diff.SchemaDiff;
 
+import java.io.IOException;
+
 /**
  * Interface for formatting schema diff results.
  * Implementations provide different output formats (text, JSON, markdown, etc.).
+ *
+ * <p>The {@link Appendable} variants write the report as it is produced, so a large
+ * report is never held in memory as one string. The built-in formatters implement
+ * them natively; for other implementations they fall back to the {@code String} methods.</p>
  */
 public interface DiffFormatter {
 
@@ -25,4 +31,28 @@ public interface DiffFormatter {
     default String formatBreakingOnly(SchemaDiff diff) {
         return format(diff); // Default implementation returns full format
     }
+
+    /**
+     * Writes the complete schema diff to an output.
+     *
+     * @param diff The schema diff to format
+     * @param out Target, e.g. a {@code Writer} or {@code PrintStream}; not flushed or closed
+     * @throws IOException if writing fails
+     * @since 2.4.0
+     */
+    default void format(SchemaDiff diff, Appendable out) throws IOException {
+        out.append(format(diff));
+    }
+
+    /**
+     * Writes only the breaking changes from the diff to an output.
+     *
+     * @param diff The schema diff to format
+     * @param out Target, e.g. a {@code Writer} or {@code PrintStream}; not flushed or closed
+     * @throws IOException if writing fails
+     * @since 2.4.0
+     */
+    default void formatBreakingOnly(SchemaDiff diff, Appendable out) throws IOException {
+        out.append(formatBreakingOnly(diff));
+    }
 }
@@ -0,0 +1,75 @@
+package io.alnovis.protowrapper.diff.formatter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Append-only output of the built-in formatters.
+ *
+ * <p>Wraps an {@link Appendable} (a {@code StringBuilder}, {@code Writer} or {@code PrintStream})
+ * with the {@code StringBuilder}-style chaining the formatters use. I/O errors are tunneled as
+ * {@link UncheckedIOException} and rethrown as {@link IOException} by {@link #stream}.</p>
+ */
+final class DiffWriter {
+
+    private final Appendable out;
+
+    private DiffWriter(Appendable out) {
+        this.out = out;
+    }
+
+    /**
+     * Render into a string.
+     */
+    static String render(Consumer<DiffWriter> body) {
+        StringBuilder sb = new StringBuilder();
+        body.accept(new DiffWriter(sb));
+        return sb.toString();
+    }
+
+    /**
+     * Write directly to the target as the report is produced.
+     */
+    static void stream(Appendable out, Consumer<DiffWriter> body) throws IOException {
+        try {
+            body.accept(new DiffWriter(out));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    DiffWriter append(CharSequence value) {
+        try {
+            out.append(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    DiffWriter append(char value) {
+        try {
+            out.append(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    DiffWriter append(int value) {
+        return append(Integer.toString(value));
+    }
+
+    DiffWriter append(long value) {
+        return append(Long.toString(value));
+    }
+
+    DiffWriter append(boolean value) {
+        return append(Boolean.toString(value));
+    }
+
+    DiffWriter append(Object value) {
+        return append(String.valueOf(value));
+    }
+}
@@ -6,6 +6,7 @@ import io.alnovis.protowrapper.model.EnumInfo;
 import io.alnovis.protowrapper.model.FieldInfo;
 import io.alnovis.protowrapper.model.MessageInfo;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -18,373 +19,387 @@ public class JsonDiffFormatter implements DiffFormatter {
 
     @Override
     public String format(SchemaDiff diff) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("{\n");
+        return DiffWriter.render(out -> write(diff, out));
+    }
+
+    @Override
+    public void format(SchemaDiff diff, Appendable out) throws IOException {
+        DiffWriter.stream(out, writer -> write(diff, writer));
+    }
+
+    @Override
+    public String formatBreakingOnly(SchemaDiff diff) {
+        return DiffWriter.render(out -> writeBreakingOnly(diff, out));
+    }
+
+    @Override
+    public void formatBreakingOnly(SchemaDiff diff, Appendable out) throws IOException {
+        DiffWriter.stream(out, writer -> writeBreakingOnly(diff, writer));
+    }
+
+    private void write(SchemaDiff diff, DiffWriter out) {
+        out.append("{\n");
 
         // Version info
-        appendString(sb, 1, "v1", diff.getV1Name());
-        sb.append(",\n");
-        appendString(sb, 1, "v2", diff.getV2Name());
-        sb.append(",\n");
+        appendString(out, 1, "v1", diff.getV1Name());
+        out.append(",\n");
+        appendString(out, 1, "v2", diff.getV2Name());
+        out.append(",\n");
 
         // Summary
-        appendKey(sb, 1, "summary");
-        sb.append("{\n");
-        formatSummary(diff.getSummary(), sb, 2);
-        sb.append(indent(1)).append("},\n");
+        appendKey(out, 1, "summary");
+        out.append("{\n");
+        formatSummary(diff.getSummary(), out, 2);
+        out.append(indent(1)).append("},\n");
 
         // Messages
-        appendKey(sb, 1, "messages");
-        sb.append("{\n");
-        formatMessages(diff, sb, 2);
-        sb.append(indent(1)).append("},\n");
+        appendKey(out, 1, "messages");
+        out.append("{\n");
+        formatMessages(diff, out, 2);
+        out.append(indent(1)).append("},\n");
 
         // Enums
-        appendKey(sb, 1, "enums");
-        sb.append("{\n");
-        formatEnums(diff, sb, 2);
-        sb.append(indent(1)).append("},\n");
+        appendKey(out, 1, "enums");
+        out.append("{\n");
+        formatEnums(diff, out, 2);
+        out.append(indent(1)).append("},\n");
 
         // Breaking changes
-        appendKey(sb, 1, "breakingChanges");
-        sb.append("[\n");
-        formatBreakingChanges(diff.getBreakingChanges(), sb, 2);
-        sb.append(indent(1)).append("]");
+        appendKey(out, 1, "breakingChanges");
+        out.append("[\n");
+        formatBreakingChanges(diff.getBreakingChanges(), out, 2);
+        out.append(indent(1)).append("]");
 
         // Suspected renumbers
         if (diff.hasSuspectedRenumbers()) {
-            sb.append(",\n");
-            appendKey(sb, 1, "suspectedRenumbers");
-            sb.append("[\n");
-            formatSuspectedRenumbers(diff, sb, 2);
-            sb.append(indent(1)).append("]");
+            out.append(",\n");
+            appendKey(out, 1, "suspectedRenumbers");
+            out.append("[\n");
+            formatSuspectedRenumbers(diff, out, 2);
+            out.append(indent(1)).append("]");
         }
-        sb.append("\n");
+        out.append("\n");
 
-        sb.append("}\n");
-        return sb.toString();
+        out.append("}\n");
     }
 
-    @Override
-    public String formatBreakingOnly(SchemaDiff diff) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("{\n");
-
-        appendString(sb, 1, "v1", diff.getV1Name());
-        sb.append(",\n");
-        appendString(sb, 1, "v2", diff.getV2Name());
-        sb.append(",\n");
-
-        appendKey(sb, 1, "breakingChanges");
-        sb.append("[\n");
-        formatBreakingChanges(diff.getBreakingChanges(), sb, 2);
-        sb.append(indent(1)).append("],\n");
-
-        appendNumber(sb, 1, "errorCount", diff.getSummary().errorCount());
-        sb.append(",\n");
-        appendNumber(sb, 1, "warningCount", diff.getSummary().warningCount());
-        sb.append("\n");
-
-        sb.append("}\n");
-        return sb.toString();
+    private void writeBreakingOnly(SchemaDiff diff, DiffWriter out) {
+        out.append("{\n");
+
+        appendString(out, 1, "v1", diff.getV1Name());
+        out.append(",\n");
+        appendString(out, 1, "v2", diff.getV2Name());
+        out.append(",\n");
+
+        appendKey(out, 1, "breakingChanges");
+        out.append("[\n");
+        formatBreakingChanges(diff.getBreakingChanges(), out, 2);
+        out.append(indent(1)).append("],\n");
+
+        appendNumber(out, 1, "errorCount", diff.getSummary().errorCount());
+        out.append(",\n");
+        appendNumber(out, 1, "warningCount", diff.getSummary().warningCount());
+        out.append("\n");
+
+        out.append("}\n");
     }
 
-    private void formatSummary(SchemaDiff.DiffSummary summary, StringBuilder sb, int depth) {
-        appendNumber(sb, depth, "addedMessages", summary.addedMessages());
-        sb.append(",\n");
-        appendNumber(sb, depth, "removedMessages", summary.removedMessages());
-        sb.append(",\n");
-        appendNumber(sb, depth, "modifiedMessages", summary.modifiedMessages());
-        sb.append(",\n");
-        appendNumber(sb, depth, "addedEnums", summary.addedEnums());
-        sb.append(",\n");
-        appendNumber(sb, depth, "removedEnums", summary.removedEnums());
-        sb.append(",\n");
-        appendNumber(sb, depth, "modifiedEnums", summary.modifiedEnums());
-        sb.append(",\n");
-        appendNumber(sb, depth, "errorCount", summary.errorCount());
-        sb.append(",\n");
-        appendNumber(sb, depth, "warningCount", summary.warningCount());
-        sb.append(",\n");
-        appendNumber(sb, depth, "mappedRenumbers", summary.mappedRenumbers());
-        sb.append(",\n");
-        appendNumber(sb, depth, "suspectedRenumbers", summary.suspectedRenumbers());
-        sb.append("\n");
+    private void formatSummary(SchemaDiff.DiffSummary summary, DiffWriter out, int depth) {
+        appendNumber(out, depth, "addedMessages", summary.addedMessages());
+        out.append(",\n");
+        appendNumber(out, depth, "removedMessages", summary.removedMessages());
+        out.append(",\n");
+        appendNumber(out, depth, "modifiedMessages", summary.modifiedMessages());
+        out.append(",\n");
+        appendNumber(out, depth, "addedEnums", summary.addedEnums());
+        out.append(",\n");
+        appendNumber(out, depth, "removedEnums", summary.removedEnums());
+        out.append(",\n");
+        appendNumber(out, depth, "modifiedEnums", summary.modifiedEnums());
+        out.append(",\n");
+        appendNumber(out, depth, "errorCount", summary.errorCount());
+        out.append(",\n");
+        appendNumber(out, depth, "warningCount", summary.warningCount());
+        out.append(",\n");
+        appendNumber(out, depth, "mappedRenumbers", summary.mappedRenumbers());
+        out.append(",\n");
+        appendNumber(out, depth, "suspectedRenumbers", summary.suspectedRenumbers());
+        out.append("\n");
     }
 
-    private void formatMessages(SchemaDiff diff, StringBuilder sb, int depth) {
+    private void formatMessages(SchemaDiff diff, DiffWriter out, int depth) {
         // Added
-        appendKey(sb, depth, "added");
-        sb.append("[\n");
+        appendKey(out, depth, "added");
+        out.append("[\n");
         List<MessageInfo> added = diff.getAddedMessages();
         for (int i = 0; i < added.size(); i++) {
-            formatAddedMessage(added.get(i), sb, depth + 1);
-            if (i < added.size() - 1) sb.append(",");
-            sb.append("\n");
+            formatAddedMessage(added.get(i), out, depth + 1);
+            if (i < added.size() - 1) out.append(",");
+            out.append("\n");
         }
-        sb.append(indent(depth)).append("],\n");
+        out.append(indent(depth)).append("],\n");
 
         // Removed
-        appendKey(sb, depth, "removed");
-        sb.append("[\n");
+        appendKey(out, depth, "removed");
+        out.append("[\n");
         List<MessageInfo> removed = diff.getRemovedMessages();
         for (int i = 0; i < removed.size(); i++) {
-            formatRemovedMessage(removed.get(i), sb, depth + 1);
-            if (i < removed.size() - 1) sb.append(",");
-            sb.append("\n");
+            formatRemovedMessage(removed.get(i), out, depth + 1);
+            if (i < removed.size() - 1) out.append(",");
+            out.append("\n");
         }
-        sb.append(indent(depth)).append("],\n");
+        out.append(indent(depth)).append("],\n");
 
         // Modified
-        appendKey(sb, depth, "modified");
-        sb.append("[\n");
+        appendKey(out, depth, "modified");
+        out.append("[\n");
         List<MessageDiff> modified = diff.getModifiedMessages();
         for (int i = 0; i < modified.size(); i++) {
-            formatModifiedMessage(modified.get(i), sb, depth + 1);
-            if (i < modified.size() - 1) sb.append(",");
-            sb.append("\n");
+            formatModifiedMessage(modified.get(i), out, depth + 1);
+            if (i < modified.size() - 1) out.append(",");
+            out.append("\n");
         }
-        sb.append(indent(depth)).append("]\n");
+        out.append(indent(depth)).append("]\n");
     }
 
-    private void formatAddedMessage(MessageInfo msg, StringBuilder sb, int depth) {
-        sb.append(indent(depth)).append("{\n");
-        appendString(sb, depth + 1, "name", msg.getName());
-        sb.append(",\n");
+    private void formatAddedMessage(MessageInfo msg, DiffWriter out, int depth) {
+        out.append(indent(depth)).append("{\n");
+        appendString(out, depth + 1, "name", msg.getName());
+        out.append(",\n");
         if (msg.getSourceFileName() != null) {
-            appendString(sb, depth + 1, "sourceFile", msg.getSourceFileName());
-            sb.append(",\n");
+            appendString(out, depth + 1, "sourceFile", msg.getSourceFileName());
+            out.append(",\n");
         }
-        appendKey(sb, depth + 1, "fields");
-        sb.append("[\n");
+        appendKey(out, depth + 1, "fields");
+        out.append("[\n");
         List<FieldInfo> fields = msg.getFieldsSorted();
         for (int i = 0; i < fields.size(); i++) {
-            formatField(fields.get(i), sb, depth + 2);
-            if (i < fields.size() - 1) sb.append(",");
-            sb.append("\n");
+            formatField(fields.get(i), out, depth + 2);
+            if (i < fields.size() - 1) out.append(",");
+            out.append("\n");
         }
-        sb.append(indent(depth + 1)).append("]\n");
-        sb.append(indent(depth)).append("}");
+        out.append(indent(depth + 1)).append("]\n");
+        out.append(indent(depth)).append("}");
     }
 
-    private void formatRemovedMessage(MessageInfo msg, StringBuilder sb, int depth) {
-        sb.append(indent(depth)).append("{\n");
-        appendString(sb, depth + 1, "name", msg.getName());
+    private void formatRemovedMessage(MessageInfo msg, DiffWriter out, int depth) {
+        out.append(indent(depth)).append("{\n");
+        appendString(out, depth + 1, "name", msg.getName());
         if (msg.getSourceFileName() != null) {
-            sb.append(",\n");
-            appendString(sb, depth + 1, "sourceFile", msg.getSourceFileName());
+            out.append(",\n");
+            appendString(out, depth + 1, "sourceFile", msg.getSourceFileName());
         }
-        sb.append("\n");
-        sb.append(indent(depth)).append("}");
+        out.append("\n");
+        out.append(indent(depth)).append("}");
     }
 
-    private void formatModifiedMessage(MessageDiff md, StringBuilder sb, int depth) {
-        sb.append(indent(depth)).append("{\n");
-        appendString(sb, depth + 1, "name", md.messageName());
-        sb.append(",\n");
-        appendKey(sb, depth + 1, "fieldChanges");
-        sb.append("[\n");
+    private void formatModifiedMessage(MessageDiff md, DiffWriter out, int depth) {
+        out.append(indent(depth)).append("{\n");
+        appendString(out, depth + 1, "name", md.messageName());
+        out.append(",\n");
+        appendKey(out, depth + 1, "fieldChanges");
+        out.append("[\n");
         List<FieldChange> changes = md.fieldChanges();
         for (int i = 0; i < changes.size(); i++) {
-            formatFieldChange(changes.get(i), sb, depth + 2);
-            if (i < changes.size() - 1) sb.append(",");
-            sb.append("\n");
+            formatFieldChange(changes.get(i), out, depth + 2);
+            if (i < changes.size() - 1) out.append(",");
+            out.append("\n");
         }
-        sb.append(indent(depth + 1)).append("]\n");
-        sb.append(indent(depth)).append("}");
+        out.append(indent(depth + 1)).append("]\n");
+        out.append(indent(depth)).append("}");
     }
 
-    private void formatField(FieldInfo field, StringBuilder sb, int depth) {
-        sb.append(indent(depth)).append("{\n");
-        appendString(sb, depth + 1, "name", field.getProtoName());
-        sb.append(",\n");
-        appendString(sb, depth + 1, "type", FieldChange.formatType(field));
-        sb.append(",\n");
-        appendNumber(sb, depth + 1, "number", field.getNumber());
+    private void formatField(FieldInfo field, DiffWriter out, int depth) {
+        out.append(indent(depth)).append("{\n");
+        appendString(out, depth + 1, "name", field.getProtoName());
+        out.append(",\n");
+        appendString(out, depth + 1, "type", FieldChange.formatType(field));
+        out.append(",\n");
+        appendNumber(out, depth + 1, "number", field.getNumber());
         if (field.isRepeated()) {
-            sb.append(",\n");
-            appendBoolean(sb, depth + 1, "repeated", true);
+            out.append(",\n");
+            appendBoolean(out, depth + 1, "repeated", true);
         }
-        sb.append("\n");
-        sb.append(indent(depth)).append("}");
+        out.append("\n");
+        out.append(indent(depth)).append("}");
     }
 
-    private void formatFieldChange(FieldChange fc, StringBuilder sb, int depth) {
-        sb.append(indent(depth)).append("{\n");
-        appendNumber(sb, depth + 1, "fieldNumber", fc.fieldNumber());
-        sb.append(",\n");
-        appendString(sb, depth + 1, "fieldName", fc.fieldName());
-        sb.append(",\n");
-        appendString(sb, depth + 1, "changeType", fc.changeType().name());
+    private void formatFieldChange(FieldChange fc, DiffWriter out, int depth) {
+        out.append(indent(depth)).append("{\n");
+        appendNumber(out, depth + 1, "fieldNumber", fc.fieldNumber());
+        out.append(",\n");
+        appendString(out, depth + 1, "fieldName", fc.fieldName());
+        out.append(",\n");
+        appendString(out, depth + 1, "changeType", fc.changeType().name());
         if (fc.v1Field() != null) {
-            sb.append(",\n");
-            appendString(sb, depth + 1, "v1Type", FieldChange.formatType(fc.v1Field()));
+            out.append(",\n");
+            appendString(out, depth + 1, "v1Type", FieldChange.formatType(fc.v1Field()));
             if (fc.changeType() == ChangeType.NUMBER_CHANGED) {
-                sb.append(",\n");
-                appendNumber(sb, depth + 1, "v1Number", fc.v1Field().getNumber());
+                out.append(",\n");
+                appendNumber(out, depth + 1, "v1Number", fc.v1Field().getNumber());
             }
         }
         if (fc.v2Field() != null) {
-            sb.append(",\n");
-            appendString(sb, depth + 1, "v2Type", FieldChange.formatType(fc.v2Field()));
+            out.append(",\n");
+            appendString(out, depth + 1, "v2Type", FieldChange.formatType(fc.v2Field()));
             if (fc.changeType() == ChangeType.NUMBER_CHANGED) {
-                sb.append(",\n");
-                appendNumber(sb, depth + 1, "v2Number", fc.v2Field().getNumber());
+                out.append(",\n");
+                appendNumber(out, depth + 1, "v2Number", fc.v2Field().getNumber());
             }
         }
-        sb.append(",\n");
-        appendBoolean(sb, depth + 1, "breaking", fc.isBreaking());
+        out.append(",\n");
+        appendBoolean(out, depth + 1, "breaking", fc.isBreaking());
         if (fc.isRenumberedByMapping()) {
-            sb.append(",\n");
-            appendBoolean(sb, depth + 1, "mapped", true);
+            out.append(",\n");
+            appendBoolean(out, depth + 1, "mapped", true);
         }
         if (fc.getCompatibilityNote() != null) {
-            sb.append(",\n");
-            appendString(sb, depth + 1, "compatibilityNote", fc.getCompatibilityNote());
+            out.append(",\n");
+            appendString(out, depth + 1, "compatibilityNote", fc.getCompatibilityNote());
         }
-        sb.append("\n");
-        sb.append(indent(depth)).append("}");
+        out.append("\n");
+        out.append(indent(depth)).append("}");
     }
 
-    private void formatEnums(SchemaDiff diff, StringBuilder sb, int depth) {
+    private void formatEnums(SchemaDiff diff, DiffWriter out, int depth) {
         // Added
-        appendKey(sb, depth, "added");
-        sb.append("[\n");
+        appendKey(out, depth, "added");
+        out.append("[\n");
         List<EnumInfo> added = diff.getAddedEnums();
         for (int i = 0; i < added.size(); i++) {
-            formatEnum(added.get(i), sb, depth + 1);
-            if (i < added.size() - 1) sb.append(",");
-            sb.append("\n");
+            formatEnum(added.get(i), out, depth + 1);
+            if (i < added.size() - 1) out.append(",");
+            out.append("\n");
         }
-        sb.append(indent(depth)).append("],\n");
+        out.append(indent(depth)).append("],\n");
 
         // Removed
-        appendKey(sb, depth, "removed");
-        sb.append("[\n");
+        appendKey(out, depth, "removed");
+        out.append("[\n");
         List<EnumInfo> removed = diff.getRemovedEnums();
         for (int i = 0; i < removed.size(); i++) {
-            sb.append(indent(depth + 1)).append("{\"name\": \"")
+            out.append(indent(depth + 1)).append("{\"name\": \"")
               .append(escapeJson(removed.get(i).getName())).append("\"}");
-            if (i < removed.size() - 1) sb.append(",");
-            sb.append("\n");
+            if (i < removed.size() - 1) out.append(",");
+            out.append("\n");
         }
-        sb.append(indent(depth)).append("],\n");
+        out.append(indent(depth)).append("],\n");
 
         // Modified
-        appendKey(sb, depth, "modified");
-        sb.append("[\n");
+        appendKey(out, depth, "modified");
+        out.append("[\n");
         List<EnumDiff> modified = diff.getModifiedEnums();
         for (int i = 0; i < modified.size(); i++) {
-            formatEnumDiff(modified.get(i), sb, depth + 1);
-            if (i < modified.size() - 1) sb.append(",");
-            sb.append("\n");
+            formatEnumDiff(modified.get(i), out, depth + 1);
+            if (i < modified.size() - 1) out.append(",");
+            out.append("\n");
         }
-        sb.append(indent(depth)).append("]\n");
+        out.append(indent(depth)).append("]\n");
     }
 
-    private void formatEnum(EnumInfo e, StringBuilder sb, int depth) {
-        sb.append(indent(depth)).append("{\n");
-        appendString(sb, depth + 1, "name", e.getName());
-        sb.append(",\n");
-        appendKey(sb, depth + 1, "values");
-        sb.append("[\n");
+    private void formatEnum(EnumInfo e, DiffWriter out, int depth) {
+        out.append(indent(depth)).append("{\n");
+        appendString(out, depth + 1, "name", e.getName());
+        out.append(",\n");
+        appendKey(out, depth + 1, "values");
+        out.append("[\n");
         List<EnumInfo.EnumValue> values = e.getValues();
         for (int i = 0; i < values.size(); i++) {
             EnumInfo.EnumValue v = values.get(i);
-            sb.append(indent(depth + 2)).append("{\"name\": \"")
+            out.append(indent(depth + 2)).append("{\"name\": \"")
               .append(escapeJson(v.name())).append("\", \"number\": ")
               .append(v.number()).append("}");
-            if (i < values.size() - 1) sb.append(",");
-            sb.append("\n");
+            if (i < values.size() - 1) out.append(",");
+            out.append("\n");
         }
-        sb.append(indent(depth + 1)).append("]\n");
-        sb.append(indent(depth)).append("}");
+        out.append(indent(depth + 1)).append("]\n");
+        out.append(indent(depth)).append("}");
     }
 
-    private void formatEnumDiff(EnumDiff ed, StringBuilder sb, int depth) {
-        sb.append(indent(depth)).append("{\n");
-        appendString(sb, depth + 1, "name", ed.enumName());
-        sb.append(",\n");
+    private void formatEnumDiff(EnumDiff ed, DiffWriter out, int depth) {
+        out.append(indent(depth)).append("{\n");
+        appendString(out, depth + 1, "name", ed.enumName());
+        out.append(",\n");
 
         // Added values
-        appendKey(sb, depth + 1, "addedValues");
-        sb.append("[");
+        appendKey(out, depth + 1, "addedValues");
+        out.append("[");
         List<EnumValueChange> addedValues = ed.getAddedValues();
         for (int i = 0; i < addedValues.size(); i++) {
             EnumValueChange vc = addedValues.get(i);
-            sb.append("{\"name\": \"").append(escapeJson(vc.valueName()))
+            out.append("{\"name\": \"").append(escapeJson(vc.valueName()))
               .append("\", \"number\": ").append(vc.v2Number()).append("}");
-            if (i < addedValues.size() - 1) sb.append(", ");
+            if (i < addedValues.size() - 1) out.append(", ");
         }
-        sb.append("],\n");
+        out.append("],\n");
 
         // Removed values
-        appendKey(sb, depth + 1, "removedValues");
-        sb.append("[");
+        appendKey(out, depth + 1, "removedValues");
+        out.append("[");
         List<EnumValueChange> removedValues = ed.getRemovedValues();
         for (int i = 0; i < removedValues.size(); i++) {
             EnumValueChange vc = removedValues.get(i);
-            sb.append("{\"name\": \"").append(escapeJson(vc.valueName()))
+            out.append("{\"name\": \"").append(escapeJson(vc.valueName()))
               .append("\", \"number\": ").append(vc.v1Number()).append("}");
-            if (i < removedValues.size() - 1) sb.append(", ");
+            if (i < removedValues.size() - 1) out.append(", ");
         }
-        sb.append("]\n");
+        out.append("]\n");
 
-        sb.append(indent(depth)).append("}");
+        out.append(indent(depth)).append("}");
     }
 
-    private void formatBreakingChanges(List<BreakingChange> changes, StringBuilder sb, int depth) {
+    private void formatBreakingChanges(List<BreakingChange> changes, DiffWriter out, int depth) {
         for (int i = 0; i < changes.size(); i++) {
             BreakingChange bc = changes.get(i);
-            sb.append(indent(depth)).append("{\n");
-            appendString(sb, depth + 1, "type", bc.type().name());
-            sb.append(",\n");
-            appendString(sb, depth + 1, "severity", bc.severity().name());
-            sb.append(",\n");
-            appendString(sb, depth + 1, "entityPath", bc.entityPath());
-            sb.append(",\n");
-            appendString(sb, depth + 1, "description", bc.description());
+            out.append(indent(depth)).append("{\n");
+            appendString(out, depth + 1, "type", bc.type().name());
+            out.append(",\n");
+            appendString(out, depth + 1, "severity", bc.severity().name());
+            out.append(",\n");
+            appendString(out, depth + 1, "entityPath", bc.entityPath());
+            out.append(",\n");
+            appendString(out, depth + 1, "description", bc.description());
             if (bc.v1Value() != null) {
-                sb.append(",\n");
-                appendString(sb, depth + 1, "v1Value", bc.v1Value());
+                out.append(",\n");
+                appendString(out, depth + 1, "v1Value", bc.v1Value());
             }
             if (bc.v2Value() != null) {
-                sb.append(",\n");
-                appendString(sb, depth + 1, "v2Value", bc.v2Value());
+                out.append(",\n");
+                appendString(out, depth + 1, "v2Value", bc.v2Value());
             }
-            sb.append("\n");
-            sb.append(indent(depth)).append("}");
-            if (i < changes.size() - 1) sb.append(",");
-            sb.append("\n");
+            out.append("\n");
+            out.append(indent(depth)).append("}");
+            if (i < changes.size() - 1) out.append(",");
+            out.append("\n");
         }
     }
 
-    private void formatSuspectedRenumbers(SchemaDiff diff, StringBuilder sb, int depth) {
+    private void formatSuspectedRenumbers(SchemaDiff diff, DiffWriter out, int depth) {
         List<SuspectedRenumber> suspected = diff.getSuspectedRenumbers();
         for (int i = 0; i < suspected.size(); i++) {
             SuspectedRenumber sr = suspected.get(i);
-            sb.append(indent(depth)).append("{\n");
-            appendString(sb, depth + 1, "messageName", sr.messageName());
-            sb.append(",\n");
-            appendString(sb, depth + 1, "fieldName", sr.fieldName());
-            sb.append(",\n");
-            appendNumber(sb, depth + 1, "v1Number", sr.v1Number());
-            sb.append(",\n");
-            appendNumber(sb, depth + 1, "v2Number", sr.v2Number());
-            sb.append(",\n");
-            appendString(sb, depth + 1, "confidence", sr.confidence().name());
+            out.append(indent(depth)).append("{\n");
+            appendString(out, depth + 1, "messageName", sr.messageName());
+            out.append(",\n");
+            appendString(out, depth + 1, "fieldName", sr.fieldName());
+            out.append(",\n");
+            appendNumber(out, depth + 1, "v1Number", sr.v1Number());
+            out.append(",\n");
+            appendNumber(out, depth + 1, "v2Number", sr.v2Number());
+            out.append(",\n");
+            appendString(out, depth + 1, "confidence", sr.confidence().name());
             if (sr.v1Field() != null) {
-                sb.append(",\n");
-                appendString(sb, depth + 1, "type", FieldChange.formatType(sr.v1Field()));
+                out.append(",\n");
+                appendString(out, depth + 1, "type", FieldChange.formatType(sr.v1Field()));
             }
-            sb.append(",\n");
-            appendString(sb, depth + 1, "suggestedMapping",
+            out.append(",\n");
+            appendString(out, depth + 1, "suggestedMapping",
                 String.format("<fieldMapping><message>%s</message><fieldName>%s</fieldName></fieldMapping>",
                     sr.messageName(), sr.fieldName()));
-            sb.append("\n");
-            sb.append(indent(depth)).append("}");
-            if (i < suspected.size() - 1) sb.append(",");
-            sb.append("\n");
+            out.append("\n");
+            out.append(indent(depth)).append("}");
+            if (i < suspected.size() - 1) out.append(",");
+            out.append("\n");
         }
     }
 
@@ -394,21 +409,21 @@ public class JsonDiffFormatter implements DiffFormatter {
         return INDENT.repeat(depth);
     }
 
-    private void appendKey(StringBuilder sb, int depth, String key) {
-        sb.append(indent(depth)).append("\"").append(key).append("\": ");
+    private void appendKey(DiffWriter out, int depth, String key) {
+        out.append(indent(depth)).append("\"").append(key).append("\": ");
     }
 
-    private void appendString(StringBuilder sb, int depth, String key, String value) {
-        sb.append(indent(depth)).append("\"").append(key).append("\": \"")
+    private void appendString(DiffWriter out, int depth, String key, String value) {
+        out.append(indent(depth)).append("\"").append(key).append("\": \"")
           .append(escapeJson(value)).append("\"");
     }
 
-    private void appendNumber(StringBuilder sb, int depth, String key, int value) {
-        sb.append(indent(depth)).append("\"").append(key).append("\": ").append(value);
+    private void appendNumber(DiffWriter out, int depth, String key, int value) {
+        out.append(indent(depth)).append("\"").append(key).append("\": ").append(value);
     }
 
-    private void appendBoolean(StringBuilder sb, int depth, String key, boolean value) {
-        sb.append(indent(depth)).append("\"").append(key).append("\": ").append(value);
+    private void appendBoolean(DiffWriter out, int depth, String key, boolean value) {
+        out.append(indent(depth)).append("\"").append(key).append("\": ").append(value);
     }
 
     private String escapeJson(String s) {
@@ -6,6 +6,7 @@ import io.alnovis.protowrapper.model.EnumInfo;
 import io.alnovis.protowrapper.model.FieldInfo;
 import io.alnovis.protowrapper.model.MessageInfo;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -15,164 +16,174 @@ public class MarkdownDiffFormatter implements DiffFormatter {
 
     @Override
     public String format(SchemaDiff diff) {
-        StringBuilder sb = new StringBuilder();
+        return DiffWriter.render(out -> write(diff, out));
+    }
 
+    @Override
+    public void format(SchemaDiff diff, Appendable out) throws IOException {
+        DiffWriter.stream(out, writer -> write(diff, writer));
+    }
+
+    @Override
+    public String formatBreakingOnly(SchemaDiff diff) {
+        return DiffWriter.render(out -> writeBreakingOnly(diff, out));
+    }
+
+    @Override
+    public void formatBreakingOnly(SchemaDiff diff, Appendable out) throws IOException {
+        DiffWriter.stream(out, writer -> writeBreakingOnly(diff, writer));
+    }
+
+    private void write(SchemaDiff diff, DiffWriter out) {
         // Title
-        sb.append("# Schema Comparison: ").append(diff.getV1Name())
+        out.append("# Schema Comparison: ").append(diff.getV1Name())
           .append(" -> ").append(diff.getV2Name()).append("\n\n");
 
         // Summary table
-        sb.append("## Summary\n\n");
-        formatSummaryTable(diff.getSummary(), sb);
-        sb.append("\n");
+        out.append("## Summary\n\n");
+        formatSummaryTable(diff.getSummary(), out);
+        out.append("\n");
 
         if (diff.hasBreakingChanges()) {
-            sb.append("**Breaking Changes:** ")
+            out.append("**Breaking Changes:** ")
               .append(diff.getSummary().errorCount()).append(" errors, ")
               .append(diff.getSummary().warningCount()).append(" warnings\n\n");
         }
 
-        sb.append("---\n\n");
+        out.append("---\n\n");
 
         // Messages
-        sb.append("## Messages\n\n");
-        formatMessages(diff, sb);
+        out.append("## Messages\n\n");
+        formatMessages(diff, out);
 
-        sb.append("---\n\n");
+        out.append("---\n\n");
 
         // Enums
-        sb.append("## Enums\n\n");
-        formatEnums(diff, sb);
+        out.append("## Enums\n\n");
+        formatEnums(diff, out);
 
         // Breaking changes section
         if (diff.hasBreakingChanges()) {
-            sb.append("---\n\n");
-            sb.append("## Breaking Changes\n\n");
-            formatBreakingChangesTable(diff.getBreakingChanges(), sb);
+            out.append("---\n\n");
+            out.append("## Breaking Changes\n\n");
+            formatBreakingChangesTable(diff.getBreakingChanges(), out);
         }
 
         // Suspected renumbered fields
         if (diff.hasSuspectedRenumbers()) {
-            sb.append("---\n\n");
-            sb.append("## Suspected Renumbered Fields\n\n");
-            sb.append("The following fields appear to have been renumbered between versions. ");
-            sb.append("Consider adding field mappings to the plugin configuration.\n\n");
-            formatSuspectedRenumbersTable(diff, sb);
+            out.append("---\n\n");
+            out.append("## Suspected Renumbered Fields\n\n");
+            out.append("The following fields appear to have been renumbered between versions. ");
+            out.append("Consider adding field mappings to the plugin configuration.\n\n");
+            formatSuspectedRenumbersTable(diff, out);
         }
-
-        return sb.toString();
     }
 
-    @Override
-    public String formatBreakingOnly(SchemaDiff diff) {
-        StringBuilder sb = new StringBuilder();
-
-        sb.append("# Breaking Changes: ").append(diff.getV1Name())
+    private void writeBreakingOnly(SchemaDiff diff, DiffWriter out) {
+        out.append("# Breaking Changes: ").append(diff.getV1Name())
           .append(" -> ").append(diff.getV2Name()).append("\n\n");
 
         if (!diff.hasBreakingChanges()) {
-            sb.append("No breaking changes detected.\n");
-            return sb.toString();
+            out.append("No breaking changes detected.\n");
+            return;
         }
 
-        sb.append("**Total:** ").append(diff.getSummary().errorCount())
+        out.append("**Total:** ").append(diff.getSummary().errorCount())
           .append(" errors, ").append(diff.getSummary().warningCount())
           .append(" warnings\n\n");
 
-        formatBreakingChangesTable(diff.getBreakingChanges(), sb);
-
-        return sb.toString();
+        formatBreakingChangesTable(diff.getBreakingChanges(), out);
     }
 
-    private void formatSummaryTable(SchemaDiff.DiffSummary summary, StringBuilder sb) {
-        sb.append("| Category | Added | Modified | Removed |\n");
-        sb.append("|----------|-------|----------|--------|\n");
-        sb.append("| Messages | ").append(summary.addedMessages())
+    private void formatSummaryTable(SchemaDiff.DiffSummary summary, DiffWriter out) {
+        out.append("| Category | Added | Modified | Removed |\n");
+        out.append("|----------|-------|----------|--------|\n");
+        out.append("| Messages | ").append(summary.addedMessages())
           .append(" | ").append(summary.modifiedMessages())
           .append(" | ").append(summary.removedMessages()).append(" |\n");
-        sb.append("| Enums | ").append(summary.addedEnums())
+        out.append("| Enums | ").append(summary.addedEnums())
           .append(" | ").append(summary.modifiedEnums())
           .append(" | ").append(summary.removedEnums()).append(" |\n");
 
         if (summary.hasRenumbers()) {
-            sb.append("\n**Renumbered fields:** ")
+            out.append("\n**Renumbered fields:** ")
               .append(summary.mappedRenumbers()).append(" mapped, ")
               .append(summary.suspectedRenumbers()).append(" suspected\n");
         }
     }
 
-    private void formatMessages(SchemaDiff diff, StringBuilder sb) {
+    private void formatMessages(SchemaDiff diff, DiffWriter out) {
         List<MessageInfo> added = diff.getAddedMessages();
         List<MessageDiff> modified = diff.getModifiedMessages();
         List<MessageInfo> removed = diff.getRemovedMessages();
 
         // Added messages
         if (!added.isEmpty()) {
-            sb.append("### Added Messages\n\n");
+            out.append("### Added Messages\n\n");
             for (MessageInfo msg : added) {
-                sb.append("#### ").append(msg.getName()).append("\n");
+                out.append("#### ").append(msg.getName()).append("\n");
                 if (msg.getSourceFileName() != null) {
-                    sb.append("*Source: ").append(msg.getSourceFileName()).append("*\n\n");
+                    out.append("*Source: ").append(msg.getSourceFileName()).append("*\n\n");
                 }
-                formatMessageFieldsTable(msg, sb);
-                sb.append("\n");
+                formatMessageFieldsTable(msg, out);
+                out.append("\n");
             }
         }
 
         // Modified messages
         if (!modified.isEmpty()) {
-            sb.append("### Modified Messages\n\n");
+            out.append("### Modified Messages\n\n");
             for (MessageDiff md : modified) {
-                sb.append("#### ").append(md.messageName()).append("\n\n");
-                formatMessageDiffTable(md, sb);
-                sb.append("\n");
+                out.append("#### ").append(md.messageName()).append("\n\n");
+                formatMessageDiffTable(md, out);
+                out.append("\n");
             }
         }
 
         // Removed messages
         if (!removed.isEmpty()) {
-            sb.append("### Removed Messages\n\n");
+            out.append("### Removed Messages\n\n");
             for (MessageInfo msg : removed) {
-                sb.append("- **").append(msg.getName()).append("** - **BREAKING**\n");
+                out.append("- **").append(msg.getName()).append("** - **BREAKING**\n");
             }
-            sb.append("\n");
+            out.append("\n");
         }
 
         if (added.isEmpty() && modified.isEmpty() && removed.isEmpty()) {
-            sb.append("No message changes.\n\n");
+            out.append("No message changes.\n\n");
         }
     }
 
-    private void formatMessageFieldsTable(MessageInfo msg, StringBuilder sb) {
+    private void formatMessageFieldsTable(MessageInfo msg, DiffWriter out) {
         List<FieldInfo> fields = msg.getFieldsSorted();
         if (fields.isEmpty()) {
-            sb.append("*No fields*\n");
+            out.append("*No fields*\n");
             return;
         }
 
-        sb.append("| Field | Type | Number |\n");
-        sb.append("|-------|------|--------|\n");
+        out.append("| Field | Type | Number |\n");
+        out.append("|-------|------|--------|\n");
         for (FieldInfo field : fields) {
-            sb.append("| ").append(field.getProtoName())
+            out.append("| ").append(field.getProtoName())
               .append(" | ").append(formatTypeForMarkdown(field))
               .append(" | ").append(field.getNumber()).append(" |\n");
         }
     }
 
-    private void formatMessageDiffTable(MessageDiff md, StringBuilder sb) {
+    private void formatMessageDiffTable(MessageDiff md, DiffWriter out) {
         List<FieldChange> allChanges = md.fieldChanges();
         if (allChanges.isEmpty() && md.nestedMessageChanges().isEmpty() && md.nestedEnumChanges().isEmpty()) {
-            sb.append("*No field changes*\n");
+            out.append("*No field changes*\n");
             return;
         }
 
         if (!allChanges.isEmpty()) {
-            sb.append("| Change | Field | Details |\n");
-            sb.append("|--------|-------|--------|\n");
+            out.append("| Change | Field | Details |\n");
+            out.append("|--------|-------|--------|\n");
 
             // Added fields
             for (FieldChange fc : md.getAddedFields()) {
-                sb.append("| + Added | ").append(fc.fieldName())
+                out.append("| + Added | ").append(fc.fieldName())
                   .append(" (#").append(fc.fieldNumber()).append(") | `")
                   .append(FieldChange.formatType(fc.v2Field())).append("` |\n");
             }
@@ -180,7 +191,7 @@ public class MarkdownDiffFormatter implements DiffFormatter {
             // Modified fields (including renumbered)
             for (FieldChange fc : md.getModifiedFields()) {
                 if (fc.changeType() == ChangeType.NUMBER_CHANGED && fc.isRenumberedByMapping()) {
-                    sb.append("| ~ Renumbered | ").append(fc.fieldName())
+                    out.append("| ~ Renumbered | ").append(fc.fieldName())
                       .append(" | ").append(fc.getRenumberDescription())
                       .append(" `[MAPPED]` |\n");
                 } else {
@@ -190,7 +201,7 @@ public class MarkdownDiffFormatter implements DiffFormatter {
                     } else if (fc.getCompatibilityNote() != null) {
                         details += " (" + fc.getCompatibilityNote() + ")";
                     }
-                    sb.append("| ~ Changed | ").append(fc.fieldName())
+                    out.append("| ~ Changed | ").append(fc.fieldName())
                       .append(" (#").append(fc.fieldNumber()).append(") | ")
                       .append(details).append(" |\n");
                 }
@@ -198,137 +209,137 @@ public class MarkdownDiffFormatter implements DiffFormatter {
 
             // Removed fields
             for (FieldChange fc : md.getRemovedFields()) {
-                sb.append("| - Removed | ").append(fc.fieldName())
+                out.append("| - Removed | ").append(fc.fieldName())
                   .append(" (#").append(fc.fieldNumber()).append(") | **BREAKING** |\n");
             }
         }
 
         // Nested changes
         if (!md.nestedMessageChanges().isEmpty()) {
-            sb.append("\n**Nested message changes:**\n");
+            out.append("\n**Nested message changes:**\n");
             for (MessageDiff nested : md.nestedMessageChanges()) {
-                sb.append("- ").append(nested.changeType().name().toLowerCase())
+                out.append("- ").append(nested.changeType().name().toLowerCase())
                   .append(": ").append(nested.messageName());
                 if (nested.hasBreakingChanges()) {
-                    sb.append(" **BREAKING**");
+                    out.append(" **BREAKING**");
                 }
-                sb.append("\n");
+                out.append("\n");
             }
         }
 
         if (!md.nestedEnumChanges().isEmpty()) {
-            sb.append("\n**Nested enum changes:**\n");
+            out.append("\n**Nested enum changes:**\n");
             for (EnumDiff nested : md.nestedEnumChanges()) {
-                sb.append("- ").append(nested.changeType().name().toLowerCase())
+                out.append("- ").append(nested.changeType().name().toLowerCase())
                   .append(": ").append(nested.enumName());
                 if (nested.hasBreakingChanges()) {
-                    sb.append(" **BREAKING**");
+                    out.append(" **BREAKING**");
                 }
-                sb.append("\n");
+                out.append("\n");
             }
         }
     }
 
-    private void formatEnums(SchemaDiff diff, StringBuilder sb) {
+    private void formatEnums(SchemaDiff diff, DiffWriter out) {
         List<EnumInfo> added = diff.getAddedEnums();
         List<EnumDiff> modified = diff.getModifiedEnums();
         List<EnumInfo> removed = diff.getRemovedEnums();
 
         // Added enums
         if (!added.isEmpty()) {
-            sb.append("### Added Enums\n\n");
+            out.append("### Added Enums\n\n");
             for (EnumInfo e : added) {
-                sb.append("#### ").append(e.getName()).append("\n\n");
-                formatEnumValuesTable(e, sb);
-                sb.append("\n");
+                out.append("#### ").append(e.getName()).append("\n\n");
+                formatEnumValuesTable(e, out);
+                out.append("\n");
             }
         }
 
         // Modified enums
         if (!modified.isEmpty()) {
-            sb.append("### Modified Enums\n\n");
+            out.append("### Modified Enums\n\n");
             for (EnumDiff ed : modified) {
-                sb.append("#### ").append(ed.enumName()).append("\n\n");
+                out.append("#### ").append(ed.enumName()).append("\n\n");
 
                 for (EnumValueChange vc : ed.getAddedValues()) {
-                    sb.append("- + Added: `").append(vc.valueName())
+                    out.append("- + Added: `").append(vc.valueName())
                       .append("` (").append(vc.v2Number()).append(")\n");
                 }
                 for (EnumValueChange vc : ed.getRemovedValues()) {
-                    sb.append("- - Removed: `").append(vc.valueName())
+                    out.append("- - Removed: `").append(vc.valueName())
                       .append("` (").append(vc.v1Number()).append(") **BREAKING**\n");
                 }
                 for (EnumValueChange vc : ed.getChangedValues()) {
-                    sb.append("- ~ Changed: `").append(vc.valueName())
+                    out.append("- ~ Changed: `").append(vc.valueName())
                       .append("` (").append(vc.v1Number()).append(" -> ")
                       .append(vc.v2Number()).append(") **BREAKING**\n");
                 }
-                sb.append("\n");
+                out.append("\n");
             }
         }
 
         // Removed enums
         if (!removed.isEmpty()) {
-            sb.append("### Removed Enums\n\n");
+            out.append("### Removed Enums\n\n");
             for (EnumInfo e : removed) {
-                sb.append("- **").append(e.getName()).append("** - **BREAKING**\n");
+                out.append("- **").append(e.getName()).append("** - **BREAKING**\n");
             }
-            sb.append("\n");
+            out.append("\n");
         }
 
         if (added.isEmpty() && modified.isEmpty() && removed.isEmpty()) {
-            sb.append("No enum changes.\n\n");
+            out.append("No enum changes.\n\n");
         }
     }
 
-    private void formatEnumValuesTable(EnumInfo e, StringBuilder sb) {
-        sb.append("| Name | Number |\n");
-        sb.append("|------|--------|\n");
+    private void formatEnumValuesTable(EnumInfo e, DiffWriter out) {
+        out.append("| Name | Number |\n");
+        out.append("|------|--------|\n");
         for (EnumInfo.EnumValue v : e.getValues()) {
-            sb.append("| ").append(v.name())
+            out.append("| ").append(v.name())
               .append(" | ").append(v.number()).append(" |\n");
         }
     }
 
-    private void formatBreakingChangesTable(List<BreakingChange> changes, StringBuilder sb) {
-        sb.append("| Severity | Type | Entity | Description |\n");
-        sb.append("|----------|------|--------|-------------|\n");
+    private void formatBreakingChangesTable(List<BreakingChange> changes, DiffWriter out) {
+        out.append("| Severity | Type | Entity | Description |\n");
+        out.append("|----------|------|--------|-------------|\n");
 
         for (BreakingChange bc : changes) {
-            sb.append("| ").append(bc.severity().name())
+            out.append("| ").append(bc.severity().name())
               .append(" | ").append(formatBreakingType(bc.type()))
               .append(" | ").append(bc.entityPath())
               .append(" | ").append(bc.description());
 
             if (bc.v1Value() != null && bc.v2Value() != null) {
-                sb.append(" (`").append(bc.v1Value()).append("` -> `")
+                out.append(" (`").append(bc.v1Value()).append("` -> `")
                   .append(bc.v2Value()).append("`)");
             } else if (bc.v1Value() != null) {
-                sb.append(" (was: `").append(bc.v1Value()).append("`)");
+                out.append(" (was: `").append(bc.v1Value()).append("`)");
             }
-            sb.append(" |\n");
+            out.append(" |\n");
         }
     }
 
-    private void formatSuspectedRenumbersTable(SchemaDiff diff, StringBuilder sb) {
-        sb.append("| Confidence | Message.Field | ").append(diff.getV1Name())
+    private void formatSuspectedRenumbersTable(SchemaDiff diff, DiffWriter out) {
+        out.append("| Confidence | Message.Field | ").append(diff.getV1Name())
           .append(" | ").append(diff.getV2Name()).append(" | Type | Suggested Mapping |\n");
-        sb.append("|------------|---------------|------|------|------|-------------------|\n");
+        out.append("|------------|---------------|------|------|------|-------------------|\n");
 
         for (SuspectedRenumber sr : diff.getSuspectedRenumbers()) {
-            sb.append("| ").append(sr.confidence().name())
+            out.append("| ").append(sr.confidence().name())
               .append(" | ").append(sr.messageName()).append(".").append(sr.fieldName())
               .append(" | #").append(sr.v1Number())
               .append(" | #").append(sr.v2Number())
               .append(" | ");
             if (sr.v1Field() != null) {
-                sb.append("`").append(FieldChange.formatType(sr.v1Field())).append("`");
+                out.append("`").append(FieldChange.formatType(sr.v1Field())).append("`");
             }
-            sb.append(" | `<fieldMapping><message>").append(sr.messageName())
+            out.append(" | `<fieldMapping><message>").append(sr.messageName())
               .append("</message><fieldName>").append(sr.fieldName())
               .append("</fieldName></fieldMapping>` |\n");
         }
-        sb.append("\n");
+        out.append("\n");
     }
 
     private String formatTypeForMarkdown(FieldInfo field) {
@@ -0,0 +1,272 @@
+package io.alnovis.protowrapper.diff.formatter;
+
+import io.alnovis.protowrapper.diff.SchemaDiff;
+import io.alnovis.protowrapper.diff.model.*;
+import io.alnovis.protowrapper.model.EnumInfo;
+import io.alnovis.protowrapper.model.MessageInfo;
+
+import java.io.IOException;
+
+/**
+ * Formats schema diff results as newline-delimited JSON (NDJSON).
+ *
+ * <p>Every change is one self-contained JSON object on its own line, so CI tools can
+ * filter and aggregate a report line by line ({@code grep}, {@code jq -c}) without
+ * loading it whole. Each record carries {@code v1}, {@code v2} and a {@code kind}:</p>
+ * <ul>
+ *   <li>{@code message}, {@code field}, {@code enum}, {@code enumValue} - one per change;
+ *       nested types use dotted paths such as {@code Order.Item}</li>
+ *   <li>{@code breaking} - one per breaking change</li>
+ *   <li>{@code suspectedRenumber} - one per suspected field renumbering</li>
+ *   <li>{@code summary} - always the last line</li>
+ * </ul>
+ * <pre>{@code
+ * {"kind":"field","v1":"v1","v2":"v2","message":"Order","fieldNumber":3,"fieldName":"status","change":"REMOVED","v1Type":"int32","breaking":true}
+ * }</pre>
+ *
+ * <p>Records are written to the target as they are produced; the breaking-only
+ * variant writes just the {@code breaking} records and the summary.</p>
+ *
+ * @since 2.4.0
+ */
+public class NdjsonDiffFormatter implements DiffFormatter {
+
+    @Override
+    public String format(SchemaDiff diff) {
+        return DiffWriter.render(out -> write(diff, out));
+    }
+
+    @Override
+    public void format(SchemaDiff diff, Appendable out) throws IOException {
+        DiffWriter.stream(out, writer -> write(diff, writer));
+    }
+
+    @Override
+    public String formatBreakingOnly(SchemaDiff diff) {
+        return DiffWriter.render(out -> writeBreakingOnly(diff, out));
+    }
+
+    @Override
+    public void formatBreakingOnly(SchemaDiff diff, Appendable out) throws IOException {
+        DiffWriter.stream(out, writer -> writeBreakingOnly(diff, writer));
+    }
+
+    void write(SchemaDiff diff, DiffWriter out) {
+        Record record = new Record(out, diff);
+
+        for (MessageInfo msg : diff.getAddedMessages()) {
+            writeMessage(record, msg.getName(), ChangeType.ADDED, msg);
+        }
+        for (MessageInfo msg : diff.getRemovedMessages()) {
+            writeMessage(record, msg.getName(), ChangeType.REMOVED, msg);
+        }
+        for (MessageDiff md : diff.getModifiedMessages()) {
+            writeMessageDiff(record, md.messageName(), md);
+        }
+
+        for (EnumInfo e : diff.getAddedEnums()) {
+            writeEnum(record, e.getName(), ChangeType.ADDED, false);
+        }
+        for (EnumInfo e : diff.getRemovedEnums()) {
+            writeEnum(record, e.getName(), ChangeType.REMOVED, true);
+        }
+        for (EnumDiff ed : diff.getModifiedEnums()) {
+            writeEnumDiff(record, ed.enumName(), ed);
+        }
+
+        writeBreakingChanges(record, diff);
+
+        for (SuspectedRenumber sr : diff.getSuspectedRenumbers()) {
+            record.begin("suspectedRenumber")
+                  .string("message", sr.messageName())
+                  .string("fieldName", sr.fieldName())
+                  .number("v1Number", sr.v1Number())
+                  .number("v2Number", sr.v2Number())
+                  .string("confidence", sr.confidence().name());
+            if (sr.v1Field() != null) {
+                record.string("type", FieldChange.formatType(sr.v1Field()));
+            }
+            record.end();
+        }
+
+        writeSummary(record, diff.getSummary());
+    }
+
+    void writeBreakingOnly(SchemaDiff diff, DiffWriter out) {
+        Record record = new Record(out, diff);
+        writeBreakingChanges(record, diff);
+        writeSummary(record, diff.getSummary());
+    }
+
+    private void writeMessage(Record record, String path, ChangeType change, MessageInfo msg) {
+        record.begin("message")
+              .string("message", path)
+              .string("change", change.name());
+        if (msg.getSourceFileName() != null) {
+            record.string("sourceFile", msg.getSourceFileName());
+        }
+        if (change == ChangeType.ADDED) {
+            record.number("fieldCount", msg.getFields().size());
+        }
+        record.bool("breaking", change == ChangeType.REMOVED)
+              .end();
+    }
+
+    private void writeMessageDiff(Record record, String path, MessageDiff md) {
+        if (md.changeType() != ChangeType.MODIFIED) {
+            MessageInfo msg = md.v2Message() != null ? md.v2Message() : md.v1Message();
+            writeMessage(record, path, md.changeType(), msg);
+            return;
+        }
+
+        record.begin("message")
+              .string("message", path)
+              .string("change", md.changeType().name())
+              .bool("breaking", md.hasBreakingChanges())
+              .end();
+
+        for (FieldChange fc : md.fieldChanges()) {
+            record.begin("field")
+                  .string("message", path)
+                  .number("fieldNumber", fc.fieldNumber())
+                  .string("fieldName", fc.fieldName())
+                  .string("change", fc.changeType().name());
+            if (fc.v1Field() != null) {
+                record.string("v1Type", FieldChange.formatType(fc.v1Field()));
+                if (fc.changeType() == ChangeType.NUMBER_CHANGED) {
+                    record.number("v1Number", fc.v1Field().getNumber());
+                }
+            }
+            if (fc.v2Field() != null) {
+                record.string("v2Type", FieldChange.formatType(fc.v2Field()));
+                if (fc.changeType() == ChangeType.NUMBER_CHANGED) {
+                    record.number("v2Number", fc.v2Field().getNumber());
+                }
+            }
+            record.bool("breaking", fc.isBreaking());
+            if (fc.isRenumberedByMapping()) {
+                record.bool("mapped", true);
+            }
+            if (fc.getCompatibilityNote() != null) {
+                record.string("compatibilityNote", fc.getCompatibilityNote());
+            }
+            record.end();
+        }
+
+        for (MessageDiff nested : md.nestedMessageChanges()) {
+            writeMessageDiff(record, path + "." + nested.messageName(), nested);
+        }
+        for (EnumDiff nested : md.nestedEnumChanges()) {
+            writeEnumDiff(record, path + "." + nested.enumName(), nested);
+        }
+    }
+
+    private void writeEnum(Record record, String path, ChangeType change, boolean breaking) {
+        record.begin("enum")
+              .string("enum", path)
+              .string("change", change.name())
+              .bool("breaking", breaking)
+              .end();
+    }
+
+    private void writeEnumDiff(Record record, String path, EnumDiff ed) {
+        writeEnum(record, path, ed.changeType(), ed.hasBreakingChanges());
+        for (EnumValueChange vc : ed.valueChanges()) {
+            record.begin("enumValue")
+                  .string("enum", path)
+                  .string("value", vc.valueName())
+                  .string("change", vc.changeType().name());
+            if (vc.v1Number() != null) {
+                record.number("v1Number", vc.v1Number());
+            }
+            if (vc.v2Number() != null) {
+                record.number("v2Number", vc.v2Number());
+            }
+            record.bool("breaking", vc.isBreaking())
+                  .end();
+        }
+    }
+
+    private void writeBreakingChanges(Record record, SchemaDiff diff) {
+        for (BreakingChange bc : diff.getBreakingChanges()) {
+            record.begin("breaking")
+                  .string("type", bc.type().name())
+                  .string("severity", bc.severity().name())
+                  .string("entityPath", bc.entityPath())
+                  .string("description", bc.description());
+            if (bc.v1Value() != null) {
+                record.string("v1Value", bc.v1Value());
+            }
+            if (bc.v2Value() != null) {
+                record.string("v2Value", bc.v2Value());
+            }
+            record.end();
+        }
+    }
+
+    private void writeSummary(Record record, SchemaDiff.DiffSummary summary) {
+        record.begin("summary")
+              .number("addedMessages", summary.addedMessages())
+              .number("removedMessages", summary.removedMessages())
+              .number("modifiedMessages", summary.modifiedMessages())
+              .number("addedEnums", summary.addedEnums())
+              .number("removedEnums", summary.removedEnums())
+              .number("modifiedEnums", summary.modifiedEnums())
+              .number("errorCount", summary.errorCount())
+              .number("warningCount", summary.warningCount())
+              .number("mappedRenumbers", summary.mappedRenumbers())
+              .number("suspectedRenumbers", summary.suspectedRenumbers())
+              .end();
+    }
+
+    /**
+     * Writes one line at a time; every line starts with the kind and the version names.
+     */
+    private static final class Record {
+
+        private final DiffWriter out;
+        private final String v1;
+        private final String v2;
+
+        Record(DiffWriter out, SchemaDiff diff) {
+            this.out = out;
+            this.v1 = escapeJson(diff.getV1Name());
+            this.v2 = escapeJson(diff.getV2Name());
+        }
+
+        Record begin(String kind) {
+            out.append("{\"kind\":\"").append(kind)
+               .append("\",\"v1\":\"").append(v1)
+               .append("\",\"v2\":\"").append(v2).append('"');
+            return this;
+        }
+
+        Record string(String key, String value) {
+            out.append(",\"").append(key).append("\":\"").append(escapeJson(value)).append('"');
+            return this;
+        }
+
+        Record number(String key, int value) {
+            out.append(",\"").append(key).append("\":").append(value);
+            return this;
+        }
+
+        Record bool(String key, boolean value) {
+            out.append(",\"").append(key).append("\":").append(value);
+            return this;
+        }
+
+        void end() {
+            out.append("}\n");
+        }
+
+        private static String escapeJson(String s) {
+            if (s == null) return "";
+            return s.replace("\\", "\\\\")
+                    .replace("\"", "\\\"")
+                    .replace("\n", "\\n")
+                    .replace("\r", "\\r")
+                    .replace("\t", "\\t");
+        }
+    }
+}
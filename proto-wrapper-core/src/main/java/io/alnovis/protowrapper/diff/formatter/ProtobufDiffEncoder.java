@@ -0,0 +1,398 @@
+package io.alnovis.protowrapper.diff.formatter;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import io.alnovis.protowrapper.diff.SchemaDiff;
+import io.alnovis.protowrapper.diff.model.*;
+import io.alnovis.protowrapper.model.EnumInfo;
+import io.alnovis.protowrapper.model.FieldInfo;
+import io.alnovis.protowrapper.model.MessageInfo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Encodes schema diff results as a compact protobuf {@code SchemaDiffReport}.
+ *
+ * <p>The message is defined in {@value #PROTO_RESOURCE}, shipped in the core jar; compile it
+ * with {@code protoc} to read reports from any language. The encoding is deterministic: the
+ * same diff always produces the same bytes, so stored reports can be compared byte for byte.</p>
+ *
+ * <p>Written directly with {@link CodedOutputStream}, so the core needs no generated classes.
+ * Enum values are mapped to fixed numbers of the .proto (0 is {@code UNSPECIFIED}), independent
+ * of the Java declaration order, so stored reports keep decoding correctly when constants are
+ * added or reordered.</p>
+ *
+ * @since 2.4.0
+ */
+public class ProtobufDiffEncoder {
+
+    /**
+     * Classpath location of the {@code schema_diff.proto} definition.
+     */
+    public static final String PROTO_RESOURCE = "/io/alnovis/protowrapper/diff/schema_diff.proto";
+
+    // SchemaDiffReport
+    private static final int REPORT_V1 = 1;
+    private static final int REPORT_V2 = 2;
+    private static final int REPORT_SUMMARY = 3;
+    private static final int REPORT_MESSAGES = 4;
+    private static final int REPORT_ENUMS = 5;
+    private static final int REPORT_BREAKING_CHANGES = 6;
+    private static final int REPORT_SUSPECTED_RENUMBERS = 7;
+
+    // MessageChange
+    private static final int MESSAGE_NAME = 1;
+    private static final int MESSAGE_CHANGE_TYPE = 2;
+    private static final int MESSAGE_SOURCE_FILE = 3;
+    private static final int MESSAGE_BREAKING = 4;
+    private static final int MESSAGE_FIELDS = 5;
+    private static final int MESSAGE_FIELD_CHANGES = 6;
+    private static final int MESSAGE_NESTED_MESSAGES = 7;
+    private static final int MESSAGE_NESTED_ENUMS = 8;
+
+    // EnumChange
+    private static final int ENUM_NAME = 1;
+    private static final int ENUM_CHANGE_TYPE = 2;
+    private static final int ENUM_BREAKING = 3;
+    private static final int ENUM_VALUES = 4;
+    private static final int ENUM_VALUE_CHANGES = 5;
+
+    /**
+     * Encodes the complete schema diff.
+     *
+     * @param diff The schema diff to encode
+     * @return serialized {@code SchemaDiffReport}
+     */
+    public byte[] encode(SchemaDiff diff) {
+        return toBytes(out -> writeReport(diff, false, out));
+    }
+
+    /**
+     * Encodes the summary and breaking changes only.
+     *
+     * @param diff The schema diff to encode
+     * @return serialized {@code SchemaDiffReport} without message, enum and renumber entries
+     */
+    public byte[] encodeBreakingOnly(SchemaDiff diff) {
+        return toBytes(out -> writeReport(diff, true, out));
+    }
+
+    /**
+     * Writes the complete schema diff to a stream.
+     *
+     * @param diff The schema diff to encode
+     * @param out Target stream; flushed but not closed
+     * @throws IOException if writing fails
+     */
+    public void writeTo(SchemaDiff diff, OutputStream out) throws IOException {
+        writeTo(out, cos -> writeReport(diff, false, cos));
+    }
+
+    /**
+     * Writes the summary and breaking changes only to a stream.
+     *
+     * @param diff The schema diff to encode
+     * @param out Target stream; flushed but not closed
+     * @throws IOException if writing fails
+     */
+    public void writeBreakingOnlyTo(SchemaDiff diff, OutputStream out) throws IOException {
+        writeTo(out, cos -> writeReport(diff, true, cos));
+    }
+
+    private void writeReport(SchemaDiff diff, boolean breakingOnly, CodedOutputStream out) throws IOException {
+        writeString(out, REPORT_V1, diff.getV1Name());
+        writeString(out, REPORT_V2, diff.getV2Name());
+        out.writeBytes(REPORT_SUMMARY, message(cos -> writeSummary(diff.getSummary(), cos)));
+
+        if (!breakingOnly) {
+            for (MessageInfo msg : diff.getAddedMessages()) {
+                out.writeBytes(REPORT_MESSAGES, message(cos -> writeMessage(msg, ChangeType.ADDED, cos)));
+            }
+            for (MessageInfo msg : diff.getRemovedMessages()) {
+                out.writeBytes(REPORT_MESSAGES, message(cos -> writeMessage(msg, ChangeType.REMOVED, cos)));
+            }
+            for (MessageDiff md : diff.getModifiedMessages()) {
+                out.writeBytes(REPORT_MESSAGES, message(cos -> writeMessageDiff(md, cos)));
+            }
+
+            for (EnumInfo e : diff.getAddedEnums()) {
+                out.writeBytes(REPORT_ENUMS, message(cos -> writeEnum(e, ChangeType.ADDED, cos)));
+            }
+            for (EnumInfo e : diff.getRemovedEnums()) {
+                out.writeBytes(REPORT_ENUMS, message(cos -> writeEnum(e, ChangeType.REMOVED, cos)));
+            }
+            for (EnumDiff ed : diff.getModifiedEnums()) {
+                out.writeBytes(REPORT_ENUMS, message(cos -> writeEnumDiff(ed, cos)));
+            }
+        }
+
+        for (BreakingChange bc : diff.getBreakingChanges()) {
+            out.writeBytes(REPORT_BREAKING_CHANGES, message(cos -> writeBreakingChange(bc, cos)));
+        }
+
+        if (!breakingOnly) {
+            for (SuspectedRenumber sr : diff.getSuspectedRenumbers()) {
+                out.writeBytes(REPORT_SUSPECTED_RENUMBERS, message(cos -> writeSuspectedRenumber(sr, cos)));
+            }
+        }
+    }
+
+    private void writeSummary(SchemaDiff.DiffSummary summary, CodedOutputStream out) throws IOException {
+        writeInt(out, 1, summary.addedMessages());
+        writeInt(out, 2, summary.removedMessages());
+        writeInt(out, 3, summary.modifiedMessages());
+        writeInt(out, 4, summary.addedEnums());
+        writeInt(out, 5, summary.removedEnums());
+        writeInt(out, 6, summary.modifiedEnums());
+        writeInt(out, 7, summary.errorCount());
+        writeInt(out, 8, summary.warningCount());
+        writeInt(out, 9, summary.mappedRenumbers());
+        writeInt(out, 10, summary.suspectedRenumbers());
+    }
+
+    private void writeMessage(MessageInfo msg, ChangeType change, CodedOutputStream out) throws IOException {
+        writeString(out, MESSAGE_NAME, msg.getName());
+        writeEnum(out, MESSAGE_CHANGE_TYPE, number(change));
+        writeOptionalString(out, MESSAGE_SOURCE_FILE, msg.getSourceFileName());
+        writeBool(out, MESSAGE_BREAKING, change == ChangeType.REMOVED);
+        if (change == ChangeType.ADDED) {
+            for (FieldInfo field : msg.getFieldsSorted()) {
+                out.writeBytes(MESSAGE_FIELDS, message(cos -> writeField(field, cos)));
+            }
+        }
+    }
+
+    private void writeMessageDiff(MessageDiff md, CodedOutputStream out) throws IOException {
+        if (md.changeType() != ChangeType.MODIFIED) {
+            writeMessage(md.v2Message() != null ? md.v2Message() : md.v1Message(), md.changeType(), out);
+            return;
+        }
+        writeString(out, MESSAGE_NAME, md.messageName());
+        writeEnum(out, MESSAGE_CHANGE_TYPE, number(md.changeType()));
+        writeOptionalString(out, MESSAGE_SOURCE_FILE, md.v2Message().getSourceFileName());
+        writeBool(out, MESSAGE_BREAKING, md.hasBreakingChanges());
+        for (FieldChange fc : md.fieldChanges()) {
+            out.writeBytes(MESSAGE_FIELD_CHANGES, message(cos -> writeFieldChange(fc, cos)));
+        }
+        for (MessageDiff nested : md.nestedMessageChanges()) {
+            out.writeBytes(MESSAGE_NESTED_MESSAGES, message(cos -> writeMessageDiff(nested, cos)));
+        }
+        for (EnumDiff nested : md.nestedEnumChanges()) {
+            out.writeBytes(MESSAGE_NESTED_ENUMS, message(cos -> writeEnumDiff(nested, cos)));
+        }
+    }
+
+    private void writeField(FieldInfo field, CodedOutputStream out) throws IOException {
+        writeString(out, 1, field.getProtoName());
+        writeInt(out, 2, field.getNumber());
+        writeString(out, 3, FieldChange.formatType(field));
+        writeBool(out, 4, field.isRepeated());
+    }
+
+    private void writeFieldChange(FieldChange fc, CodedOutputStream out) throws IOException {
+        writeInt(out, 1, fc.fieldNumber());
+        writeString(out, 2, fc.fieldName());
+        writeEnum(out, 3, number(fc.changeType()));
+        boolean renumbered = fc.changeType() == ChangeType.NUMBER_CHANGED;
+        if (fc.v1Field() != null) {
+            out.writeString(4, FieldChange.formatType(fc.v1Field()));
+        }
+        if (fc.v2Field() != null) {
+            out.writeString(5, FieldChange.formatType(fc.v2Field()));
+        }
+        if (renumbered && fc.v1Field() != null) {
+            out.writeInt32(6, fc.v1Field().getNumber());
+        }
+        if (renumbered && fc.v2Field() != null) {
+            out.writeInt32(7, fc.v2Field().getNumber());
+        }
+        writeBool(out, 8, fc.isBreaking());
+        writeBool(out, 9, fc.isRenumberedByMapping());
+        writeOptionalString(out, 10, fc.getCompatibilityNote());
+    }
+
+    private void writeEnum(EnumInfo e, ChangeType change, CodedOutputStream out) throws IOException {
+        writeString(out, ENUM_NAME, e.getName());
+        writeEnum(out, ENUM_CHANGE_TYPE, number(change));
+        writeBool(out, ENUM_BREAKING, change == ChangeType.REMOVED);
+        if (change == ChangeType.ADDED) {
+            for (EnumInfo.EnumValue value : e.getValues()) {
+                out.writeBytes(ENUM_VALUES, message(cos -> {
+                    writeString(cos, 1, value.name());
+                    writeInt(cos, 2, value.number());
+                }));
+            }
+        }
+    }
+
+    private void writeEnumDiff(EnumDiff ed, CodedOutputStream out) throws IOException {
+        if (ed.changeType() != ChangeType.MODIFIED) {
+            writeEnum(ed.v2Enum() != null ? ed.v2Enum() : ed.v1Enum(), ed.changeType(), out);
+            return;
+        }
+        writeString(out, ENUM_NAME, ed.enumName());
+        writeEnum(out, ENUM_CHANGE_TYPE, number(ed.changeType()));
+        writeBool(out, ENUM_BREAKING, ed.hasBreakingChanges());
+        for (EnumValueChange vc : ed.valueChanges()) {
+            out.writeBytes(ENUM_VALUE_CHANGES, message(cos -> {
+                writeString(cos, 1, vc.valueName());
+                writeEnum(cos, 2, number(vc.changeType()));
+                if (vc.v1Number() != null) {
+                    cos.writeInt32(3, vc.v1Number());
+                }
+                if (vc.v2Number() != null) {
+                    cos.writeInt32(4, vc.v2Number());
+                }
+                writeBool(cos, 5, vc.isBreaking());
+            }));
+        }
+    }
+
+    private void writeBreakingChange(BreakingChange bc, CodedOutputStream out) throws IOException {
+        writeEnum(out, 1, number(bc.type()));
+        writeEnum(out, 2, number(bc.severity()));
+        writeString(out, 3, bc.entityPath());
+        writeString(out, 4, bc.description());
+        writeOptionalString(out, 5, bc.v1Value());
+        writeOptionalString(out, 6, bc.v2Value());
+    }
+
+    private void writeSuspectedRenumber(SuspectedRenumber sr, CodedOutputStream out) throws IOException {
+        writeString(out, 1, sr.messageName());
+        writeString(out, 2, sr.fieldName());
+        writeInt(out, 3, sr.v1Number());
+        writeInt(out, 4, sr.v2Number());
+        writeEnum(out, 5, number(sr.confidence()));
+        if (sr.v1Field() != null) {
+            out.writeString(6, FieldChange.formatType(sr.v1Field()));
+        }
+    }
+
+    // Helper methods - proto3 semantics: default values of non-optional fields are not written
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static void writeOptionalString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static void writeInt(CodedOutputStream out, int field, int value) throws IOException {
+        if (value != 0) {
+            out.writeInt32(field, value);
+        }
+    }
+
+    private static void writeBool(CodedOutputStream out, int field, boolean value) throws IOException {
+        if (value) {
+            out.writeBool(field, true);
+        }
+    }
+
+    private static void writeEnum(CodedOutputStream out, int field, int number) throws IOException {
+        if (number != 0) {
+            out.writeEnum(field, number);
+        }
+    }
+
+    // Enum numbers of schema_diff.proto - never reuse a number, reserve it in the .proto when a constant is removed
+
+    static int number(ChangeType type) {
+        if (type == null) {
+            return 0;
+        }
+        return switch (type) {
+            case ADDED -> 1;
+            case REMOVED -> 2;
+            case MODIFIED -> 3;
+            case UNCHANGED -> 4;
+            case TYPE_CHANGED -> 5;
+            case LABEL_CHANGED -> 6;
+            case NUMBER_CHANGED -> 7;
+            case NAME_CHANGED -> 8;
+            case DEFAULT_CHANGED -> 9;
+            case VALUE_ADDED -> 10;
+            case VALUE_REMOVED -> 11;
+            case VALUE_NUMBER_CHANGED -> 12;
+        };
+    }
+
+    static int number(BreakingChange.Type type) {
+        if (type == null) {
+            return 0;
+        }
+        return switch (type) {
+            case MESSAGE_REMOVED -> 1;
+            case FIELD_REMOVED -> 2;
+            case FIELD_NUMBER_CHANGED -> 3;
+            case FIELD_TYPE_INCOMPATIBLE -> 4;
+            case FIELD_TYPE_CONVERTED -> 5;
+            case ENUM_REMOVED -> 6;
+            case ENUM_VALUE_REMOVED -> 7;
+            case ENUM_VALUE_NUMBER_CHANGED -> 8;
+            case REQUIRED_FIELD_ADDED -> 9;
+            case LABEL_CHANGED_TO_REQUIRED -> 10;
+            case CARDINALITY_CHANGED -> 11;
+            case ONEOF_REMOVED -> 12;
+            case FIELD_MOVED_OUT_OF_ONEOF -> 13;
+            case FIELD_MOVED_INTO_ONEOF -> 14;
+        };
+    }
+
+    static int number(BreakingChange.Severity severity) {
+        if (severity == null) {
+            return 0;
+        }
+        return switch (severity) {
+            case ERROR -> 1;
+            case WARNING -> 2;
+            case INFO -> 3;
+        };
+    }
+
+    static int number(SuspectedRenumber.Confidence confidence) {
+        if (confidence == null) {
+            return 0;
+        }
+        return switch (confidence) {
+            case HIGH -> 1;
+            case MEDIUM -> 2;
+        };
+    }
+
+    private static ByteString message(Body body) throws IOException {
+        ByteString.Output buffer = ByteString.newOutput();
+        writeTo(buffer, body);
+        return buffer.toByteString();
+    }
+
+    private static byte[] toBytes(Body body) {
+        try {
+            return message(body).toByteArray();
+        } catch (IOException e) {
+            // In-memory buffers never throw
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeTo(OutputStream out, Body body) throws IOException {
+        CodedOutputStream cos = CodedOutputStream.newInstance(out);
+        body.writeTo(cos);
+        cos.flush();
+    }
+
+    /**
+     * Writes the fields of one message.
+     */
+    @FunctionalInterface
+    private interface Body {
+        void writeTo(CodedOutputStream out) throws IOException;
+    }
+}
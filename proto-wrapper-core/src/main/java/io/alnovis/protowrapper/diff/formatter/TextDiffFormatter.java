@@ -6,6 +6,7 @@ import io.alnovis.protowrapper.model.EnumInfo;
 import io.alnovis.protowrapper.model.FieldInfo;
 import io.alnovis.protowrapper.model.MessageInfo;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -18,84 +19,96 @@ public class TextDiffFormatter implements DiffFormatter {
 
     @Override
     public String format(SchemaDiff diff) {
-        StringBuilder sb = new StringBuilder();
+        return DiffWriter.render(out -> write(diff, out));
+    }
+
+    @Override
+    public void format(SchemaDiff diff, Appendable out) throws IOException {
+        DiffWriter.stream(out, writer -> write(diff, writer));
+    }
 
+    @Override
+    public String formatBreakingOnly(SchemaDiff diff) {
+        return DiffWriter.render(out -> writeBreakingOnly(diff, out));
+    }
+
+    @Override
+    public void formatBreakingOnly(SchemaDiff diff, Appendable out) throws IOException {
+        DiffWriter.stream(out, writer -> writeBreakingOnly(diff, writer));
+    }
+
+    private void write(SchemaDiff diff, DiffWriter out) {
         // Header
-        sb.append("Schema Comparison: ").append(diff.getV1Name())
+        out.append("Schema Comparison: ").append(diff.getV1Name())
           .append(" -> ").append(diff.getV2Name()).append("\n\n");
 
         // Messages section
-        sb.append(SEPARATOR).append("\n");
-        sb.append("MESSAGES\n");
-        sb.append(SEPARATOR).append("\n\n");
+        out.append(SEPARATOR).append("\n");
+        out.append("MESSAGES\n");
+        out.append(SEPARATOR).append("\n\n");
 
-        formatMessages(diff, sb);
+        formatMessages(diff, out);
 
         // Enums section
-        sb.append(SEPARATOR).append("\n");
-        sb.append("ENUMS\n");
-        sb.append(SEPARATOR).append("\n\n");
+        out.append(SEPARATOR).append("\n");
+        out.append("ENUMS\n");
+        out.append(SEPARATOR).append("\n\n");
 
-        formatEnums(diff, sb);
+        formatEnums(diff, out);
 
         // Breaking changes section - show if there are any changes (errors, warnings, or info)
         if (!diff.getBreakingChanges().isEmpty()) {
-            sb.append(SEPARATOR).append("\n");
-            sb.append("BREAKING CHANGES\n");
-            sb.append(SEPARATOR).append("\n\n");
+            out.append(SEPARATOR).append("\n");
+            out.append("BREAKING CHANGES\n");
+            out.append(SEPARATOR).append("\n\n");
 
-            formatBreakingChanges(diff.getBreakingChanges(), sb);
+            formatBreakingChanges(diff.getBreakingChanges(), out);
         }
 
         // Suspected renumbered fields
         if (diff.hasSuspectedRenumbers()) {
-            sb.append(SEPARATOR).append("\n");
-            sb.append("SUSPECTED RENUMBERED FIELDS\n");
-            sb.append(SEPARATOR).append("\n\n");
+            out.append(SEPARATOR).append("\n");
+            out.append("SUSPECTED RENUMBERED FIELDS\n");
+            out.append(SEPARATOR).append("\n\n");
 
-            formatSuspectedRenumbers(diff, sb);
+            formatSuspectedRenumbers(diff, out);
         }
 
         // Summary
-        sb.append(SEPARATOR).append("\n");
-        sb.append("SUMMARY\n");
-        sb.append(SEPARATOR).append("\n\n");
-
-        formatSummary(diff.getSummary(), sb);
+        out.append(SEPARATOR).append("\n");
+        out.append("SUMMARY\n");
+        out.append(SEPARATOR).append("\n\n");
 
-        return sb.toString();
+        formatSummary(diff.getSummary(), out);
     }
 
-    @Override
-    public String formatBreakingOnly(SchemaDiff diff) {
+    private void writeBreakingOnly(SchemaDiff diff, DiffWriter out) {
         if (!diff.hasBreakingChanges()) {
-            return "No breaking changes detected.\n";
+            out.append("No breaking changes detected.\n");
+            return;
         }
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("Breaking Changes: ").append(diff.getV1Name())
+        out.append("Breaking Changes: ").append(diff.getV1Name())
           .append(" -> ").append(diff.getV2Name()).append("\n\n");
 
-        formatBreakingChanges(diff.getBreakingChanges(), sb);
+        formatBreakingChanges(diff.getBreakingChanges(), out);
 
-        sb.append("\nTotal: ").append(diff.getSummary().errorCount()).append(" errors, ")
+        out.append("\nTotal: ").append(diff.getSummary().errorCount()).append(" errors, ")
           .append(diff.getSummary().warningCount()).append(" warnings\n");
-
-        return sb.toString();
     }
 
-    private void formatMessages(SchemaDiff diff, StringBuilder sb) {
+    private void formatMessages(SchemaDiff diff, DiffWriter out) {
         // Added messages
         List<MessageInfo> added = diff.getAddedMessages();
         if (!added.isEmpty()) {
             for (MessageInfo msg : added) {
-                sb.append("+ ADDED: ").append(msg.getName());
+                out.append("+ ADDED: ").append(msg.getName());
                 if (msg.getSourceFileName() != null) {
-                    sb.append(" (").append(msg.getSourceFileName()).append(")");
+                    out.append(" (").append(msg.getSourceFileName()).append(")");
                 }
-                sb.append("\n");
-                formatMessageFields(msg, sb, "    ");
-                sb.append("\n");
+                out.append("\n");
+                formatMessageFields(msg, out, "    ");
+                out.append("\n");
             }
         }
 
@@ -103,9 +116,9 @@ public class TextDiffFormatter implements DiffFormatter {
         List<MessageDiff> modified = diff.getModifiedMessages();
         if (!modified.isEmpty()) {
             for (MessageDiff md : modified) {
-                sb.append("~ MODIFIED: ").append(md.messageName()).append("\n");
-                formatMessageDiff(md, sb, "    ");
-                sb.append("\n");
+                out.append("~ MODIFIED: ").append(md.messageName()).append("\n");
+                formatMessageDiff(md, out, "    ");
+                out.append("\n");
             }
         }
 
@@ -113,34 +126,34 @@ public class TextDiffFormatter implements DiffFormatter {
         List<MessageInfo> removed = diff.getRemovedMessages();
         if (!removed.isEmpty()) {
             for (MessageInfo msg : removed) {
-                sb.append("- REMOVED: ").append(msg.getName());
-                sb.append(" [BREAKING]\n");
+                out.append("- REMOVED: ").append(msg.getName());
+                out.append(" [BREAKING]\n");
             }
-            sb.append("\n");
+            out.append("\n");
         }
 
         if (added.isEmpty() && modified.isEmpty() && removed.isEmpty()) {
-            sb.append("No message changes.\n\n");
+            out.append("No message changes.\n\n");
         }
     }
 
-    private void formatMessageFields(MessageInfo msg, StringBuilder sb, String indent) {
-        sb.append(indent).append("Fields:\n");
+    private void formatMessageFields(MessageInfo msg, DiffWriter out, String indent) {
+        out.append(indent).append("Fields:\n");
         for (FieldInfo field : msg.getFieldsSorted()) {
-            sb.append(indent).append("  - ").append(field.getProtoName())
+            out.append(indent).append("  - ").append(field.getProtoName())
               .append(": ").append(FieldChange.formatType(field))
               .append(" (#").append(field.getNumber()).append(")");
             if (field.isRepeated()) {
-                sb.append(" [repeated]");
+                out.append(" [repeated]");
             }
-            sb.append("\n");
+            out.append("\n");
         }
     }
 
-    private void formatMessageDiff(MessageDiff md, StringBuilder sb, String indent) {
+    private void formatMessageDiff(MessageDiff md, DiffWriter out, String indent) {
         // Added fields
         for (FieldChange fc : md.getAddedFields()) {
-            sb.append(indent).append("+ Added field: ").append(fc.fieldName())
+            out.append(indent).append("+ Added field: ").append(fc.fieldName())
               .append(" (").append(FieldChange.formatType(fc.v2Field()))
               .append(", #").append(fc.fieldNumber()).append(")\n");
         }
@@ -148,57 +161,57 @@ public class TextDiffFormatter implements DiffFormatter {
         // Modified fields (including renumbered)
         for (FieldChange fc : md.getModifiedFields()) {
             if (fc.changeType() == ChangeType.NUMBER_CHANGED && fc.isRenumberedByMapping()) {
-                sb.append(indent).append("~ Renumbered field: ").append(fc.fieldName())
+                out.append(indent).append("~ Renumbered field: ").append(fc.fieldName())
                   .append(" ").append(fc.getRenumberDescription()).append(" [MAPPED]\n");
                 // Show any additional changes (type, label, etc.)
                 for (String change : fc.changes()) {
                     if (!change.startsWith("Number:")) {
-                        sb.append(indent).append("    ").append(change).append("\n");
+                        out.append(indent).append("    ").append(change).append("\n");
                     }
                 }
             } else {
-                sb.append(indent).append("~ Changed field: ").append(fc.fieldName()).append("\n");
+                out.append(indent).append("~ Changed field: ").append(fc.fieldName()).append("\n");
                 for (String change : fc.changes()) {
-                    sb.append(indent).append("    ").append(change);
+                    out.append(indent).append("    ").append(change);
                     if (fc.isBreaking()) {
-                        sb.append(" [BREAKING]");
+                        out.append(" [BREAKING]");
                     }
-                    sb.append("\n");
+                    out.append("\n");
                 }
             }
         }
 
         // Removed fields
         for (FieldChange fc : md.getRemovedFields()) {
-            sb.append(indent).append("- Removed field: ").append(fc.fieldName())
+            out.append(indent).append("- Removed field: ").append(fc.fieldName())
               .append(" (#").append(fc.fieldNumber()).append(") [BREAKING]\n");
         }
 
         // Nested message changes
         for (MessageDiff nested : md.nestedMessageChanges()) {
-            sb.append(indent).append("Nested ").append(nested.changeType().name().toLowerCase())
+            out.append(indent).append("Nested ").append(nested.changeType().name().toLowerCase())
               .append(": ").append(nested.messageName()).append("\n");
             if (nested.changeType() == ChangeType.MODIFIED) {
-                formatMessageDiff(nested, sb, indent + "  ");
+                formatMessageDiff(nested, out, indent + "  ");
             }
         }
 
         // Nested enum changes
         for (EnumDiff nested : md.nestedEnumChanges()) {
-            sb.append(indent).append("Nested enum ").append(nested.changeType().name().toLowerCase())
+            out.append(indent).append("Nested enum ").append(nested.changeType().name().toLowerCase())
               .append(": ").append(nested.enumName()).append("\n");
         }
     }
 
-    private void formatEnums(SchemaDiff diff, StringBuilder sb) {
+    private void formatEnums(SchemaDiff diff, DiffWriter out) {
         // Added enums
         List<EnumInfo> added = diff.getAddedEnums();
         if (!added.isEmpty()) {
             for (EnumInfo e : added) {
-                sb.append("+ ADDED: ").append(e.getName()).append("\n");
-                sb.append("    Values: ");
-                sb.append(formatEnumValues(e));
-                sb.append("\n\n");
+                out.append("+ ADDED: ").append(e.getName()).append("\n");
+                out.append("    Values: ");
+                out.append(formatEnumValues(e));
+                out.append("\n\n");
             }
         }
 
@@ -206,21 +219,21 @@ public class TextDiffFormatter implements DiffFormatter {
         List<EnumDiff> modified = diff.getModifiedEnums();
         if (!modified.isEmpty()) {
             for (EnumDiff ed : modified) {
-                sb.append("~ MODIFIED: ").append(ed.enumName()).append("\n");
+                out.append("~ MODIFIED: ").append(ed.enumName()).append("\n");
                 for (EnumValueChange vc : ed.getAddedValues()) {
-                    sb.append("    + Added value: ").append(vc.valueName())
+                    out.append("    + Added value: ").append(vc.valueName())
                       .append("(").append(vc.v2Number()).append(")\n");
                 }
                 for (EnumValueChange vc : ed.getRemovedValues()) {
-                    sb.append("    - Removed value: ").append(vc.valueName())
+                    out.append("    - Removed value: ").append(vc.valueName())
                       .append("(").append(vc.v1Number()).append(") [BREAKING]\n");
                 }
                 for (EnumValueChange vc : ed.getChangedValues()) {
-                    sb.append("    ~ Number changed: ").append(vc.valueName())
+                    out.append("    ~ Number changed: ").append(vc.valueName())
                       .append(" (").append(vc.v1Number()).append(" -> ")
                       .append(vc.v2Number()).append(") [BREAKING]\n");
                 }
-                sb.append("\n");
+                out.append("\n");
             }
         }
 
@@ -228,13 +241,13 @@ public class TextDiffFormatter implements DiffFormatter {
         List<EnumInfo> removed = diff.getRemovedEnums();
         if (!removed.isEmpty()) {
             for (EnumInfo e : removed) {
-                sb.append("- REMOVED: ").append(e.getName()).append(" [BREAKING]\n");
+                out.append("- REMOVED: ").append(e.getName()).append(" [BREAKING]\n");
             }
-            sb.append("\n");
+            out.append("\n");
         }
 
         if (added.isEmpty() && modified.isEmpty() && removed.isEmpty()) {
-            sb.append("No enum changes.\n\n");
+            out.append("No enum changes.\n\n");
         }
     }
 
@@ -249,7 +262,7 @@ public class TextDiffFormatter implements DiffFormatter {
         return sb.toString();
     }
 
-    private void formatBreakingChanges(List<BreakingChange> changes, StringBuilder sb) {
+    private void formatBreakingChanges(List<BreakingChange> changes, DiffWriter out) {
         // Group by severity
         List<BreakingChange> errors = changes.stream()
             .filter(BreakingChange::isError).toList();
@@ -259,53 +272,53 @@ public class TextDiffFormatter implements DiffFormatter {
             .filter(bc -> bc.severity() == BreakingChange.Severity.INFO).toList();
 
         if (!errors.isEmpty()) {
-            sb.append("ERRORS (").append(errors.size()).append(") - Incompatible changes:\n");
+            out.append("ERRORS (").append(errors.size()).append(") - Incompatible changes:\n");
             for (BreakingChange bc : errors) {
-                sb.append("  [ERROR] ").append(bc.type()).append(": ")
+                out.append("  [ERROR] ").append(bc.type()).append(": ")
                   .append(bc.entityPath());
                 if (bc.v1Value() != null && bc.v2Value() != null) {
-                    sb.append(" (").append(bc.v1Value()).append(" -> ").append(bc.v2Value()).append(")");
+                    out.append(" (").append(bc.v1Value()).append(" -> ").append(bc.v2Value()).append(")");
                 } else if (bc.v1Value() != null) {
-                    sb.append(" (was: ").append(bc.v1Value()).append(")");
+                    out.append(" (was: ").append(bc.v1Value()).append(")");
                 }
-                sb.append("\n");
+                out.append("\n");
             }
-            sb.append("\n");
+            out.append("\n");
         }
 
         if (!warnings.isEmpty()) {
-            sb.append("WARNINGS (").append(warnings.size()).append(") - May require attention:\n");
+            out.append("WARNINGS (").append(warnings.size()).append(") - May require attention:\n");
             for (BreakingChange bc : warnings) {
-                sb.append("  [WARN] ").append(bc.type()).append(": ")
+                out.append("  [WARN] ").append(bc.type()).append(": ")
                   .append(bc.entityPath());
                 if (bc.description() != null) {
-                    sb.append(" - ").append(bc.description());
+                    out.append(" - ").append(bc.description());
                 }
-                sb.append("\n");
+                out.append("\n");
             }
-            sb.append("\n");
+            out.append("\n");
         }
 
         if (!infos.isEmpty()) {
-            sb.append("PLUGIN-HANDLED (").append(infos.size()).append(") - Automatically converted by proto-wrapper:\n");
+            out.append("PLUGIN-HANDLED (").append(infos.size()).append(") - Automatically converted by proto-wrapper:\n");
             for (BreakingChange bc : infos) {
-                sb.append("  [INFO] ").append(bc.type()).append(": ")
+                out.append("  [INFO] ").append(bc.type()).append(": ")
                   .append(bc.entityPath());
                 if (bc.v1Value() != null && bc.v2Value() != null) {
-                    sb.append(" (").append(bc.v1Value()).append(" -> ").append(bc.v2Value()).append(")");
+                    out.append(" (").append(bc.v1Value()).append(" -> ").append(bc.v2Value()).append(")");
                 }
                 if (bc.description() != null) {
-                    sb.append("\n         ").append(bc.description());
+                    out.append("\n         ").append(bc.description());
                 }
-                sb.append("\n");
+                out.append("\n");
             }
-            sb.append("\n");
+            out.append("\n");
         }
     }
 
-    private void formatSuspectedRenumbers(SchemaDiff diff, StringBuilder sb) {
+    private void formatSuspectedRenumbers(SchemaDiff diff, DiffWriter out) {
         for (SuspectedRenumber sr : diff.getSuspectedRenumbers()) {
-            sb.append("  [").append(sr.confidence()).append("] ")
+            out.append("  [").append(sr.confidence()).append("] ")
               .append(sr.messageName()).append(".").append(sr.fieldName())
               .append(": #").append(sr.v1Number())
               .append(" (").append(diff.getV1Name()).append(")")
@@ -313,44 +326,44 @@ public class TextDiffFormatter implements DiffFormatter {
               .append(" (").append(diff.getV2Name()).append(")");
 
             if (sr.v1Field() != null) {
-                sb.append(" — ").append(FieldChange.formatType(sr.v1Field()));
+                out.append(" — ").append(FieldChange.formatType(sr.v1Field()));
             }
-            sb.append("\n");
+            out.append("\n");
 
             // Suggest mapping configuration
-            sb.append("         -> Add fieldMapping: <fieldMapping>")
+            out.append("         -> Add fieldMapping: <fieldMapping>")
               .append("<message>").append(sr.messageName()).append("</message>")
               .append("<fieldName>").append(sr.fieldName()).append("</fieldName>")
               .append("</fieldMapping>\n");
         }
-        sb.append("\n");
+        out.append("\n");
     }
 
-    private void formatSummary(SchemaDiff.DiffSummary summary, StringBuilder sb) {
-        sb.append("Messages:  +").append(summary.addedMessages())
+    private void formatSummary(SchemaDiff.DiffSummary summary, DiffWriter out) {
+        out.append("Messages:  +").append(summary.addedMessages())
           .append(" added, ~").append(summary.modifiedMessages())
           .append(" modified, -").append(summary.removedMessages())
           .append(" removed\n");
 
-        sb.append("Enums:     +").append(summary.addedEnums())
+        out.append("Enums:     +").append(summary.addedEnums())
           .append(" added, ~").append(summary.modifiedEnums())
           .append(" modified, -").append(summary.removedEnums())
           .append(" removed\n");
 
-        sb.append("Changes:   ").append(summary.errorCount())
+        out.append("Changes:   ").append(summary.errorCount())
           .append(" errors, ").append(summary.warningCount())
           .append(" warnings, ").append(summary.infoCount())
           .append(" plugin-handled\n");
 
         if (summary.hasRenumbers()) {
-            sb.append("Renumbers: ").append(summary.mappedRenumbers())
+            out.append("Renumbers: ").append(summary.mappedRenumbers())
               .append(" mapped, ").append(summary.suspectedRenumbers())
               .append(" suspected\n");
         }
 
         if (summary.infoCount() > 0) {
-            sb.append("\nNote: Plugin-handled changes are type conversions that proto-wrapper\n");
-            sb.append("      automatically handles via unified accessor methods.\n");
+            out.append("\nNote: Plugin-handled changes are type conversions that proto-wrapper\n");
+            out.append("      automatically handles via unified accessor methods.\n");
         }
     }
 }
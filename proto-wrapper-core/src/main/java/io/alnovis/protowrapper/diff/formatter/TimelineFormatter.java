@@ -0,0 +1,283 @@
+package io.alnovis.protowrapper.diff.formatter;
+
+import io.alnovis.protowrapper.diff.SchemaDiff;
+import io.alnovis.protowrapper.diff.SchemaDiffHistory;
+import io.alnovis.protowrapper.diff.SchemaDiffHistory.TimelineEntry;
+import io.alnovis.protowrapper.diff.model.BreakingChange;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Formats a {@link SchemaDiffHistory} as a breaking-change timeline.
+ *
+ * <p>Text, JSON and Markdown list each version step with its change counts, followed by the
+ * breaking changes in version order. NDJSON writes the {@link NdjsonDiffFormatter} records of
+ * every step one after another. With {@code breakingOnly}, steps without breaking changes are
+ * left out (NDJSON writes only {@code breaking} and {@code summary} records).</p>
+ *
+ * @since 2.4.0
+ */
+public class TimelineFormatter {
+
+    /**
+     * Output style.
+     */
+    public enum Style {
+        /** Plain text. */
+        TEXT,
+        /** Single JSON document. */
+        JSON,
+        /** Markdown tables. */
+        MARKDOWN,
+        /** Newline-delimited JSON, one record per change. */
+        NDJSON
+    }
+
+    private static final String SEPARATOR = "=".repeat(80);
+
+    private final Style style;
+    private final boolean breakingOnly;
+
+    /**
+     * Create a formatter.
+     *
+     * @param style output style
+     * @param breakingOnly true to include only steps with breaking changes
+     */
+    public TimelineFormatter(Style style, boolean breakingOnly) {
+        this.style = style;
+        this.breakingOnly = breakingOnly;
+    }
+
+    /**
+     * Formats the history.
+     *
+     * @param history the version history
+     * @return formatted output string
+     */
+    public String format(SchemaDiffHistory history) {
+        return DiffWriter.render(out -> write(history, out));
+    }
+
+    /**
+     * Writes the history to an output.
+     *
+     * @param history the version history
+     * @param out Target, e.g. a {@code Writer} or {@code PrintStream}; not flushed or closed
+     * @throws IOException if writing fails
+     */
+    public void format(SchemaDiffHistory history, Appendable out) throws IOException {
+        DiffWriter.stream(out, writer -> write(history, writer));
+    }
+
+    private void write(SchemaDiffHistory history, DiffWriter out) {
+        switch (style) {
+            case TEXT -> writeText(history, out);
+            case JSON -> writeJson(history, out);
+            case MARKDOWN -> writeMarkdown(history, out);
+            case NDJSON -> writeNdjson(history, out);
+        }
+    }
+
+    private List<SchemaDiff> steps(SchemaDiffHistory history) {
+        if (!breakingOnly) {
+            return history.getDiffs();
+        }
+        return history.getDiffs().stream()
+            .filter(diff -> diff.getBreakingChanges().stream().anyMatch(bc -> bc.isError() || bc.isWarning()))
+            .toList();
+    }
+
+    // ========== Text ==========
+
+    private void writeText(SchemaDiffHistory history, DiffWriter out) {
+        out.append("Schema History: ").append(String.join(" -> ", history.getVersions())).append("\n\n");
+
+        out.append(SEPARATOR).append("\n");
+        out.append("STEPS\n");
+        out.append(SEPARATOR).append("\n\n");
+
+        List<SchemaDiff> steps = steps(history);
+        if (steps.isEmpty()) {
+            out.append(breakingOnly ? "No breaking changes detected.\n\n" : "No versions compared.\n\n");
+        }
+        for (SchemaDiff diff : steps) {
+            SchemaDiff.DiffSummary s = diff.getSummary();
+            out.append(diff.getV1Name()).append(" -> ").append(diff.getV2Name()).append(": ")
+              .append("messages +").append(s.addedMessages()).append(" ~").append(s.modifiedMessages())
+              .append(" -").append(s.removedMessages())
+              .append(", enums +").append(s.addedEnums()).append(" ~").append(s.modifiedEnums())
+              .append(" -").append(s.removedEnums())
+              .append(", ").append(s.errorCount()).append(" errors, ")
+              .append(s.warningCount()).append(" warnings\n");
+        }
+        if (!steps.isEmpty()) {
+            out.append("\n");
+        }
+
+        List<TimelineEntry> timeline = history.getTimeline();
+        if (!timeline.isEmpty()) {
+            out.append(SEPARATOR).append("\n");
+            out.append("BREAKING CHANGE TIMELINE\n");
+            out.append(SEPARATOR).append("\n\n");
+
+            String step = null;
+            for (TimelineEntry entry : timeline) {
+                String current = entry.fromVersion() + " -> " + entry.toVersion();
+                if (!current.equals(step)) {
+                    if (step != null) {
+                        out.append("\n");
+                    }
+                    out.append(current).append(":\n");
+                    step = current;
+                }
+                BreakingChange bc = entry.change();
+                out.append(bc.isError() ? "  [ERROR] " : "  [WARN] ").append(bc.type()).append(": ")
+                  .append(bc.entityPath());
+                if (bc.description() != null) {
+                    out.append(" - ").append(bc.description());
+                }
+                out.append("\n");
+            }
+            out.append("\n");
+        }
+
+        out.append("Total: ").append(history.getErrorCount()).append(" errors, ")
+          .append(history.getWarningCount()).append(" warnings across ")
+          .append(history.getDiffs().size()).append(" steps\n");
+    }
+
+    // ========== JSON ==========
+
+    private void writeJson(SchemaDiffHistory history, DiffWriter out) {
+        out.append("{\n");
+
+        out.append("  \"versions\": [");
+        List<String> versions = history.getVersions();
+        for (int i = 0; i < versions.size(); i++) {
+            out.append("\"").append(escapeJson(versions.get(i))).append("\"");
+            if (i < versions.size() - 1) out.append(", ");
+        }
+        out.append("],\n");
+
+        out.append("  \"steps\": [\n");
+        List<SchemaDiff> steps = steps(history);
+        for (int i = 0; i < steps.size(); i++) {
+            writeJsonStep(steps.get(i), out);
+            if (i < steps.size() - 1) out.append(",");
+            out.append("\n");
+        }
+        out.append("  ],\n");
+
+        out.append("  \"errorCount\": ").append(history.getErrorCount()).append(",\n");
+        out.append("  \"warningCount\": ").append(history.getWarningCount()).append("\n");
+        out.append("}\n");
+    }
+
+    private void writeJsonStep(SchemaDiff diff, DiffWriter out) {
+        SchemaDiff.DiffSummary s = diff.getSummary();
+        out.append("    {\n");
+        out.append("      \"v1\": \"").append(escapeJson(diff.getV1Name())).append("\",\n");
+        out.append("      \"v2\": \"").append(escapeJson(diff.getV2Name())).append("\",\n");
+        out.append("      \"summary\": {")
+          .append("\"addedMessages\": ").append(s.addedMessages())
+          .append(", \"removedMessages\": ").append(s.removedMessages())
+          .append(", \"modifiedMessages\": ").append(s.modifiedMessages())
+          .append(", \"addedEnums\": ").append(s.addedEnums())
+          .append(", \"removedEnums\": ").append(s.removedEnums())
+          .append(", \"modifiedEnums\": ").append(s.modifiedEnums())
+          .append(", \"errorCount\": ").append(s.errorCount())
+          .append(", \"warningCount\": ").append(s.warningCount())
+          .append("},\n");
+        out.append("      \"breakingChanges\": [");
+        List<BreakingChange> changes = diff.getBreakingChanges().stream()
+            .filter(bc -> bc.isError() || bc.isWarning())
+            .toList();
+        if (!changes.isEmpty()) {
+            out.append("\n");
+        }
+        for (int i = 0; i < changes.size(); i++) {
+            BreakingChange bc = changes.get(i);
+            out.append("        {\"type\": \"").append(bc.type().name())
+              .append("\", \"severity\": \"").append(bc.severity().name())
+              .append("\", \"entityPath\": \"").append(escapeJson(bc.entityPath()))
+              .append("\", \"description\": \"").append(escapeJson(bc.description())).append("\"}");
+            if (i < changes.size() - 1) out.append(",");
+            out.append("\n");
+        }
+        if (!changes.isEmpty()) {
+            out.append("      ");
+        }
+        out.append("]\n");
+        out.append("    }");
+    }
+
+    // ========== Markdown ==========
+
+    private void writeMarkdown(SchemaDiffHistory history, DiffWriter out) {
+        out.append("# Schema History: ").append(String.join(" -> ", history.getVersions())).append("\n\n");
+
+        out.append("**Breaking Changes:** ").append(history.getErrorCount()).append(" errors, ")
+          .append(history.getWarningCount()).append(" warnings across ")
+          .append(history.getDiffs().size()).append(" steps\n\n");
+
+        List<SchemaDiff> steps = steps(history);
+        if (!steps.isEmpty()) {
+            out.append("## Steps\n\n");
+            out.append("| Step | Messages (+/~/-) | Enums (+/~/-) | Errors | Warnings |\n");
+            out.append("|------|------------------|---------------|--------|----------|\n");
+            for (SchemaDiff diff : steps) {
+                SchemaDiff.DiffSummary s = diff.getSummary();
+                out.append("| ").append(diff.getV1Name()).append(" -> ").append(diff.getV2Name())
+                  .append(" | ").append(s.addedMessages()).append(" / ").append(s.modifiedMessages())
+                  .append(" / ").append(s.removedMessages())
+                  .append(" | ").append(s.addedEnums()).append(" / ").append(s.modifiedEnums())
+                  .append(" / ").append(s.removedEnums())
+                  .append(" | ").append(s.errorCount())
+                  .append(" | ").append(s.warningCount()).append(" |\n");
+            }
+            out.append("\n");
+        }
+
+        List<TimelineEntry> timeline = history.getTimeline();
+        if (timeline.isEmpty()) {
+            out.append("No breaking changes detected.\n");
+            return;
+        }
+
+        out.append("## Breaking Change Timeline\n\n");
+        out.append("| Step | Severity | Type | Entity | Description |\n");
+        out.append("|------|----------|------|--------|-------------|\n");
+        for (TimelineEntry entry : timeline) {
+            BreakingChange bc = entry.change();
+            out.append("| ").append(entry.fromVersion()).append(" -> ").append(entry.toVersion())
+              .append(" | ").append(bc.severity().name())
+              .append(" | ").append(bc.type().name())
+              .append(" | ").append(bc.entityPath())
+              .append(" | ").append(bc.description()).append(" |\n");
+        }
+    }
+
+    // ========== NDJSON ==========
+
+    private void writeNdjson(SchemaDiffHistory history, DiffWriter out) {
+        NdjsonDiffFormatter formatter = new NdjsonDiffFormatter();
+        for (SchemaDiff diff : history.getDiffs()) {
+            if (breakingOnly) {
+                formatter.writeBreakingOnly(diff, out);
+            } else {
+                formatter.write(diff, out);
+            }
+        }
+    }
+
+    private String escapeJson(String s) {
+        if (s == null) return "";
+        return s.replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n")
+                .replace("\r", "\\r")
+                .replace("\t", "\\t");
+    }
+}
@@ -8,11 +8,14 @@ import io.alnovis.protowrapper.generator.oneof.OneofGenerator;
 import io.alnovis.protowrapper.model.MergedField;
 import io.alnovis.protowrapper.model.MergedMessage;
 import io.alnovis.protowrapper.model.MergedOneof;
+import io.alnovis.protowrapper.runtime.WrapperToString;
 
 import javax.lang.model.element.Modifier;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -48,6 +51,19 @@ import static io.alnovis.protowrapper.generator.ProtobufConstants.*;
  */
 public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
 
+    /** Maximum number of version-specific fields tracked as bits of a {@code long} mask. */
+    static final int MAX_MASKED_FIELDS = Long.SIZE;
+
+    /** Abstract method implemented per version, returning the populated version-specific fields. */
+    static final String EXTRACT_POPULATED_VERSION_SPECIFIC_FIELDS_METHOD = "extractPopulatedVersionSpecificFields";
+
+    private static final String FIELDS_MISSING_IN_VERSION_METHOD = "fieldsMissingInVersion";
+    private static final String VERSION_SPECIFIC_FIELD_NAMES = "VERSION_SPECIFIC_FIELD_NAMES";
+    private static final String TARGET_VERSION_ID_METHOD = "targetVersionId";
+    private static final String TARGET_VERSION_NUMBER_METHOD = "targetVersionNumber";
+
+    private static final ClassName WRAPPER_TO_STRING_CLASS = ClassName.get(WrapperToString.class);
+
     /**
      * Create a new abstract class generator.
      *
@@ -290,12 +306,14 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
         }
 
         // build() implementation
-        builder.addMethod(MethodSpec.methodBuilder("build")
+        MethodSpec.Builder buildMethod = MethodSpec.methodBuilder("build")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .returns(interfaceType)
-                .addStatement("return doBuild()")
-                .build());
+                .returns(interfaceType);
+        WrapperEventsCodegen.create(config).addInstrumentedReturn(buildMethod, WrapperEventsCodegen.Kind.BUILD,
+                interfaceType, CodeBlock.of("doBuild()"),
+                CodeBlock.of("$S, getVersionId()", message.getQualifiedInterfaceName()));
+        builder.addMethod(buildMethod.build());
 
         return builder.build();
     }
@@ -320,12 +338,15 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
                 .build());
 
         // toBytes() implementation
-        classBuilder.addMethod(MethodSpec.methodBuilder("toBytes")
+        WrapperEventsCodegen events = WrapperEventsCodegen.create(config);
+        MethodSpec.Builder toBytesMethod = MethodSpec.methodBuilder("toBytes")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .returns(ArrayTypeName.of(TypeName.BYTE))
-                .addStatement("return serializeToBytes(proto)")
-                .build());
+                .returns(ArrayTypeName.of(TypeName.BYTE));
+        events.addInstrumentedReturn(toBytesMethod, WrapperEventsCodegen.Kind.SERIALIZE,
+                ArrayTypeName.of(TypeName.BYTE), CodeBlock.of("serializeToBytes(proto)"),
+                CodeBlock.of("$S, getWrapperVersionId(), result.length", message.getQualifiedInterfaceName()));
+        classBuilder.addMethod(toBytesMethod.build());
 
         // Abstract extractWrapperVersionId - returns version identifier (e.g., "v1", "v2")
         classBuilder.addMethod(MethodSpec.methodBuilder("extractWrapperVersionId")
@@ -366,7 +387,7 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
                 .beginControlFlow("if (versionClass.isInstance(this))")
                 .addStatement("return versionClass.cast(this)")
                 .endControlFlow()
-                .addStatement("int targetVersion = extractVersionFromPackage(versionClass.getPackage().getName())")
+                .addStatement("int targetVersion = $L(versionClass)", TARGET_VERSION_NUMBER_METHOD)
                 .addStatement("$T<$T> inaccessibleFields = getFieldsInaccessibleInVersion(targetVersion)",
                         java.util.List.class, String.class)
                 .beginControlFlow("if (!inaccessibleFields.isEmpty())")
@@ -387,7 +408,7 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
         ClassName invalidProtocolBufferException = ClassName.get(
                 "com.google.protobuf", "InvalidProtocolBufferException");
 
-        classBuilder.addMethod(MethodSpec.methodBuilder("asVersion")
+        MethodSpec.Builder asVersionContextMethod = MethodSpec.methodBuilder("asVersion")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
                 .returns(interfaceType)
@@ -395,8 +416,20 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
                 .beginControlFlow("if (targetContext.getVersionId().equals(getWrapperVersionId()))")
                 .addStatement("return this")
                 .endControlFlow()
-                .beginControlFlow("try")
-                .addStatement("return targetContext.$L(this.toBytes())", parsePartialMethodName)
+                .beginControlFlow("try");
+        if (events.isEnabled()) {
+            events.addBegin(asVersionContextMethod, WrapperEventsCodegen.Kind.CONVERT);
+            asVersionContextMethod
+                    .addStatement("byte[] bytes = this.toBytes()")
+                    .addStatement("$T result = targetContext.$L(bytes)", interfaceType, parsePartialMethodName);
+            events.addCommit(asVersionContextMethod, WrapperEventsCodegen.Kind.CONVERT,
+                    CodeBlock.of("$S, getWrapperVersionId(), targetContext.getVersionId(), bytes.length",
+                            message.getQualifiedInterfaceName()));
+            asVersionContextMethod.addStatement("return result");
+        } else {
+            asVersionContextMethod.addStatement("return targetContext.$L(this.toBytes())", parsePartialMethodName);
+        }
+        classBuilder.addMethod(asVersionContextMethod
                 .nextControlFlow("catch ($T e)", invalidProtocolBufferException)
                 .addStatement("throw new $T($T.format($S, getClass().getSimpleName(), " +
                         "getWrapperVersionId(), targetContext.getVersionId(), e.getMessage()), e)",
@@ -407,7 +440,7 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
 
         // Protected helper method for conversion via serialization
 
-        classBuilder.addMethod(MethodSpec.methodBuilder("convertToVersion")
+        MethodSpec.Builder convertMethod = MethodSpec.methodBuilder("convertToVersion")
                 .addModifiers(Modifier.PROTECTED)
                 .addTypeVariable(typeVar)
                 .returns(typeVar)
@@ -420,13 +453,23 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
                 .addStatement("return versionClass.cast(this)")
                 .endControlFlow()
                 // Extract version ID from package and convert
-                .addStatement("String targetVersionId = extractVersionIdFromPackage(versionClass.getPackage().getName())")
+                .addStatement("String targetVersionId = $L(versionClass)", TARGET_VERSION_ID_METHOD)
                 .beginControlFlow("try")
-                .addStatement("$T targetContext = $T.forVersionId(targetVersionId)", versionContextType, versionContextType)
+                .addStatement("$T targetContext = $T.forVersionId(targetVersionId)", versionContextType, versionContextType);
+        events.addBegin(convertMethod, WrapperEventsCodegen.Kind.CONVERT);
+        convertMethod
                 .addStatement("byte[] bytes = this.toBytes()")
                 .addStatement("$T parseMethod = targetContext.getClass().getMethod($S, byte[].class)",
-                        Method.class, parsePartialMethodName)
-                .addStatement("return versionClass.cast(parseMethod.invoke(targetContext, bytes))")
+                        Method.class, parsePartialMethodName);
+        if (events.isEnabled()) {
+            convertMethod.addStatement("$T result = versionClass.cast(parseMethod.invoke(targetContext, bytes))", typeVar);
+            events.addCommit(convertMethod, WrapperEventsCodegen.Kind.CONVERT,
+                    CodeBlock.of("$S, getWrapperVersionId(), targetVersionId, bytes.length", message.getQualifiedInterfaceName()));
+            convertMethod.addStatement("return result");
+        } else {
+            convertMethod.addStatement("return versionClass.cast(parseMethod.invoke(targetContext, bytes))");
+        }
+        classBuilder.addMethod(convertMethod
                 .nextControlFlow("catch ($T e)", java.lang.reflect.InvocationTargetException.class)
                 // Get the real cause from InvocationTargetException
                 .addStatement("$T cause = e.getCause() != null ? e.getCause() : e", Throwable.class)
@@ -440,6 +483,9 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
                 .endControlFlow()
                 .build());
 
+        // Version ID and number of a target class, switched on its package name
+        addTargetVersionMethods(classBuilder, message);
+
         // Helper method to extract version ID (e.g., "v1", "v2") from package name
         classBuilder.addMethod(MethodSpec.methodBuilder("extractVersionIdFromPackage")
                 .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
@@ -472,22 +518,32 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
                 .returns(TypeName.INT)
                 .addParameter(String.class, "packageName")
                 .addStatement("String versionId = extractVersionIdFromPackage(packageName)")
-                .addStatement("String numStr = versionId.replaceAll($S, $S)", "[^0-9]", "")
+                .addStatement("$T numStr = new $T(versionId.length())", StringBuilder.class, StringBuilder.class)
+                .beginControlFlow("for (int i = 0; i < versionId.length(); i++)")
+                .addStatement("char c = versionId.charAt(i)")
+                .beginControlFlow("if (c >= '0' && c <= '9')")
+                .addStatement("numStr.append(c)")
+                .endControlFlow()
+                .endControlFlow()
                 .beginControlFlow("try")
-                .addStatement("return $T.parseInt(numStr)", Integer.class)
+                .addStatement("return $T.parseInt(numStr.toString())", Integer.class)
                 .nextControlFlow("catch ($T e)", NumberFormatException.class)
                 .addStatement("throw new $T($S + versionId)", IllegalArgumentException.class, "Cannot parse version number from: ")
                 .endControlFlow()
                 .build());
 
         // toString() - includes proto content for debugging
-        classBuilder.addMethod(MethodSpec.methodBuilder("toString")
+        MethodSpec.Builder toString = MethodSpec.methodBuilder("toString")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
-                .returns(String.class)
-                .addStatement("return $T.format($S, getClass().getSimpleName(), getWrapperVersionId(), proto.toString().replace($S, $S).trim())",
-                        String.class, "%s[version=%s] %s", "\n", ", ")
-                .build());
+                .returns(String.class);
+        if (config.isBoundedToString()) {
+            addBoundedToString(toString, CodeBlock.of("getWrapperVersionId()"));
+        } else {
+            toString.addStatement("return $T.format($S, getClass().getSimpleName(), getWrapperVersionId(), proto.toString().replace($S, $S).trim())",
+                    String.class, "%s[version=%s] %s", "\n", ", ");
+        }
+        classBuilder.addMethod(toString.build());
 
         // equals() - compare by version and proto content
         classBuilder.addMethod(MethodSpec.methodBuilder("equals")
@@ -498,17 +554,16 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
                 .addStatement("if (this == obj) return true")
                 .addStatement("if (obj == null || getClass() != obj.getClass()) return false")
                 .addStatement("$L<?> other = ($L<?>) obj", message.getAbstractClassName(), message.getAbstractClassName())
+                .addStatement("if (this.proto == other.proto) return true")
+                .addStatement("if (hash != 0 && other.hash != 0 && hash != other.hash) return false")
                 .addStatement("return $T.equals(this.getWrapperVersionId(), other.getWrapperVersionId()) && $T.equals(this.proto, other.proto)",
                         Objects.class, Objects.class)
                 .build());
 
-        // hashCode() - based on version and proto content
-        classBuilder.addMethod(MethodSpec.methodBuilder("hashCode")
-                .addAnnotation(Override.class)
-                .addModifiers(Modifier.PUBLIC)
-                .returns(TypeName.INT)
-                .addStatement("return $T.hash(getWrapperVersionId(), proto)", Objects.class)
-                .build());
+        // hashCode() - based on version and proto content, same value as Objects.hash(versionId, proto)
+        addCachedHashCode(classBuilder,
+                CodeBlock.of("31 * (31 + $T.hashCode(getWrapperVersionId())) + $T.hashCode(proto)",
+                        Objects.class, Objects.class));
 
         // Abstract method for getting VersionContext (versionContextType already defined above)
         classBuilder.addMethod(MethodSpec.methodBuilder("getVersionContext")
@@ -525,53 +580,180 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
                 .build());
 
         // getFieldsInaccessibleInVersion() implementation
-        addGetFieldsInaccessibleInVersionMethod(classBuilder, message, resolver);
+        addGetFieldsInaccessibleInVersionMethod(classBuilder, message, protoType, resolver);
+    }
+
+    /**
+     * Generate {@code targetVersionId(Class)} and {@code targetVersionNumber(Class)}, which map
+     * the package of a target wrapper class to its version ID and number with a string switch
+     * over the impl packages of the message's versions. {@code asVersion(Class)} and
+     * {@code asVersionStrict(Class)} therefore parse no package names for known versions and
+     * allocate nothing; other classes fall back to parsing the package name.
+     */
+    private void addTargetVersionMethods(TypeSpec.Builder classBuilder, MergedMessage message) {
+        TypeName wildcardClass = ParameterizedTypeName.get(ClassName.get(Class.class),
+                WildcardTypeName.subtypeOf(Object.class));
+        // Class.getPackageName() is not available on Java 8
+        String packageName = config.isJava8Compatible()
+                ? "versionClass.getPackage().getName()"
+                : "versionClass.getPackageName()";
+
+        // Impl package per version; a pattern without {version} maps all versions to one package
+        Map<String, String> versionsByPackage = new java.util.LinkedHashMap<>();
+        for (String version : new java.util.TreeSet<>(message.getPresentInVersions())) {
+            if (versionsByPackage.put(config.getImplPackage(version), version) != null) {
+                versionsByPackage.clear();
+                break;
+            }
+        }
+
+        MethodSpec.Builder versionId = MethodSpec.methodBuilder(TARGET_VERSION_ID_METHOD)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(wildcardClass, "versionClass")
+                .addStatement("String packageName = $L", packageName)
+                .beginControlFlow("switch (packageName)");
+        MethodSpec.Builder versionNumber = MethodSpec.methodBuilder(TARGET_VERSION_NUMBER_METHOD)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(TypeName.INT)
+                .addParameter(wildcardClass, "versionClass")
+                .addStatement("String packageName = $L", packageName)
+                .beginControlFlow("switch (packageName)");
+        for (Map.Entry<String, String> entry : versionsByPackage.entrySet()) {
+            versionId.addCode("case $S:\n$>return $S;\n$<", entry.getKey(), entry.getValue());
+            String digits = entry.getValue().replaceAll("[^0-9]", "");
+            if (!digits.isEmpty()) {
+                versionNumber.addCode("case $S:\n$>return $L;\n$<", entry.getKey(), Integer.parseInt(digits));
+            }
+        }
+        versionId.addCode("default:\n$>return extractVersionIdFromPackage(packageName);\n$<")
+                .endControlFlow();
+        versionNumber.addCode("default:\n$>return extractVersionFromPackage(packageName);\n$<")
+                .endControlFlow();
+        classBuilder.addMethod(versionId.build());
+        classBuilder.addMethod(versionNumber.build());
     }
 
     /**
      * Generate getFieldsInaccessibleInVersion() method that checks which fields
      * will become inaccessible when converting to a target version.
+     *
+     * <p>Version-specific fields are tracked as bits of a {@code long}: a static switch
+     * maps the target version to the fields missing there, and the impl class reports
+     * the populated ones (see {@link #getVersionSpecificFields(MergedMessage)}). Nothing
+     * is allocated unless a field is actually inaccessible.</p>
+     *
+     * <p>Only fields present in the wrapper's own version can be populated, so required and
+     * implicit-presence fields it lacks are not reported. The per-field checks used for messages
+     * with more than {@link #MAX_MASKED_FIELDS} version-specific fields give the same result.</p>
      */
     private void addGetFieldsInaccessibleInVersionMethod(TypeSpec.Builder classBuilder,
                                                           MergedMessage message,
+                                                          TypeVariableName protoType,
                                                           TypeResolver resolver) {
         TypeName listOfString = ParameterizedTypeName.get(
                 ClassName.get(java.util.List.class),
                 ClassName.get(String.class)
         );
-        ClassName arrayList = ClassName.get(java.util.ArrayList.class);
 
         MethodSpec.Builder method = MethodSpec.methodBuilder("getFieldsInaccessibleInVersion")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
                 .returns(listOfString)
-                .addParameter(TypeName.INT, "targetVersion")
-                .addStatement("$T<$T> inaccessible = new $T<>()", java.util.List.class, String.class, arrayList);
+                .addParameter(TypeName.INT, "targetVersion");
+
+        // List.of() is not available on Java 8
+        CodeBlock emptyList = config.isJava8Compatible()
+                ? CodeBlock.of("$T.emptyList()", java.util.Collections.class)
+                : CodeBlock.of("$T.of()", java.util.List.class);
+
+        List<MergedField> fields = getVersionSpecificFields(message);
+        if (fields.isEmpty()) {
+            method.addStatement("return $L", emptyList);
+            classBuilder.addMethod(method.build());
+            return;
+        }
+        if (fields.size() > MAX_MASKED_FIELDS) {
+            addFieldChecksInaccessibleInVersion(method, fields, emptyList, resolver);
+            classBuilder.addMethod(method.build());
+            return;
+        }
 
-        // Get all versions this message supports
-        Set<String> allVersions = message.getPresentInVersions();
+        // Field names by bit index
+        CodeBlock names = fields.stream()
+                .map(field -> CodeBlock.of("$S", field.getJavaName()))
+                .collect(CodeBlock.joining(", ", "{", "}"));
+        classBuilder.addField(FieldSpec.builder(ArrayTypeName.of(String.class), VERSION_SPECIFIC_FIELD_NAMES,
+                        Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(names)
+                .build());
 
-        // For each field, check if it's version-specific
-        for (MergedField field : message.getFieldsSorted()) {
-            Set<String> fieldVersions = field.getPresentInVersions();
+        // Per-target-version mask of fields missing in that version
+        long allFields = fields.size() == Long.SIZE ? -1L : (1L << fields.size()) - 1;
+        java.util.SortedSet<Integer> versionNumbers = new java.util.TreeSet<>();
+        fields.forEach(field -> versionNumbers.addAll(getVersionNumbers(field)));
 
-            // Skip if field exists in all versions
-            if (fieldVersions.containsAll(allVersions)) {
-                continue;
+        MethodSpec.Builder missingMethod = MethodSpec.methodBuilder(FIELDS_MISSING_IN_VERSION_METHOD)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(TypeName.LONG)
+                .addParameter(TypeName.INT, "targetVersion")
+                .beginControlFlow("switch (targetVersion)");
+        for (int versionNumber : versionNumbers) {
+            long missing = 0L;
+            for (int i = 0; i < fields.size(); i++) {
+                if (!getVersionNumbers(fields.get(i)).contains(versionNumber)) {
+                    missing |= 1L << i;
+                }
             }
+            missingMethod.addCode("case $L:\n$>return $L;\n$<", versionNumber, maskLiteral(missing));
+        }
+        missingMethod.addCode("default:\n$>return $L;\n$<", maskLiteral(allFields))
+                .endControlFlow();
+        classBuilder.addMethod(missingMethod.build());
 
-            // Generate version check for this field
-            // Extract version numbers from version strings (e.g., "v1" -> 1, "v2" -> 2)
-            String versionCheck = fieldVersions.stream()
-                    .map(v -> v.replaceAll("[^0-9]", ""))
-                    .filter(s -> !s.isEmpty())
+        // Populated version-specific fields, implemented per version without building lists
+        classBuilder.addMethod(MethodSpec.methodBuilder(EXTRACT_POPULATED_VERSION_SPECIFIC_FIELDS_METHOD)
+                .addModifiers(Modifier.PROTECTED, Modifier.ABSTRACT)
+                .returns(TypeName.LONG)
+                .addParameter(protoType, "proto")
+                .build());
+
+        method.addStatement("long missing = $L(targetVersion)", FIELDS_MISSING_IN_VERSION_METHOD)
+                .beginControlFlow("if (missing == 0L)")
+                .addStatement("return $L", emptyList)
+                .endControlFlow()
+                .addStatement("long inaccessible = missing & $L(proto)", EXTRACT_POPULATED_VERSION_SPECIFIC_FIELDS_METHOD)
+                .beginControlFlow("if (inaccessible == 0L)")
+                .addStatement("return $L", emptyList)
+                .endControlFlow()
+                .addStatement("$T<$T> fields = new $T<>($T.bitCount(inaccessible))",
+                        java.util.List.class, String.class, java.util.ArrayList.class, Long.class)
+                .beginControlFlow("for (long bits = inaccessible; bits != 0L; bits &= bits - 1)")
+                .addStatement("fields.add($L[$T.numberOfTrailingZeros(bits)])", VERSION_SPECIFIC_FIELD_NAMES, Long.class)
+                .endControlFlow()
+                .addStatement("return fields");
+        classBuilder.addMethod(method.build());
+    }
+
+    /**
+     * Per-field checks for messages with more version-specific fields than fit in a mask.
+     * Like the masks, they only report fields present in the wrapper's own version.
+     */
+    private void addFieldChecksInaccessibleInVersion(MethodSpec.Builder method, List<MergedField> fields,
+                                                     CodeBlock emptyList, TypeResolver resolver) {
+        method.addStatement("$T<$T> inaccessible = new $T<>()",
+                java.util.List.class, String.class, java.util.ArrayList.class);
+        boolean hasFieldsWithoutPresence = fields.stream()
+                .anyMatch(field -> !field.shouldGenerateHasMethod() && !field.isMap() && !field.isRepeated());
+        if (hasFieldsWithoutPresence) {
+            method.addStatement("$T wrapperVersionId = getWrapperVersionId()", String.class);
+        }
+
+        for (MergedField field : fields) {
+            String versionCheck = getVersionNumbers(field).stream()
                     .map(v -> "targetVersion == " + v)
                     .collect(java.util.stream.Collectors.joining(" || "));
 
-            if (versionCheck.isEmpty()) {
-                continue;
-            }
-
             String fieldName = field.getJavaName();
             String hasMethod = "has" + resolver.capitalize(fieldName) + "()";
 
@@ -588,16 +770,75 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
                 String getMethod = field.getGetterName() + "()";
                 method.beginControlFlow("if (!$L.isEmpty() && !($L))", getMethod, versionCheck);
             } else {
-                // Required field - always has value, just check version
-                method.beginControlFlow("if (!($L))", versionCheck);
+                // Required field - has a value if the wrapper's own version has the field
+                String ownVersionCheck = new java.util.TreeSet<>(field.getPresentInVersions()).stream()
+                        .map(v -> "\"" + v + "\".equals(wrapperVersionId)")
+                        .collect(java.util.stream.Collectors.joining(" || "));
+                method.beginControlFlow("if (($L) && !($L))", ownVersionCheck, versionCheck);
             }
 
             method.addStatement("inaccessible.add($S)", fieldName);
             method.endControlFlow();
         }
 
-        method.addStatement("return inaccessible");
-        classBuilder.addMethod(method.build());
+        method.addStatement("return inaccessible.isEmpty() ? $L : inaccessible", emptyList);
+    }
+
+    /**
+     * Get the fields of a message that are missing in at least one of its versions.
+     *
+     * <p>Fields whose versions have no numeric part are skipped, as they cannot be
+     * matched against a target version number. The position of a field in the result
+     * is its bit in the masks used by {@code getFieldsInaccessibleInVersion()}.</p>
+     *
+     * @param message the merged message
+     * @return version-specific fields in sorted order
+     */
+    static List<MergedField> getVersionSpecificFields(MergedMessage message) {
+        Set<String> allVersions = message.getPresentInVersions();
+        List<MergedField> fields = new java.util.ArrayList<>();
+        for (MergedField field : message.getFieldsSorted()) {
+            if (!field.getPresentInVersions().containsAll(allVersions)
+                    && !getVersionNumbers(field).isEmpty()) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Check if the message uses field masks for {@code getFieldsInaccessibleInVersion()},
+     * which requires its impl classes to implement the populated fields method.
+     *
+     * @param fields result of {@link #getVersionSpecificFields(MergedMessage)}
+     * @return true if the fields are tracked as mask bits
+     */
+    static boolean usesFieldMasks(List<MergedField> fields) {
+        return !fields.isEmpty() && fields.size() <= MAX_MASKED_FIELDS;
+    }
+
+    /**
+     * Format a mask as a hex {@code long} literal.
+     *
+     * @param mask the mask
+     * @return literal such as {@code 0x5L}
+     */
+    static String maskLiteral(long mask) {
+        return "0x" + Long.toHexString(mask) + "L";
+    }
+
+    /**
+     * Extract version numbers from version strings (e.g., "v1" -> 1, "v2" -> 2).
+     */
+    private static Set<Integer> getVersionNumbers(MergedField field) {
+        Set<Integer> numbers = new java.util.LinkedHashSet<>();
+        for (String version : field.getPresentInVersions()) {
+            String digits = version.replaceAll("[^0-9]", "");
+            if (!digits.isEmpty()) {
+                numbers.add(Integer.parseInt(digits));
+            }
+        }
+        return numbers;
     }
 
     /**
@@ -605,13 +846,26 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
      * Nested classes don't have getWrapperVersion(), so we only show class name and proto content.
      */
     private void addNestedToString(TypeSpec.Builder classBuilder, MergedMessage nested) {
-        classBuilder.addMethod(MethodSpec.methodBuilder("toString")
+        MethodSpec.Builder toString = MethodSpec.methodBuilder("toString")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
-                .returns(String.class)
-                .addStatement("return $T.format($S, getClass().getSimpleName(), proto.toString().replace($S, $S).trim())",
-                        String.class, "%s %s", "\n", ", ")
-                .build());
+                .returns(String.class);
+        if (config.isBoundedToString()) {
+            addBoundedToString(toString, CodeBlock.of("null"));
+        } else {
+            toString.addStatement("return $T.format($S, getClass().getSimpleName(), proto.toString().replace($S, $S).trim())",
+                    String.class, "%s %s", "\n", ", ");
+        }
+        classBuilder.addMethod(toString.build());
+    }
+
+    /**
+     * Delegate toString() to {@code WrapperToString}, which streams single-line text
+     * format into one StringBuilder and stops at the configured limits.
+     */
+    private void addBoundedToString(MethodSpec.Builder toString, CodeBlock versionId) {
+        toString.addStatement("return $T.format(getClass().getSimpleName(), $L, proto, $L, $L)",
+                WRAPPER_TO_STRING_CLASS, versionId, config.getToStringMaxLength(), config.getToStringMaxFields());
     }
 
     /**
@@ -630,15 +884,38 @@ public class AbstractClassGenerator extends BaseGenerator<MergedMessage> {
                 .addStatement("if (this == obj) return true")
                 .addStatement("if (obj == null || getClass() != obj.getClass()) return false")
                 .addStatement("$L<?> other = ($L<?>) obj", abstractClassName, abstractClassName)
+                .addStatement("if (this.proto == other.proto) return true")
+                .addStatement("if (hash != 0 && other.hash != 0 && hash != other.hash) return false")
                 .addStatement("return $T.equals(this.proto, other.proto)", Objects.class)
                 .build());
 
-        // hashCode() - based on proto content only
+        // hashCode() - based on proto content only, same value as Objects.hash(proto)
+        addCachedHashCode(classBuilder, CodeBlock.of("31 + $T.hashCode(proto)", Objects.class));
+    }
+
+    /**
+     * Add hashCode() that computes the hash once and caches it in a plain {@code int} field.
+     *
+     * <p>Racy single-check as in {@code String.hashCode()}: the wrapped proto is immutable,
+     * so concurrent first calls compute the same value and an int write cannot tear.
+     * A hash of 0 is recomputed on each call. Unlike {@code Objects.hash(...)}, no varargs
+     * array is allocated.</p>
+     */
+    private void addCachedHashCode(TypeSpec.Builder classBuilder, CodeBlock hashExpression) {
+        classBuilder.addField(FieldSpec.builder(TypeName.INT, "hash", Modifier.PRIVATE)
+                .addJavadoc("Cached hash code, 0 until computed.\n")
+                .build());
+
         classBuilder.addMethod(MethodSpec.methodBuilder("hashCode")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
                 .returns(TypeName.INT)
-                .addStatement("return $T.hash(proto)", Objects.class)
+                .addStatement("int h = hash")
+                .beginControlFlow("if (h == 0)")
+                .addStatement("h = $L", hashExpression)
+                .addStatement("hash = h")
+                .endControlFlow()
+                .addStatement("return h")
                 .build());
     }
 
@@ -0,0 +1,143 @@
+package io.alnovis.protowrapper.generator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates a class list for Application Class Data Sharing (AppCDS) archives.
+ *
+ * <p>Scans a directory of compiled classes and lists every class in the configured
+ * packages (including nested classes) in the JVM class list format: one internal
+ * class name per line, e.g. {@code com/example/model/v1/OrderV1$Builder}.</p>
+ *
+ * <p>The list is used to dump a shared archive that preloads all generated wrappers:</p>
+ * <pre>
+ * java -Xshare:dump -XX:SharedClassListFile=proto-wrapper.classlist \
+ *      -XX:SharedArchiveFile=app.jsa -cp app.jar
+ * java -XX:SharedArchiveFile=app.jsa -cp app.jar com.example.Main
+ * </pre>
+ *
+ * <p>Classes are sorted, so the output is stable across builds.</p>
+ *
+ * @since 2.4.0
+ */
+public class ClassListGenerator {
+
+    /**
+     * Default file name of the generated class list.
+     */
+    public static final String DEFAULT_FILE_NAME = "proto-wrapper.classlist";
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final List<String> packagePrefixes;
+
+    /**
+     * Create a new ClassListGenerator.
+     *
+     * @param packages packages to include, subpackages are included as well
+     *                 (e.g., ["com.example.model"])
+     */
+    public ClassListGenerator(List<String> packages) {
+        Objects.requireNonNull(packages, "packages");
+        if (packages.isEmpty()) {
+            throw new IllegalArgumentException("At least one package is required");
+        }
+        this.packagePrefixes = packages.stream()
+                .map(pkg -> pkg.replace('.', '/') + "/")
+                .toList();
+    }
+
+    /**
+     * Collect class names from a directory of compiled classes.
+     *
+     * @param classesDirectory root of the compiled classes (e.g., target/classes)
+     * @return sorted internal class names, empty if the directory does not exist
+     * @throws IOException if the directory cannot be read
+     */
+    public List<String> collect(Path classesDirectory) throws IOException {
+        if (!Files.isDirectory(classesDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(classesDirectory)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .map(file -> classesDirectory.relativize(file).toString().replace('\\', '/'))
+                    .filter(path -> path.endsWith(CLASS_SUFFIX))
+                    .map(path -> path.substring(0, path.length() - CLASS_SUFFIX.length()))
+                    .filter(name -> !name.endsWith("/package-info") && !name.equals("module-info"))
+                    .filter(this::isIncluded)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Collect class names and write the class list file.
+     *
+     * @param classesDirectory root of the compiled classes
+     * @param outputFile class list file to write
+     * @return number of listed classes
+     * @throws IOException if reading or writing fails
+     */
+    public int generateAndWrite(Path classesDirectory, Path outputFile) throws IOException {
+        List<String> classes = collect(classesDirectory);
+        write(classes, outputFile);
+        return classes.size();
+    }
+
+    /**
+     * Collect class names from several directories of compiled classes and write one class list file.
+     * Classes found in more than one directory are listed once.
+     *
+     * @param classesDirectories roots of the compiled classes
+     * @param outputFile class list file to write
+     * @return number of listed classes
+     * @throws IOException if reading or writing fails
+     */
+    public int generateAndWrite(List<Path> classesDirectories, Path outputFile) throws IOException {
+        SortedSet<String> classes = new TreeSet<>();
+        for (Path classesDirectory : classesDirectories) {
+            classes.addAll(collect(classesDirectory));
+        }
+        write(new ArrayList<>(classes), outputFile);
+        return classes.size();
+    }
+
+    /**
+     * Write a class list file: a header comment followed by one class name per line.
+     *
+     * @param classes internal class names, in the order to write them
+     * @param outputFile class list file to write; parent directories are created
+     * @throws IOException if writing fails
+     */
+    public static void write(List<String> classes, Path outputFile) throws IOException {
+        List<String> lines = new ArrayList<>(classes.size() + 1);
+        lines.add("# AppCDS class list generated by proto-wrapper");
+        lines.addAll(classes);
+
+        Path parent = outputFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(outputFile, lines, StandardCharsets.UTF_8);
+    }
+
+    private boolean isIncluded(String internalName) {
+        for (String prefix : packagePrefixes) {
+            if (internalName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -55,7 +55,19 @@ public final class ConfigHasher {
         sb.append(config.getFieldMappings()).append("|");
         // Include validation settings (since 2.3.0)
         sb.append(config.isGenerateValidationAnnotations()).append("|");
-        sb.append(config.getValidationAnnotationStyle());
+        sb.append(config.getValidationAnnotationStyle()).append("|");
+        // Include JFR instrumentation (since 2.4.0)
+        sb.append(config.isGenerateJfrEvents()).append("|");
+        sb.append(config.isGenerateVersionContextRegistry()).append("|");
+        sb.append(config.isGenerateNativeImageMetadata()).append("|");
+        sb.append(config.getResourcesOutputDirectory()).append("|");
+        // Include child wrapper and converted value caching (since 2.4.0)
+        sb.append(config.isCacheMessageWrappers()).append("|");
+        sb.append(config.isCacheConvertedValues()).append("|");
+        sb.append(config.isLazyStructViews()).append("|");
+        // Include bounded toString() limits (since 2.4.0)
+        sb.append(config.getToStringMaxLength()).append("|");
+        sb.append(config.getToStringMaxFields());
 
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
@@ -81,6 +81,20 @@ public final class ConfigValidator {
         }
     }
 
+    /**
+     * Validate a bounded toString() limit.
+     *
+     * @param option the option name, used in the error message
+     * @param limit the limit (0 for no limit)
+     * @throws IllegalArgumentException if limit is negative
+     * @since 2.4.0
+     */
+    public static void validateToStringLimit(String option, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException(option + " must be >= 0, got: " + limit);
+        }
+    }
+
     /**
      * Validate the validation annotation style.
      *
@@ -111,16 +111,21 @@ public class EnumGenerator extends BaseGenerator<MergedEnum> {
                 .addStatement("return null")
                 .endControlFlow()
                 .beginControlFlow("try")
+                .beginControlFlow("if (protoEnum instanceof $T)", ENUM_LITE_CLASS)
+                .addStatement("return fromProtoValue((($T) protoEnum).getNumber())", ENUM_LITE_CLASS)
+                .endControlFlow()
                 .addStatement("$T getNumber = protoEnum.getClass().getMethod($S)", methodClass, "getNumber")
                 .addStatement("int number = (int) getNumber.invoke(protoEnum)")
                 .addStatement("return fromProtoValue(number)")
-                .nextControlFlow("catch ($T e)", ClassName.get(ReflectiveOperationException.class))
+                .nextControlFlow("catch ($T | $T e)", ClassName.get(ReflectiveOperationException.class),
+                        ClassName.get(IllegalArgumentException.class))
                 .addStatement("throw new $T($S + protoEnum.getClass().getName(), e)",
                         ClassName.get(IllegalArgumentException.class),
                         "Cannot convert to " + enumInfo.getName() + ": ")
                 .endControlFlow()
                 .addJavadoc("Convert any proto enum to this wrapper enum.\n\n")
-                .addJavadoc("<p>Works with any version's proto enum by extracting numeric value via reflection.</p>\n\n")
+                .addJavadoc("<p>Works with any version's proto enum. Protobuf enums are read through\n")
+                .addJavadoc("{@code Internal.EnumLite.getNumber()}; other objects fall back to reflection.</p>\n\n")
                 .addJavadoc("@param protoEnum Proto enum instance (e.g., v202.Message.CommandTypeEnum.COMMAND_INFO)\n")
                 .addJavadoc("@return Corresponding wrapper enum constant, or null if value not found\n")
                 .addJavadoc("@throws IllegalArgumentException if protoEnum is not a valid protobuf enum\n")
@@ -135,10 +140,14 @@ public class EnumGenerator extends BaseGenerator<MergedEnum> {
                 .addStatement("return false")
                 .endControlFlow()
                 .beginControlFlow("try")
+                .beginControlFlow("if (protoEnum instanceof $T)", ENUM_LITE_CLASS)
+                .addStatement("return this.value == (($T) protoEnum).getNumber()", ENUM_LITE_CLASS)
+                .endControlFlow()
                 .addStatement("$T getNumber = protoEnum.getClass().getMethod($S)", methodClass, "getNumber")
                 .addStatement("int number = (int) getNumber.invoke(protoEnum)")
                 .addStatement("return this.value == number")
-                .nextControlFlow("catch ($T e)", ClassName.get(ReflectiveOperationException.class))
+                .nextControlFlow("catch ($T | $T e)", ClassName.get(ReflectiveOperationException.class),
+                        ClassName.get(IllegalArgumentException.class))
                 .addStatement("return false")
                 .endControlFlow()
                 .addJavadoc("Check if this wrapper enum matches a proto enum by numeric value.\n\n")
@@ -3,6 +3,7 @@ package io.alnovis.protowrapper.generator;
 import com.squareup.javapoet.JavaFile;
 import io.alnovis.protowrapper.PluginLogger;
 import io.alnovis.protowrapper.PluginVersion;
+import io.alnovis.protowrapper.contract.ContractProvider;
 import io.alnovis.protowrapper.generator.factory.GeneratorFactory;
 import io.alnovis.protowrapper.generator.factory.GeneratorFactoryRegistry;
 import io.alnovis.protowrapper.generator.wellknown.WellKnownTypeInfo;
@@ -120,8 +121,15 @@ public class GenerationOrchestrator {
 
         if (config.isGenerateVersionContext()) {
             generatedFiles += generateVersionContext(schema, versionConfigs, protoClassNameResolver);
+
+            if (config.isGenerateVersionContextRegistry()) {
+                generatedFiles += generateVersionContextRegistry(schema);
+            }
         }
 
+        // Native-image metadata also covers impl classes, so it does not depend on VersionContext
+        generatedFiles += generateRuntimeResources(schema);
+
         if (config.isGenerateProtocolVersions()) {
             generatedFiles += generateProtocolVersions(schema);
         }
@@ -132,6 +140,7 @@ public class GenerationOrchestrator {
         }
 
         logger.info("Generated " + generatedFiles + " files total");
+        logger.debug("Contract cache: " + ContractProvider.getInstance().getCacheStats());
         return generatedFiles;
     }
 
@@ -543,6 +552,50 @@ public class GenerationOrchestrator {
         }
     }
 
+    /**
+     * Generate VersionContextRegistry class.
+     *
+     * @param schema Merged schema (used to get version list)
+     * @return 1 (always generates one file)
+     * @throws IOException if generation fails
+     * @since 2.4.0
+     */
+    public int generateVersionContextRegistry(MergedSchema schema) throws IOException {
+        VersionContextRegistryGenerator generator =
+                factory.createVersionContextRegistryGenerator(config, schema.getVersions());
+
+        try {
+            generateWithLogging(
+                    generator::generateAndWrite,
+                    "Generated VersionContextRegistry: ");
+
+            logger.info("Generated VersionContextRegistry class");
+            return 1;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Generate runtime resources (ServiceLoader descriptor, GraalVM native-image metadata).
+     *
+     * <p>Resources are written only when a resources output directory is configured.</p>
+     *
+     * @param schema Merged schema
+     * @return number of generated files
+     * @throws IOException if generation fails
+     * @since 2.4.0
+     */
+    public int generateRuntimeResources(MergedSchema schema) throws IOException {
+        List<Path> resources = new RuntimeResourcesGenerator(config, schema).generateAndWrite();
+        resources.forEach(path -> logger.debug("Generated runtime resource: " + path));
+
+        if (!resources.isEmpty()) {
+            logger.info("Generated " + resources.size() + " runtime resources");
+        }
+        return resources.size();
+    }
+
     /**
      * Build proto mappings for a specific version.
      */
@@ -551,8 +604,7 @@ public class GenerationOrchestrator {
                                                     ProtoClassNameResolver protoClassNameResolver) {
         String version = versionConfig.getVersionId();
 
-        return schema.getMessages().stream()
-                .filter(message -> message.getPresentInVersions().contains(version))
+        return schema.getMessagesForVersion(version).stream()
                 .collect(Collectors.toMap(
                         MergedMessage::getName,
                         message -> protoClassNameResolver.resolve(message, versionConfig),
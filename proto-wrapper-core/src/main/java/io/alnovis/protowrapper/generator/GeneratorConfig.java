@@ -116,6 +116,23 @@ public class GeneratorConfig {
     // Schema metadata generation settings (since 2.3.0)
     private boolean generateSchemaMetadata = false;
 
+    // JFR event instrumentation settings (since 2.4.0)
+    private boolean generateJfrEvents = false;
+
+    // VersionContext registry and runtime resources (since 2.4.0)
+    private boolean generateVersionContextRegistry = false;
+    private boolean generateNativeImageMetadata = false;
+    private Path resourcesOutputDirectory;
+
+    // Child wrapper and converted value caching settings (since 2.4.0)
+    private boolean cacheMessageWrappers = false;
+    private boolean cacheConvertedValues = false;
+    private boolean lazyStructViews = false;
+
+    // Bounded toString() settings (since 2.4.0)
+    private int toStringMaxLength = 0; // 0 = unbounded
+    private int toStringMaxFields = 0; // 0 = unbounded
+
     /**
      * Create a new builder for GeneratorConfig.
      *
@@ -323,6 +340,127 @@ public class GeneratorConfig {
         return generateSchemaMetadata;
     }
 
+    /**
+     * Check if JDK Flight Recorder events should be emitted by generated code.
+     *
+     * <p>When enabled, parse, version conversion, serialization and builder
+     * {@code build()} calls report events through
+     * {@link io.alnovis.protowrapper.runtime.WrapperEvents}. Recording is
+     * switched on at runtime with {@code -Dprotowrapper.jfr.enabled=true}.</p>
+     *
+     * @return true if JFR instrumentation should be generated
+     * @since 2.4.0
+     */
+    public boolean isGenerateJfrEvents() {
+        return generateJfrEvents;
+    }
+
+    /**
+     * Check if the VersionContextRegistry class should be generated.
+     *
+     * <p>The registry implements {@link io.alnovis.protowrapper.runtime.ContextRegistry}
+     * and resolves contexts without reflection.</p>
+     *
+     * @return true if VersionContextRegistry should be generated
+     * @since 2.4.0
+     */
+    public boolean isGenerateVersionContextRegistry() {
+        return generateVersionContextRegistry;
+    }
+
+    /**
+     * Check if GraalVM native-image metadata should be generated for reflective
+     * calls that remain in generated code.
+     *
+     * @return true if native-image metadata should be generated
+     * @since 2.4.0
+     */
+    public boolean isGenerateNativeImageMetadata() {
+        return generateNativeImageMetadata;
+    }
+
+    /**
+     * Get the output directory for generated runtime resources
+     * (ServiceLoader descriptors, GraalVM native-image metadata).
+     *
+     * @return resources output directory, or null if resources are not generated
+     * @since 2.4.0
+     */
+    public Path getResourcesOutputDirectory() {
+        return resourcesOutputDirectory;
+    }
+
+    /**
+     * Check if wrappers of singular message fields should be cached per parent instance.
+     *
+     * <p>When enabled, {@code getXxx()} for a message field creates the child wrapper
+     * on first access and returns the same instance afterwards.</p>
+     *
+     * @return true if child wrappers should be cached
+     * @since 2.4.0
+     */
+    public boolean isCacheMessageWrappers() {
+        return cacheMessageWrappers;
+    }
+
+    /**
+     * Check if values converted from the proto representation should be cached
+     * per wrapper instance.
+     *
+     * <p>When enabled, the String view of a STRING_BYTES conflict field and
+     * well-known type conversions ({@code Instant}, {@code Duration}, wrapper types,
+     * lists of them) are computed once per wrapper instead of on every call.
+     * Struct, Value and ListValue values are cached only with {@link #isLazyStructViews()}.</p>
+     *
+     * @return true if converted values should be cached
+     * @since 2.4.0
+     */
+    public boolean isCacheConvertedValues() {
+        return cacheConvertedValues;
+    }
+
+    /**
+     * Check if Struct, Value and ListValue getters return lazy read-only
+     * {@code StructConverter} views instead of mutable copies.
+     *
+     * @return true if struct getters return views
+     * @since 2.4.0
+     */
+    public boolean isLazyStructViews() {
+        return lazyStructViews;
+    }
+
+    /**
+     * Get the maximum number of proto characters printed by generated {@code toString()}.
+     *
+     * @return maximum length, 0 for no limit
+     * @since 2.4.0
+     */
+    public int getToStringMaxLength() {
+        return toStringMaxLength;
+    }
+
+    /**
+     * Get the maximum number of field values printed by generated {@code toString()}.
+     *
+     * @return maximum number of top-level field values, 0 for no limit
+     * @since 2.4.0
+     */
+    public int getToStringMaxFields() {
+        return toStringMaxFields;
+    }
+
+    /**
+     * Check if generated {@code toString()} should use the bounded single-line format
+     * of {@code WrapperToString}.
+     *
+     * @return true if toStringMaxLength or toStringMaxFields is set
+     * @since 2.4.0
+     */
+    public boolean isBoundedToString() {
+        return toStringMaxLength > 0 || toStringMaxFields > 0;
+    }
+
     /**
      * Get the metadata package for generated SchemaInfo and SchemaDiff classes.
      *
@@ -850,6 +988,219 @@ public class GeneratorConfig {
             return this;
         }
 
+        /**
+         * Enable or disable JDK Flight Recorder instrumentation.
+         *
+         * <p>When enabled, generated code emits JFR events for:</p>
+         * <ul>
+         *   <li>Parsing from bytes (message, version, size)</li>
+         *   <li>{@code asVersion} conversion (message, source and target version, size)</li>
+         *   <li>{@code toBytes} serialization (message, version, size)</li>
+         *   <li>Builder {@code build()} (message, version)</li>
+         * </ul>
+         *
+         * <p>Events are guarded by a static final flag in
+         * {@link io.alnovis.protowrapper.runtime.WrapperEvents}, so the JIT
+         * removes the instrumentation entirely unless the application is started
+         * with {@code -Dprotowrapper.jfr.enabled=true}.</p>
+         *
+         * <p>Default: false</p>
+         *
+         * @param generateJfrEvents true to enable JFR instrumentation
+         * @return this builder
+         * @since 2.4.0
+         */
+        public Builder generateJfrEvents(boolean generateJfrEvents) {
+            config.generateJfrEvents = generateJfrEvents;
+            return this;
+        }
+
+        /**
+         * Enable or disable VersionContextRegistry generation.
+         *
+         * <p>When enabled (and VersionContext generation is enabled), generates
+         * {@code VersionContextRegistry} in the API package. It lists every
+         * {@code VersionContextVx.INSTANCE} directly, so frameworks can resolve
+         * contexts without {@code Class.forName} or other reflection.</p>
+         *
+         * <p>If {@link #resourcesOutputDirectory(Path)} is set, the registry is also
+         * published as a {@link java.util.ServiceLoader} provider together with
+         * GraalVM reachability metadata.</p>
+         *
+         * <p>Default: false</p>
+         *
+         * @param generateVersionContextRegistry true to generate the registry
+         * @return this builder
+         * @since 2.4.0
+         */
+        public Builder generateVersionContextRegistry(boolean generateVersionContextRegistry) {
+            config.generateVersionContextRegistry = generateVersionContextRegistry;
+            return this;
+        }
+
+        /**
+         * Enable or disable GraalVM native-image metadata generation.
+         *
+         * <p>When enabled, {@code reachability-metadata.json} and the legacy
+         * {@code reflect-config.json} are written to the resources output directory.
+         * They register the members generated code and the Spring starter providers
+         * look up reflectively: {@code parsePartialXxxFromBytes} on each
+         * {@code VersionContextVx} (used by {@code convertToVersion}),
+         * {@code getTypedProto} on impl classes (used by builder {@code extractProto}),
+         * {@code VersionContextVx.INSTANCE} and the static {@code VersionContext} factory methods.</p>
+         *
+         * <p>Requires {@link #resourcesOutputDirectory(Path)}.</p>
+         *
+         * <p>Default: false</p>
+         *
+         * @param generateNativeImageMetadata true to generate native-image metadata
+         * @return this builder
+         * @since 2.4.0
+         */
+        public Builder generateNativeImageMetadata(boolean generateNativeImageMetadata) {
+            config.generateNativeImageMetadata = generateNativeImageMetadata;
+            return this;
+        }
+
+        /**
+         * Set the output directory for generated runtime resources.
+         *
+         * <p>Resources are ServiceLoader descriptors and GraalVM native-image
+         * metadata under {@code META-INF}. The directory must be on the runtime
+         * classpath of the application (the Maven and Gradle plugins register it).</p>
+         *
+         * <p>Default: null (no resources generated)</p>
+         *
+         * @param resourcesOutputDirectory resources output directory
+         * @return this builder
+         * @since 2.4.0
+         */
+        public Builder resourcesOutputDirectory(Path resourcesOutputDirectory) {
+            config.resourcesOutputDirectory = resourcesOutputDirectory;
+            return this;
+        }
+
+        /**
+         * Enable or disable caching of singular message-field wrappers.
+         *
+         * <p>By default every {@code getXxx()} call for a message field wraps the
+         * nested proto in a new wrapper, so {@code order.getCustomer().getAddress()}
+         * allocates two objects per call. When enabled, the abstract class keeps a
+         * lazily initialized field per message field and returns the cached wrapper
+         * on subsequent calls.</p>
+         *
+         * <p>The cache uses racy single-check publication: the field is not volatile,
+         * and concurrent first calls may each create a wrapper, but all of them wrap
+         * the same immutable proto and are equal. A wrapper read through the race is
+         * still fully initialized, because its proto is held in a final field.</p>
+         *
+         * <p>Repeated and map fields, well-known types and fields with type conflicts
+         * (except the message view of primitive/message conflicts) are not cached.</p>
+         *
+         * <p>Default: false</p>
+         *
+         * @param cacheMessageWrappers true to cache child wrappers
+         * @return this builder
+         * @since 2.4.0
+         */
+        public Builder cacheMessageWrappers(boolean cacheMessageWrappers) {
+            config.cacheMessageWrappers = cacheMessageWrappers;
+            return this;
+        }
+
+        /**
+         * Enable or disable caching of converted values per wrapper instance.
+         *
+         * <p>Some getters convert the proto value on every call. For STRING_BYTES
+         * conflicts, {@code getXxx()} of a bytes version decodes the {@code ByteString}
+         * as UTF-8 each time; well-known type getters build a new {@code Instant},
+         * {@code Duration} or list each time. When enabled, the converted value is kept
+         * in a lazily initialized field of the wrapper (racy single-check, as for
+         * {@link #cacheMessageWrappers(boolean)}). Cached lists are unmodifiable.</p>
+         *
+         * <p>Only immutable results are cached: {@code byte[]} values of BytesValue
+         * fields are still copied on every call, and Struct, Value and ListValue
+         * getters, which return mutable {@code Map}/{@code List} copies, are cached
+         * only together with {@link #lazyStructViews(boolean)}.</p>
+         *
+         * <p>Cached values live as long as the wrapper, so a large blob read as a
+         * String is retained twice: once in the proto, once decoded.</p>
+         *
+         * <p>Default: false</p>
+         *
+         * @param cacheConvertedValues true to cache converted values
+         * @return this builder
+         * @since 2.4.0
+         */
+        public Builder cacheConvertedValues(boolean cacheConvertedValues) {
+            config.cacheConvertedValues = cacheConvertedValues;
+            return this;
+        }
+
+        /**
+         * Enable or disable lazy read-only views for Struct, Value and ListValue getters.
+         *
+         * <p>By default these getters copy the whole proto tree into a new mutable
+         * {@code HashMap}/{@code ArrayList} on every call. When enabled, they return
+         * {@code StructConverter.asMap/asObject/asList} views that convert each nesting
+         * level on first access. Views throw {@code UnsupportedOperationException} on
+         * modification, so callers that mutate the returned collections must copy them
+         * first. Combined with {@link #cacheConvertedValues(boolean)}, the view is also
+         * cached per wrapper instance.</p>
+         *
+         * <p>Default: false</p>
+         *
+         * @param lazyStructViews true to return read-only views from struct getters
+         * @return this builder
+         * @since 2.4.0
+         */
+        public Builder lazyStructViews(boolean lazyStructViews) {
+            config.lazyStructViews = lazyStructViews;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of proto characters printed by generated {@code toString()}.
+         *
+         * <p>By default {@code toString()} renders the full proto text format and joins
+         * its lines, which materializes the whole text twice; logging a multi-megabyte
+         * message allocates tens of megabytes. When a limit is set, {@code toString()}
+         * delegates to {@code io.alnovis.protowrapper.runtime.WrapperToString}, which
+         * prints single-line text format into one {@code StringBuilder} and stops at the
+         * limit, appending {@code "... (truncated)"}. Generated code then needs
+         * proto-wrapper-core on the runtime classpath.</p>
+         *
+         * <p>Default: 0 (no limit, full text format)</p>
+         *
+         * @param maxLength maximum number of proto characters (0 for no limit)
+         * @return this builder
+         * @since 2.4.0
+         */
+        public Builder toStringMaxLength(int maxLength) {
+            ConfigValidator.validateToStringLimit("toStringMaxLength", maxLength);
+            config.toStringMaxLength = maxLength;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of field values printed by generated {@code toString()}.
+         *
+         * <p>Counts top-level fields; each element of a repeated or map field counts as
+         * one. Like {@link #toStringMaxLength(int)}, a non-zero value switches
+         * {@code toString()} to the bounded single-line format.</p>
+         *
+         * <p>Default: 0 (no limit)</p>
+         *
+         * @param maxFields maximum number of field values (0 for no limit)
+         * @return this builder
+         * @since 2.4.0
+         */
+        public Builder toStringMaxFields(int maxFields) {
+            ConfigValidator.validateToStringLimit("toStringMaxFields", maxFields);
+            config.toStringMaxFields = maxFields;
+            return this;
+        }
+
         /**
          * Build the GeneratorConfig.
          *
@@ -1,8 +1,11 @@
 package io.alnovis.protowrapper.generator;
 
 import com.squareup.javapoet.*;
+import io.alnovis.protowrapper.model.FieldInfo;
+import io.alnovis.protowrapper.model.MergedField;
 import io.alnovis.protowrapper.model.MergedMessage;
 import io.alnovis.protowrapper.model.MergedOneof;
+import io.alnovis.protowrapper.model.VersionFieldSnapshot;
 
 import static io.alnovis.protowrapper.generator.ProtobufConstants.*;
 
@@ -16,6 +19,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -103,6 +107,9 @@ public class ImplClassGenerator extends BaseGenerator<MergedMessage> {
                     oneof, message, protoType, version, ctx.getApiPackage()));
         }
 
+        // Populated version-specific fields for getFieldsInaccessibleInVersion()
+        addPopulatedVersionSpecificFieldsMethod(classBuilder, message, protoType, version, resolver);
+
         // Add common implementation methods
         addCommonImplMethods(classBuilder, className, protoType, implPackage, ctx);
 
@@ -185,6 +192,67 @@ public class ImplClassGenerator extends BaseGenerator<MergedMessage> {
                 .build());
     }
 
+    /**
+     * Implement extractPopulatedVersionSpecificFields() for this version.
+     *
+     * <p>Sets bit {@code i} of the result when version-specific field {@code i} has a value,
+     * using {@code hasXxx()} or the proto {@code getXxxCount()} so no lists are built.
+     * Fields without presence are always considered populated; fields missing in this
+     * version never are.</p>
+     *
+     * <p>A wrapper cannot hold a value for a field its own version lacks, so required and
+     * implicit-presence fields missing in this version are not reported. The per-field
+     * checks used above {@link AbstractClassGenerator#MAX_MASKED_FIELDS} fields skip them too.</p>
+     */
+    private void addPopulatedVersionSpecificFieldsMethod(TypeSpec.Builder classBuilder, MergedMessage message,
+                                                         ClassName protoType, String version,
+                                                         TypeResolver resolver) {
+        List<MergedField> fields = AbstractClassGenerator.getVersionSpecificFields(message);
+        if (!AbstractClassGenerator.usesFieldMasks(fields)) {
+            return;
+        }
+
+        MethodSpec.Builder method = MethodSpec.methodBuilder(
+                        AbstractClassGenerator.EXTRACT_POPULATED_VERSION_SPECIFIC_FIELDS_METHOD)
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(TypeName.LONG)
+                .addParameter(protoType, "proto")
+                .addStatement("long populated = 0L");
+
+        for (int i = 0; i < fields.size(); i++) {
+            MergedField field = fields.get(i);
+            if (!field.getPresentInVersions().contains(version)) {
+                continue;
+            }
+            String bit = AbstractClassGenerator.maskLiteral(1L << i);
+            FieldInfo versionField = field.getVersionFields().get(version);
+
+            if (field.shouldGenerateHasMethod()) {
+                method.beginControlFlow("if (has$L())", resolver.capitalize(field.getJavaName()));
+            } else if ((field.isRepeated() || field.isMap()) && versionField != null
+                    && (versionField.isRepeated() || versionField.isMap())) {
+                // Repeated in this version: count without converting elements
+                String versionJavaName = resolver.capitalize(
+                        VersionFieldSnapshot.of(field, version).javaNameOr(field.getJavaName()));
+                method.beginControlFlow("if (proto.get$LCount() > 0)", versionJavaName);
+            } else if (field.isMap()) {
+                method.beginControlFlow("if (!$L().isEmpty())", field.getMapGetterName());
+            } else if (field.isRepeated()) {
+                method.beginControlFlow("if (!$L().isEmpty())", field.getGetterName());
+            } else {
+                // Required or implicit presence - always has value
+                method.addStatement("populated |= $L", bit);
+                continue;
+            }
+            method.addStatement("populated |= $L", bit);
+            method.endControlFlow();
+        }
+
+        method.addStatement("return populated");
+        classBuilder.addMethod(method.build());
+    }
+
     /**
      * Generate a nested impl class as a static inner class.
      */
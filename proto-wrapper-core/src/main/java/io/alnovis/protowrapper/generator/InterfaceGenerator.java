@@ -123,6 +123,7 @@ public class InterfaceGenerator extends BaseGenerator<MergedMessage> {
             if (!field.isRepeated() && field.getConflictType() == MergedField.ConflictType.STRING_BYTES) {
                 MethodSpec bytesGetter = methodGenerator.generateBytesGetter(field, resolver);
                 interfaceBuilder.addMethod(bytesGetter);
+                interfaceBuilder.addMethod(methodGenerator.generateByteStringGetter(field, resolver));
             }
 
             // Add message getter for PRIMITIVE_MESSAGE conflict fields (scalar only)
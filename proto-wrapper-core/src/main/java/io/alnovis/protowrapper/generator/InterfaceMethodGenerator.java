@@ -250,6 +250,28 @@ public final class InterfaceMethodGenerator {
                 .build();
     }
 
+    /**
+     * Generate ByteString getter for STRING_BYTES conflict field.
+     *
+     * @param field Conflict field
+     * @param resolver Type resolver
+     * @return Generated ByteString getter method
+     * @since 2.4.0
+     */
+    public MethodSpec generateByteStringGetter(MergedField field, TypeResolver resolver) {
+        String methodName = "get" + resolver.capitalize(field.getJavaName()) + "ByteString";
+
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(ClassName.get("com.google.protobuf", "ByteString"))
+                .addJavadoc("Get $L as an immutable ByteString without copying.\n", field.getJavaName())
+                .addJavadoc("<p>For bytes versions, returns the proto value itself. For String versions,\n")
+                .addJavadoc("returns the UTF-8 encoding cached by the proto message. Use\n")
+                .addJavadoc("{@code asReadOnlyByteBuffer()} or {@code newInput()} to read large values.</p>\n")
+                .addJavadoc("@return ByteString value\n")
+                .build();
+    }
+
     /**
      * Generate message getter for PRIMITIVE_MESSAGE conflict field.
      *
@@ -165,6 +165,7 @@ public final class NestedTypeGenerator {
             if (!field.isRepeated() && field.getConflictType() == MergedField.ConflictType.STRING_BYTES) {
                 MethodSpec bytesGetter = methodGenerator.generateBytesGetter(field, resolver);
                 builder.addMethod(bytesGetter);
+                builder.addMethod(methodGenerator.generateByteStringGetter(field, resolver));
             }
 
             // Add message getter for PRIMITIVE_MESSAGE conflict fields (scalar only)
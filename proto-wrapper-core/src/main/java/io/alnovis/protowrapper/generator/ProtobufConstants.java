@@ -53,6 +53,14 @@ public final class ProtobufConstants {
      */
     public static final ClassName MESSAGE_CLASS = ClassName.get(PROTOBUF_PACKAGE, "Message");
 
+    /**
+     * JavaPoet ClassName for {@code com.google.protobuf.Internal.EnumLite}.
+     * Implemented by all generated proto enums (full and lite runtime).
+     *
+     * @since 2.4.0
+     */
+    public static final ClassName ENUM_LITE_CLASS = ClassName.get(PROTOBUF_PACKAGE, "Internal", "EnumLite");
+
     /**
      * JavaPoet ClassName for {@code com.google.protobuf.ByteString}.
      * Used for bytes fields in protobuf.
@@ -0,0 +1,424 @@
+package io.alnovis.protowrapper.generator;
+
+import io.alnovis.protowrapper.model.MergedMessage;
+import io.alnovis.protowrapper.model.MergedSchema;
+import io.alnovis.protowrapper.runtime.ContextRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates runtime resources for the generated code.
+ *
+ * <p>Resources are written to {@link GeneratorConfig#getResourcesOutputDirectory()}:</p>
+ * <ul>
+ *   <li>{@code META-INF/services/io.alnovis.protowrapper.runtime.ContextRegistry} -
+ *       ServiceLoader descriptor listing the generated {@code VersionContextRegistry}</li>
+ *   <li>{@code META-INF/native-image/io.alnovis.protowrapper/{apiPackage}/reachability-metadata.json} -
+ *       GraalVM reachability metadata</li>
+ *   <li>{@code reflect-config.json} and {@code resource-config.json} in the same directory -
+ *       the same metadata in the format read by GraalVM releases before 23, written when
+ *       {@link GeneratorConfig#isGenerateNativeImageMetadata()} is set</li>
+ * </ul>
+ *
+ * <p>Native-image metadata covers the reflective lookups that remain in generated code
+ * and in the Spring starter providers:</p>
+ * <ul>
+ *   <li>{@code VersionContextVx.parsePartialXxxFromBytes(byte[])} - {@code convertToVersion}</li>
+ *   <li>{@code getTypedProto()} on impl classes - builder {@code extractProto}</li>
+ *   <li>{@code VersionContextVx.INSTANCE} - {@code ReflectiveVersionContextProvider}</li>
+ *   <li>static {@code VersionContext} factory methods - {@code FactoryBasedVersionContextProvider}</li>
+ * </ul>
+ *
+ * <p>The ServiceLoader descriptor is shared by all plugin executions writing to the same
+ * directory, so existing entries are preserved. Native-image metadata is written per
+ * API package. With {@link GeneratorConfig#isGenerateVersionContext()} disabled, the
+ * registry and {@code VersionContext} entries are left out and only the impl classes
+ * are registered.</p>
+ *
+ * @since 2.4.0
+ */
+public class RuntimeResourcesGenerator {
+
+    /**
+     * Directory of GraalVM native-image metadata written by this plugin.
+     */
+    public static final String NATIVE_IMAGE_DIR = "META-INF/native-image/io.alnovis.protowrapper";
+
+    /**
+     * Name of the GraalVM reachability metadata file.
+     */
+    public static final String REACHABILITY_METADATA_FILE = "reachability-metadata.json";
+
+    /**
+     * Name of the legacy GraalVM reflection configuration file.
+     */
+    public static final String REFLECT_CONFIG_FILE = "reflect-config.json";
+
+    /**
+     * Name of the legacy GraalVM resource configuration file.
+     */
+    public static final String RESOURCE_CONFIG_FILE = "resource-config.json";
+
+    /**
+     * ServiceLoader descriptor for {@link ContextRegistry}.
+     */
+    public static final String CONTEXT_REGISTRY_SERVICE = "META-INF/services/" + ContextRegistry.class.getName();
+
+    private final GeneratorConfig config;
+    private final MergedSchema schema;
+
+    /**
+     * Create a new RuntimeResourcesGenerator without schema information.
+     *
+     * <p>Only the VersionContextRegistry resources are generated.</p>
+     *
+     * @param config the generator configuration
+     */
+    public RuntimeResourcesGenerator(GeneratorConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * Create a new RuntimeResourcesGenerator.
+     *
+     * @param config the generator configuration
+     * @param schema merged schema used for native-image metadata, may be null
+     */
+    public RuntimeResourcesGenerator(GeneratorConfig config, MergedSchema schema) {
+        this.config = config;
+        this.schema = schema;
+    }
+
+    /**
+     * Check if any runtime resources are generated for the configuration.
+     *
+     * @param config the generator configuration
+     * @return true if a resources directory is set and a resource-producing option is enabled
+     */
+    public static boolean isEnabled(GeneratorConfig config) {
+        return config.getResourcesOutputDirectory() != null
+                && (hasRegistry(config) || config.isGenerateNativeImageMetadata());
+    }
+
+    /**
+     * The registry is generated together with the VersionContext classes only.
+     */
+    private static boolean hasRegistry(GeneratorConfig config) {
+        return config.isGenerateVersionContext() && config.isGenerateVersionContextRegistry();
+    }
+
+    /**
+     * Generate and write all runtime resources.
+     *
+     * @return paths of the written files, empty if no resources directory is configured
+     * @throws IOException if writing fails
+     */
+    public List<Path> generateAndWrite() throws IOException {
+        List<Path> written = new ArrayList<>();
+        if (!isEnabled(config)) {
+            return written;
+        }
+        Path root = config.getResourcesOutputDirectory();
+
+        if (hasRegistry(config)) {
+            written.add(writeServiceDescriptor(root));
+        }
+        Path nativeImageDir = root.resolve(getNativeImageDirectory());
+        written.add(write(nativeImageDir.resolve(REACHABILITY_METADATA_FILE), buildReachabilityMetadata()));
+        if (config.isGenerateNativeImageMetadata()) {
+            written.add(write(nativeImageDir.resolve(REFLECT_CONFIG_FILE), buildReflectConfig()));
+            if (hasRegistry(config)) {
+                written.add(write(nativeImageDir.resolve(RESOURCE_CONFIG_FILE), buildResourceConfig()));
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Get the native-image metadata directory for the configured API package.
+     *
+     * @return path relative to the resources root
+     */
+    public String getNativeImageDirectory() {
+        return NATIVE_IMAGE_DIR + "/" + config.getApiPackage();
+    }
+
+    /**
+     * Build the reachability metadata document.
+     *
+     * @return JSON document
+     */
+    public String buildReachabilityMetadata() {
+        JsonWriter json = new JsonWriter();
+        json.beginObject();
+
+        json.name("reflection").beginArray();
+        for (ReflectionEntry entry : collectReflectionEntries()) {
+            json.beginObject().name("type").value(entry.type());
+            writeMembers(json, entry);
+            json.endObject();
+        }
+        json.endArray();
+
+        if (hasRegistry(config)) {
+            json.name("resources").beginArray()
+                    .beginObject().name("glob").value(CONTEXT_REGISTRY_SERVICE).endObject()
+                    .endArray();
+        }
+
+        json.endObject();
+        return json.toString();
+    }
+
+    /**
+     * Build the legacy {@code reflect-config.json} document.
+     *
+     * @return JSON document
+     */
+    public String buildReflectConfig() {
+        JsonWriter json = new JsonWriter();
+        json.beginArray();
+        for (ReflectionEntry entry : collectReflectionEntries()) {
+            json.beginObject().name("name").value(entry.type());
+            writeMembers(json, entry);
+            json.endObject();
+        }
+        json.endArray();
+        return json.toString();
+    }
+
+    /**
+     * Build the legacy {@code resource-config.json} document.
+     *
+     * @return JSON document
+     */
+    public String buildResourceConfig() {
+        JsonWriter json = new JsonWriter();
+        json.beginObject()
+                .name("resources").beginObject()
+                .name("includes").beginArray()
+                .beginObject().name("pattern").value("\\Q" + CONTEXT_REGISTRY_SERVICE + "\\E").endObject()
+                .endArray()
+                .endObject()
+                .endObject();
+        return json.toString();
+    }
+
+    private List<ReflectionEntry> collectReflectionEntries() {
+        List<ReflectionEntry> entries = new ArrayList<>();
+
+        if (hasRegistry(config)) {
+            // ServiceLoader instantiates the registry through its public constructor
+            entries.add(new ReflectionEntry(VersionContextRegistryGenerator.registryClassName(config),
+                    List.of(), List.of(new MethodEntry("<init>"))));
+        }
+
+        if (!config.isGenerateNativeImageMetadata() || schema == null) {
+            return entries;
+        }
+
+        // FactoryBasedVersionContextProvider invokes the static factory methods
+        String string = String.class.getName();
+        if (config.isGenerateVersionContext()) {
+            entries.add(new ReflectionEntry(config.getApiPackage() + ".VersionContext", List.of(), List.of(
+                    new MethodEntry("forVersionId", string),
+                    new MethodEntry("find", string),
+                    new MethodEntry("getDefault"),
+                    new MethodEntry("supportedVersions"),
+                    new MethodEntry("defaultVersion"))));
+        }
+
+        for (String version : schema.getVersions()) {
+            String implPackage = config.getImplPackage(version);
+
+            // convertToVersion looks up parsePartialXxxFromBytes on the target context,
+            // ReflectiveVersionContextProvider reads INSTANCE
+            if (config.isGenerateVersionContext()) {
+                List<MethodEntry> parseMethods = new ArrayList<>();
+                for (MergedMessage message : schema.getMessagesForVersion(version)) {
+                    parseMethods.add(new MethodEntry("parsePartial" + message.getName() + "FromBytes", "byte[]"));
+                }
+                entries.add(new ReflectionEntry(implPackage + ".VersionContext" + version.toUpperCase(),
+                        List.of("INSTANCE"), parseMethods));
+            }
+
+            // Builder extractProto looks up getTypedProto on the wrapper passed to setters
+            if (config.isGenerateBuilders() && config.isGenerateImplClasses()) {
+                for (MergedMessage message : schema.getMessagesForVersion(version)) {
+                    if (config.shouldGenerate(message.getName())) {
+                        addImplEntries(entries, message, version,
+                                implPackage + "." + config.getImplClassName(message.getName(), version));
+                    }
+                }
+            }
+        }
+        return entries;
+    }
+
+    private void addImplEntries(List<ReflectionEntry> entries, MergedMessage message, String version, String binaryName) {
+        entries.add(new ReflectionEntry(binaryName, List.of(), List.of(new MethodEntry("getTypedProto"))));
+        for (MergedMessage nested : message.getNestedMessages()) {
+            if (nested.getPresentInVersions().contains(version)) {
+                addImplEntries(entries, nested, version, binaryName + "$" + nested.getName());
+            }
+        }
+    }
+
+    private static void writeMembers(JsonWriter json, ReflectionEntry entry) {
+        if (!entry.fields().isEmpty()) {
+            json.name("fields").beginArray();
+            for (String field : entry.fields()) {
+                json.beginObject().name("name").value(field).endObject();
+            }
+            json.endArray();
+        }
+        if (!entry.methods().isEmpty()) {
+            json.name("methods").beginArray();
+            for (MethodEntry method : entry.methods()) {
+                json.beginObject().name("name").value(method.name()).name("parameterTypes").beginArray();
+                for (String parameterType : method.parameterTypes()) {
+                    json.value(parameterType);
+                }
+                json.endArray().endObject();
+            }
+            json.endArray();
+        }
+    }
+
+    private Path writeServiceDescriptor(Path root) throws IOException {
+        Path file = root.resolve(CONTEXT_REGISTRY_SERVICE);
+        Set<String> providers = new LinkedHashSet<>();
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                String trimmed = line.trim();
+                if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                    providers.add(trimmed);
+                }
+            }
+        }
+        providers.add(VersionContextRegistryGenerator.registryClassName(config));
+
+        Files.createDirectories(file.getParent());
+        Files.write(file, String.join("\n", providers).concat("\n").getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private Path write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private record ReflectionEntry(String type, List<String> fields, List<MethodEntry> methods) {
+    }
+
+    private record MethodEntry(String name, List<String> parameterTypes) {
+        MethodEntry(String name, String... parameterTypes) {
+            this(name, List.of(parameterTypes));
+        }
+    }
+
+    /**
+     * Minimal pretty-printing JSON writer for metadata files.
+     */
+    static final class JsonWriter {
+        private final StringBuilder sb = new StringBuilder();
+        private final List<Boolean> firstInScope = new ArrayList<>();
+        private boolean afterName;
+
+        JsonWriter beginObject() {
+            return open('{');
+        }
+
+        JsonWriter endObject() {
+            return close('}');
+        }
+
+        JsonWriter beginArray() {
+            return open('[');
+        }
+
+        JsonWriter endArray() {
+            return close(']');
+        }
+
+        JsonWriter name(String name) {
+            separator();
+            string(name);
+            sb.append(": ");
+            afterName = true;
+            return this;
+        }
+
+        JsonWriter value(String value) {
+            separator();
+            string(value);
+            return this;
+        }
+
+        private JsonWriter open(char c) {
+            separator();
+            sb.append(c);
+            firstInScope.add(true);
+            return this;
+        }
+
+        private JsonWriter close(char c) {
+            boolean empty = firstInScope.remove(firstInScope.size() - 1);
+            if (!empty) {
+                newline();
+            }
+            sb.append(c);
+            return this;
+        }
+
+        private void separator() {
+            if (afterName) {
+                afterName = false;
+                return;
+            }
+            if (firstInScope.isEmpty()) {
+                return;
+            }
+            int last = firstInScope.size() - 1;
+            if (!firstInScope.get(last)) {
+                sb.append(',');
+            }
+            firstInScope.set(last, false);
+            newline();
+        }
+
+        private void newline() {
+            sb.append('\n');
+            for (int i = 0; i < firstInScope.size(); i++) {
+                sb.append("  ");
+            }
+        }
+
+        private void string(String s) {
+            sb.append('"');
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                switch (c) {
+                    case '"': sb.append("\\\""); break;
+                    case '\\': sb.append("\\\\"); break;
+                    case '\n': sb.append("\\n"); break;
+                    default: sb.append(c);
+                }
+            }
+            sb.append('"');
+        }
+
+        @Override
+        public String toString() {
+            return sb.toString() + "\n";
+        }
+    }
+}
@@ -166,19 +166,17 @@ public class VersionContextGenerator extends BaseGenerator<MergedSchema> {
         vrf.addReturnStatement(getVersionIdMethod, version);
         classBuilder.addMethod(getVersionIdMethod.build());
 
+        WrapperEventsCodegen events = WrapperEventsCodegen.create(config);
+
         // Add metadata methods if enabled
         if (config.isGenerateSchemaMetadata()) {
             addMetadataImplMethods(classBuilder, schema, version);
         }
 
         // Wrap methods
-        for (MergedMessage message : schema.getMessages()) {
-            // Skip if message is not present in this version
-            // (will use default method from interface which throws UnsupportedOperationException)
-            if (!message.getPresentInVersions().contains(version)) {
-                continue;
-            }
-
+        // Messages not present in this version use the default method from the
+        // interface, which throws UnsupportedOperationException
+        for (MergedMessage message : schema.getMessagesForVersion(version)) {
             String protoClassName = protoMappings.get(message.getName());
             if (protoClassName == null) {
                 continue; // Skip if no proto mapping
@@ -202,7 +200,8 @@ public class VersionContextGenerator extends BaseGenerator<MergedSchema> {
 
             // Add parseXxxFromBytes() implementation for version conversion
             ClassName invalidProtocolBufferException = ClassName.get("com.google.protobuf", "InvalidProtocolBufferException");
-            classBuilder.addMethod(MethodSpec.methodBuilder("parse" + message.getName() + "FromBytes")
+            CodeBlock parseEventArgs = CodeBlock.of("$S, $L, bytes.length", message.getQualifiedInterfaceName(), vrf.fieldInitializer(version));
+            MethodSpec.Builder parseMethod = MethodSpec.methodBuilder("parse" + message.getName() + "FromBytes")
                     .addAnnotation(Override.class)
                     .addModifiers(Modifier.PUBLIC)
                     .returns(returnType)
@@ -210,13 +209,14 @@ public class VersionContextGenerator extends BaseGenerator<MergedSchema> {
                     .addException(invalidProtocolBufferException)
                     .beginControlFlow("if (bytes == null)")
                     .addStatement("return null")
-                    .endControlFlow()
-                    .addStatement("return new $T($T.parseFrom(bytes))", implType, protoType)
-                    .build());
+                    .endControlFlow();
+            events.addInstrumentedReturn(parseMethod, WrapperEventsCodegen.Kind.PARSE, returnType,
+                    CodeBlock.of("new $T($T.parseFrom(bytes))", implType, protoType), parseEventArgs);
+            classBuilder.addMethod(parseMethod.build());
 
             // Add parsePartialXxxFromBytes() implementation - lenient parsing without required fields check
             // Uses newBuilder().mergeFrom().buildPartial() to avoid required fields validation
-            classBuilder.addMethod(MethodSpec.methodBuilder("parsePartial" + message.getName() + "FromBytes")
+            MethodSpec.Builder parsePartialMethod = MethodSpec.methodBuilder("parsePartial" + message.getName() + "FromBytes")
                     .addAnnotation(Override.class)
                     .addModifiers(Modifier.PUBLIC)
                     .returns(returnType)
@@ -224,9 +224,11 @@ public class VersionContextGenerator extends BaseGenerator<MergedSchema> {
                     .addException(invalidProtocolBufferException)
                     .beginControlFlow("if (bytes == null)")
                     .addStatement("return null")
-                    .endControlFlow()
-                    .addStatement("return new $T($T.newBuilder().mergeFrom(bytes).buildPartial())", implType, protoType)
-                    .build());
+                    .endControlFlow();
+            events.addInstrumentedReturn(parsePartialMethod, WrapperEventsCodegen.Kind.PARSE, returnType,
+                    CodeBlock.of("new $T($T.newBuilder().mergeFrom(bytes).buildPartial())", implType, protoType),
+                    parseEventArgs);
+            classBuilder.addMethod(parsePartialMethod.build());
 
             // Add newXxxBuilder() implementation if builders are enabled
             if (config.isGenerateBuilders()) {
@@ -0,0 +1,195 @@
+package io.alnovis.protowrapper.generator;
+
+import com.squareup.javapoet.*;
+import io.alnovis.protowrapper.runtime.ContextRegistry;
+
+import javax.lang.model.element.Modifier;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static io.alnovis.protowrapper.generator.ProtobufConstants.GENERATED_FILE_COMMENT;
+
+/**
+ * Generates the VersionContextRegistry class.
+ *
+ * <p>The registry resolves VersionContext instances with a {@code switch} over
+ * version identifiers and references each {@code VersionContextVx.INSTANCE}
+ * directly, so lookups need no class name construction or reflection.</p>
+ *
+ * <p>Example generated code:</p>
+ * <pre>{@code
+ * public final class VersionContextRegistry implements ContextRegistry<VersionContext> {
+ *     public static final VersionContextRegistry INSTANCE = new VersionContextRegistry();
+ *
+ *     public static VersionContext lookup(String versionId) {
+ *         if (versionId == null) {
+ *             return null;
+ *         }
+ *         switch (versionId) {
+ *             case "v1": return VersionContextV1.INSTANCE;
+ *             case "v2": return VersionContextV2.INSTANCE;
+ *             default: return null;
+ *         }
+ *     }
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @see ContextRegistry
+ * @since 2.4.0
+ */
+public class VersionContextRegistryGenerator extends BaseGenerator<List<String>> {
+
+    /**
+     * Simple name of the generated registry class.
+     */
+    public static final String CLASS_NAME = "VersionContextRegistry";
+
+    private final List<String> versions;
+
+    /**
+     * Create a new VersionContextRegistryGenerator.
+     *
+     * @param config the generator configuration
+     * @param versions list of version identifiers (e.g., ["v1", "v2"])
+     */
+    public VersionContextRegistryGenerator(GeneratorConfig config, List<String> versions) {
+        super(config);
+        this.versions = versions;
+    }
+
+    /**
+     * Get the fully qualified name of the generated registry.
+     *
+     * @param config the generator configuration
+     * @return registry class name
+     */
+    public static String registryClassName(GeneratorConfig config) {
+        return config.getApiPackage() + "." + CLASS_NAME;
+    }
+
+    /**
+     * Generate the VersionContextRegistry class.
+     *
+     * @return generated JavaFile
+     */
+    public JavaFile generate() {
+        ClassName registryType = ClassName.get(config.getApiPackage(), CLASS_NAME);
+        ClassName versionContextType = ClassName.get(config.getApiPackage(), "VersionContext");
+        ParameterizedTypeName listType = ParameterizedTypeName.get(List.class, String.class);
+        ParameterizedTypeName optionalType = ParameterizedTypeName.get(ClassName.get(Optional.class), versionContextType);
+        VersionReferenceFactory vrf = VersionReferenceFactory.create(config);
+
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(CLASS_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(ContextRegistry.class), versionContextType))
+                .addJavadoc("Reflection-free registry of all VersionContext implementations.\n")
+                .addJavadoc("\n")
+                .addJavadoc("<p>Published as a {@link java.util.ServiceLoader} provider of {@link $T}\n", ContextRegistry.class)
+                .addJavadoc("when runtime resources are generated.</p>\n")
+                .addJavadoc("\n")
+                .addJavadoc("@since 2.4.0\n");
+
+        classBuilder.addField(FieldSpec.builder(registryType, "INSTANCE",
+                        Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T()", registryType)
+                .addJavadoc("Shared registry instance.\n")
+                .build());
+
+        // Public no-arg constructor is required by ServiceLoader
+        classBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addJavadoc("Create a registry. Prefer {@link #INSTANCE}; this constructor exists for ServiceLoader.\n")
+                .build());
+
+        // Static lookup with switch - no map, no reflection
+        MethodSpec.Builder lookup = MethodSpec.methodBuilder("lookup")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(versionContextType)
+                .addParameter(String.class, "versionId")
+                .addJavadoc("Get VersionContext for a version identifier.\n")
+                .addJavadoc("\n")
+                .addJavadoc("@param versionId version identifier (e.g., \"v1\")\n")
+                .addJavadoc("@return VersionContext, or null if the version is not supported\n")
+                .beginControlFlow("if (versionId == null)")
+                .addStatement("return null")
+                .endControlFlow()
+                .beginControlFlow("switch (versionId)");
+        for (String version : versions) {
+            ClassName contextImpl = ClassName.get(config.getImplPackage(version),
+                    "VersionContext" + version.toUpperCase());
+            lookup.addCode("case $L:\n", vrf.fieldInitializer(version))
+                    .addStatement("$>return $T.INSTANCE$<", contextImpl);
+        }
+        lookup.addCode("default:\n")
+                .addStatement("$>return null$<")
+                .endControlFlow();
+        classBuilder.addMethod(lookup.build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("getApiPackage")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(String.class)
+                .addStatement("return $S", config.getApiPackage())
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("supportedVersions")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(listType)
+                .addStatement("return $T.SUPPORTED_VERSIONS", versionContextType)
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("defaultVersion")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(String.class)
+                .addStatement("return $T.DEFAULT_VERSION", versionContextType)
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("find")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(optionalType)
+                .addParameter(String.class, "versionId")
+                .addStatement("return $T.ofNullable(lookup(versionId))", Optional.class)
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("getDefault")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(versionContextType)
+                .addStatement("return lookup($T.DEFAULT_VERSION)", versionContextType)
+                .build());
+
+        classBuilder.addMethod(MethodSpec.methodBuilder("isSupported")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(boolean.class)
+                .addParameter(String.class, "versionId")
+                .addStatement("return lookup(versionId) != null")
+                .build());
+
+        return JavaFile.builder(config.getApiPackage(), classBuilder.build())
+                .addFileComment(GENERATED_FILE_COMMENT)
+                .indent("    ")
+                .build();
+    }
+
+    /**
+     * Generate and write VersionContextRegistry class.
+     *
+     * @return path to the generated file
+     * @throws IOException if writing fails
+     */
+    public Path generateAndWrite() throws IOException {
+        JavaFile javaFile = generate();
+        writeToFile(javaFile);
+
+        String relativePath = config.getApiPackage().replace('.', '/')
+                + "/" + CLASS_NAME + ".java";
+        return config.getOutputDirectory().resolve(relativePath);
+    }
+}
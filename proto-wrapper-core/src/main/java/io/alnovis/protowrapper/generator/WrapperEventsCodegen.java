@@ -0,0 +1,141 @@
+package io.alnovis.protowrapper.generator;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeName;
+import io.alnovis.protowrapper.runtime.WrapperEvents;
+
+/**
+ * Emits JDK Flight Recorder instrumentation into generated methods.
+ *
+ * <p>Instrumented methods start an event guarded by the static final
+ * {@link WrapperEvents#ENABLED} flag and commit it once the result is computed:</p>
+ * <pre>{@code
+ * WrapperEvents.ParseEvent jfrEvent = WrapperEvents.ENABLED ? WrapperEvents.beginParse() : null;
+ * Order result = new Order(OrderProto.parseFrom(bytes));
+ * if (jfrEvent != null) {
+ *     WrapperEvents.commitParse(jfrEvent, "Order", "v2", bytes.length);
+ * }
+ * return result;
+ * }</pre>
+ *
+ * <p>All methods are no-ops unless {@link GeneratorConfig#isGenerateJfrEvents()} is set.</p>
+ *
+ * @see WrapperEvents
+ * @since 2.4.0
+ */
+public final class WrapperEventsCodegen {
+
+    /**
+     * JavaPoet ClassName for {@link WrapperEvents}.
+     */
+    public static final ClassName WRAPPER_EVENTS_CLASS = ClassName.get(WrapperEvents.class);
+
+    /**
+     * Name of the local variable holding the started event.
+     */
+    public static final String EVENT_VARIABLE = "jfrEvent";
+
+    /**
+     * Event kinds supported by {@link WrapperEvents}.
+     */
+    public enum Kind {
+        /** Parsing from bytes. */
+        PARSE("Parse"),
+        /** Conversion to another version. */
+        CONVERT("Convert"),
+        /** Serialization to bytes. */
+        SERIALIZE("Serialize"),
+        /** Builder build(). */
+        BUILD("Build");
+
+        private final String suffix;
+
+        Kind(String suffix) {
+            this.suffix = suffix;
+        }
+
+        ClassName eventClass() {
+            return WRAPPER_EVENTS_CLASS.nestedClass(suffix + "Event");
+        }
+    }
+
+    private final boolean enabled;
+
+    private WrapperEventsCodegen(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Create an instance based on generator configuration.
+     *
+     * @param config the generator configuration
+     * @return new instance
+     */
+    public static WrapperEventsCodegen create(GeneratorConfig config) {
+        return new WrapperEventsCodegen(config.isGenerateJfrEvents());
+    }
+
+    /**
+     * Check if instrumentation is emitted.
+     *
+     * @return true if JFR events are enabled in config
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Add the statement that starts an event.
+     *
+     * @param method the method builder
+     * @param kind event kind
+     */
+    public void addBegin(MethodSpec.Builder method, Kind kind) {
+        if (!enabled) {
+            return;
+        }
+        method.addStatement("$T $L = $T.ENABLED ? $T.begin$L() : null",
+                kind.eventClass(), EVENT_VARIABLE, WRAPPER_EVENTS_CLASS, WRAPPER_EVENTS_CLASS, kind.suffix);
+    }
+
+    /**
+     * Add the block that commits an event started by {@link #addBegin}.
+     *
+     * @param method the method builder
+     * @param kind event kind
+     * @param arguments event payload arguments following the event itself
+     */
+    public void addCommit(MethodSpec.Builder method, Kind kind, CodeBlock arguments) {
+        if (!enabled) {
+            return;
+        }
+        method.beginControlFlow("if ($L != null)", EVENT_VARIABLE)
+                .addStatement("$T.commit$L($L, $L)", WRAPPER_EVENTS_CLASS, kind.suffix, EVENT_VARIABLE, arguments)
+                .endControlFlow();
+    }
+
+    /**
+     * Add {@code return expression;} wrapped in an event when enabled.
+     *
+     * <p>When disabled this is a plain return statement.</p>
+     *
+     * @param method the method builder
+     * @param kind event kind
+     * @param resultType declared type of the result variable
+     * @param expression expression computing the result
+     * @param arguments event payload arguments following the event itself
+     */
+    public void addInstrumentedReturn(MethodSpec.Builder method, Kind kind, TypeName resultType,
+                                      CodeBlock expression, CodeBlock arguments) {
+        if (!enabled) {
+            method.addStatement("return $L", expression);
+            return;
+        }
+        addBegin(method, kind);
+        method.addStatement("$T result = $L", resultType, expression);
+        addCommit(method, kind, arguments);
+        method.addStatement("return result");
+    }
+}
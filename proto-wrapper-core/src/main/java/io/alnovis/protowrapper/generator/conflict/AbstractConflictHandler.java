@@ -96,6 +96,22 @@ public abstract sealed class AbstractConflictHandler permits
         ExtractMethodGenerator.addStandardGetterImpl(builder, field, returnType, ctx);
     }
 
+    /**
+     * Add a cache field and a cached getter body for a lazily computed value.
+     *
+     * @param builder the TypeSpec builder to add the cache field to
+     * @param getter the getter method builder to add the body to
+     * @param valueType the cached value type
+     * @param hasMethodName the extractHas method to check first, or null
+     * @param extractMethodName the extract method computing the value
+     * @param ctx the processing context
+     * @since 2.4.0
+     */
+    protected void addCachedGetterBody(TypeSpec.Builder builder, MethodSpec.Builder getter, TypeName valueType,
+                                       String hasMethodName, String extractMethodName, ProcessingContext ctx) {
+        ExtractMethodGenerator.addCachedGetterBody(builder, getter, valueType, ctx, hasMethodName, extractMethodName);
+    }
+
     /**
      * Add has method implementation to abstract class.
      *
@@ -1,5 +1,6 @@
 package io.alnovis.protowrapper.generator.conflict;
 
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
@@ -7,6 +8,8 @@ import io.alnovis.protowrapper.model.FieldInfo;
 import io.alnovis.protowrapper.model.MergedField;
 import io.alnovis.protowrapper.model.VersionFieldSnapshot;
 
+import javax.lang.model.element.Modifier;
+
 /**
  * Generates extract, has, and getter methods for conflict handlers.
  *
@@ -131,6 +134,14 @@ public final class ExtractMethodGenerator {
                                               TypeName returnType, ProcessingContext ctx) {
         MethodSpec.Builder getter = MethodSpecFactory.publicFinalGetter(field, returnType);
 
+        if (shouldCacheWrapper(field, ctx)) {
+            addCachedGetterBody(builder, getter, returnType, ctx,
+                    field.needsHasCheck() ? field.getExtractHasMethodName() : null,
+                    field.getExtractMethodName());
+            builder.addMethod(getter.build());
+            return;
+        }
+
         if (field.needsHasCheck()) {
             getter.addStatement("return $L(proto) ? $L(proto) : null",
                     field.getExtractHasMethodName(), field.getExtractMethodName());
@@ -141,6 +152,75 @@ public final class ExtractMethodGenerator {
         builder.addMethod(getter.build());
     }
 
+    /**
+     * Check if the getter of a field should cache its child wrapper.
+     *
+     * <p>Only singular message fields without type conflicts are cached, and only
+     * when {@link io.alnovis.protowrapper.generator.GeneratorConfig#isCacheMessageWrappers()}
+     * is enabled.</p>
+     *
+     * @param field the merged field definition
+     * @param ctx the processing context
+     * @return true if the getter should cache the wrapper
+     * @since 2.4.0
+     */
+    public static boolean shouldCacheWrapper(MergedField field, ProcessingContext ctx) {
+        return ctx.cacheMessageWrappers()
+                && field.isMessage() && !field.isRepeated() && !field.isMap()
+                && !field.isWellKnownType() && !field.hasTypeConflict();
+    }
+
+    /**
+     * Add a lazily initialized cache field and the matching getter body.
+     *
+     * <p>Used for child message wrappers and for values converted from the proto
+     * representation. The cache field is named after the extract method.</p>
+     *
+     * <p>Generated pattern (racy single-check):</p>
+     * <pre>{@code
+     * private Address cachedAddress;
+     *
+     * public final Address getAddress() {
+     *     Address result = cachedAddress;
+     *     if (result == null && extractHasAddress(proto)) {
+     *         result = extractAddress(proto);
+     *         cachedAddress = result;
+     *     }
+     *     return result;
+     * }
+     * }</pre>
+     *
+     * <p>Concurrent first calls may each compute the value; all of them derive it
+     * from the same immutable proto, and the cached objects (wrappers with a final
+     * proto field, Strings) are immutable, so any instance observed through the race
+     * is fully initialized.</p>
+     *
+     * @param builder the TypeSpec builder to add the cache field to
+     * @param getter the getter method builder to add the body to
+     * @param returnType the cached value type
+     * @param ctx the processing context
+     * @param hasMethodName the extractHas method to check first, or null
+     * @param extractMethodName the extract method computing the value
+     * @since 2.4.0
+     */
+    public static void addCachedGetterBody(TypeSpec.Builder builder, MethodSpec.Builder getter,
+                                           TypeName returnType, ProcessingContext ctx,
+                                           String hasMethodName, String extractMethodName) {
+        String cacheName = "cached" + ctx.capitalize(extractMethodName.substring("extract".length()));
+        builder.addField(FieldSpec.builder(returnType, cacheName, Modifier.PRIVATE).build());
+
+        getter.addStatement("$T result = $L", returnType, cacheName);
+        if (hasMethodName != null) {
+            getter.beginControlFlow("if (result == null && $L(proto))", hasMethodName);
+        } else {
+            getter.beginControlFlow("if (result == null)");
+        }
+        getter.addStatement("result = $L(proto)", extractMethodName)
+                .addStatement("$L = result", cacheName)
+                .endControlFlow()
+                .addStatement("return result");
+    }
+
     /**
      * Add has method implementation to abstract class.
      * This generates public hasXxx() that delegates to extractHasXxx().
@@ -190,7 +190,11 @@ public final class PrimitiveMessageHandler extends AbstractConflictHandler imple
                     .addJavadoc("Get the field as a message wrapper.\n")
                     .addJavadoc("@return Message wrapper, or null if this version has primitive type\n");
 
-            messageGetter.addStatement("return $L(proto)", messageExtractMethodName);
+            if (ctx.cacheMessageWrappers()) {
+                addCachedGetterBody(builder, messageGetter, messageType, null, messageExtractMethodName, ctx);
+            } else {
+                messageGetter.addStatement("return $L(proto)", messageExtractMethodName);
+            }
             builder.addMethod(messageGetter.build());
         }
     }
@@ -236,6 +236,36 @@ public record ProcessingContext(
         return getContractFor(field).unified().getterUsesHasCheck();
     }
 
+    /**
+     * Check if getters should cache child message wrappers.
+     *
+     * @return true if message wrapper caching is enabled in the configuration
+     * @since 2.4.0
+     */
+    public boolean cacheMessageWrappers() {
+        return config != null && config.isCacheMessageWrappers();
+    }
+
+    /**
+     * Check if getters should cache values converted from the proto representation.
+     *
+     * @return true if converted value caching is enabled in the configuration
+     * @since 2.4.0
+     */
+    public boolean cacheConvertedValues() {
+        return config != null && config.isCacheConvertedValues();
+    }
+
+    /**
+     * Check if Struct, Value and ListValue getters should return lazy read-only views.
+     *
+     * @return true if struct views are enabled in the configuration
+     * @since 2.4.0
+     */
+    public boolean lazyStructViews() {
+        return config != null && config.isLazyStructViews();
+    }
+
     // ==================== Version Field Snapshot Support ====================
 
     /**
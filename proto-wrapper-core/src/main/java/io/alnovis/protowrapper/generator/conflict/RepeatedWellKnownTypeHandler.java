@@ -42,8 +42,12 @@ import static io.alnovis.protowrapper.generator.conflict.CodeGenerationHelper.*;
  * </pre>
  *
  * <h2>Performance Note</h2>
- * <p>Each getter call creates a new list via stream operations. For performance-critical
- * code accessing the same field multiple times, cache the result in a local variable.</p>
+ * <p>Each getter call creates a new list via stream operations. With
+ * {@code cacheConvertedValues}, lists of immutable values (see
+ * {@link WellKnownTypeInfo#hasImmutableJavaValue()}) are converted once per wrapper
+ * instance and returned as unmodifiable lists. With {@code lazyStructViews}, Struct,
+ * Value, and ListValue elements are lazy read-only {@code StructConverter} views, and
+ * such lists are cached as well.</p>
  *
  * @since 1.3.0
  * @see WellKnownTypeInfo
@@ -93,7 +97,12 @@ public final class RepeatedWellKnownTypeHandler extends AbstractConflictHandler
         String versionJavaName = getVersionSpecificJavaName(field, ctx);
 
         // Generate stream-based conversion with FQN for StructConverter
-        String streamConversion = generateStreamConversion(wkt, versionJavaName, ctx.apiPackage());
+        String streamConversion = generateStreamConversion(wkt, versionJavaName, ctx.apiPackage(),
+                ctx.lazyStructViews());
+        if (isCached(wkt, ctx)) {
+            // Cached lists are shared between callers
+            streamConversion = "java.util.Collections.unmodifiableList(" + streamConversion + ")";
+        }
 
         builder.addMethod(MethodSpec.methodBuilder(field.getExtractMethodName())
                 .addAnnotation(Override.class)
@@ -109,13 +118,21 @@ public final class RepeatedWellKnownTypeHandler extends AbstractConflictHandler
         WellKnownTypeInfo wkt = field.getWellKnownType();
 
         // Add standard getter (returns List<T>)
-        MethodSpec getter = MethodSpec.methodBuilder(field.getGetterName())
+        MethodSpec.Builder getter = MethodSpec.methodBuilder(field.getGetterName())
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .returns(wkt.getListJavaTypeName())
-                .addStatement("return $L(proto)", field.getExtractMethodName())
-                .build();
-        builder.addMethod(getter);
+                .returns(wkt.getListJavaTypeName());
+        if (isCached(wkt, ctx)) {
+            addCachedGetterBody(builder, getter, wkt.getListJavaTypeName(), null, field.getExtractMethodName(), ctx);
+        } else {
+            getter.addStatement("return $L(proto)", field.getExtractMethodName());
+        }
+        builder.addMethod(getter.build());
+    }
+
+    private static boolean isCached(WellKnownTypeInfo wkt, ProcessingContext ctx) {
+        return ctx.cacheConvertedValues()
+                && (ctx.lazyStructViews() ? wkt.hasShareableJavaView() : wkt.hasImmutableJavaValue());
     }
 
     @Override
@@ -182,7 +199,8 @@ public final class RepeatedWellKnownTypeHandler extends AbstractConflictHandler
         addRepeatedConcreteBuilderMethods(builder, field, wkt.getJavaTypeName(), wkt.getListJavaTypeName(), builderReturnType, ctx);
     }
 
-    private String generateStreamConversion(WellKnownTypeInfo wkt, String versionJavaName, String apiPackage) {
+    private String generateStreamConversion(WellKnownTypeInfo wkt, String versionJavaName, String apiPackage,
+                                            boolean structViews) {
         // Generate stream conversion code based on WKT type
         String structConverterFQN = apiPackage != null ? apiPackage + ".StructConverter" : "StructConverter";
         return switch (wkt) {
@@ -204,15 +222,10 @@ public final class RepeatedWellKnownTypeHandler extends AbstractConflictHandler
             case FIELD_MASK -> String.format(
                     "proto.get%sList().stream().map(fm -> fm.getPathsList()).collect(java.util.stream.Collectors.toList())",
                     versionJavaName);
-            case STRUCT -> String.format(
-                    "proto.get%sList().stream().map(%s::toMap).collect(java.util.stream.Collectors.toList())",
-                    versionJavaName, structConverterFQN);
-            case VALUE -> String.format(
-                    "proto.get%sList().stream().map(%s::toObject).collect(java.util.stream.Collectors.toList())",
-                    versionJavaName, structConverterFQN);
-            case LIST_VALUE -> String.format(
-                    "proto.get%sList().stream().map(%s::toList).collect(java.util.stream.Collectors.toList())",
-                    versionJavaName, structConverterFQN);
+            case STRUCT, VALUE, LIST_VALUE -> String.format(
+                    "proto.get%sList().stream().map(%s::%s).collect(java.util.stream.Collectors.toList())",
+                    versionJavaName, structConverterFQN,
+                    structViews ? wkt.getViewMethod() : wkt.getConverterMethod());
         };
     }
 
@@ -26,20 +26,27 @@ import static io.alnovis.protowrapper.generator.conflict.CodeGenerationHelper.ge
  * <p>The handler generates dual accessor methods with UTF-8 conversion:</p>
  * <ul>
  *   <li>{@code getContent()} - returns String (primary accessor)</li>
- *   <li>{@code getContentBytes()} - returns byte[] (binary accessor)</li>
+ *   <li>{@code getContentBytes()} - returns byte[] (binary accessor, a copy)</li>
+ *   <li>{@code getContentByteString()} - returns ByteString (binary accessor, no copy)</li>
  * </ul>
  *
  * <p>Conversion is handled transparently:</p>
  * <ul>
  *   <li>bytes to String: {@code ByteString.toString(StandardCharsets.UTF_8)}</li>
  *   <li>String to bytes: {@code String.getBytes(StandardCharsets.UTF_8)}</li>
+ *   <li>String to ByteString: {@code proto.getXxxBytes()}, cached by the proto message</li>
  * </ul>
  *
+ * <p>With {@code cacheConvertedValues} the String decoded from a bytes version is
+ * kept per wrapper instance, so repeated {@code getContent()} calls decode once.</p>
+ *
  * <h2>Generated Code</h2>
  * <ul>
  *   <li><b>Interface:</b> {@code String getContent()}, {@code byte[] getContentBytes()},
+ *       {@code ByteString getContentByteString()},
  *       {@code Builder.setContent(String)}, {@code Builder.setContentBytes(byte[])}</li>
- *   <li><b>Abstract:</b> {@code extractContent(proto)}, {@code extractContentBytes(proto)}</li>
+ *   <li><b>Abstract:</b> {@code extractContent(proto)}, {@code extractContentBytes(proto)},
+ *       {@code extractContentByteString(proto)}</li>
  *   <li><b>Impl:</b> Version-specific extraction with UTF-8 conversion</li>
  * </ul>
  *
@@ -59,6 +66,8 @@ import static io.alnovis.protowrapper.generator.conflict.CodeGenerationHelper.ge
  */
 public final class StringBytesHandler extends AbstractConflictHandler implements ConflictHandler {
 
+    private static final ClassName BYTE_STRING = ClassName.get("com.google.protobuf", "ByteString");
+
     /** Singleton instance. */
     public static final StringBytesHandler INSTANCE = new StringBytesHandler();
 
@@ -92,6 +101,13 @@ public final class StringBytesHandler extends AbstractConflictHandler implements
                 .returns(ArrayTypeName.of(TypeName.BYTE))
                 .addParameter(ctx.protoType(), "proto")
                 .build());
+
+        // Add ByteString extract method
+        builder.addMethod(MethodSpec.methodBuilder(field.getExtractByteStringMethodName())
+                .addModifiers(Modifier.PROTECTED, Modifier.ABSTRACT)
+                .returns(BYTE_STRING)
+                .addParameter(ctx.protoType(), "proto")
+                .build());
     }
 
     @Override
@@ -141,12 +157,34 @@ public final class StringBytesHandler extends AbstractConflictHandler implements
                     versionJavaName, StandardCharsets.class);
         }
         builder.addMethod(extractBytes.build());
+
+        // Extract ByteString value (no copy; protoc caches the UTF-8 encoding of string fields)
+        MethodSpec.Builder extractByteString = MethodSpec.methodBuilder(field.getExtractByteStringMethodName())
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(BYTE_STRING)
+                .addParameter(ctx.protoClassName(), "proto");
+
+        if (versionIsBytes) {
+            extractByteString.addStatement("return proto.get$L()", versionJavaName);
+        } else {
+            extractByteString.addStatement("return proto.get$LBytes()", versionJavaName);
+        }
+        builder.addMethod(extractByteString.build());
     }
 
     @Override
     public void addGetterImplementation(TypeSpec.Builder builder, MergedField field, ProcessingContext ctx) {
-        // Add standard getter (returns String)
-        addStandardGetterImpl(builder, field, ClassName.get(String.class), ctx);
+        // Add standard getter (returns String), decoding at most once per wrapper if enabled
+        if (ctx.cacheConvertedValues()) {
+            MethodSpec.Builder getter = MethodSpecFactory.publicFinalGetter(field, ClassName.get(String.class));
+            addCachedGetterBody(builder, getter, ClassName.get(String.class),
+                    field.needsHasCheck() ? field.getExtractHasMethodName() : null,
+                    field.getExtractMethodName(), ctx);
+            builder.addMethod(getter.build());
+        } else {
+            addStandardGetterImpl(builder, field, ClassName.get(String.class), ctx);
+        }
 
         // Add has method for optional fields
         addHasMethodToAbstract(builder, field, ctx);
@@ -170,6 +208,25 @@ public final class StringBytesHandler extends AbstractConflictHandler implements
         }
 
         builder.addMethod(bytesGetter.build());
+
+        // Add ByteString getter
+        String byteStringExtractMethodName = field.getExtractByteStringMethodName();
+        MethodSpec.Builder byteStringGetter = MethodSpec.methodBuilder(
+                        "get" + ctx.capitalize(field.getJavaName()) + "ByteString")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .returns(BYTE_STRING)
+                .addJavadoc("Get the field value as a ByteString without copying.\n")
+                .addJavadoc("@return ByteString value\n");
+
+        if (field.needsHasCheck()) {
+            byteStringGetter.addStatement("return $L(proto) ? $L(proto) : null",
+                    field.getExtractHasMethodName(), byteStringExtractMethodName);
+        } else {
+            byteStringGetter.addStatement("return $L(proto)", byteStringExtractMethodName);
+        }
+
+        builder.addMethod(byteStringGetter.build());
     }
 
     @Override
@@ -200,7 +257,7 @@ public final class StringBytesHandler extends AbstractConflictHandler implements
                 presentInVersion, m -> {
                     if (versionIsBytes) {
                         m.addStatement("protoBuilder.set$L($T.copyFromUtf8($L))",
-                                versionJavaName, ClassName.get("com.google.protobuf", "ByteString"), field.getJavaName());
+                                versionJavaName, BYTE_STRING, field.getJavaName());
                     } else {
                         m.addStatement("protoBuilder.set$L($L)", versionJavaName, field.getJavaName());
                     }
@@ -211,7 +268,7 @@ public final class StringBytesHandler extends AbstractConflictHandler implements
                 presentInVersion, m -> {
                     if (versionIsBytes) {
                         m.addStatement("protoBuilder.set$L($T.copyFrom($L))",
-                                versionJavaName, ClassName.get("com.google.protobuf", "ByteString"), field.getJavaName());
+                                versionJavaName, BYTE_STRING, field.getJavaName());
                     } else {
                         m.addStatement("protoBuilder.set$L(new $T($L, $T.UTF_8))",
                                 versionJavaName, String.class, field.getJavaName(), StandardCharsets.class);
@@ -260,5 +317,14 @@ public final class StringBytesHandler extends AbstractConflictHandler implements
                 .addJavadoc("Field not present in this version.\n")
                 .addStatement("return null")
                 .build());
+
+        builder.addMethod(MethodSpec.methodBuilder(field.getExtractByteStringMethodName())
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(BYTE_STRING)
+                .addParameter(ctx.protoClassName(), "proto")
+                .addJavadoc("Field not present in this version.\n")
+                .addStatement("return null")
+                .build());
     }
 }
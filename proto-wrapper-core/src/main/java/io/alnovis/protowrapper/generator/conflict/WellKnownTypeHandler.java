@@ -48,6 +48,12 @@ import static io.alnovis.protowrapper.generator.conflict.CodeGenerationHelper.*;
  *     : null
  * </pre>
  *
+ * <p>With {@code cacheConvertedValues}, getters of types with immutable Java values
+ * (see {@link WellKnownTypeInfo#hasImmutableJavaValue()}) convert once per wrapper
+ * instance and return the cached value afterwards. With {@code lazyStructViews}, Struct,
+ * Value, and ListValue are returned as lazy read-only {@code StructConverter} views, which
+ * {@code cacheConvertedValues} then caches as well.</p>
+ *
  * @since 1.3.0
  * @see WellKnownTypeInfo
  * @see ConflictHandler
@@ -105,7 +111,9 @@ public final class WellKnownTypeHandler extends AbstractConflictHandler implemen
         // Add extraction method with inline conversion
         String protoGetter = "proto.get" + versionJavaName + "()";
         String hasCheck = "proto.has" + versionJavaName + "()";
-        String extractionCode = wkt.getExtractionCode(protoGetter, hasCheck, ctx.apiPackage());
+        String extractionCode = ctx.lazyStructViews()
+                ? wkt.getViewExtractionCode(protoGetter, hasCheck, ctx.apiPackage())
+                : wkt.getExtractionCode(protoGetter, hasCheck, ctx.apiPackage());
 
         builder.addMethod(MethodSpec.methodBuilder(field.getExtractMethodName())
                 .addAnnotation(Override.class)
@@ -127,8 +135,13 @@ public final class WellKnownTypeHandler extends AbstractConflictHandler implemen
         MethodSpec.Builder getter = MethodSpec.methodBuilder(field.getGetterName())
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .returns(javaType)
-                .addStatement("return $L(proto)", field.getExtractMethodName());
+                .returns(javaType);
+        if (ctx.cacheConvertedValues()
+                && (ctx.lazyStructViews() ? wkt.hasShareableJavaView() : wkt.hasImmutableJavaValue())) {
+            addCachedGetterBody(builder, getter, javaType, null, field.getExtractMethodName(), ctx);
+        } else {
+            getter.addStatement("return $L(proto)", field.getExtractMethodName());
+        }
         builder.addMethod(getter.build());
 
         // Add has method for optional fields
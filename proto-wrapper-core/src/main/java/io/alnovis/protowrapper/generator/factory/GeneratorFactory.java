@@ -110,6 +110,19 @@ public interface GeneratorFactory {
      */
     ProtocolVersionsGenerator createProtocolVersionsGenerator(GeneratorConfig config, List<String> versions);
 
+    /**
+     * Create a VersionContextRegistry generator.
+     *
+     * @param config generator configuration
+     * @param versions list of version identifiers
+     * @return VersionContextRegistry generator instance
+     * @since 2.4.0
+     */
+    default VersionContextRegistryGenerator createVersionContextRegistryGenerator(GeneratorConfig config,
+                                                                                  List<String> versions) {
+        return new VersionContextRegistryGenerator(config, versions);
+    }
+
     /**
      * Generate StructConverter utility class if needed.
      *
@@ -21,6 +21,19 @@ import java.util.stream.Collectors;
  *   <li>{@code toListValue(List)} - converts List&lt;Object&gt; to ListValue</li>
  * </ul>
  *
+ * <p>The {@code toXxx} methods copy the whole tree eagerly. The {@code asXxx} methods
+ * return lazy read-only views ({@code StructView}, {@code ListValueView}) over the proto
+ * instead:</p>
+ * <ul>
+ *   <li>{@code asMap(Struct)} - Map&lt;String, Object&gt; view of a Struct</li>
+ *   <li>{@code asObject(Value)} - Object of a Value; nested structs and lists as views</li>
+ *   <li>{@code asList(ListValue)} - List&lt;Object&gt; view of a ListValue</li>
+ * </ul>
+ * <p>A view converts the values of its own level on first access and caches them;
+ * nested structs and lists become views themselves and are not converted until they
+ * are read. {@code toStruct}/{@code toListValue} return the underlying proto of a view
+ * without copying.</p>
+ *
  * @since 1.3.0
  */
 public final class StructConverterGenerator {
@@ -30,6 +43,15 @@ public final class StructConverterGenerator {
     private static final ClassName LIST_VALUE = ClassName.get("com.google.protobuf", "ListValue");
     private static final ClassName NULL_VALUE = ClassName.get("com.google.protobuf", "NullValue");
 
+    private static final String CONVERTER_NAME = "StructConverter";
+    private static final String STRUCT_VIEW_NAME = "StructView";
+    private static final String LIST_VALUE_VIEW_NAME = "ListValueView";
+
+    private static final ParameterizedTypeName OBJECT_MAP = ParameterizedTypeName.get(
+            ClassName.get(Map.class), ClassName.get(String.class), ClassName.get(Object.class));
+    private static final ParameterizedTypeName OBJECT_LIST = ParameterizedTypeName.get(
+            ClassName.get(List.class), ClassName.get(Object.class));
+
     private StructConverterGenerator() {
     }
 
@@ -40,7 +62,10 @@ public final class StructConverterGenerator {
      * @return JavaFile containing the StructConverter class
      */
     public static JavaFile generate(String packageName) {
-        TypeSpec structConverter = TypeSpec.classBuilder("StructConverter")
+        ClassName structView = ClassName.get(packageName, CONVERTER_NAME, STRUCT_VIEW_NAME);
+        ClassName listValueView = ClassName.get(packageName, CONVERTER_NAME, LIST_VALUE_VIEW_NAME);
+
+        TypeSpec structConverter = TypeSpec.classBuilder(CONVERTER_NAME)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addJavadoc("Utility class for converting between protobuf Struct/Value/ListValue and Java types.\n")
                 .addJavadoc("\n<p>Generated by proto-wrapper-plugin.</p>\n")
@@ -51,6 +76,12 @@ public final class StructConverterGenerator {
                 .addMethod(toValueMethod())
                 .addMethod(toListMethod())
                 .addMethod(toListValueMethod())
+                .addMethod(asMapMethod(structView))
+                .addMethod(asObjectMethod(structView, listValueView))
+                .addMethod(asListMethod(listValueView))
+                .addMethod(isNestedMethod())
+                .addType(structViewType())
+                .addType(listValueViewType())
                 .build();
 
         return JavaFile.builder(packageName, structConverter)
@@ -108,6 +139,9 @@ public final class StructConverterGenerator {
                 .addJavadoc("@return Struct representation of the Map\n")
                 .addParameter(paramType, "map")
                 .returns(STRUCT)
+                .beginControlFlow("if (map instanceof $L view)", STRUCT_VIEW_NAME)
+                .addStatement("return view.getStruct()")
+                .endControlFlow()
                 .beginControlFlow("if (map == null || map.isEmpty())")
                 .addStatement("return $T.getDefaultInstance()", STRUCT)
                 .endControlFlow()
@@ -222,6 +256,9 @@ public final class StructConverterGenerator {
                 .addJavadoc("@return ListValue representation of the List\n")
                 .addParameter(paramType, "list")
                 .returns(LIST_VALUE)
+                .beginControlFlow("if (list instanceof $L view)", LIST_VALUE_VIEW_NAME)
+                .addStatement("return view.getListValue()")
+                .endControlFlow()
                 .beginControlFlow("if (list == null || list.isEmpty())")
                 .addStatement("return $T.getDefaultInstance()", LIST_VALUE)
                 .endControlFlow()
@@ -232,4 +269,224 @@ public final class StructConverterGenerator {
                 .addStatement("return builder.build()")
                 .build();
     }
+
+    /**
+     * Struct -> lazy Map<String, Object> view
+     */
+    private static MethodSpec asMapMethod(ClassName structView) {
+        return MethodSpec.methodBuilder("asMap")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addJavadoc("View protobuf Struct as a read-only Java Map without copying.\n")
+                .addJavadoc("\n<p>Values are converted on first access and cached by the view;\n")
+                .addJavadoc("nested structs and lists are views as well.</p>\n")
+                .addJavadoc("\n@param struct the protobuf Struct\n")
+                .addJavadoc("@return read-only Map view of the Struct\n")
+                .addParameter(STRUCT, "struct")
+                .returns(OBJECT_MAP)
+                .beginControlFlow("if (struct == null)")
+                .addStatement("return $T.emptyMap()", java.util.Collections.class)
+                .endControlFlow()
+                .addStatement("return new $T(struct)", structView)
+                .build();
+    }
+
+    /**
+     * Value -> Object, nested Struct/ListValue as views
+     */
+    private static MethodSpec asObjectMethod(ClassName structView, ClassName listValueView) {
+        return MethodSpec.methodBuilder("asObject")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addJavadoc("Convert protobuf Value to Java Object, viewing nested structs and lists.\n")
+                .addJavadoc("\n@param value the protobuf Value\n")
+                .addJavadoc("@return null, Double, String, Boolean, or a read-only Map or List view\n")
+                .addParameter(VALUE, "value")
+                .returns(Object.class)
+                .beginControlFlow("if (value == null)")
+                .addStatement("return null")
+                .endControlFlow()
+                .beginControlFlow("return switch (value.getKindCase())")
+                .addStatement("case NULL_VALUE -> null")
+                .addStatement("case NUMBER_VALUE -> value.getNumberValue()")
+                .addStatement("case STRING_VALUE -> value.getStringValue()")
+                .addStatement("case BOOL_VALUE -> value.getBoolValue()")
+                .addStatement("case STRUCT_VALUE -> new $T(value.getStructValue())", structView)
+                .addStatement("case LIST_VALUE -> new $T(value.getListValue())", listValueView)
+                .addStatement("case KIND_NOT_SET -> null")
+                .endControlFlow("")
+                .build();
+    }
+
+    /**
+     * ListValue -> lazy List<Object> view
+     */
+    private static MethodSpec asListMethod(ClassName listValueView) {
+        return MethodSpec.methodBuilder("asList")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addJavadoc("View protobuf ListValue as a read-only Java List without copying.\n")
+                .addJavadoc("\n<p>Nested structs and lists are created on first access and cached by the view.</p>\n")
+                .addJavadoc("\n@param listValue the protobuf ListValue\n")
+                .addJavadoc("@return read-only List view of the ListValue\n")
+                .addParameter(LIST_VALUE, "listValue")
+                .returns(OBJECT_LIST)
+                .beginControlFlow("if (listValue == null)")
+                .addStatement("return $T.emptyList()", java.util.Collections.class)
+                .endControlFlow()
+                .addStatement("return new $T(listValue)", listValueView)
+                .build();
+    }
+
+    private static MethodSpec isNestedMethod() {
+        return MethodSpec.methodBuilder("isNested")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(VALUE, "value")
+                .returns(TypeName.BOOLEAN)
+                .addStatement("$T.KindCase kind = value.getKindCase()", VALUE)
+                .addStatement("return kind == $T.KindCase.STRUCT_VALUE || kind == $T.KindCase.LIST_VALUE", VALUE, VALUE)
+                .build();
+    }
+
+    /**
+     * Read-only Map view over a Struct.
+     *
+     * <p>Scalar values are converted directly on {@code get}; the converted entries of
+     * the level (with nested views) are built once on first iteration or nested access
+     * and published with racy single-check, which is safe because the cached map is
+     * unmodifiable and held through a final field of its wrapper.</p>
+     */
+    private static TypeSpec structViewType() {
+        ParameterizedTypeName valueMap = ParameterizedTypeName.get(
+                ClassName.get(Map.class), ClassName.get(String.class), VALUE);
+        ParameterizedTypeName entrySet = ParameterizedTypeName.get(ClassName.get(java.util.Set.class),
+                ParameterizedTypeName.get(ClassName.get(Map.Entry.class),
+                        ClassName.get(String.class), ClassName.get(Object.class)));
+
+        return TypeSpec.classBuilder(STRUCT_VIEW_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .superclass(ParameterizedTypeName.get(ClassName.get(java.util.AbstractMap.class),
+                        ClassName.get(String.class), ClassName.get(Object.class)))
+                .addJavadoc("Lazy read-only {@code Map} view of a protobuf Struct.\n")
+                .addJavadoc("\n<p>Values of this level are converted on first access and cached;\n")
+                .addJavadoc("nested structs and lists are views themselves.</p>\n")
+                .addField(STRUCT, "struct", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(valueMap, "fields", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(OBJECT_MAP, "entries", Modifier.PRIVATE)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addParameter(STRUCT, "struct")
+                        .addStatement("this.struct = struct")
+                        .addStatement("this.fields = struct.getFieldsMap()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getStruct")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addJavadoc("@return the underlying protobuf Struct\n")
+                        .returns(STRUCT)
+                        .addStatement("return struct")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("size")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(TypeName.INT)
+                        .addStatement("return fields.size()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("isEmpty")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(TypeName.BOOLEAN)
+                        .addStatement("return fields.isEmpty()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("containsKey")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(Object.class, "key")
+                        .returns(TypeName.BOOLEAN)
+                        .addStatement("return fields.containsKey(key)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("get")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(Object.class, "key")
+                        .returns(Object.class)
+                        .addStatement("$T value = fields.get(key)", VALUE)
+                        .beginControlFlow("if (value == null)")
+                        .addStatement("return null")
+                        .endControlFlow()
+                        .addStatement("return isNested(value) ? entries().get(key) : asObject(value)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("entrySet")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(entrySet)
+                        .addStatement("return entries().entrySet()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("entries")
+                        .addModifiers(Modifier.PRIVATE)
+                        .returns(OBJECT_MAP)
+                        .addStatement("$T result = entries", OBJECT_MAP)
+                        .beginControlFlow("if (result == null)")
+                        .addStatement("$T converted = new $T<>(fields.size() * 4 / 3 + 1)",
+                                OBJECT_MAP, java.util.LinkedHashMap.class)
+                        .beginControlFlow("for ($T.Entry<String, $T> entry : fields.entrySet())", Map.class, VALUE)
+                        .addStatement("converted.put(entry.getKey(), asObject(entry.getValue()))")
+                        .endControlFlow()
+                        .addStatement("result = $T.unmodifiableMap(converted)", java.util.Collections.class)
+                        .addStatement("entries = result")
+                        .endControlFlow()
+                        .addStatement("return result")
+                        .build())
+                .build();
+    }
+
+    /**
+     * Read-only List view over a ListValue.
+     *
+     * <p>Scalars are converted on each {@code get}; nested views are cached per index.
+     * Views only have final fields, so an element read through the race is complete.</p>
+     */
+    private static TypeSpec listValueViewType() {
+        return TypeSpec.classBuilder(LIST_VALUE_VIEW_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .superclass(ParameterizedTypeName.get(ClassName.get(java.util.AbstractList.class),
+                        ClassName.get(Object.class)))
+                .addSuperinterface(java.util.RandomAccess.class)
+                .addJavadoc("Lazy read-only {@code List} view of a protobuf ListValue.\n")
+                .addJavadoc("\n<p>Nested structs and lists are created on first access and cached per index.</p>\n")
+                .addField(LIST_VALUE, "listValue", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(ParameterizedTypeName.get(ClassName.get(List.class), VALUE), "values",
+                        Modifier.PRIVATE, Modifier.FINAL)
+                .addField(ArrayTypeName.of(Object.class), "nested", Modifier.PRIVATE, Modifier.FINAL)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addParameter(LIST_VALUE, "listValue")
+                        .addStatement("this.listValue = listValue")
+                        .addStatement("this.values = listValue.getValuesList()")
+                        .addStatement("this.nested = new Object[values.size()]")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getListValue")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addJavadoc("@return the underlying protobuf ListValue\n")
+                        .returns(LIST_VALUE)
+                        .addStatement("return listValue")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("size")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(TypeName.INT)
+                        .addStatement("return values.size()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("get")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(TypeName.INT, "index")
+                        .returns(Object.class)
+                        .addStatement("$T value = values.get(index)", VALUE)
+                        .beginControlFlow("if (!isNested(value))")
+                        .addStatement("return asObject(value)")
+                        .endControlFlow()
+                        .addStatement("Object result = nested[index]")
+                        .beginControlFlow("if (result == null)")
+                        .addStatement("result = asObject(value)")
+                        .addStatement("nested[index] = result")
+                        .endControlFlow()
+                        .addStatement("return result")
+                        .build())
+                .build();
+    }
 }
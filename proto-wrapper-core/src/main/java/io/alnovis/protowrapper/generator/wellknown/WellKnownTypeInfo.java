@@ -310,11 +310,13 @@ public enum WellKnownTypeInfo {
                     ClassName.get(String.class),
                     ClassName.get(Object.class)
             ),
-            "java.util.Collections.emptyMap()"
+            "java.util.Collections.emptyMap()",
+            "toMap",
+            "asMap"
     ) {
         @Override
         public String getExtractionCode(String protoGetter, String hasCheck) {
-            return String.format("%s ? StructConverter.toMap(%s) : java.util.Collections.emptyMap()", hasCheck, protoGetter);
+            return getStructConverterCode(getConverterMethod(), protoGetter, hasCheck);
         }
 
         @Override
@@ -347,11 +349,13 @@ public enum WellKnownTypeInfo {
             ".google.protobuf.Value",
             "google.protobuf.Value",
             ClassName.get(Object.class),
-            "null"
+            "null",
+            "toObject",
+            "asObject"
     ) {
         @Override
         public String getExtractionCode(String protoGetter, String hasCheck) {
-            return String.format("%s ? StructConverter.toObject(%s) : null", hasCheck, protoGetter);
+            return getStructConverterCode(getConverterMethod(), protoGetter, hasCheck);
         }
 
         @Override
@@ -381,11 +385,13 @@ public enum WellKnownTypeInfo {
             ".google.protobuf.ListValue",
             "google.protobuf.ListValue",
             ParameterizedTypeName.get(ClassName.get(java.util.List.class), ClassName.get(Object.class)),
-            "java.util.Collections.emptyList()"
+            "java.util.Collections.emptyList()",
+            "toList",
+            "asList"
     ) {
         @Override
         public String getExtractionCode(String protoGetter, String hasCheck) {
-            return String.format("%s ? StructConverter.toList(%s) : java.util.Collections.emptyList()", hasCheck, protoGetter);
+            return getStructConverterCode(getConverterMethod(), protoGetter, hasCheck);
         }
 
         @Override
@@ -415,6 +421,8 @@ public enum WellKnownTypeInfo {
     private final TypeName javaTypeName;
     private final String defaultValue;
     private final String wrapperProtoClass; // Simple wrapper class name (e.g., "StringValue"), null for non-wrapper types
+    private final String converterMethod;   // StructConverter copying method (e.g., "toMap"), null for non-struct types
+    private final String viewMethod;        // StructConverter view method (e.g., "asMap"), null for non-struct types
 
     private static final Map<String, WellKnownTypeInfo> BY_PROTO_TYPE = new HashMap<>();
 
@@ -438,11 +446,28 @@ public enum WellKnownTypeInfo {
      */
     WellKnownTypeInfo(String protoTypeFull, String protoTypeShort,
                       TypeName javaTypeName, String defaultValue, String wrapperProtoClass) {
+        this(protoTypeFull, protoTypeShort, javaTypeName, defaultValue, wrapperProtoClass, null, null);
+    }
+
+    /**
+     * Constructor for struct types converted by StructConverter (STRUCT, VALUE, LIST_VALUE).
+     */
+    WellKnownTypeInfo(String protoTypeFull, String protoTypeShort,
+                      TypeName javaTypeName, String defaultValue,
+                      String converterMethod, String viewMethod) {
+        this(protoTypeFull, protoTypeShort, javaTypeName, defaultValue, null, converterMethod, viewMethod);
+    }
+
+    WellKnownTypeInfo(String protoTypeFull, String protoTypeShort,
+                      TypeName javaTypeName, String defaultValue, String wrapperProtoClass,
+                      String converterMethod, String viewMethod) {
         this.protoTypeFull = protoTypeFull;
         this.protoTypeShort = protoTypeShort;
         this.javaTypeName = javaTypeName;
         this.defaultValue = defaultValue;
         this.wrapperProtoClass = wrapperProtoClass;
+        this.converterMethod = converterMethod;
+        this.viewMethod = viewMethod;
     }
 
     /**
@@ -504,6 +529,26 @@ public enum WellKnownTypeInfo {
         return defaultValue;
     }
 
+    /**
+     * Get the StructConverter method that copies the proto value into a Java value.
+     *
+     * @return Method name, e.g., "toMap" for STRUCT, or null for non-struct types
+     * @since 2.4.0
+     */
+    public String getConverterMethod() {
+        return converterMethod;
+    }
+
+    /**
+     * Get the StructConverter method that wraps the proto value in a lazy read-only view.
+     *
+     * @return Method name, e.g., "asMap" for STRUCT, or null for non-struct types
+     * @since 2.4.0
+     */
+    public String getViewMethod() {
+        return viewMethod;
+    }
+
     /**
      * Generate extraction code that converts proto type to Java type.
      * <p>Default implementation for wrapper types using getValue() pattern.</p>
@@ -531,6 +576,38 @@ public enum WellKnownTypeInfo {
         return applyApiPackage(getExtractionCode(protoGetter, hasCheck), apiPackage);
     }
 
+    /**
+     * Generate extraction code that returns lazy read-only views for struct types.
+     *
+     * <p>Struct, Value, and ListValue use {@code StructConverter.asMap/asObject/asList}
+     * instead of the copying {@code toMap/toObject/toList}; all other types use
+     * {@link #getExtractionCode(String, String, String)}.</p>
+     *
+     * @param protoGetter Expression to get the proto value
+     * @param hasCheck    Expression to check if field has value
+     * @param apiPackage  API package containing StructConverter
+     * @return Code snippet for extraction with FQN StructConverter
+     * @since 2.4.0
+     */
+    public String getViewExtractionCode(String protoGetter, String hasCheck, String apiPackage) {
+        if (viewMethod == null) {
+            return getExtractionCode(protoGetter, hasCheck, apiPackage);
+        }
+        return applyApiPackage(getStructConverterCode(viewMethod, protoGetter, hasCheck), apiPackage);
+    }
+
+    /**
+     * Generate a StructConverter call guarded by the has-check, falling back to the default value.
+     *
+     * @param method      StructConverter method name, e.g., "toMap"
+     * @param protoGetter Expression to get the proto value
+     * @param hasCheck    Expression to check if field has value
+     * @return Code snippet for extraction
+     */
+    String getStructConverterCode(String method, String protoGetter, String hasCheck) {
+        return String.format("%s ? StructConverter.%s(%s) : %s", hasCheck, method, protoGetter, defaultValue);
+    }
+
     /**
      * Generate building code that converts Java type to proto type.
      * <p>Default implementation for wrapper types using XxxValue.of() pattern.</p>
@@ -656,6 +733,38 @@ public enum WellKnownTypeInfo {
         return this == STRUCT || this == VALUE || this == LIST_VALUE;
     }
 
+    /**
+     * Check if the converted Java value is immutable, so a getter may cache it
+     * and return the same instance to every caller.
+     *
+     * <p>{@code byte[]} (BytesValue) is mutable. Struct, Value and ListValue
+     * convert to mutable {@code Map}/{@code List} copies (but see
+     * {@link #hasShareableJavaView()}).</p>
+     *
+     * @return true if the Java value can be shared safely
+     * @since 2.4.0
+     */
+    public boolean hasImmutableJavaValue() {
+        return switch (this) {
+            case BYTES_VALUE, STRUCT, VALUE, LIST_VALUE -> false;
+            default -> true;
+        };
+    }
+
+    /**
+     * Check if a getter may cache the converted Java value when views are used
+     * for struct types (see {@link #getViewExtractionCode(String, String, String)}
+     * and {@code lazyStructViews}).
+     *
+     * <p>Only {@code byte[]} (BytesValue) stays mutable.</p>
+     *
+     * @return true if the Java value or its read-only view can be shared safely
+     * @since 2.4.0
+     */
+    public boolean hasShareableJavaView() {
+        return hasImmutableJavaValue() || isStructType();
+    }
+
     /**
      * Check if this type requires a utility class for conversion.
      * <p>Struct, Value, and ListValue require the StructConverter utility class.</p>
@@ -7,6 +7,8 @@ import io.alnovis.protowrapper.generator.TypeNormalizer;
 import io.alnovis.protowrapper.model.*;
 
 import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -79,6 +81,8 @@ public class VersionMerger {
                 .toList();
 
         MergedSchema merged = new MergedSchema(versions);
+        // Shared by all (parallel) message merges: one copy of each name and field definition
+        SymbolTable symbols = new SymbolTable();
 
         // Copy detected syntax for each version
         for (VersionSchema schema : schemas) {
@@ -90,10 +94,8 @@ public class VersionMerger {
                 .flatMap(schema -> schema.getMessageNames().stream())
                 .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        // Merge each message using stream with filter
-        allMessageNames.stream()
-                .map(name -> mergeMessage(name, schemas))
-                .filter(Objects::nonNull)
+        // Merge each message (in parallel when enabled, same order either way)
+        mergeEach(allMessageNames, (merger, name) -> merger.mergeMessage(name, schemas, symbols))
                 .forEach(merged::addMessage);
 
         // Collect and merge enums using stream
@@ -101,9 +103,7 @@ public class VersionMerger {
                 .flatMap(schema -> schema.getEnumNames().stream())
                 .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        allEnumNames.stream()
-                .map(name -> mergeEnum(name, schemas))
-                .filter(Objects::nonNull)
+        mergeEach(allEnumNames, (merger, name) -> merger.mergeEnum(name, schemas))
                 .forEach(merged::addEnum);
 
         // Detect equivalent enums (nested vs top-level)
@@ -112,6 +112,44 @@ public class VersionMerger {
         // Collect conflict enums for INT_ENUM type conflicts
         collectConflictEnums(merged, schemas);
 
+        merged.setMergeStats(MergeStats.of(merged, symbols));
+
+        // Precompute field views and lookup indexes for the generators
+        return merged.freeze();
+    }
+
+    /**
+     * Merge each name, sequentially or in parallel depending on {@link MergerConfig#isParallelMerge()}.
+     *
+     * <p>Each merge reads only the immutable version schemas. In parallel mode every name is
+     * merged by its own merger whose log output is buffered, then results are collected and logs
+     * replayed in name order, so both the schema and the log match the sequential merge.</p>
+     *
+     * @return non-null results in the iteration order of {@code names}
+     */
+    private <T> List<T> mergeEach(Collection<String> names, BiFunction<VersionMerger, String, T> mergeFunction) {
+        if (!config.isParallelMerge() || names.size() < 2) {
+            return names.stream()
+                    .map(name -> mergeFunction.apply(this, name))
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        List<BufferedMerge<T>> results = names.parallelStream()
+                .map(name -> {
+                    BufferedLogger buffer = new BufferedLogger();
+                    T value = mergeFunction.apply(new VersionMerger(config, buffer), name);
+                    return new BufferedMerge<>(value, buffer);
+                })
+                .toList();
+
+        List<T> merged = new ArrayList<>(results.size());
+        for (BufferedMerge<T> result : results) {
+            result.log().replayTo(logger);
+            if (result.value() != null) {
+                merged.add(result.value());
+            }
+        }
         return merged;
     }
 
@@ -119,22 +157,24 @@ public class VersionMerger {
      * Collect conflict enum information for all fields with INT_ENUM type conflicts.
      */
     private void collectConflictEnums(MergedSchema merged, List<VersionSchema> schemas) {
+        Map<String, VersionSchema> schemasByVersion = new HashMap<>();
+        schemas.forEach(schema -> schemasByVersion.put(schema.getVersion(), schema));
         merged.getMessages().forEach(message ->
-                collectConflictEnumsForMessage(message, schemas, merged));
+                collectConflictEnumsForMessage(message, schemasByVersion, merged));
     }
 
     /**
      * Collect conflict enums for a single message and its nested messages.
      */
     private void collectConflictEnumsForMessage(MergedMessage message,
-                                                  List<VersionSchema> schemas,
+                                                  Map<String, VersionSchema> schemasByVersion,
                                                   MergedSchema merged) {
         // Process fields with INT_ENUM conflict
         message.getFields().stream()
                 .filter(field -> field.getConflictType() == MergedField.ConflictType.INT_ENUM)
                 .forEach(field -> {
                     ConflictEnumInfo enumInfo = createConflictEnumInfo(
-                            message.getName(), field, schemas);
+                            message.getName(), field, schemasByVersion);
                     if (enumInfo != null) {
                         merged.addConflictEnum(enumInfo);
                         logger.info(String.format("Created conflict enum '%s' for %s.%s with %d values",
@@ -145,7 +185,7 @@ public class VersionMerger {
 
         // Recursively process nested messages
         message.getNestedMessages().forEach(nested ->
-                collectConflictEnumsForMessage(nested, schemas, merged));
+                collectConflictEnumsForMessage(nested, schemasByVersion, merged));
     }
 
     /**
@@ -153,7 +193,7 @@ public class VersionMerger {
      */
     private ConflictEnumInfo createConflictEnumInfo(String messageName,
                                                       MergedField field,
-                                                      List<VersionSchema> schemas) {
+                                                      Map<String, VersionSchema> schemasByVersion) {
         ConflictEnumInfo.Builder builder = ConflictEnumInfo.builder()
                 .messageName(messageName)
                 .fieldName(field.getName());
@@ -165,11 +205,11 @@ public class VersionMerger {
 
             if (fieldInfo.isEnum()) {
                 // Find the enum info for this field
-                EnumInfo enumInfo = findEnumForField(messageName, fieldInfo, version, schemas);
+                EnumInfo enumInfo = findEnumForField(messageName, fieldInfo, schemasByVersion.get(version));
                 if (enumInfo != null) {
                     builder.addValuesFrom(enumInfo);
                     // Store the proto enum FQN for this version
-                    String protoEnumFqn = getProtoEnumFqn(fieldInfo, version, schemas);
+                    String protoEnumFqn = getProtoEnumFqn(fieldInfo);
                     if (protoEnumFqn != null) {
                         builder.addVersionEnumType(version, protoEnumFqn);
                     }
@@ -188,30 +228,24 @@ public class VersionMerger {
     /**
      * Find the EnumInfo for a field that is of enum type.
      */
-    private EnumInfo findEnumForField(String messageName, FieldInfo field,
-                                       String version, List<VersionSchema> schemas) {
+    private EnumInfo findEnumForField(String messageName, FieldInfo field, VersionSchema schema) {
+        if (schema == null) {
+            return null;
+        }
         // The field's javaType contains the enum name (simple name or qualified)
         String enumTypeName = extractEnumName(field.getJavaType());
 
-        // First, try to find as a nested enum in the message
-        return schemas.stream()
-                .filter(schema -> schema.getVersion().equals(version))
-                .flatMap(schema -> schema.getMessage(messageName).stream())
-                .flatMap(msg -> msg.getNestedEnums().stream())
-                .filter(nestedEnum -> nestedEnum.getName().equals(enumTypeName))
-                .findFirst()
-                // If not found as nested enum, try to find as a top-level enum
-                .or(() -> schemas.stream()
-                        .filter(schema -> schema.getVersion().equals(version))
-                        .flatMap(schema -> schema.getEnum(enumTypeName).stream())
-                        .findFirst())
+        // First, try to find as a nested enum in the message,
+        // then as a top-level enum
+        return schema.getEnumByPath(messageName + "." + enumTypeName)
+                .or(() -> schema.getEnum(enumTypeName))
                 .orElse(null);
     }
 
     /**
      * Get the fully qualified proto enum name for a field.
      */
-    private String getProtoEnumFqn(FieldInfo field, String version, List<VersionSchema> schemas) {
+    private String getProtoEnumFqn(FieldInfo field) {
         // The field's typeName contains the proto path
         String typeName = field.getTypeName();
         if (typeName != null && !typeName.isEmpty()) {
@@ -293,85 +327,69 @@ public class VersionMerger {
      * Find the EnumInfo for a nested enum by searching through version schemas.
      */
     private EnumInfo findNestedEnumInfo(String messageName, String enumName, List<VersionSchema> schemas) {
+        String path = messageName + "." + enumName;
         return schemas.stream()
-                .map(schema -> schema.getMessage(messageName))
+                .map(schema -> schema.getEnumByPath(path))
                 .flatMap(Optional::stream)
-                .flatMap(msg -> msg.getNestedEnums().stream())
-                .filter(e -> e.getName().equals(enumName))
                 .findFirst()
                 .orElse(null);
     }
 
-    private MergedMessage mergeMessage(String messageName, List<VersionSchema> schemas) {
-        MergedMessage merged = new MergedMessage(messageName);
-
-        // Process schemas and collect data using streams
-        Map<Integer, List<FieldWithVersion>> fieldsByNumber = schemas.stream()
-                .flatMap(schema -> schema.getMessage(messageName).stream()
-                        .peek(msg -> {
-                            merged.addVersion(schema.getVersion());
-                            if (msg.getSourceFileName() != null) {
-                                merged.addSourceFile(schema.getVersion(), msg.getSourceFileName());
-                            }
-                        })
-                        .flatMap(msg -> msg.getFields().stream()
-                                .map(field -> new FieldWithVersion(field, schema.getVersion()))))
-                .collect(Collectors.groupingBy(
-                        fv -> fv.field().getNumber(),
-                        LinkedHashMap::new,
-                        Collectors.toList()
-                ));
-
-        // Collect nested message and enum names across all versions
-        Set<String> processedNestedMessages = schemas.stream()
-                .flatMap(schema -> schema.getMessage(messageName).stream())
-                .flatMap(msg -> msg.getNestedMessages().stream())
-                .map(MessageInfo::getName)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
-
-        Set<String> processedNestedEnums = schemas.stream()
-                .flatMap(schema -> schema.getMessage(messageName).stream())
-                .flatMap(msg -> msg.getNestedEnums().stream())
-                .map(EnumInfo::getName)
+    private MergedMessage mergeMessage(String messageName, List<VersionSchema> schemas, SymbolTable symbols) {
+        // Fetch each version's message once
+        Map<String, MessageInfo> versionMessages = new LinkedHashMap<>();
+        for (VersionSchema schema : schemas) {
+            schema.getMessage(messageName).ifPresent(msg -> versionMessages.put(schema.getVersion(), msg));
+        }
+        Set<String> allVersions = schemas.stream()
+                .map(VersionSchema::getVersion)
                 .collect(Collectors.toCollection(LinkedHashSet::new));
+        return mergeMessage(messageName, versionMessages, allVersions, symbols);
+    }
 
-        // Merge each unique nested message across all versions
-        processedNestedMessages.forEach(nestedName -> {
-            List<VersionSchema> nestedSchemas = schemas.stream()
-                    .flatMap(s -> s.getMessage(messageName).stream()
-                            .flatMap(parent -> parent.getNestedMessages().stream()
-                                    .filter(n -> n.getName().equals(nestedName))
-                                    .map(n -> {
-                                        VersionSchema nestedSchema = new VersionSchema(s.getVersion());
-                                        nestedSchema.addMessage(n);
-                                        return nestedSchema;
-                                    })))
-                    .toList();
-
-            if (!nestedSchemas.isEmpty()) {
-                Optional.ofNullable(mergeMessage(nestedName, nestedSchemas))
-                        .ifPresent(merged::addNestedMessage);
+    /**
+     * Merge one message from its per-version definitions.
+     *
+     * @param versionMessages version -> message definition, for versions where the message exists
+     * @param allVersions versions considered for oneof conflict detection
+     * @param symbols symbol table of the current merge
+     */
+    private MergedMessage mergeMessage(String messageName, Map<String, MessageInfo> versionMessages,
+                                       Set<String> allVersions, SymbolTable symbols) {
+        MergedMessage merged = new MergedMessage(symbols.intern(messageName));
+
+        // One pass over the version definitions: fields by number, nested types by name
+        Map<Integer, List<FieldWithVersion>> fieldsByNumber = new LinkedHashMap<>();
+        Map<String, Map<String, MessageInfo>> nestedMessagesByName = new LinkedHashMap<>();
+        Map<String, Map<String, EnumInfo>> nestedEnumsByName = new LinkedHashMap<>();
+        versionMessages.forEach((version, msg) -> {
+            merged.addVersion(version);
+            if (msg.getSourceFileName() != null) {
+                merged.addSourceFile(version, symbols.intern(msg.getSourceFileName()));
+            }
+            for (FieldInfo field : msg.getFields()) {
+                fieldsByNumber.computeIfAbsent(field.getNumber(), k -> new ArrayList<>())
+                        .add(new FieldWithVersion(symbols.share(field), version));
+            }
+            for (MessageInfo nested : msg.getNestedMessages()) {
+                nestedMessagesByName.computeIfAbsent(nested.getName(), k -> new LinkedHashMap<>())
+                        .put(version, nested);
+            }
+            for (EnumInfo nestedEnum : msg.getNestedEnums()) {
+                nestedEnumsByName.computeIfAbsent(nestedEnum.getName(), k -> new LinkedHashMap<>())
+                        .put(version, nestedEnum);
             }
         });
 
-        // Merge nested enums
-        processedNestedEnums.forEach(enumName -> {
-            List<VersionSchema> enumSchemas = schemas.stream()
-                    .flatMap(s -> s.getMessage(messageName).stream()
-                            .flatMap(parent -> parent.getNestedEnums().stream()
-                                    .filter(e -> e.getName().equals(enumName))
-                                    .map(e -> {
-                                        VersionSchema enumSchema = new VersionSchema(s.getVersion());
-                                        enumSchema.addEnum(e);
-                                        return enumSchema;
-                                    })))
-                    .toList();
+        // Merge each unique nested message across the versions where it exists
+        nestedMessagesByName.forEach((nestedName, versionNested) ->
+                Optional.ofNullable(mergeMessage(nestedName, versionNested, versionNested.keySet(), symbols))
+                        .ifPresent(merged::addNestedMessage));
 
-            if (!enumSchemas.isEmpty()) {
-                Optional.ofNullable(mergeEnum(enumName, enumSchemas))
-                        .ifPresent(merged::addNestedEnum);
-            }
-        });
+        // Merge nested enums
+        nestedEnumsByName.forEach((enumName, versionEnums) ->
+                Optional.ofNullable(mergeEnum(enumName, versionEnums))
+                        .ifPresent(merged::addNestedEnum));
 
         // Apply field mappings (name-based matching before number-based)
         List<FieldMapping> messageMappings = config.getFieldMappingsForMessage(messageName);
@@ -429,18 +447,18 @@ public class VersionMerger {
                             .toList();
                 })
                 .filter(fields -> !fields.isEmpty())
-                .map(this::mergeFields)
+                .map(fields -> mergeFields(fields, false, symbols))
                 .filter(Objects::nonNull)
                 .forEach(merged::addField);
 
         // Merge name-matched groups
         nameMatchedGroups.stream()
-                .map(this::mergeNameMatchedFields)
+                .map(fields -> mergeNameMatchedFields(fields, symbols))
                 .filter(Objects::nonNull)
                 .forEach(merged::addField);
 
         // Merge oneof groups
-        mergeOneofGroups(merged, messageName, schemas);
+        mergeOneofGroups(merged, messageName, versionMessages, allVersions);
 
         return merged.getPresentInVersions().isEmpty() ? null : merged;
     }
@@ -449,29 +467,23 @@ public class VersionMerger {
      * Merge fields matched by name (from fieldMappings).
      * Similar to mergeFields() but marks the result as name-mapped.
      */
-    private MergedField mergeNameMatchedFields(List<FieldWithVersion> fields) {
+    private MergedField mergeNameMatchedFields(List<FieldWithVersion> fields, SymbolTable symbols) {
         if (fields.isEmpty()) {
             return null;
         }
-        return mergeFields(fields, true);
+        return mergeFields(fields, true, symbols);
     }
 
     /**
      * Merge oneof groups from all versions into the merged message.
      */
-    private void mergeOneofGroups(MergedMessage merged, String messageName, List<VersionSchema> schemas) {
+    private void mergeOneofGroups(MergedMessage merged, String messageName,
+                                  Map<String, MessageInfo> versionMessages, Set<String> allVersions) {
         OneofConflictDetector conflictDetector = new OneofConflictDetector();
-        Set<String> allVersions = schemas.stream()
-                .map(VersionSchema::getVersion)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
 
         // Collect oneofs by version for renamed detection
         Map<String, List<OneofInfo>> oneofsByVersion = new LinkedHashMap<>();
-        for (VersionSchema schema : schemas) {
-            schema.getMessage(messageName).ifPresent(msg -> {
-                oneofsByVersion.put(schema.getVersion(), msg.getOneofGroups());
-            });
-        }
+        versionMessages.forEach((version, msg) -> oneofsByVersion.put(version, msg.getOneofGroups()));
 
         // Detect renamed oneofs (same field numbers, different names)
         List<OneofConflictDetector.RenamedOneofGroup> renamedGroups =
@@ -483,8 +495,7 @@ public class VersionMerger {
                 .collect(Collectors.toSet());
 
         // Collect all oneof names across versions
-        Set<String> allOneofNames = schemas.stream()
-                .flatMap(schema -> schema.getMessage(messageName).stream())
+        Set<String> allOneofNames = versionMessages.values().stream()
                 .flatMap(msg -> msg.getOneofGroups().stream())
                 .map(OneofInfo::getProtoName)
                 .collect(Collectors.toCollection(LinkedHashSet::new));
@@ -506,15 +517,12 @@ public class VersionMerger {
             }
 
             // Collect oneofs from each version (using version-specific names)
-            for (VersionSchema schema : schemas) {
-                String version = schema.getVersion();
+            versionMessages.forEach((version, msg) -> {
                 String versionName = renamedGroup.versionToName().get(version);
                 if (versionName != null) {
-                    schema.getMessage(messageName).flatMap(msg -> msg.findOneofByName(versionName)).ifPresent(oneof -> {
-                        oneofBuilder.addVersionOneof(version, oneof);
-                    });
+                    msg.findOneofByName(versionName).ifPresent(oneof -> oneofBuilder.addVersionOneof(version, oneof));
                 }
-            }
+            });
 
             // Add renamed conflict
             oneofBuilder.addConflict(renamedGroup.toConflictInfo());
@@ -531,8 +539,7 @@ public class VersionMerger {
             }
 
             // Check if this oneof's fields are part of a renamed group (already processed)
-            Set<Integer> thisOneofFields = schemas.stream()
-                    .flatMap(schema -> schema.getMessage(messageName).stream())
+            Set<Integer> thisOneofFields = versionMessages.values().stream()
                     .flatMap(msg -> msg.findOneofByName(oneofName).stream())
                     .flatMap(oneof -> oneof.getFieldNumbers().stream())
                     .collect(Collectors.toSet());
@@ -546,17 +553,15 @@ public class VersionMerger {
             MergedOneof.Builder oneofBuilder = MergedOneof.builder(oneofName);
 
             // Collect oneofs from each version
-            for (VersionSchema schema : schemas) {
-                schema.getMessage(messageName).flatMap(msg -> msg.findOneofByName(oneofName)).ifPresent(oneof -> {
-                    oneofBuilder.addVersionOneof(schema.getVersion(), oneof);
-                });
-            }
+            versionMessages.forEach((version, msg) ->
+                    msg.findOneofByName(oneofName).ifPresent(oneof -> oneofBuilder.addVersionOneof(version, oneof)));
 
             finishOneofBuild(oneofBuilder, merged, messageName, conflictDetector, allVersions);
         }
 
         // Detect field membership changes (field in/out of oneof)
-        detectAndLogFieldMembershipChanges(conflictDetector, merged, messageName, schemas, allVersions);
+        detectAndLogFieldMembershipChanges(conflictDetector, merged, messageName,
+                versionMessages, oneofsByVersion, allVersions);
     }
 
     /**
@@ -633,28 +638,19 @@ public class VersionMerger {
             OneofConflictDetector conflictDetector,
             MergedMessage merged,
             String messageName,
-            List<VersionSchema> schemas,
+            Map<String, MessageInfo> versionMessages,
+            Map<String, List<OneofInfo>> oneofsByVersion,
             Set<String> allVersions) {
 
         // Build field map: fieldNumber -> version -> FieldInfo
         Map<Integer, Map<String, FieldInfo>> allMessageFields = new LinkedHashMap<>();
-        for (VersionSchema schema : schemas) {
-            schema.getMessage(messageName).ifPresent(msg -> {
-                for (FieldInfo field : msg.getFields()) {
-                    allMessageFields
-                            .computeIfAbsent(field.getNumber(), k -> new LinkedHashMap<>())
-                            .put(schema.getVersion(), field);
-                }
-            });
-        }
-
-        // Build oneof map
-        Map<String, List<OneofInfo>> oneofsByVersion = new LinkedHashMap<>();
-        for (VersionSchema schema : schemas) {
-            schema.getMessage(messageName).ifPresent(msg -> {
-                oneofsByVersion.put(schema.getVersion(), msg.getOneofGroups());
-            });
-        }
+        versionMessages.forEach((version, msg) -> {
+            for (FieldInfo field : msg.getFields()) {
+                allMessageFields
+                        .computeIfAbsent(field.getNumber(), k -> new LinkedHashMap<>())
+                        .put(version, field);
+            }
+        });
 
         List<OneofConflictInfo> membershipConflicts = conflictDetector.detectFieldMembershipChanges(
                 allMessageFields, oneofsByVersion, messageName, allVersions);
@@ -665,17 +661,13 @@ public class VersionMerger {
         }
     }
 
-    private MergedField mergeFields(List<FieldWithVersion> fields) {
-        return mergeFields(fields, false);
-    }
-
-    private MergedField mergeFields(List<FieldWithVersion> fields, boolean isNameMapped) {
+    private MergedField mergeFields(List<FieldWithVersion> fields, boolean isNameMapped, SymbolTable symbols) {
         if (fields.isEmpty()) {
             return null;
         }
 
         // Build merged field using builder for proper conflict handling
-        MergedField.Builder builder = MergedField.builder();
+        MergedField.Builder builder = MergedField.builder().symbols(symbols);
         builder.nameMapped(isNameMapped);
 
         // Add all version fields
@@ -1144,24 +1136,28 @@ public class VersionMerger {
     }
 
     private MergedEnum mergeEnum(String enumName, List<VersionSchema> schemas) {
+        Map<String, EnumInfo> versionEnums = new LinkedHashMap<>();
+        for (VersionSchema schema : schemas) {
+            schema.getEnum(enumName).ifPresent(e -> versionEnums.put(schema.getVersion(), e));
+        }
+        return mergeEnum(enumName, versionEnums);
+    }
+
+    private MergedEnum mergeEnum(String enumName, Map<String, EnumInfo> versionEnums) {
         MergedEnum merged = new MergedEnum(enumName);
 
-        // Collect values and add versions using streams
-        Map<Integer, List<EnumValueWithVersion>> valuesByNumber = schemas.stream()
-                .flatMap(schema -> schema.getEnum(enumName).stream()
-                        .peek(e -> {
-                            merged.addVersion(schema.getVersion());
-                            if (e.getSourceFileName() != null) {
-                                merged.addSourceFile(schema.getVersion(), e.getSourceFileName());
-                            }
-                        })
-                        .flatMap(enumInfo -> enumInfo.getValues().stream()
-                                .map(value -> new EnumValueWithVersion(value, schema.getVersion()))))
-                .collect(Collectors.groupingBy(
-                        evv -> evv.value().getNumber(),
-                        LinkedHashMap::new,
-                        Collectors.toList()
-                ));
+        // Collect values by number and add versions
+        Map<Integer, List<EnumValueWithVersion>> valuesByNumber = new LinkedHashMap<>();
+        versionEnums.forEach((version, enumInfo) -> {
+            merged.addVersion(version);
+            if (enumInfo.getSourceFileName() != null) {
+                merged.addSourceFile(version, enumInfo.getSourceFileName());
+            }
+            for (EnumInfo.EnumValue value : enumInfo.getValues()) {
+                valuesByNumber.computeIfAbsent(value.getNumber(), k -> new ArrayList<>())
+                        .add(new EnumValueWithVersion(value, version));
+            }
+        });
 
         // Merge enum values
         valuesByNumber.values().stream()
@@ -1182,6 +1178,39 @@ public class VersionMerger {
     // Helper records (Java 17+)
     private record FieldWithVersion(FieldInfo field, String version) {}
     private record EnumValueWithVersion(EnumInfo.EnumValue value, String version) {}
+    private record BufferedMerge<T>(T value, BufferedLogger log) {}
+
+    /**
+     * Records log calls of a parallel merge task for replay on the calling thread.
+     */
+    private static final class BufferedLogger implements PluginLogger {
+
+        private final List<Consumer<PluginLogger>> entries = new ArrayList<>();
+
+        @Override
+        public void info(String message) {
+            entries.add(target -> target.info(message));
+        }
+
+        @Override
+        public void warn(String message) {
+            entries.add(target -> target.warn(message));
+        }
+
+        @Override
+        public void debug(String message) {
+            entries.add(target -> target.debug(message));
+        }
+
+        @Override
+        public void error(String message) {
+            entries.add(target -> target.error(message));
+        }
+
+        void replayTo(PluginLogger target) {
+            entries.forEach(entry -> entry.accept(target));
+        }
+    }
 
     /**
      * Configuration for the merger.
@@ -1192,6 +1221,7 @@ public class VersionMerger {
         private final Set<String> excludedMessages = new HashSet<>();
         private final Set<String> excludedFields = new HashSet<>();
         private final List<FieldMapping> fieldMappings = new ArrayList<>();
+        private boolean parallelMerge;
 
         /**
          * Add a field name mapping (for typos or renames).
@@ -1336,5 +1366,30 @@ public class VersionMerger {
                     .filter(m -> m.getMessage().equals(messageName))
                     .toList();
         }
+
+        /**
+         * Enable parallel merging of top-level messages and enums.
+         *
+         * <p>Messages and enums are merged on the common fork/join pool. The merged schema
+         * and the log output are identical to a sequential merge.</p>
+         *
+         * @param parallelMerge true to merge in parallel
+         * @return this configuration for method chaining
+         * @since 2.4.0
+         */
+        public MergerConfig setParallelMerge(boolean parallelMerge) {
+            this.parallelMerge = parallelMerge;
+            return this;
+        }
+
+        /**
+         * Check if parallel merging is enabled.
+         *
+         * @return true if messages and enums are merged in parallel
+         * @since 2.4.0
+         */
+        public boolean isParallelMerge() {
+            return parallelMerge;
+        }
     }
 }
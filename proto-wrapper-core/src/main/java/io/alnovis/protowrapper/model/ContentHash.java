@@ -0,0 +1,54 @@
+package io.alnovis.protowrapper.model;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * 64-bit FNV-1a hash for {@link MessageInfo#getContentHash()} and {@link EnumInfo#getContentHash()}.
+ *
+ * <p>Not cryptographic: equal hashes are used to skip comparing definitions that are
+ * (with overwhelming probability) identical, never to prove that they differ.</p>
+ */
+final class ContentHash {
+
+    /** Value of definitions built without a descriptor; never produced by {@link #finish()}. */
+    static final long NONE = 0L;
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+
+    ContentHash bytes(ByteString bytes) {
+        long h = hash;
+        for (int i = 0, size = bytes.size(); i < size; i++) {
+            h = (h ^ (bytes.byteAt(i) & 0xff)) * PRIME;
+        }
+        hash = h;
+        return this;
+    }
+
+    ContentHash string(String value) {
+        long h = hash;
+        if (value != null) {
+            for (int i = 0, length = value.length(); i < length; i++) {
+                h = (h ^ value.charAt(i)) * PRIME;
+            }
+        }
+        // Separator, so that ("ab", "c") and ("a", "bc") differ
+        hash = (h ^ 0xff) * PRIME;
+        return this;
+    }
+
+    ContentHash value(long value) {
+        long h = hash;
+        for (int shift = 0; shift < 64; shift += 8) {
+            h = (h ^ ((value >>> shift) & 0xff)) * PRIME;
+        }
+        hash = h;
+        return this;
+    }
+
+    long finish() {
+        return hash == NONE ? 1L : hash;
+    }
+}
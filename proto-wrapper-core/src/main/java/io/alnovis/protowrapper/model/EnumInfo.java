@@ -17,6 +17,7 @@ public class EnumInfo {
     private final String fullName;
     private final List<EnumValue> values;
     private final String sourceFileName;
+    private final long contentHash;
 
     /**
      * Creates EnumInfo from protobuf descriptor.
@@ -53,6 +54,10 @@ public class EnumInfo {
                 .map(EnumValue::fromProto)
                 .toList();
         this.sourceFileName = sourceFileName;
+        // Package left out, so the same enum in two version packages has the same hash
+        this.contentHash = new ContentHash()
+                .bytes(proto.toByteString())
+                .finish();
     }
 
     /**
@@ -77,6 +82,7 @@ public class EnumInfo {
         this.fullName = fullName != null ? fullName : name;
         this.values = new ArrayList<>(values);
         this.sourceFileName = null;
+        this.contentHash = ContentHash.NONE;
     }
 
     /** @return the source proto file name */
@@ -99,6 +105,27 @@ public class EnumInfo {
         return Collections.unmodifiableList(values);
     }
 
+    /**
+     * Get the structural hash of this enum definition (name, values, numbers and options).
+     *
+     * @return the hash, or 0 if this enum was not built from a descriptor
+     * @since 2.4.0
+     */
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Check whether another enum has the same definition, without comparing values.
+     *
+     * @param other the enum to compare with
+     * @return true if both have a content hash and the hashes are equal; false means "unknown or different"
+     * @since 2.4.0
+     */
+    public boolean hasSameContent(EnumInfo other) {
+        return other != null && contentHash != ContentHash.NONE && contentHash == other.contentHash;
+    }
+
     /**
      * Get all unique value names across versions.
      *
@@ -119,6 +146,7 @@ public class EnumInfo {
      */
     public boolean isEquivalentTo(EnumInfo other) {
         if (other == null) return false;
+        if (hasSameContent(other)) return true;
         if (!this.name.equals(other.name)) return false;
         if (this.values.size() != other.values.size()) return false;
 
@@ -294,6 +294,47 @@ public class FieldInfo {
         this.detectedSyntax = syntax;
     }
 
+    /**
+     * Copy with all names taken from a symbol table (see {@link SymbolTable#share(FieldInfo)}).
+     */
+    private FieldInfo(FieldInfo source, SymbolTable symbols) {
+        this.protoName = symbols.intern(source.protoName);
+        this.javaName = symbols.intern(source.javaName);
+        this.number = source.number;
+        this.type = source.type;
+        this.label = source.label;
+        this.typeName = symbols.intern(source.typeName);
+        this.isOptional = source.isOptional;
+        this.isRepeated = source.isRepeated;
+        this.isMap = source.isMap;
+        this.mapInfo = source.mapInfo == null ? null : new MapInfo(
+                source.mapInfo.keyType(), source.mapInfo.valueType(),
+                symbols.intern(source.mapInfo.keyTypeName()), symbols.intern(source.mapInfo.valueTypeName()));
+        this.oneofIndex = source.oneofIndex;
+        this.oneofName = symbols.intern(source.oneofName);
+        this.wellKnownType = source.wellKnownType;
+        this.supportsHasMethod = source.supportsHasMethod;
+        this.detectedSyntax = source.detectedSyntax;
+    }
+
+    FieldInfo withSymbols(SymbolTable symbols) {
+        return new FieldInfo(this, symbols);
+    }
+
+    /**
+     * Key covering every property, unlike {@link #equals(Object)} which compares name and number only.
+     */
+    StructuralKey structuralKey() {
+        return new StructuralKey(protoName, javaName, number, type, label, typeName, isOptional, isRepeated,
+                isMap, mapInfo, oneofIndex, oneofName, wellKnownType, supportsHasMethod, detectedSyntax);
+    }
+
+    record StructuralKey(String protoName, String javaName, int number, Type type, Label label, String typeName,
+                         boolean isOptional, boolean isRepeated, boolean isMap, MapInfo mapInfo, int oneofIndex,
+                         String oneofName, WellKnownTypeInfo wellKnownType, boolean supportsHasMethod,
+                         ProtoSyntax detectedSyntax) {
+    }
+
     private static String toJavaName(String protoName) {
         StringBuilder result = new StringBuilder();
         boolean capitalizeNext = false;
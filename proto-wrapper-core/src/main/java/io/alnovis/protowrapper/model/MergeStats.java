@@ -0,0 +1,158 @@
+package io.alnovis.protowrapper.model;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Memory statistics of a merge, reported by the Maven and Gradle plugins.
+ *
+ * <p>{@code estimatedHeapBytes} is an estimate of the retained size of the merged model
+ * (messages, fields, per-version field definitions, enums and their strings), assuming a
+ * 64-bit JVM with compressed references and Latin-1 strings. Each object is counted once,
+ * so definitions and names shared through the {@link SymbolTable} are not counted twice.
+ * It is meant for comparing schemas and builds, not as an exact measurement.</p>
+ *
+ * @param symbolCount distinct strings in the symbol table
+ * @param deduplicatedStrings string lookups that returned an existing copy
+ * @param fieldInfoCount distinct field definitions kept in the merged model
+ * @param sharedFieldInfos version fields replaced by an equal definition from another version
+ * @param estimatedHeapBytes estimated retained size of the merged model
+ * @since 2.4.0
+ */
+public record MergeStats(int symbolCount, long deduplicatedStrings, int fieldInfoCount,
+                         long sharedFieldInfos, long estimatedHeapBytes) {
+
+    // Shallow sizes with 12-byte headers, 4-byte references and 8-byte alignment
+    private static final int STRING = 24;
+    private static final int ARRAY_HEADER = 16;
+    private static final int FIELD_INFO = 56;
+    private static final int MERGED_FIELD = 104;
+    private static final int MERGED_MESSAGE = 64;
+    private static final int MERGED_ENUM = 24;
+    private static final int MERGED_ENUM_VALUE = 24;
+    private static final int MAP_ENTRY = 40; // LinkedHashMap entry
+    private static final int COLLECTION = 56; // LinkedHashMap/LinkedHashSet/ArrayList with its table
+
+    /**
+     * Collect the statistics of a merged schema.
+     *
+     * @param schema the merged schema
+     * @param symbols the symbol table used for the merge
+     * @return the statistics
+     */
+    public static MergeStats of(MergedSchema schema, SymbolTable symbols) {
+        return new MergeStats(symbols.getSymbolCount(), symbols.getDeduplicatedStrings(),
+                symbols.getFieldInfoCount(), symbols.getSharedFieldInfos(), new Footprint().schema(schema));
+    }
+
+    /**
+     * @return one-line summary, e.g. {@code ~1.2 MB model, 5000 shared field definitions, 3000 deduplicated strings}
+     */
+    public String format() {
+        return String.format("~%s model, %d shared field definitions, %d deduplicated strings",
+                formatBytes(estimatedHeapBytes), sharedFieldInfos, deduplicatedStrings);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    /**
+     * Walks the merged model and adds up shallow sizes, counting each object once.
+     */
+    private static final class Footprint {
+
+        private final Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        long schema(MergedSchema schema) {
+            long bytes = 0;
+            for (MergedMessage message : schema.getMessages()) {
+                bytes += message(message);
+            }
+            for (MergedEnum mergedEnum : schema.getEnums()) {
+                bytes += mergedEnum(mergedEnum);
+            }
+            return bytes;
+        }
+
+        private long message(MergedMessage message) {
+            if (!seen.add(message)) {
+                return 0;
+            }
+            long bytes = MERGED_MESSAGE + 4L * COLLECTION + string(message.getName());
+            bytes += (long) message.getPresentInVersions().size() * MAP_ENTRY;
+            for (MergedField field : message.getFields()) {
+                bytes += 4 + field(field);
+            }
+            for (MergedMessage nested : message.getNestedMessages()) {
+                bytes += 4 + message(nested);
+            }
+            for (MergedEnum nestedEnum : message.getNestedEnums()) {
+                bytes += 4 + mergedEnum(nestedEnum);
+            }
+            return bytes;
+        }
+
+        private long field(MergedField field) {
+            if (!seen.add(field)) {
+                return 0;
+            }
+            long bytes = MERGED_FIELD + 6L * COLLECTION
+                    + string(field.getName()) + string(field.getJavaName())
+                    + string(field.getJavaType()) + string(field.getGetterType())
+                    + string(field.getResolvedMapValueType());
+            // presentInVersions, versionFields, typesPerVersion, optionalityPerVersion, syntaxPerVersion
+            bytes += 5L * field.getPresentInVersions().size() * MAP_ENTRY;
+            bytes += (long) field.getOneofNamePerVersion().size() * MAP_ENTRY;
+            for (String type : field.getTypesPerVersion().values()) {
+                bytes += string(type);
+            }
+            for (FieldInfo info : field.getVersionFields().values()) {
+                bytes += fieldInfo(info);
+            }
+            return bytes;
+        }
+
+        private long fieldInfo(FieldInfo field) {
+            if (!seen.add(field)) {
+                return 0;
+            }
+            return FIELD_INFO + string(field.getProtoName()) + string(field.getJavaName())
+                    + string(field.getTypeName()) + string(field.getOneofName());
+        }
+
+        private long mergedEnum(MergedEnum mergedEnum) {
+            if (!seen.add(mergedEnum)) {
+                return 0;
+            }
+            long bytes = MERGED_ENUM + 3L * COLLECTION + string(mergedEnum.getName());
+            for (MergedEnumValue value : mergedEnum.getValues()) {
+                if (seen.add(value)) {
+                    bytes += 4 + MERGED_ENUM_VALUE + COLLECTION
+                            + string(value.getName()) + string(value.getJavaName())
+                            + (long) value.getPresentInVersions().size() * MAP_ENTRY;
+                }
+            }
+            return bytes;
+        }
+
+        private long string(String value) {
+            if (value == null || !seen.add(value)) {
+                return 0;
+            }
+            return STRING + align(ARRAY_HEADER + value.length());
+        }
+
+        private static long align(long size) {
+            return (size + 7) & ~7L;
+        }
+    }
+}
@@ -223,8 +223,10 @@ public class MergedField {
         this.name = firstField.getProtoName();
         this.javaName = firstField.getJavaName();
         this.number = firstField.getNumber();
-        this.javaType = builder.resolvedJavaType != null ? builder.resolvedJavaType : firstField.getJavaType();
-        this.getterType = builder.resolvedGetterType != null ? builder.resolvedGetterType : firstField.getGetterType();
+        this.javaType = builder.intern(
+                builder.resolvedJavaType != null ? builder.resolvedJavaType : firstField.getJavaType());
+        this.getterType = builder.intern(
+                builder.resolvedGetterType != null ? builder.resolvedGetterType : firstField.getGetterType());
         this.optional = firstField.isOptional();
         this.repeated = firstField.isRepeated();
         this.primitive = firstField.isPrimitive();
@@ -234,7 +236,7 @@ public class MergedField {
         // Find mapInfo from any version field (first non-null wins)
         this.mapInfo = findMapInfo(builder.versionFields.values());
         this.mapValueConflictType = builder.mapValueConflictType;
-        this.resolvedMapValueType = builder.resolvedMapValueType;
+        this.resolvedMapValueType = builder.intern(builder.resolvedMapValueType);
         this.presentInVersions = Collections.unmodifiableSet(new LinkedHashSet<>(builder.versionFields.keySet()));
         this.versionFields = Collections.unmodifiableMap(new LinkedHashMap<>(builder.versionFields));
         this.conflictType = builder.conflictType != null ? builder.conflictType : ConflictType.NONE;
@@ -282,6 +284,7 @@ public class MergedField {
         private ConflictType mapValueConflictType;
         private String resolvedMapValueType;
         private boolean isNameMapped;
+        private SymbolTable symbols;
 
         /**
          * Add a version field.
@@ -292,7 +295,7 @@ public class MergedField {
          */
         public Builder addVersionField(String version, FieldInfo field) {
             versionFields.put(version, field);
-            typesPerVersion.put(version, field.getJavaType());
+            typesPerVersion.put(version, intern(field.getJavaType()));
             optionalityPerVersion.put(version, field.isOptional());
             syntaxPerVersion.put(version, field.getDetectedSyntax());
             if (field.isInOneof()) {
@@ -377,6 +380,24 @@ public class MergedField {
             return this;
         }
 
+        /**
+         * Deduplicate the computed Java type names through a symbol table.
+         *
+         * <p>Must be set before {@link #addVersionField(String, FieldInfo)}.</p>
+         *
+         * @param symbols symbol table of the current merge, or null
+         * @return This builder
+         * @since 2.4.0
+         */
+        public Builder symbols(SymbolTable symbols) {
+            this.symbols = symbols;
+            return this;
+        }
+
+        private String intern(String value) {
+            return symbols != null ? symbols.intern(value) : value;
+        }
+
         /**
          * Build the immutable MergedField.
          *
@@ -813,6 +834,16 @@ public class MergedField {
         return "extract" + capitalize(javaName) + "Bytes";
     }
 
+    /**
+     * Get extract method name for ByteString value (STRING_BYTES conflicts).
+     *
+     * @return the extract ByteString method name
+     * @since 2.4.0
+     */
+    public String getExtractByteStringMethodName() {
+        return "extract" + capitalize(javaName) + "ByteString";
+    }
+
     /**
      * Get extract method name for message value (PRIMITIVE_MESSAGE conflicts).
      *
@@ -21,6 +21,15 @@ public class MergedMessage {
     private final Map<String, String> versionSourceFiles; // version -> source file name
     private MergedMessage parent; // Parent message for nested types
 
+    // Precomputed field views, set by freeze()
+    private boolean frozen;
+    private List<MergedField> fieldsSorted;
+    private List<MergedField> nonOneofFields;
+    private List<MergedField> commonFields;
+    private List<MergedField> mapFields;
+    private List<MergedField> repeatedFields;
+    private Map<String, List<MergedField>> fieldsByVersion; // version -> fields sorted by number
+
     /**
      * Create a new MergedMessage.
      *
@@ -43,6 +52,7 @@ public class MergedMessage {
      * @param field the field to add
      */
     public void addField(MergedField field) {
+        checkNotFrozen();
         fields.add(field);
     }
 
@@ -52,6 +62,7 @@ public class MergedMessage {
      * @param nested the nested message to add
      */
     public void addNestedMessage(MergedMessage nested) {
+        checkNotFrozen();
         nested.setParent(this);
         nestedMessages.add(nested);
     }
@@ -62,6 +73,7 @@ public class MergedMessage {
      * @param nestedEnum the nested enum to add
      */
     public void addNestedEnum(MergedEnum nestedEnum) {
+        checkNotFrozen();
         nestedEnums.add(nestedEnum);
     }
 
@@ -71,6 +83,7 @@ public class MergedMessage {
      * @param oneof the oneof group to add
      */
     public void addOneofGroup(MergedOneof oneof) {
+        checkNotFrozen();
         oneofGroups.add(oneof);
     }
 
@@ -80,6 +93,7 @@ public class MergedMessage {
      * @param nestedEnum the nested enum to remove
      */
     public void removeNestedEnum(MergedEnum nestedEnum) {
+        checkNotFrozen();
         nestedEnums.remove(nestedEnum);
     }
 
@@ -89,6 +103,7 @@ public class MergedMessage {
      * @param parent the parent message
      */
     public void setParent(MergedMessage parent) {
+        checkNotFrozen();
         this.parent = parent;
     }
 
@@ -108,6 +123,7 @@ public class MergedMessage {
      * @param version the version identifier
      */
     public void addVersion(String version) {
+        checkNotFrozen();
         presentInVersions.add(version);
     }
 
@@ -118,6 +134,7 @@ public class MergedMessage {
      * @param sourceFileName the source proto file name
      */
     public void addSourceFile(String version, String sourceFileName) {
+        checkNotFrozen();
         versionSourceFiles.put(version, sourceFileName);
     }
 
@@ -235,6 +252,9 @@ public class MergedMessage {
      * @return list of non-oneof fields
      */
     public List<MergedField> getNonOneofFields() {
+        if (frozen) {
+            return nonOneofFields;
+        }
         Set<Integer> oneofFieldNumbers = oneofGroups.stream()
                 .flatMap(o -> o.getAllFieldNumbers().stream())
                 .collect(Collectors.toSet());
@@ -394,6 +414,9 @@ public class MergedMessage {
      * @return list of common fields
      */
     public List<MergedField> getCommonFields() {
+        if (frozen) {
+            return commonFields;
+        }
         return fields.stream()
                 .filter(field -> field.getPresentInVersions().containsAll(presentInVersions))
                 .toList();
@@ -405,6 +428,9 @@ public class MergedMessage {
      * @return list of fields sorted by number
      */
     public List<MergedField> getFieldsSorted() {
+        if (frozen) {
+            return fieldsSorted;
+        }
         return fields.stream()
                 .sorted(Comparator.comparingInt(MergedField::getNumber))
                 .toList();
@@ -416,6 +442,9 @@ public class MergedMessage {
      * @return list of map fields
      */
     public List<MergedField> getMapFields() {
+        if (frozen) {
+            return mapFields;
+        }
         return fields.stream()
                 .filter(MergedField::isMap)
                 .toList();
@@ -427,6 +456,9 @@ public class MergedMessage {
      * @return list of repeated fields
      */
     public List<MergedField> getRepeatedFields() {
+        if (frozen) {
+            return repeatedFields;
+        }
         return fields.stream()
                 .filter(f -> f.isRepeated() && !f.isMap())
                 .toList();
@@ -438,7 +470,69 @@ public class MergedMessage {
      * @return true if there are map fields
      */
     public boolean hasMapFields() {
-        return fields.stream().anyMatch(MergedField::isMap);
+        return !getMapFields().isEmpty();
+    }
+
+    /**
+     * Get fields present in a specific version, sorted by field number.
+     *
+     * @param version the version identifier
+     * @return list of fields present in the version
+     */
+    public List<MergedField> getFieldsForVersion(String version) {
+        if (frozen) {
+            return fieldsByVersion.getOrDefault(version, List.of());
+        }
+        return getFieldsSorted().stream()
+                .filter(f -> f.getPresentInVersions().contains(version))
+                .toList();
+    }
+
+    /**
+     * Make this message and its nested messages immutable and precompute the
+     * field views used by the generators.
+     *
+     * <p>After freezing, {@link #getFieldsSorted()}, {@link #getNonOneofFields()},
+     * {@link #getCommonFields()}, {@link #getMapFields()}, {@link #getRepeatedFields()}
+     * and {@link #getFieldsForVersion(String)} return the same precomputed list on
+     * every call, and all mutators throw {@link IllegalStateException}.
+     * Called by {@code VersionMerger} once the merge is complete.</p>
+     *
+     * @since 2.4.0
+     */
+    public void freeze() {
+        if (frozen) {
+            return;
+        }
+        nestedMessages.forEach(MergedMessage::freeze);
+
+        fieldsSorted = getFieldsSorted();
+        nonOneofFields = getNonOneofFields();
+        commonFields = getCommonFields();
+        mapFields = getMapFields();
+        repeatedFields = getRepeatedFields();
+
+        Map<String, List<MergedField>> byVersion = new LinkedHashMap<>();
+        for (MergedField field : fieldsSorted) {
+            for (String version : field.getPresentInVersions()) {
+                byVersion.computeIfAbsent(version, v -> new ArrayList<>()).add(field);
+            }
+        }
+        byVersion.replaceAll((version, list) -> List.copyOf(list));
+        fieldsByVersion = byVersion;
+
+        frozen = true;
+    }
+
+    /** @return true if {@link #freeze()} has been called */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("MergedMessage " + name + " is frozen");
+        }
     }
 
     @Override
@@ -20,6 +20,12 @@ public class MergedSchema {
     // Proto syntax per version (PROTO2, PROTO3, or AUTO to be resolved later)
     // Maps version ID (e.g., "v1") -> ProtoSyntax
     private final Map<String, ProtoSyntax> versionSyntax;
+    private MergeStats mergeStats;
+
+    // Indexes built by freeze()
+    private boolean frozen;
+    private Map<String, MergedMessage> messagesByPath; // "Order.Item" -> message, all nesting levels
+    private Map<String, List<MergedMessage>> messagesByVersion; // version -> top-level messages
 
     /**
      * Create a new MergedSchema.
@@ -41,6 +47,7 @@ public class MergedSchema {
      * @param topLevelName Simple name like "CategoryEnum"
      */
     public void addEquivalentEnumMapping(String nestedPath, String topLevelName) {
+        checkNotFrozen();
         equivalentEnumMappings.put(nestedPath, topLevelName);
     }
 
@@ -77,6 +84,7 @@ public class MergedSchema {
      * @param message the message to add
      */
     public void addMessage(MergedMessage message) {
+        checkNotFrozen();
         messages.put(message.getName(), message);
     }
 
@@ -86,6 +94,7 @@ public class MergedSchema {
      * @param enumInfo the enum to add
      */
     public void addEnum(MergedEnum enumInfo) {
+        checkNotFrozen();
         enums.put(enumInfo.getName(), enumInfo);
     }
 
@@ -119,6 +128,21 @@ public class MergedSchema {
         return Collections.unmodifiableCollection(messages.values());
     }
 
+    /**
+     * Get top-level messages present in a specific version.
+     *
+     * @param version version identifier
+     * @return list of messages present in the version, in schema order
+     */
+    public List<MergedMessage> getMessagesForVersion(String version) {
+        if (frozen) {
+            return messagesByVersion.getOrDefault(version, List.of());
+        }
+        return messages.values().stream()
+                .filter(message -> message.getPresentInVersions().contains(version))
+                .toList();
+    }
+
     /** @return unmodifiable collection of all enums */
     public Collection<MergedEnum> getEnums() {
         return Collections.unmodifiableCollection(enums.values());
@@ -129,6 +153,7 @@ public class MergedSchema {
      * @param info Conflict enum information
      */
     public void addConflictEnum(ConflictEnumInfo info) {
+        checkNotFrozen();
         conflictEnums.put(info.getFullPath(), info);
     }
 
@@ -167,6 +192,7 @@ public class MergedSchema {
      * @param syntax the proto syntax for this version
      */
     public void setVersionSyntax(String version, ProtoSyntax syntax) {
+        checkNotFrozen();
         versionSyntax.put(version, syntax);
     }
 
@@ -199,6 +225,27 @@ public class MergedSchema {
         return versionSyntax.containsKey(version);
     }
 
+    /**
+     * Set the memory statistics of the merge that produced this schema.
+     *
+     * @param mergeStats the statistics
+     * @since 2.4.0
+     */
+    public void setMergeStats(MergeStats mergeStats) {
+        checkNotFrozen();
+        this.mergeStats = mergeStats;
+    }
+
+    /**
+     * Get the memory statistics of the merge, if this schema was built by {@code VersionMerger}.
+     *
+     * @return the statistics, or empty for schemas assembled by hand
+     * @since 2.4.0
+     */
+    public Optional<MergeStats> getMergeStats() {
+        return Optional.ofNullable(mergeStats);
+    }
+
     /**
      * Find a nested message by path like "Order.ShippingInfo".
      * @param nestedPath Path like "ParentMessage.NestedMessage"
@@ -208,6 +255,9 @@ public class MergedSchema {
         if (nestedPath == null || nestedPath.isEmpty()) {
             return Optional.empty();
         }
+        if (frozen) {
+            return Optional.ofNullable(messagesByPath.get(nestedPath));
+        }
 
         String[] parts = nestedPath.split("\\.");
         if (parts.length == 0) {
@@ -266,4 +316,55 @@ public class MergedSchema {
         // Find the enum in the last parent
         return parent.findNestedEnum(parts[parts.length - 1]);
     }
+
+    /**
+     * Make this schema immutable and build its lookup indexes.
+     *
+     * <p>Freezes every message (see {@link MergedMessage#freeze()}) and indexes
+     * messages by nested path and by version, so that {@link #findMessageByPath(String)}
+     * and {@link #getMessagesForVersion(String)} become map lookups. All mutators throw
+     * {@link IllegalStateException} afterwards. Called by {@code VersionMerger} at the
+     * end of {@code merge}.</p>
+     *
+     * @return this schema
+     * @since 2.4.0
+     */
+    public MergedSchema freeze() {
+        if (frozen) {
+            return this;
+        }
+        Map<String, MergedMessage> byPath = new HashMap<>();
+        for (MergedMessage message : messages.values()) {
+            message.freeze();
+            indexByPath(message.getName(), message, byPath);
+        }
+        messagesByPath = byPath;
+
+        Map<String, List<MergedMessage>> byVersion = new LinkedHashMap<>();
+        for (String version : versions) {
+            byVersion.put(version, getMessagesForVersion(version));
+        }
+        messagesByVersion = byVersion;
+
+        frozen = true;
+        return this;
+    }
+
+    /** @return true if {@link #freeze()} has been called */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private static void indexByPath(String path, MergedMessage message, Map<String, MergedMessage> byPath) {
+        byPath.putIfAbsent(path, message);
+        for (MergedMessage nested : message.getNestedMessages()) {
+            indexByPath(path + "." + nested.getName(), nested, byPath);
+        }
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("MergedSchema is frozen");
+        }
+    }
 }
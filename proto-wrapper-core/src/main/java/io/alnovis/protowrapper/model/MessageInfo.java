@@ -20,11 +20,15 @@ public class MessageInfo {
     private final String packageName;
     private final String sourceFileName;
     private final List<FieldInfo> fields;
+    private final Map<Integer, FieldInfo> fieldsByNumber;
     private final List<MessageInfo> nestedMessages;
+    private final Map<String, MessageInfo> nestedMessagesByName;
     private final List<EnumInfo> nestedEnums;
+    private final Map<String, EnumInfo> nestedEnumsByName;
     private final List<OneofInfo> oneofGroups;
     private final boolean isMapEntry;
     private final ProtoSyntax syntax;
+    private final long contentHash;
 
     /**
      * Create a MessageInfo from a protobuf descriptor.
@@ -77,6 +81,7 @@ public class MessageInfo {
 
         // Create fields with oneof information, map entries, and syntax info
         this.fields = createFieldsWithOneofInfo(proto, this.oneofGroups, mapEntries, syntax);
+        this.fieldsByNumber = indexByNumber(this.fields);
 
         this.nestedMessages = proto.getNestedTypeList().stream()
                 .filter(nested -> !nested.getOptions().getMapEntry()) // Skip map entries
@@ -86,6 +91,49 @@ public class MessageInfo {
         this.nestedEnums = proto.getEnumTypeList().stream()
                 .map(EnumInfo::new)
                 .toList();
+        this.nestedMessagesByName = indexByName(this.nestedMessages, MessageInfo::getName);
+        this.nestedEnumsByName = indexByName(this.nestedEnums, EnumInfo::getName);
+        this.contentHash = computeContentHash(proto, syntax, this.nestedMessages, this.nestedEnums);
+    }
+
+    /**
+     * Hash the message's own descriptor (fields, oneofs, options, map entries) and combine it
+     * with the already computed hashes of the nested types, so each level is serialized once.
+     *
+     * <p>Each version usually lives in its own package, so the package is left out and message/enum
+     * type names are reduced to simple names, as {@link FieldInfo#getJavaType()} compares them.</p>
+     */
+    private static long computeContentHash(DescriptorProto proto, ProtoSyntax syntax,
+                                           List<MessageInfo> nestedMessages, List<EnumInfo> nestedEnums) {
+        DescriptorProto.Builder own = withSimpleTypeNames(proto.toBuilder().clearNestedType().clearEnumType());
+        for (DescriptorProto nested : proto.getNestedTypeList()) {
+            if (nested.getOptions().getMapEntry()) {
+                own.addNestedType(withSimpleTypeNames(nested.toBuilder()));
+            }
+        }
+        ContentHash hash = new ContentHash()
+                .string(syntax != null ? syntax.name() : null)
+                .bytes(own.build().toByteString());
+        for (MessageInfo nested : nestedMessages) {
+            hash.value(nested.contentHash);
+        }
+        for (EnumInfo nested : nestedEnums) {
+            hash.value(nested.getContentHash());
+        }
+        return hash.finish();
+    }
+
+    /**
+     * Replace the package-qualified type names of the fields with their simple names.
+     */
+    private static DescriptorProto.Builder withSimpleTypeNames(DescriptorProto.Builder proto) {
+        for (FieldDescriptorProto.Builder field : proto.getFieldBuilderList()) {
+            if (field.hasTypeName()) {
+                String typeName = field.getTypeName();
+                field.setTypeName(typeName.substring(typeName.lastIndexOf('.') + 1));
+            }
+        }
+        return proto;
     }
 
     /**
@@ -186,6 +234,25 @@ public class MessageInfo {
         return result;
     }
 
+    private static Map<Integer, FieldInfo> indexByNumber(List<FieldInfo> fields) {
+        Map<Integer, FieldInfo> byNumber = new HashMap<>(Math.max(16, fields.size() * 2));
+        for (FieldInfo field : fields) {
+            byNumber.putIfAbsent(field.getNumber(), field);
+        }
+        return Collections.unmodifiableMap(byNumber);
+    }
+
+    private static <T> Map<String, T> indexByName(List<T> types, Function<T, String> nameFn) {
+        if (types.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, T> byName = new HashMap<>(Math.max(16, types.size() * 2));
+        for (T type : types) {
+            byName.putIfAbsent(nameFn.apply(type), type);
+        }
+        return Collections.unmodifiableMap(byName);
+    }
+
     /**
      * Constructor for merged messages.
      *
@@ -221,11 +288,15 @@ public class MessageInfo {
         this.packageName = packageName;
         this.sourceFileName = null;
         this.fields = new ArrayList<>(fields);
+        this.fieldsByNumber = indexByNumber(this.fields);
         this.nestedMessages = new ArrayList<>(nestedMessages);
         this.nestedEnums = new ArrayList<>(nestedEnums);
+        this.nestedMessagesByName = indexByName(this.nestedMessages, MessageInfo::getName);
+        this.nestedEnumsByName = indexByName(this.nestedEnums, EnumInfo::getName);
         this.oneofGroups = new ArrayList<>(oneofGroups);
         this.isMapEntry = false;
         this.syntax = PROTO2; // Merged messages default to proto2
+        this.contentHash = ContentHash.NONE;
     }
 
     /**
@@ -313,9 +384,64 @@ public class MessageInfo {
      * @return the field if found
      */
     public Optional<FieldInfo> findFieldByNumber(int number) {
-        return fields.stream()
-                .filter(f -> f.getNumber() == number)
-                .findFirst();
+        return Optional.ofNullable(fieldsByNumber.get(number));
+    }
+
+    /**
+     * Get the fields indexed by field number.
+     *
+     * @return unmodifiable map of field number to field
+     * @since 2.4.0
+     */
+    public Map<Integer, FieldInfo> getFieldsByNumber() {
+        return fieldsByNumber;
+    }
+
+    /**
+     * Get the nested messages (without map entries) indexed by simple name.
+     *
+     * @return unmodifiable map of nested message name to message
+     * @since 2.4.0
+     */
+    public Map<String, MessageInfo> getNestedMessagesByName() {
+        return nestedMessagesByName;
+    }
+
+    /**
+     * Get the nested enums indexed by simple name.
+     *
+     * @return unmodifiable map of nested enum name to enum
+     * @since 2.4.0
+     */
+    public Map<String, EnumInfo> getNestedEnumsByName() {
+        return nestedEnumsByName;
+    }
+
+    /**
+     * Get the structural hash of this message definition.
+     *
+     * <p>Computed from the descriptor when the message is analyzed: field names, numbers, types,
+     * labels, oneofs, options and all nested types, plus the syntax. The package and source file
+     * name are not included, and message/enum field types count by simple name, so the same
+     * definition in two version packages has the same hash. Messages built from field lists
+     * (merged messages) have no hash.</p>
+     *
+     * @return the hash, or 0 if this message was not built from a descriptor
+     * @since 2.4.0
+     */
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * Check whether another message has the same structure, without comparing fields.
+     *
+     * @param other the message to compare with
+     * @return true if both have a content hash and the hashes are equal; false means "unknown or different"
+     * @since 2.4.0
+     */
+    public boolean hasSameContent(MessageInfo other) {
+        return other != null && contentHash != ContentHash.NONE && contentHash == other.contentHash;
     }
 
     /**
@@ -0,0 +1,89 @@
+package io.alnovis.protowrapper.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-merge table of canonical names and field definitions.
+ *
+ * <p>Each version's descriptors carry their own copies of the same field names, type
+ * names and Java names, and an unchanged field is described by an equal {@link FieldInfo}
+ * in every version. {@code VersionMerger} passes every field through {@link #share(FieldInfo)},
+ * so the merged model keeps one {@code FieldInfo} per distinct field definition (with
+ * deduplicated names) and the per-version copies become garbage once the version schemas
+ * are dropped.</p>
+ *
+ * <p>Thread-safe; a parallel merge uses one table for all tasks.</p>
+ *
+ * @since 2.4.0
+ */
+public final class SymbolTable {
+
+    private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<FieldInfo.StructuralKey, FieldInfo> fields = new ConcurrentHashMap<>();
+    private final LongAdder deduplicatedStrings = new LongAdder();
+    private final LongAdder sharedFieldInfos = new LongAdder();
+
+    /**
+     * Get the canonical instance of a string.
+     *
+     * @param value the string, may be null
+     * @return the first equal string seen by this table, or null
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        String existing = strings.putIfAbsent(value, value);
+        if (existing == null) {
+            return value;
+        }
+        if (existing != value) {
+            deduplicatedStrings.increment();
+        }
+        return existing;
+    }
+
+    /**
+     * Get the canonical instance of a field definition.
+     *
+     * <p>Fields are shared only if all their properties are equal, including the
+     * proto type name and the source syntax.</p>
+     *
+     * @param field the field from a version schema
+     * @return an equal field with interned names, shared by all equal fields
+     */
+    public FieldInfo share(FieldInfo field) {
+        FieldInfo.StructuralKey key = field.structuralKey();
+        FieldInfo existing = fields.get(key);
+        if (existing == null) {
+            FieldInfo canonical = field.withSymbols(this);
+            existing = fields.putIfAbsent(key, canonical);
+            if (existing == null) {
+                return canonical;
+            }
+        }
+        sharedFieldInfos.increment();
+        return existing;
+    }
+
+    /** @return number of distinct strings in this table */
+    public int getSymbolCount() {
+        return strings.size();
+    }
+
+    /** @return number of lookups that returned an existing copy of the string */
+    public long getDeduplicatedStrings() {
+        return deduplicatedStrings.sum();
+    }
+
+    /** @return number of distinct field definitions */
+    public int getFieldInfoCount() {
+        return fields.size();
+    }
+
+    /** @return number of fields replaced by an existing equal definition */
+    public long getSharedFieldInfos() {
+        return sharedFieldInfos.sum();
+    }
+}
@@ -0,0 +1,107 @@
+package io.alnovis.protowrapper.runtime;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reflection-free access to the VersionContext instances of a generated API.
+ *
+ * <p>Implemented by the generated {@code VersionContextRegistry} class when the plugin is
+ * configured with {@code generateVersionContextRegistry=true}. The generated class resolves
+ * contexts with a {@code switch} over version identifiers and references every
+ * {@code VersionContextVx.INSTANCE} directly, so no class names are built or loaded
+ * at runtime.</p>
+ *
+ * <p>Registries are also published as {@link java.util.ServiceLoader} providers, which lets
+ * frameworks discover them without reflection (including under GraalVM native-image):</p>
+ * <pre>{@code
+ * ContextRegistry<?> registry = ContextRegistry.load("com.example.model.api")
+ *         .orElseThrow();
+ * Object ctx = registry.get("v2");
+ * }</pre>
+ *
+ * @param <C> generated VersionContext type
+ * @since 2.4.0
+ */
+public interface ContextRegistry<C> {
+
+    /**
+     * Returns the API package of the generated code this registry belongs to.
+     *
+     * @return API package (e.g., "com.example.model.api")
+     */
+    String getApiPackage();
+
+    /**
+     * Returns all supported version identifiers in declaration order.
+     *
+     * @return unmodifiable list of version IDs
+     */
+    List<String> supportedVersions();
+
+    /**
+     * Returns the default version identifier.
+     *
+     * @return default version ID
+     */
+    String defaultVersion();
+
+    /**
+     * Finds the context for a version.
+     *
+     * @param versionId version identifier (e.g., "v2")
+     * @return optional containing the context, or empty if the version is not supported
+     */
+    Optional<C> find(String versionId);
+
+    /**
+     * Returns the context for a version.
+     *
+     * @param versionId version identifier (e.g., "v2")
+     * @return context for the version
+     * @throws IllegalArgumentException if the version is not supported
+     */
+    default C get(String versionId) {
+        return find(versionId).orElseThrow(() -> new IllegalArgumentException(
+                "Unsupported version: '" + versionId + "'. Supported: " + supportedVersions()));
+    }
+
+    /**
+     * Returns the context for the default version.
+     *
+     * @return default context
+     */
+    default C getDefault() {
+        return get(defaultVersion());
+    }
+
+    /**
+     * Checks if a version is supported.
+     *
+     * @param versionId version identifier
+     * @return true if supported
+     */
+    default boolean isSupported(String versionId) {
+        return find(versionId).isPresent();
+    }
+
+    /**
+     * Finds the registry for an API package among {@link java.util.ServiceLoader} providers
+     * visible to the thread context class loader.
+     *
+     * @param apiPackage API package of the generated code
+     * @return optional containing the registry, or empty if none is published
+     */
+    static Optional<ContextRegistry<?>> load(String apiPackage) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ContextRegistry.class.getClassLoader();
+        }
+        for (ContextRegistry<?> registry : java.util.ServiceLoader.load(ContextRegistry.class, classLoader)) {
+            if (registry.getApiPackage().equals(apiPackage)) {
+                return Optional.of(registry);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,277 @@
+package io.alnovis.protowrapper.runtime;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events emitted by generated wrapper code.
+ *
+ * <p>Generated classes call this class only when the plugin is configured with
+ * {@code generateJfrEvents=true}. Every call site starts its event only if {@link #ENABLED}
+ * is set and commits it only if it was started:</p>
+ * <pre>{@code
+ * WrapperEvents.ParseEvent jfrEvent = WrapperEvents.ENABLED ? WrapperEvents.beginParse() : null;
+ * Order result = new Order(OrderProto.parseFrom(bytes));
+ * if (jfrEvent != null) {
+ *     WrapperEvents.commitParse(jfrEvent, "Order", "v2", bytes.length);
+ * }
+ * return result;
+ * }</pre>
+ *
+ * <p>The message name of every event is the wrapper interface name qualified by its
+ * enclosing messages, e.g. {@code Order} or {@code Order.Item}.</p>
+ *
+ * <p>{@link #ENABLED} is a static final constant read once from the
+ * {@code protowrapper.jfr.enabled} system property, so when it is {@code false}
+ * the JIT folds the guard and the instrumentation costs nothing. When it is
+ * {@code true}, events are still subject to the JFR recording settings
+ * (e.g. {@code jfr configure} or a custom {@code .jfc} file).</p>
+ *
+ * <p>Start the application with:</p>
+ * <pre>{@code
+ * java -Dprotowrapper.jfr.enabled=true -XX:StartFlightRecording=filename=app.jfr ...
+ * }</pre>
+ *
+ * @since 2.4.0
+ */
+public final class WrapperEvents {
+
+    /**
+     * System property that enables event emission.
+     */
+    public static final String ENABLED_PROPERTY = "protowrapper.jfr.enabled";
+
+    /**
+     * Whether generated code emits events. Read once at class initialization.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final String CATEGORY = "Proto Wrapper";
+
+    private WrapperEvents() {
+        // Utility class
+    }
+
+    // ==================== Event Types ====================
+
+    /**
+     * Parsing of a wrapper from protobuf bytes.
+     */
+    @Name("io.alnovis.protowrapper.Parse")
+    @Label("Wrapper Parse")
+    @Description("Parsing of a wrapper message from protobuf bytes")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class ParseEvent extends Event {
+        /** Message type name. */
+        @Label("Message")
+        public String message;
+
+        /** Protocol version. */
+        @Label("Version")
+        public String version;
+
+        /** Payload size. */
+        @Label("Size")
+        @DataAmount
+        public int size;
+    }
+
+    /**
+     * Conversion of a wrapper to another protocol version via {@code asVersion}.
+     */
+    @Name("io.alnovis.protowrapper.Convert")
+    @Label("Wrapper Version Conversion")
+    @Description("Conversion of a wrapper message between protocol versions")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class ConvertEvent extends Event {
+        /** Message type name. */
+        @Label("Message")
+        public String message;
+
+        /** Source protocol version. */
+        @Label("Source Version")
+        public String sourceVersion;
+
+        /** Target protocol version. */
+        @Label("Target Version")
+        public String targetVersion;
+
+        /** Size of the serialized intermediate payload. */
+        @Label("Size")
+        @DataAmount
+        public int size;
+    }
+
+    /**
+     * Serialization of a wrapper via {@code toBytes}.
+     */
+    @Name("io.alnovis.protowrapper.Serialize")
+    @Label("Wrapper Serialize")
+    @Description("Serialization of a wrapper message to protobuf bytes")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class SerializeEvent extends Event {
+        /** Message type name. */
+        @Label("Message")
+        public String message;
+
+        /** Protocol version. */
+        @Label("Version")
+        public String version;
+
+        /** Payload size. */
+        @Label("Size")
+        @DataAmount
+        public int size;
+    }
+
+    /**
+     * Building of a wrapper via its builder's {@code build()}.
+     */
+    @Name("io.alnovis.protowrapper.Build")
+    @Label("Wrapper Build")
+    @Description("Building of a wrapper message from its builder")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public static final class BuildEvent extends Event {
+        /** Message type name. */
+        @Label("Message")
+        public String message;
+
+        /** Protocol version. */
+        @Label("Version")
+        public String version;
+    }
+
+    // ==================== Parse ====================
+
+    /**
+     * Start timing a parse operation.
+     *
+     * @return started event
+     */
+    public static ParseEvent beginParse() {
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finish and commit a parse event if the recording wants it.
+     *
+     * @param event event returned by {@link #beginParse()}
+     * @param message message type name
+     * @param version protocol version
+     * @param size payload size in bytes
+     */
+    public static void commitParse(ParseEvent event, String message, String version, int size) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.message = message;
+            event.version = version;
+            event.size = size;
+            event.commit();
+        }
+    }
+
+    // ==================== Convert ====================
+
+    /**
+     * Start timing a version conversion.
+     *
+     * @return started event
+     */
+    public static ConvertEvent beginConvert() {
+        ConvertEvent event = new ConvertEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finish and commit a version conversion event if the recording wants it.
+     *
+     * @param event event returned by {@link #beginConvert()}
+     * @param message message type name
+     * @param sourceVersion source protocol version
+     * @param targetVersion target protocol version
+     * @param size serialized payload size in bytes
+     */
+    public static void commitConvert(ConvertEvent event, String message,
+                                     String sourceVersion, String targetVersion, int size) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.message = message;
+            event.sourceVersion = sourceVersion;
+            event.targetVersion = targetVersion;
+            event.size = size;
+            event.commit();
+        }
+    }
+
+    // ==================== Serialize ====================
+
+    /**
+     * Start timing a serialization.
+     *
+     * @return started event
+     */
+    public static SerializeEvent beginSerialize() {
+        SerializeEvent event = new SerializeEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finish and commit a serialization event if the recording wants it.
+     *
+     * @param event event returned by {@link #beginSerialize()}
+     * @param message message type name
+     * @param version protocol version
+     * @param size payload size in bytes
+     */
+    public static void commitSerialize(SerializeEvent event, String message, String version, int size) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.message = message;
+            event.version = version;
+            event.size = size;
+            event.commit();
+        }
+    }
+
+    // ==================== Build ====================
+
+    /**
+     * Start timing a builder {@code build()}.
+     *
+     * @return started event
+     */
+    public static BuildEvent beginBuild() {
+        BuildEvent event = new BuildEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finish and commit a build event if the recording wants it.
+     *
+     * @param event event returned by {@link #beginBuild()}
+     * @param message message type name
+     * @param version protocol version
+     */
+    public static void commitBuild(BuildEvent event, String message, String version) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.message = message;
+            event.version = version;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.alnovis.protowrapper.runtime;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.MessageOrBuilder;
+import com.google.protobuf.TextFormat;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Bounded single-line {@code toString()} for generated wrappers.
+ *
+ * <p>Generated classes call this class only when the plugin is configured with
+ * {@code toStringMaxLength} or {@code toStringMaxFields}. The proto is printed in
+ * single-line text format directly into one {@link StringBuilder}; printing stops as
+ * soon as a limit is reached, so a multi-megabyte message costs no more than the
+ * configured length:</p>
+ * <pre>{@code
+ * Order[version=v2] id: "A-1", customer { name: "Alice" }, items { sku: "X" }, ... (truncated)
+ * }</pre>
+ *
+ * <p>Top-level fields are separated by {@code ", "}. Each repeated element counts as
+ * one field toward the field limit.</p>
+ *
+ * @since 2.4.0
+ */
+public final class WrapperToString {
+
+    /**
+     * Suffix appended when a limit cut the output short.
+     */
+    public static final String TRUNCATED = "... (truncated)";
+
+    private static final TextFormat.Printer PRINTER = TextFormat.printer().emittingSingleLine(true);
+
+    private WrapperToString() {
+        // Utility class
+    }
+
+    /**
+     * Format a wrapper as {@code Name[version=v1] field: value, ...}.
+     *
+     * @param name wrapper class simple name
+     * @param versionId wrapper version ID, or null to omit {@code [version=...]} (nested wrappers)
+     * @param proto the wrapped proto message
+     * @param maxLength maximum number of characters printed for the proto, 0 for no limit
+     * @param maxFields maximum number of top-level field values printed, 0 for no limit
+     * @return single-line representation, at most {@code maxLength} proto characters plus
+     *         {@link #TRUNCATED}
+     */
+    public static String format(String name, String versionId, MessageOrBuilder proto,
+                                int maxLength, int maxFields) {
+        StringBuilder sb = new StringBuilder(maxLength > 0 ? Math.min(maxLength, 1024) + 64 : 256);
+        sb.append(name);
+        if (versionId != null) {
+            sb.append("[version=").append(versionId).append(']');
+        }
+        sb.append(' ');
+
+        int limit = maxLength > 0 ? sb.length() + maxLength : Integer.MAX_VALUE;
+        BoundedAppendable out = new BoundedAppendable(sb, limit);
+        try {
+            int printed = 0;
+            for (Map.Entry<FieldDescriptor, Object> entry : proto.getAllFields().entrySet()) {
+                FieldDescriptor field = entry.getKey();
+                if (field.isRepeated()) {
+                    for (Object element : (Iterable<?>) entry.getValue()) {
+                        printed = printValue(out, field, element, printed, maxFields);
+                    }
+                } else {
+                    printed = printValue(out, field, entry.getValue(), printed, maxFields);
+                }
+            }
+            if (!proto.getUnknownFields().asMap().isEmpty()) {
+                separate(out, printed);
+                PRINTER.print(proto.getUnknownFields(), out);
+                trimTrailingSpace(sb);
+            }
+        } catch (LimitReachedException e) {
+            trimTrailingSpace(sb);
+            return sb.append(TRUNCATED).toString();
+        } catch (IOException e) {
+            // StringBuilder never throws
+            throw new IllegalStateException(e);
+        }
+        trimTrailingSpace(sb);
+        return sb.toString();
+    }
+
+    private static int printValue(BoundedAppendable out, FieldDescriptor field, Object value,
+                                  int printed, int maxFields) throws IOException {
+        if (maxFields > 0 && printed >= maxFields) {
+            throw LimitReachedException.INSTANCE;
+        }
+        separate(out, printed);
+        // printField() expects the whole list for repeated fields; print one element at a time
+        PRINTER.printField(field, field.isRepeated() ? Collections.singletonList(value) : value, out);
+        trimTrailingSpace(out.sb);
+        return printed + 1;
+    }
+
+    private static void separate(BoundedAppendable out, int printed) throws IOException {
+        if (printed > 0) {
+            out.append(", ");
+        }
+    }
+
+    private static void trimTrailingSpace(StringBuilder sb) {
+        int length = sb.length();
+        while (length > 0 && sb.charAt(length - 1) == ' ') {
+            length--;
+        }
+        sb.setLength(length);
+    }
+
+    /**
+     * Appends to a StringBuilder and aborts printing once the limit is exceeded.
+     */
+    private static final class BoundedAppendable implements Appendable {
+
+        private final StringBuilder sb;
+        private final int limit;
+
+        BoundedAppendable(StringBuilder sb, int limit) {
+            this.sb = sb;
+            this.limit = limit;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            int room = limit - sb.length();
+            if (end - start > room) {
+                sb.append(csq, start, start + Math.max(room, 0));
+                throw LimitReachedException.INSTANCE;
+            }
+            sb.append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            if (sb.length() >= limit) {
+                throw LimitReachedException.INSTANCE;
+            }
+            sb.append(c);
+            return this;
+        }
+    }
+
+    /**
+     * Thrown by {@link BoundedAppendable} to stop the printer; shared and without stack trace.
+     */
+    private static final class LimitReachedException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        static final LimitReachedException INSTANCE = new LimitReachedException();
+
+        private LimitReachedException() {
+            super("toString limit reached", null);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.alnovis.protowrapper.analyzer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.alnovis.protowrapper.PluginLogger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+class DescriptorCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ProtocExecutor protoc;
+    private Path cacheDir;
+
+    @BeforeEach
+    void setUp() {
+        protoc = new ProtocExecutor(PluginLogger.noop());
+        cacheDir = tempDir.resolve("cache");
+    }
+
+    @Test
+    void shouldUseSameKeyForSameContent() throws IOException {
+        Path v1 = writeProto("v1", "message Order { int32 id = 1; }");
+        Path copy = writeProto("copy", "message Order { int32 id = 1; }");
+        Path v2 = writeProto("v2", "message Order { int64 id = 1; }");
+
+        DescriptorCache cache = new DescriptorCache(cacheDir, protoc, PluginLogger.noop());
+
+        assertThat(cache.computeKey(v1, v1)).isEqualTo(cache.computeKey(copy, copy));
+        assertThat(cache.computeKey(v1, v1)).isNotEqualTo(cache.computeKey(v2, v2));
+    }
+
+    @Test
+    void shouldIncludeImportedFilesInKey() throws IOException {
+        Path root = tempDir.resolve("proto");
+        Path v1 = writeProto("proto/v1", "message Order { int32 id = 1; }");
+        DescriptorCache cache = new DescriptorCache(cacheDir, protoc, PluginLogger.noop());
+        String before = cache.computeKey(v1, root);
+
+        Files.writeString(root.resolve("common.proto"), "syntax = \"proto3\";\nmessage Money { int64 units = 1; }\n");
+
+        assertThat(cache.computeKey(v1, root)).isNotEqualTo(before);
+    }
+
+    @Test
+    void shouldRunProtocOncePerContent() throws IOException {
+        assumeThat(protoc.isProtocAvailable())
+            .as("protoc must be available")
+            .isTrue();
+
+        Path v1 = writeProto("v1", "message Order { int32 id = 1; }");
+        Path copy = writeProto("copy", "message Order { int32 id = 1; }");
+
+        DescriptorCache cache = new DescriptorCache(cacheDir, protoc, PluginLogger.noop());
+        Path first = cache.getDescriptor(v1, v1);
+        Path second = cache.getDescriptor(copy, copy);
+
+        assertThat(first).exists().isEqualTo(second);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+
+        // A new cache over the same directory reuses the stored descriptor
+        DescriptorCache reopened = new DescriptorCache(cacheDir, protoc, PluginLogger.noop());
+        assertThat(reopened.getDescriptor(v1, v1)).isEqualTo(first);
+        assertThat(reopened.getMisses()).isZero();
+    }
+
+    private Path writeProto(String dir, String body) throws IOException {
+        Path protoDir = Files.createDirectories(tempDir.resolve(dir));
+        Files.writeString(protoDir.resolve("order.proto"), "syntax = \"proto3\";\npackage test;\n" + body + "\n");
+        return protoDir;
+    }
+}
@@ -0,0 +1,93 @@
+package io.alnovis.protowrapper.analyzer;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
+import io.alnovis.protowrapper.analyzer.ProtoAnalyzer.VersionSchema;
+import io.alnovis.protowrapper.model.EnumInfo;
+import io.alnovis.protowrapper.model.FieldInfo;
+import io.alnovis.protowrapper.model.MessageInfo;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link VersionSchema} lookup indexes.
+ */
+class VersionSchemaTest {
+
+    @Test
+    void getMessageByPath_findsTopLevelAndNestedMessages() {
+        VersionSchema schema = new VersionSchema("v1");
+        schema.addMessage(new MessageInfo(order(), "test", "order.proto"));
+
+        assertThat(schema.getMessageByPath("Order")).map(MessageInfo::getName).contains("Order");
+        assertThat(schema.getMessageByPath("Order.Item")).map(MessageInfo::getName).contains("Item");
+        assertThat(schema.getMessageByPath("Order.Item.Detail")).map(MessageInfo::getName).contains("Detail");
+        assertThat(schema.getMessageByPath("Item")).isEmpty();
+    }
+
+    @Test
+    void getEnumByPath_findsTopLevelAndNestedEnums() {
+        VersionSchema schema = new VersionSchema("v1");
+        schema.addMessage(new MessageInfo(order(), "test", "order.proto"));
+        schema.addEnum(new EnumInfo(status("Currency")));
+
+        assertThat(schema.getEnumByPath("Order.Item.Status")).map(EnumInfo::getName).contains("Status");
+        assertThat(schema.getEnumByPath("Currency")).map(EnumInfo::getName).contains("Currency");
+        assertThat(schema.getEnumByPath("Status")).isEmpty();
+    }
+
+    @Test
+    void addMessage_replacingMessageDropsOldNestedPaths() {
+        VersionSchema schema = new VersionSchema("v1");
+        schema.addMessage(new MessageInfo(order(), "test", "order.proto"));
+        schema.addMessage(new MessageInfo(DescriptorProto.newBuilder().setName("Order").build(), "test", "order.proto"));
+
+        assertThat(schema.getMessageByPath("Order")).isPresent();
+        assertThat(schema.getMessageByPath("Order.Item")).isEmpty();
+        assertThat(schema.getEnumByPath("Order.Item.Status")).isEmpty();
+    }
+
+    @Test
+    void messageInfo_indexesFieldsByNumber() {
+        MessageInfo order = new MessageInfo(order(), "test", "order.proto");
+
+        assertThat(order.getFieldsByNumber()).containsOnlyKeys(1, 5);
+        assertThat(order.findFieldByNumber(5)).map(FieldInfo::getProtoName).contains("note");
+        assertThat(order.findFieldByNumber(2)).isEmpty();
+    }
+
+    private static DescriptorProto order() {
+        DescriptorProto detail = DescriptorProto.newBuilder().setName("Detail").build();
+        DescriptorProto item = DescriptorProto.newBuilder()
+                .setName("Item")
+                .addNestedType(detail)
+                .addEnumType(status("Status"))
+                .build();
+        return DescriptorProto.newBuilder()
+                .setName("Order")
+                .addField(field("id", 1, Type.TYPE_INT64))
+                .addField(field("note", 5, Type.TYPE_STRING))
+                .addNestedType(item)
+                .build();
+    }
+
+    private static FieldDescriptorProto field(String name, int number, Type type) {
+        return FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL)
+                .build();
+    }
+
+    private static EnumDescriptorProto status(String name) {
+        return EnumDescriptorProto.newBuilder()
+                .setName(name)
+                .addValue(EnumValueDescriptorProto.newBuilder().setName("UNKNOWN").setNumber(0))
+                .build();
+    }
+}
@@ -240,6 +240,47 @@ class ContractProviderTest {
             assertNotSame(contracts1, contracts1After);
             assertSame(contracts2, contracts2After);
         }
+
+        @Test
+        @DisplayName("Cache statistics count hits and misses")
+        void cacheStatsCountHitsAndMisses() {
+            MergedField field = MergedField.builder()
+                    .addVersionField("v1", new FieldInfo(
+                            "name", "name", 1, Type.TYPE_STRING,
+                            Label.LABEL_OPTIONAL, null))
+                    .build();
+            MergedMessage message = new MergedMessage("TestMessage");
+            message.addField(field);
+
+            ContractProvider.CacheStats before = provider.getCacheStats();
+            provider.getContracts(message);
+            provider.getContract(message, field);
+            provider.getContracts(message);
+            ContractProvider.CacheStats after = provider.getCacheStats();
+
+            assertEquals(1, after.misses() - before.misses());
+            assertEquals(2, after.hits() - before.hits());
+            assertTrue(after.size() >= 1);
+        }
+
+        @Test
+        @DisplayName("Messages with the same name are cached separately")
+        void sameNameMessagesCachedSeparately() {
+            MergedField field = MergedField.builder()
+                    .addVersionField("v1", new FieldInfo(
+                            "name", "name", 1, Type.TYPE_STRING,
+                            Label.LABEL_OPTIONAL, null))
+                    .build();
+            MergedMessage message1 = new MergedMessage("TestMessage");
+            message1.addField(field);
+            MergedMessage message2 = new MergedMessage("TestMessage");
+
+            assertEquals(1, provider.getContracts(message1).size());
+            assertTrue(provider.getContracts(message2).isEmpty());
+            // Field not in message: built on demand, not cached
+            assertNotNull(provider.getContract(message2, field));
+            assertTrue(provider.getContracts(message2).isEmpty());
+        }
     }
 
     // ==================== Utility Method Tests ====================
@@ -360,6 +360,162 @@ class SchemaDiffEngineTest {
         }
     }
 
+    @Nested
+    class MultiVersionComparison {
+
+        private List<VersionSchema> threeVersions() {
+            VersionSchema v1 = new VersionSchema("v1");
+            VersionSchema v2 = new VersionSchema("v2");
+            VersionSchema v3 = new VersionSchema("v3");
+            MessageInfo shared = createMessage("Shared", 1, "id", FieldDescriptorProto.Type.TYPE_STRING);
+            v1.addMessage(shared);
+            v2.addMessage(shared);
+            v3.addMessage(shared);
+            v1.addMessage(createMessage("Order", 1, "amount", FieldDescriptorProto.Type.TYPE_INT32));
+            v2.addMessage(createMessage("Order", 1, "amount", FieldDescriptorProto.Type.TYPE_INT64));
+            v3.addMessage(createMessage("Order", 1, "amount", FieldDescriptorProto.Type.TYPE_INT64));
+            v3.addMessage(createMessage("Payment", 1, "id", FieldDescriptorProto.Type.TYPE_STRING));
+            return List.of(v1, v2, v3);
+        }
+
+        @Test
+        void comparesAdjacentVersions() {
+            List<SchemaDiff> diffs = engine.compareAdjacent(threeVersions());
+
+            assertEquals(2, diffs.size());
+            assertEquals("v1", diffs.get(0).getV1Name());
+            assertEquals("v2", diffs.get(0).getV2Name());
+            assertEquals(1, diffs.get(0).getModifiedMessages().size());
+            assertEquals("v2", diffs.get(1).getV1Name());
+            assertEquals("v3", diffs.get(1).getV2Name());
+            assertEquals(0, diffs.get(1).getModifiedMessages().size());
+            assertEquals(1, diffs.get(1).getAddedMessages().size());
+        }
+
+        @Test
+        void comparesAllPairsInOrder() {
+            List<SchemaDiff> diffs = engine.compareAllPairs(threeVersions());
+
+            assertEquals(List.of("v1-v2", "v1-v3", "v2-v3"), diffs.stream()
+                    .map(d -> d.getV1Name() + "-" + d.getV2Name())
+                    .toList());
+            assertTrue(engine.compareAdjacent(List.of(new VersionSchema("v1"))).isEmpty());
+        }
+
+        @Test
+        void parallelComparisonMatchesSequential() {
+            List<VersionSchema> schemas = threeVersions();
+            List<SchemaDiff> sequential = engine.compareAllPairs(schemas);
+            List<SchemaDiff> parallel = new SchemaDiffEngine().setParallel(true).compareAllPairs(schemas);
+
+            assertEquals(sequential.size(), parallel.size());
+            for (int i = 0; i < sequential.size(); i++) {
+                assertEquals(sequential.get(i).getSummary(), parallel.get(i).getSummary());
+                assertEquals(sequential.get(i).getMessageDiffs(), parallel.get(i).getMessageDiffs());
+            }
+        }
+    }
+
+    @Nested
+    class ContentHashShortCircuit {
+
+        @Test
+        void equalDefinitionsHaveEqualHashes() {
+            MessageInfo m1 = createMessage("Order", 1, "id", FieldDescriptorProto.Type.TYPE_STRING);
+            MessageInfo m2 = createMessage("Order", 1, "id", FieldDescriptorProto.Type.TYPE_STRING);
+            MessageInfo changed = createMessage("Order", 1, "id", FieldDescriptorProto.Type.TYPE_INT32);
+
+            assertNotSame(m1, m2);
+            assertTrue(m1.hasSameContent(m2));
+            assertFalse(m1.hasSameContent(changed));
+        }
+
+        @Test
+        void nestedChangeChangesParentHash() {
+            MessageInfo m1 = new MessageInfo(orderWithItem(FieldDescriptorProto.Type.TYPE_INT32), "test.package");
+            MessageInfo m2 = new MessageInfo(orderWithItem(FieldDescriptorProto.Type.TYPE_INT32), "test.package");
+            MessageInfo changed = new MessageInfo(orderWithItem(FieldDescriptorProto.Type.TYPE_INT64), "test.package");
+
+            assertEquals(m1.getContentHash(), m2.getContentHash());
+            assertNotEquals(m1.getContentHash(), changed.getContentHash());
+
+            VersionSchema v1 = new VersionSchema("v1");
+            VersionSchema v2 = new VersionSchema("v2");
+            v1.addMessage(m1);
+            v2.addMessage(changed);
+            SchemaDiff diff = engine.compare(v1, v2);
+
+            assertEquals(1, diff.getModifiedMessages().size());
+            assertEquals(1, diff.getModifiedMessages().get(0).nestedMessageChanges().size());
+        }
+
+        @Test
+        void identicalSeparatelyParsedSchemasHaveNoChanges() {
+            VersionSchema v1 = new VersionSchema("v1");
+            VersionSchema v2 = new VersionSchema("v2");
+            v1.addMessage(new MessageInfo(orderWithItem(FieldDescriptorProto.Type.TYPE_INT32), "test.package"));
+            v2.addMessage(new MessageInfo(orderWithItem(FieldDescriptorProto.Type.TYPE_INT32), "test.package"));
+
+            SchemaDiff diff = engine.compare(v1, v2);
+
+            assertTrue(diff.getMessageDiffs().isEmpty());
+        }
+
+        @Test
+        void schemasDifferingOnlyInPackageHaveEqualHashes() {
+            MessageInfo m1 = new MessageInfo(customerWithAddress(".com.example.proto.v1.Address"),
+                    "com.example.proto.v1");
+            MessageInfo m2 = new MessageInfo(customerWithAddress(".com.example.proto.v2.Address"),
+                    "com.example.proto.v2");
+            MessageInfo changed = new MessageInfo(customerWithAddress(".com.example.proto.v2.Location"),
+                    "com.example.proto.v2");
+            EnumDescriptorProto status = EnumDescriptorProto.newBuilder()
+                    .setName("Status")
+                    .addValue(EnumValueDescriptorProto.newBuilder().setName("ACTIVE").setNumber(0))
+                    .build();
+            EnumInfo e1 = new EnumInfo(status, "com.example.proto.v1", "v1/status.proto");
+            EnumInfo e2 = new EnumInfo(status, "com.example.proto.v2", "v2/status.proto");
+
+            assertTrue(m1.hasSameContent(m2));
+            assertFalse(m1.hasSameContent(changed));
+            assertTrue(e1.hasSameContent(e2));
+
+            VersionSchema v1 = new VersionSchema("v1");
+            VersionSchema v2 = new VersionSchema("v2");
+            v1.addMessage(m1);
+            v1.addEnum(e1);
+            v2.addMessage(m2);
+            v2.addEnum(e2);
+            SchemaDiff diff = engine.compare(v1, v2);
+
+            assertTrue(diff.getMessageDiffs().isEmpty());
+            assertTrue(diff.getEnumDiffs().isEmpty());
+        }
+
+        private DescriptorProto customerWithAddress(String addressType) {
+            return DescriptorProto.newBuilder()
+                    .setName("Customer")
+                    .addField(createFieldProto(1, "id", FieldDescriptorProto.Type.TYPE_STRING))
+                    .addField(createFieldProto(2, "address", FieldDescriptorProto.Type.TYPE_MESSAGE).toBuilder()
+                            .setTypeName(addressType))
+                    .addNestedType(DescriptorProto.newBuilder()
+                            .setName("Contact")
+                            .addField(createFieldProto(1, "home", FieldDescriptorProto.Type.TYPE_MESSAGE).toBuilder()
+                                    .setTypeName(addressType)))
+                    .build();
+        }
+
+        private DescriptorProto orderWithItem(FieldDescriptorProto.Type quantityType) {
+            return DescriptorProto.newBuilder()
+                    .setName("Order")
+                    .addField(createFieldProto(1, "id", FieldDescriptorProto.Type.TYPE_STRING))
+                    .addNestedType(DescriptorProto.newBuilder()
+                            .setName("Item")
+                            .addField(createFieldProto(1, "quantity", quantityType)))
+                    .build();
+        }
+    }
+
     // Helper methods
 
     private MessageInfo createMessage(String name, int fieldNum, String fieldName, FieldDescriptorProto.Type type) {
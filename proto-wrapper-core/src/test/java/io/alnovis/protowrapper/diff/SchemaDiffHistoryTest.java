@@ -0,0 +1,115 @@
+package io.alnovis.protowrapper.diff;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
+import org.junit.jupiter.api.Test;
+import io.alnovis.protowrapper.analyzer.ProtoAnalyzer.VersionSchema;
+import io.alnovis.protowrapper.diff.SchemaDiffHistory.TimelineEntry;
+import io.alnovis.protowrapper.diff.model.BreakingChange;
+import io.alnovis.protowrapper.model.MessageInfo;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SchemaDiffHistory.
+ */
+class SchemaDiffHistoryTest {
+
+    @Test
+    void comparesAdjacentVersionsInOrder() {
+        SchemaDiffHistory history = SchemaDiffHistory.compare(fourVersions(), true);
+
+        assertEquals(List.of("v1", "v2", "v3", "v4"), history.getVersions());
+        assertEquals(3, history.getDiffs().size());
+        assertEquals(List.of("v1-v2", "v2-v3", "v3-v4"), history.getDiffs().stream()
+            .map(d -> d.getV1Name() + "-" + d.getV2Name())
+            .toList());
+    }
+
+    @Test
+    void buildsBreakingChangeTimeline() {
+        SchemaDiffHistory history = SchemaDiffHistory.compare(fourVersions(), false);
+
+        List<TimelineEntry> timeline = history.getTimeline();
+
+        // INFO-level changes (the removed Payment message) are not part of the timeline
+        assertEquals(2, timeline.size());
+        assertEquals("v2", timeline.get(0).fromVersion());
+        assertEquals("v3", timeline.get(0).toVersion());
+        assertEquals(BreakingChange.Type.FIELD_TYPE_INCOMPATIBLE, timeline.get(0).change().type());
+        assertEquals("Order.status", timeline.get(0).change().entityPath());
+        assertEquals("v3", timeline.get(1).fromVersion());
+        assertEquals("v4", timeline.get(1).toVersion());
+        assertEquals(BreakingChange.Severity.WARNING, timeline.get(1).change().severity());
+        assertTrue(history.hasBreakingChanges());
+        assertEquals(1, history.getErrorCount());
+        assertEquals(1, history.getWarningCount());
+    }
+
+    @Test
+    void parallelAndSequentialComparisonAgree() {
+        SchemaDiffHistory sequential = SchemaDiffHistory.compare(fourVersions(), false);
+        SchemaDiffHistory parallel = SchemaDiffHistory.compare(fourVersions(), true);
+
+        assertEquals(sequential.getTimeline(), parallel.getTimeline());
+        assertEquals(sequential.toString(), parallel.toString());
+    }
+
+    @Test
+    void emptyForSingleVersion() {
+        SchemaDiffHistory history = SchemaDiffHistory.compare(List.of(new VersionSchema("v1")), true);
+
+        assertTrue(history.getDiffs().isEmpty());
+        assertTrue(history.getTimeline().isEmpty());
+        assertFalse(history.hasBreakingChanges());
+    }
+
+    @Test
+    void rejectsNonAdjacentDiffs() {
+        SchemaDiff first = new SchemaDiff("v1", "v2", List.of(), List.of(), List.of());
+        SchemaDiff unrelated = new SchemaDiff("v3", "v4", List.of(), List.of(), List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> new SchemaDiffHistory(List.of(first, unrelated)));
+    }
+
+    /**
+     * v2 adds Order.note, v3 changes Order.status string to bool (error),
+     * v4 changes Order.note string to bytes (warning) and removes Payment (info).
+     */
+    private List<VersionSchema> fourVersions() {
+        VersionSchema v1 = new VersionSchema("v1");
+        VersionSchema v2 = new VersionSchema("v2");
+        VersionSchema v3 = new VersionSchema("v3");
+        VersionSchema v4 = new VersionSchema("v4");
+        v1.addMessage(createMessage("Order", "id", Type.TYPE_STRING, "status", Type.TYPE_STRING));
+        v2.addMessage(createMessage("Order", "id", Type.TYPE_STRING, "status", Type.TYPE_STRING,
+            "note", Type.TYPE_STRING));
+        v3.addMessage(createMessage("Order", "id", Type.TYPE_STRING, "status", Type.TYPE_BOOL,
+            "note", Type.TYPE_STRING));
+        v4.addMessage(createMessage("Order", "id", Type.TYPE_STRING, "status", Type.TYPE_BOOL,
+            "note", Type.TYPE_BYTES));
+        for (VersionSchema v : List.of(v1, v2, v3)) {
+            v.addMessage(createMessage("Payment", "id", Type.TYPE_STRING));
+        }
+        return List.of(v1, v2, v3, v4);
+    }
+
+    /**
+     * Creates a message from name/type pairs; fields are numbered from 1.
+     */
+    private MessageInfo createMessage(String name, Object... namesAndTypes) {
+        DescriptorProto.Builder builder = DescriptorProto.newBuilder().setName(name);
+        for (int i = 0; i < namesAndTypes.length; i += 2) {
+            builder.addField(FieldDescriptorProto.newBuilder()
+                .setName((String) namesAndTypes[i])
+                .setNumber(i / 2 + 1)
+                .setType((Type) namesAndTypes[i + 1])
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL)
+                .build());
+        }
+        return new MessageInfo(builder.build(), "test.package");
+    }
+}
@@ -14,6 +14,8 @@ import io.alnovis.protowrapper.model.EnumInfo;
 import io.alnovis.protowrapper.model.FieldInfo;
 import io.alnovis.protowrapper.model.MessageInfo;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -474,6 +476,57 @@ class JsonDiffFormatterTest {
         assertTrue(result.contains("<fieldMapping><message>Payment</message><fieldName>ref</fieldName></fieldMapping>"));
     }
 
+    @Test
+    void format_streamsSameOutputAsString() throws IOException {
+        SchemaDiff diff = createRichDiff();
+
+        StringWriter full = new StringWriter();
+        formatter.format(diff, full);
+        StringWriter breaking = new StringWriter();
+        formatter.formatBreakingOnly(diff, breaking);
+
+        assertEquals(formatter.format(diff), full.toString());
+        assertEquals(formatter.formatBreakingOnly(diff), breaking.toString());
+    }
+
+    @Test
+    void format_propagatesWriteErrors() {
+        Appendable failing = new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public Appendable append(char c) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+
+        IOException e = assertThrows(IOException.class, () -> formatter.format(createRichDiff(), failing));
+        assertEquals("disk full", e.getMessage());
+    }
+
+    private SchemaDiff createRichDiff() {
+        MessageDiff added = MessageDiff.added(createMessage("NewMessage", "id", 1, "name", 2));
+        MessageDiff removed = MessageDiff.removed(createMessage("OldMessage", "data", 1));
+        EnumDiff addedEnum = EnumDiff.added(createEnum("Status", "PENDING", 0, "ACTIVE", 1));
+        BreakingChange breaking = new BreakingChange(
+            BreakingChange.Type.MESSAGE_REMOVED,
+            BreakingChange.Severity.ERROR,
+            "OldMessage",
+            "Message removed",
+            "OldMessage",
+            null
+        );
+        return new SchemaDiff("v1", "v2", List.of(added, removed), List.of(addedEnum), List.of(breaking));
+    }
+
     // Helper methods
     private SchemaDiff createEmptyDiff(String v1Name, String v2Name) {
         return new SchemaDiff(v1Name, v2Name, List.of(), List.of(), List.of());
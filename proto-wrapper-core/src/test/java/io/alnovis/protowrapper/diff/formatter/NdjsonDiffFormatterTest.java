@@ -0,0 +1,191 @@
+package io.alnovis.protowrapper.diff.formatter;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import io.alnovis.protowrapper.diff.SchemaDiff;
+import io.alnovis.protowrapper.diff.model.*;
+import io.alnovis.protowrapper.model.EnumInfo;
+import io.alnovis.protowrapper.model.FieldInfo;
+import io.alnovis.protowrapper.model.MessageInfo;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for NdjsonDiffFormatter.
+ */
+class NdjsonDiffFormatterTest {
+
+    private NdjsonDiffFormatter formatter;
+
+    @BeforeEach
+    void setUp() {
+        formatter = new NdjsonDiffFormatter();
+    }
+
+    @Test
+    void format_emptyDiffWritesOnlySummary() {
+        SchemaDiff diff = new SchemaDiff("v1", "v2", List.of(), List.of(), List.of());
+
+        List<String> lines = lines(formatter.format(diff));
+
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"kind\":\"summary\",\"v1\":\"v1\",\"v2\":\"v2\""));
+        assertTrue(lines.get(0).contains("\"addedMessages\":0"));
+    }
+
+    @Test
+    void format_writesOneRecordPerChange() {
+        List<String> lines = lines(formatter.format(createRichDiff()));
+
+        // added message, removed message, modified message + 1 field, nested message,
+        // added enum, modified enum + 1 value, 1 breaking change, summary
+        assertEquals(10, lines.size());
+        for (String line : lines) {
+            assertTrue(line.startsWith("{\"kind\":\""), line);
+            assertTrue(line.endsWith("}"), line);
+            assertTrue(line.contains("\"v1\":\"v1\",\"v2\":\"v2\""), line);
+        }
+        assertTrue(lines.get(lines.size() - 1).startsWith("{\"kind\":\"summary\""));
+    }
+
+    @Test
+    void format_writesFieldChangeRecord() {
+        String result = formatter.format(createRichDiff());
+
+        assertTrue(result.contains("{\"kind\":\"field\",\"v1\":\"v1\",\"v2\":\"v2\",\"message\":\"Order\","
+            + "\"fieldNumber\":3,\"fieldName\":\"status\",\"change\":\"REMOVED\",\"v1Type\":\"string\","
+            + "\"breaking\":true}\n"));
+    }
+
+    @Test
+    void format_usesDottedPathForNestedTypes() {
+        String result = formatter.format(createRichDiff());
+
+        assertTrue(result.contains("\"kind\":\"message\",\"v1\":\"v1\",\"v2\":\"v2\",\"message\":\"Order.Item\","
+            + "\"change\":\"ADDED\""));
+    }
+
+    @Test
+    void format_writesEnumValueRecord() {
+        String result = formatter.format(createRichDiff());
+
+        assertTrue(result.contains("{\"kind\":\"enumValue\",\"v1\":\"v1\",\"v2\":\"v2\",\"enum\":\"Color\","
+            + "\"value\":\"BLUE\",\"change\":\"VALUE_REMOVED\",\"v1Number\":2,\"breaking\":true}\n"));
+    }
+
+    @Test
+    void format_escapesJsonInValues() {
+        BreakingChange breaking = new BreakingChange(
+            BreakingChange.Type.FIELD_REMOVED,
+            BreakingChange.Severity.ERROR,
+            "Order.note",
+            "Field \"note\" removed\nsee docs",
+            null,
+            null
+        );
+        SchemaDiff diff = new SchemaDiff("v1", "v2", List.of(), List.of(), List.of(breaking));
+
+        List<String> lines = lines(formatter.format(diff));
+
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"description\":\"Field \\\"note\\\" removed\\nsee docs\""));
+    }
+
+    @Test
+    void formatBreakingOnly_writesBreakingRecordsAndSummary() {
+        List<String> lines = lines(formatter.formatBreakingOnly(createRichDiff()));
+
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"kind\":\"breaking\""));
+        assertTrue(lines.get(0).contains("\"type\":\"FIELD_REMOVED\",\"severity\":\"ERROR\""));
+        assertTrue(lines.get(1).startsWith("{\"kind\":\"summary\""));
+        assertTrue(lines.get(1).contains("\"errorCount\":1"));
+    }
+
+    @Test
+    void format_streamsSameOutputAsString() throws IOException {
+        SchemaDiff diff = createRichDiff();
+
+        StringWriter full = new StringWriter();
+        formatter.format(diff, full);
+        StringWriter breaking = new StringWriter();
+        formatter.formatBreakingOnly(diff, breaking);
+
+        assertEquals(formatter.format(diff), full.toString());
+        assertEquals(formatter.formatBreakingOnly(diff), breaking.toString());
+    }
+
+    private List<String> lines(String ndjson) {
+        assertTrue(ndjson.endsWith("\n"));
+        return List.of(ndjson.split("\n"));
+    }
+
+    private SchemaDiff createRichDiff() {
+        MessageDiff added = MessageDiff.added(createMessage("Customer", "id", 1, "name", 2));
+        MessageDiff removed = MessageDiff.removed(createMessage("Legacy", "data", 1));
+
+        FieldInfo status = new FieldInfo(FieldDescriptorProto.newBuilder()
+            .setName("status").setNumber(3).setType(Type.TYPE_STRING).setLabel(Label.LABEL_OPTIONAL).build());
+        FieldChange removedField = new FieldChange(3, "status", ChangeType.REMOVED, status, null, List.of());
+        MessageDiff nested = MessageDiff.added(createMessage("Item", "sku", 1));
+        MessageDiff modified = MessageDiff.compared(
+            createMessage("Order", "id", 1, "status", 3),
+            createMessage("Order", "id", 1),
+            List.of(removedField), List.of(nested), List.of());
+
+        EnumDiff addedEnum = EnumDiff.added(createEnum("Status", "PENDING", 0, "ACTIVE", 1));
+        EnumDiff modifiedEnum = EnumDiff.modified(
+            createEnum("Color", "RED", 0, "BLUE", 2),
+            createEnum("Color", "RED", 0),
+            List.of(EnumValueChange.removed("BLUE", 2)));
+
+        BreakingChange breaking = new BreakingChange(
+            BreakingChange.Type.FIELD_REMOVED,
+            BreakingChange.Severity.ERROR,
+            "Order.status",
+            "Field removed",
+            "status",
+            null
+        );
+        return new SchemaDiff("v1", "v2", List.of(added, removed, modified),
+            List.of(addedEnum, modifiedEnum), List.of(breaking));
+    }
+
+    private MessageInfo createMessage(String name, Object... fieldsAndNumbers) {
+        DescriptorProto.Builder builder = DescriptorProto.newBuilder().setName(name);
+
+        for (int i = 0; i < fieldsAndNumbers.length; i += 2) {
+            builder.addField(FieldDescriptorProto.newBuilder()
+                .setName((String) fieldsAndNumbers[i])
+                .setNumber((Integer) fieldsAndNumbers[i + 1])
+                .setType(Type.TYPE_STRING)
+                .setLabel(Label.LABEL_OPTIONAL)
+                .build());
+        }
+
+        return new MessageInfo(builder.build(), "test.package");
+    }
+
+    private EnumInfo createEnum(String name, Object... valuesAndNumbers) {
+        EnumDescriptorProto.Builder builder = EnumDescriptorProto.newBuilder().setName(name);
+
+        for (int i = 0; i < valuesAndNumbers.length; i += 2) {
+            builder.addValue(EnumValueDescriptorProto.newBuilder()
+                .setName((String) valuesAndNumbers[i])
+                .setNumber((Integer) valuesAndNumbers[i + 1])
+                .build());
+        }
+
+        return new EnumInfo(builder.build());
+    }
+}
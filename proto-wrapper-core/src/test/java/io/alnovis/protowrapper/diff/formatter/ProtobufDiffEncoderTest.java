@@ -0,0 +1,264 @@
+package io.alnovis.protowrapper.diff.formatter;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumDescriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import io.alnovis.protowrapper.PluginLogger;
+import io.alnovis.protowrapper.analyzer.ProtocExecutor;
+import io.alnovis.protowrapper.diff.SchemaDiff;
+import io.alnovis.protowrapper.diff.model.*;
+import io.alnovis.protowrapper.model.EnumInfo;
+import io.alnovis.protowrapper.model.FieldInfo;
+import io.alnovis.protowrapper.model.MessageInfo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for ProtobufDiffEncoder.
+ *
+ * <p>Reports are decoded with the shipped schema_diff.proto, compiled by protoc; the
+ * decoding tests are skipped when protoc is not available.</p>
+ */
+class ProtobufDiffEncoderTest {
+
+    private static Descriptor reportType;
+
+    private ProtobufDiffEncoder encoder;
+
+    @BeforeAll
+    static void compileSchema(@TempDir Path tempDir) throws Exception {
+        ProtocExecutor protoc = new ProtocExecutor(PluginLogger.noop());
+        if (!protoc.isProtocAvailable()) {
+            return;
+        }
+        Path protoDir = Files.createDirectories(tempDir.resolve("proto"));
+        try (InputStream in = ProtobufDiffEncoder.class.getResourceAsStream(ProtobufDiffEncoder.PROTO_RESOURCE)) {
+            assertNotNull(in, "schema_diff.proto must be on the classpath");
+            Files.copy(in, protoDir.resolve("schema_diff.proto"));
+        }
+        Path descriptorFile = protoc.generateDescriptor(protoDir, tempDir.resolve("schema_diff.pb"));
+
+        FileDescriptorSet set = FileDescriptorSet.parseFrom(Files.readAllBytes(descriptorFile));
+        FileDescriptorProto file = set.getFileList().stream()
+            .filter(f -> f.getName().equals("schema_diff.proto"))
+            .findFirst()
+            .orElseThrow();
+        reportType = FileDescriptor.buildFrom(file, new FileDescriptor[0]).findMessageTypeByName("SchemaDiffReport");
+    }
+
+    @BeforeEach
+    void setUp() {
+        encoder = new ProtobufDiffEncoder();
+    }
+
+    @Test
+    void encode_isDeterministic() throws IOException {
+        SchemaDiff diff = createRichDiff();
+
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        encoder.writeTo(diff, streamed);
+
+        assertArrayEquals(encoder.encode(diff), encoder.encode(createRichDiff()));
+        assertArrayEquals(encoder.encode(diff), streamed.toByteArray());
+    }
+
+    @Test
+    void encode_emptyDiffContainsOnlyVersions() throws Exception {
+        assumeTrue(reportType != null, "protoc must be available");
+
+        DynamicMessage report = decode(encoder.encode(new SchemaDiff("v1", "v2", List.of(), List.of(), List.of())));
+
+        assertEquals("v1", get(report, "v1"));
+        assertEquals("v2", get(report, "v2"));
+        assertEquals(0, report.getRepeatedFieldCount(field(report, "messages")));
+        assertEquals(0, (int) get((DynamicMessage) get(report, "summary"), "added_messages"));
+    }
+
+    @Test
+    void encode_decodesWithShippedSchema() throws Exception {
+        assumeTrue(reportType != null, "protoc must be available");
+
+        DynamicMessage report = decode(encoder.encode(createRichDiff()));
+
+        DynamicMessage summary = (DynamicMessage) get(report, "summary");
+        assertEquals(1, get(summary, "added_messages"));
+        assertEquals(1, get(summary, "modified_messages"));
+        assertEquals(1, get(summary, "error_count"));
+
+        List<?> messages = (List<?>) get(report, "messages");
+        assertEquals(2, messages.size());
+
+        DynamicMessage added = (DynamicMessage) messages.get(0);
+        assertEquals("Customer", get(added, "name"));
+        assertEquals("CHANGE_TYPE_ADDED", enumName(added, "change_type"));
+        assertEquals(2, added.getRepeatedFieldCount(field(added, "fields")));
+
+        DynamicMessage modified = (DynamicMessage) messages.get(1);
+        assertEquals("Order", get(modified, "name"));
+        assertEquals(true, get(modified, "breaking"));
+        DynamicMessage fieldChange = (DynamicMessage) ((List<?>) get(modified, "field_changes")).get(0);
+        assertEquals(3, get(fieldChange, "field_number"));
+        assertEquals("CHANGE_TYPE_REMOVED", enumName(fieldChange, "change_type"));
+        assertEquals("string", get(fieldChange, "v1_type"));
+        assertFalse(fieldChange.hasField(field(fieldChange, "v2_type")));
+        DynamicMessage nested = (DynamicMessage) ((List<?>) get(modified, "nested_messages")).get(0);
+        assertEquals("Item", get(nested, "name"));
+
+        DynamicMessage enumChange = (DynamicMessage) ((List<?>) get(report, "enums")).get(0);
+        assertEquals("Color", get(enumChange, "name"));
+        DynamicMessage valueChange = (DynamicMessage) ((List<?>) get(enumChange, "value_changes")).get(0);
+        assertEquals("CHANGE_TYPE_VALUE_REMOVED", enumName(valueChange, "change_type"));
+        assertEquals(2, get(valueChange, "v1_number"));
+        assertFalse(valueChange.hasField(field(valueChange, "v2_number")));
+
+        DynamicMessage breaking = (DynamicMessage) ((List<?>) get(report, "breaking_changes")).get(0);
+        assertEquals("FIELD_REMOVED", enumName(breaking, "type"));
+        assertEquals("ERROR", enumName(breaking, "severity"));
+        assertEquals("Order.status", get(breaking, "entity_path"));
+    }
+
+    @Test
+    void encodeBreakingOnly_omitsMessagesAndEnums() throws Exception {
+        assumeTrue(reportType != null, "protoc must be available");
+
+        DynamicMessage report = decode(encoder.encodeBreakingOnly(createRichDiff()));
+
+        assertEquals(0, report.getRepeatedFieldCount(field(report, "messages")));
+        assertEquals(0, report.getRepeatedFieldCount(field(report, "enums")));
+        assertEquals(1, report.getRepeatedFieldCount(field(report, "breaking_changes")));
+        assertEquals(1, get((DynamicMessage) get(report, "summary"), "error_count"));
+    }
+
+    @Test
+    void schemaEnumsMatchModelEnums() {
+        assumeTrue(reportType != null, "protoc must be available");
+
+        assertEnumMirrors(reportType.getFile().findEnumTypeByName("ChangeType"), ChangeType.values(),
+            ProtobufDiffEncoder::number, "CHANGE_TYPE_");
+        Descriptor breaking = reportType.getFile().findMessageTypeByName("BreakingChange");
+        assertEnumMirrors(breaking.findEnumTypeByName("Type"), BreakingChange.Type.values(),
+            ProtobufDiffEncoder::number, "");
+        assertEnumMirrors(breaking.findEnumTypeByName("Severity"), BreakingChange.Severity.values(),
+            ProtobufDiffEncoder::number, "");
+        assertEnumMirrors(reportType.getFile().findMessageTypeByName("SuspectedRenumber")
+            .findEnumTypeByName("Confidence"), SuspectedRenumber.Confidence.values(), ProtobufDiffEncoder::number, "");
+    }
+
+    @Test
+    void enumNumbersDoNotDependOnDeclarationOrder() {
+        // Pinned wire numbers: stored reports must keep decoding to the same values
+        assertEquals(1, ProtobufDiffEncoder.number(ChangeType.ADDED));
+        assertEquals(7, ProtobufDiffEncoder.number(ChangeType.NUMBER_CHANGED));
+        assertEquals(12, ProtobufDiffEncoder.number(ChangeType.VALUE_NUMBER_CHANGED));
+        assertEquals(2, ProtobufDiffEncoder.number(BreakingChange.Type.FIELD_REMOVED));
+        assertEquals(14, ProtobufDiffEncoder.number(BreakingChange.Type.FIELD_MOVED_INTO_ONEOF));
+        assertEquals(1, ProtobufDiffEncoder.number(BreakingChange.Severity.ERROR));
+        assertEquals(2, ProtobufDiffEncoder.number(SuspectedRenumber.Confidence.MEDIUM));
+        assertEquals(0, ProtobufDiffEncoder.number((ChangeType) null));
+    }
+
+    private <E extends Enum<E>> void assertEnumMirrors(EnumDescriptor protoEnum, E[] javaValues,
+                                                       ToIntFunction<E> number, String prefix) {
+        assertEquals(javaValues.length + 1, protoEnum.getValues().size(), protoEnum.getName());
+        for (E value : javaValues) {
+            EnumValueDescriptor protoValue = protoEnum.findValueByNumber(number.applyAsInt(value));
+            assertNotNull(protoValue, protoEnum.getName() + "." + value.name());
+            assertEquals(prefix + value.name(), protoValue.getName());
+        }
+    }
+
+    private DynamicMessage decode(byte[] bytes) throws IOException {
+        return DynamicMessage.parseFrom(reportType, bytes);
+    }
+
+    private com.google.protobuf.Descriptors.FieldDescriptor field(DynamicMessage message, String name) {
+        return message.getDescriptorForType().findFieldByName(name);
+    }
+
+    private Object get(DynamicMessage message, String name) {
+        return message.getField(field(message, name));
+    }
+
+    private String enumName(DynamicMessage message, String name) {
+        return ((com.google.protobuf.Descriptors.EnumValueDescriptor) get(message, name)).getName();
+    }
+
+    private SchemaDiff createRichDiff() {
+        MessageDiff added = MessageDiff.added(createMessage("Customer", "id", 1, "name", 2));
+
+        FieldInfo status = new FieldInfo(FieldDescriptorProto.newBuilder()
+            .setName("status").setNumber(3).setType(Type.TYPE_STRING).setLabel(Label.LABEL_OPTIONAL).build());
+        FieldChange removedField = new FieldChange(3, "status", ChangeType.REMOVED, status, null, List.of());
+        MessageDiff nested = MessageDiff.added(createMessage("Item", "sku", 1));
+        MessageDiff modified = MessageDiff.compared(
+            createMessage("Order", "id", 1, "status", 3),
+            createMessage("Order", "id", 1),
+            List.of(removedField), List.of(nested), List.of());
+
+        EnumDiff modifiedEnum = EnumDiff.modified(
+            createEnum("Color", "RED", 0, "BLUE", 2),
+            createEnum("Color", "RED", 0),
+            List.of(EnumValueChange.removed("BLUE", 2)));
+
+        BreakingChange breaking = new BreakingChange(
+            BreakingChange.Type.FIELD_REMOVED,
+            BreakingChange.Severity.ERROR,
+            "Order.status",
+            "Field removed",
+            "status",
+            null
+        );
+        return new SchemaDiff("v1", "v2", List.of(added, modified), List.of(modifiedEnum), List.of(breaking));
+    }
+
+    private MessageInfo createMessage(String name, Object... fieldsAndNumbers) {
+        DescriptorProto.Builder builder = DescriptorProto.newBuilder().setName(name);
+
+        for (int i = 0; i < fieldsAndNumbers.length; i += 2) {
+            builder.addField(FieldDescriptorProto.newBuilder()
+                .setName((String) fieldsAndNumbers[i])
+                .setNumber((Integer) fieldsAndNumbers[i + 1])
+                .setType(Type.TYPE_STRING)
+                .setLabel(Label.LABEL_OPTIONAL)
+                .build());
+        }
+
+        return new MessageInfo(builder.build(), "test.package");
+    }
+
+    private EnumInfo createEnum(String name, Object... valuesAndNumbers) {
+        EnumDescriptorProto.Builder builder = EnumDescriptorProto.newBuilder().setName(name);
+
+        for (int i = 0; i < valuesAndNumbers.length; i += 2) {
+            builder.addValue(EnumValueDescriptorProto.newBuilder()
+                .setName((String) valuesAndNumbers[i])
+                .setNumber((Integer) valuesAndNumbers[i + 1])
+                .build());
+        }
+
+        return new EnumInfo(builder.build());
+    }
+}
@@ -14,6 +14,8 @@ import io.alnovis.protowrapper.model.EnumInfo;
 import io.alnovis.protowrapper.model.FieldInfo;
 import io.alnovis.protowrapper.model.MessageInfo;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -403,6 +405,34 @@ class TextDiffFormatterTest {
         assertTrue(result.contains("[INFO] FIELD_NUMBER_CHANGED: Order.ref"));
     }
 
+    @Test
+    void format_streamsSameOutputAsString() throws IOException {
+        SchemaDiff diff = createRichDiff();
+
+        StringWriter full = new StringWriter();
+        formatter.format(diff, full);
+        StringWriter breaking = new StringWriter();
+        formatter.formatBreakingOnly(diff, breaking);
+
+        assertEquals(formatter.format(diff), full.toString());
+        assertEquals(formatter.formatBreakingOnly(diff), breaking.toString());
+    }
+
+    private SchemaDiff createRichDiff() {
+        MessageDiff added = MessageDiff.added(createMessage("NewMessage", "id", 1, "name", 2));
+        MessageDiff removed = MessageDiff.removed(createMessage("OldMessage", "data", 1));
+        EnumDiff addedEnum = EnumDiff.added(createEnum("Status", "PENDING", 0, "ACTIVE", 1));
+        BreakingChange breaking = new BreakingChange(
+            BreakingChange.Type.MESSAGE_REMOVED,
+            BreakingChange.Severity.ERROR,
+            "OldMessage",
+            "Message removed",
+            "OldMessage",
+            null
+        );
+        return new SchemaDiff("v1", "v2", List.of(added, removed), List.of(addedEnum), List.of(breaking));
+    }
+
     // Helper methods
     private SchemaDiff createEmptyDiff(String v1Name, String v2Name) {
         return new SchemaDiff(v1Name, v2Name, List.of(), List.of(), List.of());
@@ -0,0 +1,95 @@
+package io.alnovis.protowrapper.diff.formatter;
+
+import org.junit.jupiter.api.Test;
+import io.alnovis.protowrapper.diff.SchemaDiff;
+import io.alnovis.protowrapper.diff.SchemaDiffHistory;
+import io.alnovis.protowrapper.diff.model.BreakingChange;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TimelineFormatter.
+ */
+class TimelineFormatterTest {
+
+    @Test
+    void text_listsStepsAndTimeline() {
+        String result = new TimelineFormatter(TimelineFormatter.Style.TEXT, false).format(createHistory());
+
+        assertTrue(result.startsWith("Schema History: v1 -> v2 -> v3\n"));
+        assertTrue(result.contains("v1 -> v2: messages +0 ~0 -0, enums +0 ~0 -0, 0 errors, 0 warnings\n"));
+        assertTrue(result.contains("BREAKING CHANGE TIMELINE"));
+        assertTrue(result.contains("v2 -> v3:\n  [ERROR] FIELD_TYPE_INCOMPATIBLE: Order.status - Type changed\n"));
+        assertTrue(result.contains("Total: 1 errors, 0 warnings across 2 steps\n"));
+    }
+
+    @Test
+    void text_breakingOnlySkipsStepsWithoutBreakingChanges() {
+        String result = new TimelineFormatter(TimelineFormatter.Style.TEXT, true).format(createHistory());
+
+        assertFalse(result.contains("v1 -> v2:"));
+        assertTrue(result.contains("v2 -> v3: "));
+    }
+
+    @Test
+    void json_containsStepsAndTotals() {
+        String result = new TimelineFormatter(TimelineFormatter.Style.JSON, false).format(createHistory());
+
+        assertTrue(result.startsWith("{\n"));
+        assertTrue(result.trim().endsWith("}"));
+        assertTrue(result.contains("\"versions\": [\"v1\", \"v2\", \"v3\"]"));
+        assertTrue(result.contains("\"v1\": \"v2\""));
+        assertTrue(result.contains("{\"type\": \"FIELD_TYPE_INCOMPATIBLE\", \"severity\": \"ERROR\""));
+        assertTrue(result.contains("\"errorCount\": 1,\n"));
+    }
+
+    @Test
+    void markdown_containsTimelineTable() {
+        String result = new TimelineFormatter(TimelineFormatter.Style.MARKDOWN, false).format(createHistory());
+
+        assertTrue(result.startsWith("# Schema History: v1 -> v2 -> v3\n"));
+        assertTrue(result.contains("| v1 -> v2 | 0 / 0 / 0 | 0 / 0 / 0 | 0 | 0 |"));
+        assertTrue(result.contains("| v2 -> v3 | ERROR | FIELD_TYPE_INCOMPATIBLE | Order.status | Type changed |"));
+    }
+
+    @Test
+    void ndjson_concatenatesStepRecords() {
+        String result = new TimelineFormatter(TimelineFormatter.Style.NDJSON, true).format(createHistory());
+
+        List<String> lines = List.of(result.split("\n"));
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"kind\":\"summary\",\"v1\":\"v1\",\"v2\":\"v2\""));
+        assertTrue(lines.get(1).startsWith("{\"kind\":\"breaking\",\"v1\":\"v2\",\"v2\":\"v3\""));
+        assertTrue(lines.get(2).startsWith("{\"kind\":\"summary\",\"v1\":\"v2\",\"v2\":\"v3\""));
+    }
+
+    @Test
+    void format_streamsSameOutputAsString() throws IOException {
+        for (TimelineFormatter.Style style : TimelineFormatter.Style.values()) {
+            TimelineFormatter formatter = new TimelineFormatter(style, false);
+            StringWriter out = new StringWriter();
+            formatter.format(createHistory(), out);
+
+            assertEquals(formatter.format(createHistory()), out.toString(), style.name());
+        }
+    }
+
+    private SchemaDiffHistory createHistory() {
+        BreakingChange error = new BreakingChange(
+            BreakingChange.Type.FIELD_TYPE_INCOMPATIBLE,
+            BreakingChange.Severity.ERROR,
+            "Order.status",
+            "Type changed",
+            "string",
+            "bool"
+        );
+        return new SchemaDiffHistory(List.of(
+            new SchemaDiff("v1", "v2", List.of(), List.of(), List.of()),
+            new SchemaDiff("v2", "v3", List.of(), List.of(), List.of(error))
+        ));
+    }
+}
@@ -10,6 +10,7 @@ import io.alnovis.protowrapper.model.FieldInfo;
 import io.alnovis.protowrapper.model.MergedField;
 import io.alnovis.protowrapper.model.MergedMessage;
 import io.alnovis.protowrapper.model.MergedSchema;
+import io.alnovis.protowrapper.model.ProtoSyntax;
 
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -105,6 +106,27 @@ class AbstractClassGeneratorTest {
             assertThat(toStringMethod).contains("getWrapperVersionId()");
             assertThat(toStringMethod).doesNotContain("getWrapperVersion()");
         }
+
+        @Test
+        @DisplayName("delegates to WrapperToString when limits are configured")
+        void boundedToString() {
+            GeneratorConfig boundedConfig = GeneratorConfig.builder()
+                    .outputDirectory(tempDir)
+                    .apiPackage("org.example.api")
+                    .implPackagePattern("org.example.impl.{version}")
+                    .toStringMaxLength(1024)
+                    .toStringMaxFields(20)
+                    .build();
+
+            String code = new AbstractClassGenerator(boundedConfig)
+                    .generate(createSimpleMoneyMessage(), GenerationContext.create(schema, boundedConfig))
+                    .toString();
+
+            assertThat(code).contains("import io.alnovis.protowrapper.runtime.WrapperToString;");
+            assertThat(code).contains(
+                    "return WrapperToString.format(getClass().getSimpleName(), getWrapperVersionId(), proto, 1024, 20);");
+            assertThat(code).doesNotContain("proto.toString()");
+        }
     }
 
     @Nested
@@ -143,6 +165,17 @@ class AbstractClassGeneratorTest {
             assertThat(equalsMethod).doesNotContain("getWrapperVersion() ==");
             assertThat(equalsMethod).doesNotContain("== other.getWrapperVersion()");
         }
+
+        @Test
+        @DisplayName("short-circuits on the same proto and on differing cached hashes")
+        void hasFastPaths() {
+            String code = generator.generate(createSimpleMoneyMessage(), ctx).toString();
+
+            assertThat(code).containsSubsequence("public boolean equals(Object obj)",
+                    "if (this.proto == other.proto) return true;",
+                    "if (hash != 0 && other.hash != 0 && hash != other.hash) return false;",
+                    "Objects.equals(this.proto, other.proto)");
+        }
     }
 
     @Nested
@@ -180,13 +213,25 @@ class AbstractClassGeneratorTest {
         }
 
         @Test
-        @DisplayName("uses Objects.hash() with versionId and proto")
-        void usesObjectsHash() {
+        @DisplayName("hashes versionId and proto like Objects.hash() without varargs")
+        void usesObjectsHashFormula() {
             MergedMessage message = createSimpleMoneyMessage();
             JavaFile javaFile = generator.generate(message, ctx);
             String code = javaFile.toString();
 
-            assertThat(code).contains("Objects.hash(getWrapperVersionId(), proto)");
+            assertThat(code).contains("31 * (31 + Objects.hashCode(getWrapperVersionId())) + Objects.hashCode(proto)");
+            assertThat(code).doesNotContain("Objects.hash(");
+        }
+
+        @Test
+        @DisplayName("caches the hash code in an int field")
+        void cachesHashCode() {
+            String code = generator.generate(createSimpleMoneyMessage(), ctx).toString();
+
+            assertThat(code).contains("private int hash;");
+            assertThat(code).containsSubsequence("public int hashCode()", "int h = hash;", "if (h == 0) {",
+                    "hash = h;", "return h;");
+            assertThat(code).doesNotContain("volatile");
         }
     }
 
@@ -254,6 +299,23 @@ class AbstractClassGeneratorTest {
             // Error message should use string format for version identifiers
             assertThat(code).contains("\"Failed to convert %s from version %s to %s:");
         }
+
+        @Test
+        @DisplayName("target version is resolved by a switch on the impl package")
+        void targetVersionSwitchedOnPackage() {
+            String code = generator.generate(createSimpleMoneyMessage(), ctx).toString();
+
+            assertThat(code).contains("private static String targetVersionId(Class<?> versionClass)");
+            assertThat(code).contains("private static int targetVersionNumber(Class<?> versionClass)");
+            assertThat(code).contains("switch (packageName)");
+            assertThat(code).contains("case \"org.example.impl.v2\":");
+            assertThat(code).contains("return \"v2\";");
+            assertThat(code).contains("return 2;");
+            assertThat(code).contains("int targetVersion = targetVersionNumber(versionClass);");
+            assertThat(code).contains("String targetVersionId = targetVersionId(versionClass);");
+            assertThat(code).doesNotContain("ClassValue");
+            assertThat(code).doesNotContain("replaceAll");
+        }
     }
 
     @Nested
@@ -389,4 +451,257 @@ class AbstractClassGeneratorTest {
             assertThat(code).contains("getWrapperVersionId()");
         }
     }
+
+    @Nested
+    @DisplayName("JFR events")
+    class JfrEventsTests {
+
+        @Test
+        @DisplayName("does not reference WrapperEvents by default")
+        void noInstrumentationByDefault() {
+            String code = generator.generate(createSimpleMoneyMessage(), ctx).toString();
+
+            assertThat(code).doesNotContain("WrapperEvents");
+            assertThat(code).contains("return serializeToBytes(proto)");
+        }
+
+        @Test
+        @DisplayName("emits serialize, convert and build events when enabled")
+        void instrumentsWhenEnabled() {
+            GeneratorConfig jfrConfig = GeneratorConfig.builder()
+                    .outputDirectory(tempDir)
+                    .apiPackage("org.example.api")
+                    .implPackagePattern("org.example.impl.{version}")
+                    .generateBuilders(true)
+                    .generateJfrEvents(true)
+                    .build();
+            AbstractClassGenerator jfrGenerator = new AbstractClassGenerator(jfrConfig);
+
+            String code = jfrGenerator.generate(createSimpleMoneyMessage(),
+                    GenerationContext.create(schema, jfrConfig)).toString();
+
+            assertThat(code).contains("WrapperEvents.beginSerialize()");
+            assertThat(code).contains("WrapperEvents.commitSerialize(jfrEvent, \"Money\", getWrapperVersionId(), result.length)");
+            assertThat(code).contains(
+                    "WrapperEvents.commitConvert(jfrEvent, \"Money\", getWrapperVersionId(), targetContext.getVersionId(), bytes.length)");
+            assertThat(code).contains(
+                    "WrapperEvents.commitConvert(jfrEvent, \"Money\", getWrapperVersionId(), targetVersionId, bytes.length)");
+            assertThat(code).contains("WrapperEvents.commitBuild(jfrEvent, \"Money\", getVersionId())");
+        }
+
+        @Test
+        @DisplayName("names nested message events by qualified interface name")
+        void nestedEventsUseQualifiedName() {
+            GeneratorConfig jfrConfig = GeneratorConfig.builder()
+                    .outputDirectory(tempDir)
+                    .apiPackage("org.example.api")
+                    .implPackagePattern("org.example.impl.{version}")
+                    .generateBuilders(true)
+                    .generateJfrEvents(true)
+                    .build();
+            AbstractClassGenerator jfrGenerator = new AbstractClassGenerator(jfrConfig);
+
+            MergedMessage money = createSimpleMoneyMessage();
+            MergedMessage coin = new MergedMessage("Coin");
+            coin.addVersion("v1");
+            coin.addVersion("v2");
+            coin.addField(MergedField.builder().addVersionField("v1", new FieldInfo(FieldDescriptorProto.newBuilder()
+                    .setName("value")
+                    .setNumber(1)
+                    .setType(Type.TYPE_INT32)
+                    .setLabel(Label.LABEL_OPTIONAL)
+                    .build())).build());
+            money.addNestedMessage(coin);
+
+            String code = jfrGenerator.generate(money, GenerationContext.create(schema, jfrConfig)).toString();
+
+            assertThat(code).contains("WrapperEvents.commitBuild(jfrEvent, \"Money\", getVersionId())");
+            assertThat(code).contains("WrapperEvents.commitBuild(jfrEvent, \"Money.Coin\", getVersionId())");
+        }
+    }
+
+    @Nested
+    @DisplayName("Cached message wrappers")
+    class CachedMessageWrapperTests {
+
+        private MergedMessage createOrderMessage() {
+            MergedMessage message = new MergedMessage("Order");
+            message.addVersion("v1");
+            message.addVersion("v2");
+
+            FieldDescriptorProto customerProto = FieldDescriptorProto.newBuilder()
+                    .setName("customer")
+                    .setNumber(1)
+                    .setType(Type.TYPE_MESSAGE)
+                    .setTypeName(".org.example.Customer")
+                    .setLabel(Label.LABEL_OPTIONAL)
+                    .build();
+            message.addField(MergedField.builder()
+                    .addVersionField("v1", new FieldInfo(customerProto))
+                    .addVersionField("v2", new FieldInfo(customerProto))
+                    .build());
+
+            FieldDescriptorProto itemsProto = FieldDescriptorProto.newBuilder()
+                    .setName("items")
+                    .setNumber(2)
+                    .setType(Type.TYPE_MESSAGE)
+                    .setTypeName(".org.example.Item")
+                    .setLabel(Label.LABEL_REPEATED)
+                    .build();
+            message.addField(MergedField.builder()
+                    .addVersionField("v1", new FieldInfo(itemsProto))
+                    .addVersionField("v2", new FieldInfo(itemsProto))
+                    .build());
+
+            return message;
+        }
+
+        @Test
+        @DisplayName("re-wraps on every call by default")
+        void noCacheByDefault() {
+            String code = generator.generate(createOrderMessage(), ctx).toString();
+
+            assertThat(code).doesNotContain("cachedCustomer");
+        }
+
+        @Test
+        @DisplayName("caches singular message wrapper with racy single-check when enabled")
+        void cachesSingularMessageWhenEnabled() {
+            GeneratorConfig cacheConfig = GeneratorConfig.builder()
+                    .outputDirectory(tempDir)
+                    .apiPackage("org.example.api")
+                    .implPackagePattern("org.example.impl.{version}")
+                    .cacheMessageWrappers(true)
+                    .build();
+            AbstractClassGenerator cacheGenerator = new AbstractClassGenerator(cacheConfig);
+
+            String code = cacheGenerator.generate(createOrderMessage(),
+                    GenerationContext.create(schema, cacheConfig)).toString();
+
+            assertThat(code).contains("private Customer cachedCustomer;");
+            assertThat(code).contains("Customer result = cachedCustomer;");
+            assertThat(code).contains("result = extractCustomer(proto);");
+            assertThat(code).contains("cachedCustomer = result;");
+            assertThat(code).doesNotContain("volatile");
+            // Repeated fields are not cached
+            assertThat(code).doesNotContain("cachedItems");
+        }
+    }
+
+    @Nested
+    @DisplayName("getFieldsInaccessibleInVersion")
+    class FieldsInaccessibleInVersionTests {
+
+        @Test
+        @DisplayName("uses static per-version masks instead of per-field version checks")
+        void usesStaticMasks() {
+            String code = generator.generate(createSimpleMoneyMessage(), ctx).toString();
+
+            assertThat(code).contains("private static final String[] VERSION_SPECIFIC_FIELD_NAMES = {\"bills\", \"coins\"};");
+            assertThat(code).contains("private static long fieldsMissingInVersion(int targetVersion)");
+            assertThat(code).containsSubsequence("switch (targetVersion)", "case 1:", "return 0x0L;",
+                    "default:", "return 0x3L;");
+            assertThat(code).contains("protected abstract long extractPopulatedVersionSpecificFields(PROTO proto);");
+            assertThat(code).contains("long inaccessible = missing & extractPopulatedVersionSpecificFields(proto);");
+            assertThat(code).doesNotContain("targetVersion == ");
+        }
+
+        @Test
+        @DisplayName("impl class reports required fields only in versions that have them")
+        void requiredFieldsMissingInOwnVersionNotPopulated() {
+            MergedMessage message = createSimpleMoneyMessage();
+            ImplClassGenerator implGenerator = new ImplClassGenerator(config);
+
+            String v1Code = implGenerator.generate(message, "org.example.proto.v1.Money",
+                    ctx.withVersion("v1")).toString();
+            String v2Code = implGenerator.generate(message, "org.example.proto.v2.Money",
+                    ctx.withVersion("v2")).toString();
+
+            assertThat(v1Code).containsSubsequence("long extractPopulatedVersionSpecificFields(",
+                    "populated |= 0x1L;", "populated |= 0x2L;", "return populated;");
+            // v2 lacks bills and coins, so a v2 wrapper never reports them as inaccessible
+            int v2Start = v2Code.indexOf("long extractPopulatedVersionSpecificFields(");
+            assertThat(v2Start).isNotNegative();
+            String v2Method = v2Code.substring(v2Start, v2Code.indexOf("return populated;", v2Start));
+            assertThat(v2Method).doesNotContain("populated |=");
+        }
+
+        @Test
+        @DisplayName("per-field checks above 64 fields skip implicit-presence fields missing in the wrapper's version")
+        void fallbackSkipsImplicitFieldsMissingInOwnVersion() {
+            MergedMessage message = new MergedMessage("Wide");
+            message.addVersion("v1");
+            message.addVersion("v2");
+            for (int i = 1; i <= AbstractClassGenerator.MAX_MASKED_FIELDS + 1; i++) {
+                FieldDescriptorProto fieldProto = FieldDescriptorProto.newBuilder()
+                        .setName("field" + i)
+                        .setNumber(i)
+                        .setType(Type.TYPE_INT32)
+                        .setLabel(Label.LABEL_OPTIONAL)
+                        .build();
+                message.addField(MergedField.builder()
+                        .addVersionField("v1", new FieldInfo(fieldProto, -1, null, null, ProtoSyntax.PROTO3))
+                        .build());
+            }
+
+            String code = generator.generate(message, ctx).toString();
+
+            assertThat(code).doesNotContain("extractPopulatedVersionSpecificFields");
+            assertThat(code).containsSubsequence("String wrapperVersionId = getWrapperVersionId();",
+                    "if ((\"v1\".equals(wrapperVersionId)) && !(targetVersion == 1)) {",
+                    "inaccessible.add(\"field1\");");
+            assertThat(code).doesNotContain("if (!(targetVersion == 1))");
+        }
+
+        @Test
+        @DisplayName("returns List.of() without allocating when nothing is inaccessible")
+        void returnsSharedEmptyList() {
+            String code = generator.generate(createSimpleMoneyMessage(), ctx).toString();
+
+            assertThat(code).containsSubsequence("if (missing == 0L) {", "return List.of();",
+                    "if (inaccessible == 0L) {", "return List.of();", "return fields;");
+        }
+
+        @Test
+        @DisplayName("returns List.of() directly when no field is version-specific")
+        void noVersionSpecificFields() {
+            MergedMessage message = new MergedMessage("Money");
+            message.addVersion("v1");
+            message.addVersion("v2");
+            FieldDescriptorProto billsProto = FieldDescriptorProto.newBuilder()
+                    .setName("bills")
+                    .setNumber(1)
+                    .setType(Type.TYPE_INT64)
+                    .setLabel(Label.LABEL_REQUIRED)
+                    .build();
+            message.addField(MergedField.builder()
+                    .addVersionField("v1", new FieldInfo(billsProto))
+                    .addVersionField("v2", new FieldInfo(billsProto))
+                    .build());
+
+            String code = generator.generate(message, ctx).toString();
+
+            assertThat(code).containsSubsequence("getFieldsInaccessibleInVersion(int targetVersion) {",
+                    "return List.of();");
+            assertThat(code).doesNotContain("extractPopulatedVersionSpecificFields");
+            assertThat(code).doesNotContain("VERSION_SPECIFIC_FIELD_NAMES");
+        }
+
+        @Test
+        @DisplayName("uses Collections.emptyList() for Java 8")
+        void java8EmptyList() {
+            GeneratorConfig java8Config = GeneratorConfig.builder()
+                    .outputDirectory(tempDir)
+                    .apiPackage("org.example.api")
+                    .implPackagePattern("org.example.impl.{version}")
+                    .targetJavaVersion(8)
+                    .build();
+            String code = new AbstractClassGenerator(java8Config)
+                    .generate(createSimpleMoneyMessage(), GenerationContext.create(schema, java8Config))
+                    .toString();
+
+            assertThat(code).contains("return Collections.emptyList();");
+            assertThat(code).doesNotContain("List.of()");
+        }
+    }
 }
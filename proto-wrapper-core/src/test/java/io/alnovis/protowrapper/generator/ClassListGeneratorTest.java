@@ -0,0 +1,103 @@
+package io.alnovis.protowrapper.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for ClassListGenerator.
+ *
+ * @since 2.4.0
+ */
+@DisplayName("ClassListGenerator Tests")
+class ClassListGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private void touch(String relativePath) throws IOException {
+        Path file = tempDir.resolve("classes").resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.createFile(file);
+    }
+
+    @Test
+    @DisplayName("lists classes of configured packages and subpackages in sorted order")
+    void collectsSortedClasses() throws IOException {
+        touch("org/example/model/v2/OrderV2.class");
+        touch("org/example/model/v1/OrderV1$Builder.class");
+        touch("org/example/model/v1/OrderV1.class");
+        touch("org/example/model/api/Order.class");
+        touch("org/example/model/api/package-info.class");
+        touch("org/example/model/api/Order.java");
+        touch("org/example/other/Service.class");
+        touch("org/example/modelx/Unrelated.class");
+
+        List<String> classes = new ClassListGenerator(List.of("org.example.model"))
+                .collect(tempDir.resolve("classes"));
+
+        assertThat(classes).containsExactly(
+                "org/example/model/api/Order",
+                "org/example/model/v1/OrderV1",
+                "org/example/model/v1/OrderV1$Builder",
+                "org/example/model/v2/OrderV2");
+    }
+
+    @Test
+    @DisplayName("writes class list file with header comment")
+    void writesClassList() throws IOException {
+        touch("org/example/model/api/Order.class");
+        touch("org/example/proto/v1/Common.class");
+        Path output = tempDir.resolve("out/proto-wrapper.classlist");
+
+        int count = new ClassListGenerator(List.of("org.example.model", "org.example.proto"))
+                .generateAndWrite(tempDir.resolve("classes"), output);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(Files.readAllLines(output)).containsExactly(
+                "# AppCDS class list generated by proto-wrapper",
+                "org/example/model/api/Order",
+                "org/example/proto/v1/Common");
+    }
+
+    @Test
+    @DisplayName("merges several class directories into one sorted list")
+    void mergesClassDirectories() throws IOException {
+        touch("org/example/model/v1/OrderV1.class");
+        Path other = tempDir.resolve("other-classes/org/example/model/api/Order.class");
+        Files.createDirectories(other.getParent());
+        Files.createFile(other);
+        Path output = tempDir.resolve("proto-wrapper.classlist");
+
+        int count = new ClassListGenerator(List.of("org.example.model")).generateAndWrite(
+                List.of(tempDir.resolve("classes"), tempDir.resolve("other-classes"), tempDir.resolve("classes")),
+                output);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(Files.readAllLines(output)).containsExactly(
+                "# AppCDS class list generated by proto-wrapper",
+                "org/example/model/api/Order",
+                "org/example/model/v1/OrderV1");
+    }
+
+    @Test
+    @DisplayName("returns empty list for missing directory")
+    void missingDirectory() throws IOException {
+        assertThat(new ClassListGenerator(List.of("org.example")).collect(tempDir.resolve("missing"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("requires at least one package")
+    void requiresPackages() {
+        assertThatThrownBy(() -> new ClassListGenerator(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -301,4 +301,35 @@ class GeneratorConfigTest {
 
         assertThat(config1.computeConfigHash()).isNotEqualTo(config2.computeConfigHash());
     }
+
+    @Test
+    void builder_validatesToStringLimits() {
+        assertThatThrownBy(() -> GeneratorConfig.builder()
+            .outputDirectory(tempDir)
+            .toStringMaxLength(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("toStringMaxLength");
+
+        GeneratorConfig config = GeneratorConfig.builder()
+            .outputDirectory(tempDir)
+            .toStringMaxFields(10)
+            .build();
+        assertThat(config.isBoundedToString()).isTrue();
+        assertThat(GeneratorConfig.builder().outputDirectory(tempDir).build().isBoundedToString()).isFalse();
+    }
+
+    @Test
+    void computeConfigHash_includesToStringLimits() {
+        GeneratorConfig config1 = GeneratorConfig.builder()
+            .outputDirectory(tempDir)
+            .toStringMaxLength(1024)
+            .build();
+
+        GeneratorConfig config2 = GeneratorConfig.builder()
+            .outputDirectory(tempDir)
+            .toStringMaxLength(2048)
+            .build();
+
+        assertThat(config1.computeConfigHash()).isNotEqualTo(config2.computeConfigHash());
+    }
 }
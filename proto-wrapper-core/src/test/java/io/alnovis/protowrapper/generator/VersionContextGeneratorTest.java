@@ -547,4 +547,39 @@ class VersionContextGeneratorTest {
             assertThat(code).contains("ProtocolVersions.CURRENT");
         }
     }
+
+    @Nested
+    @DisplayName("JFR events")
+    class JfrEventsTest {
+
+        private final Map<String, String> protoMappings = Map.of("Money", "org.example.proto.v1.Common.Money");
+
+        @Test
+        @DisplayName("does not reference WrapperEvents by default")
+        void noInstrumentationByDefault() {
+            String code = generator.generateImpl(schema, "v1", protoMappings).toString();
+
+            assertThat(code).doesNotContain("WrapperEvents");
+            assertThat(code).contains("return new MoneyV1(Common.Money.parseFrom(bytes))");
+        }
+
+        @Test
+        @DisplayName("emits parse events guarded by WrapperEvents.ENABLED when enabled")
+        void instrumentsParseMethods() {
+            GeneratorConfig jfrConfig = GeneratorConfig.builder()
+                    .outputDirectory(tempDir)
+                    .apiPackage("org.example.api")
+                    .generateVersionContext(true)
+                    .generateJfrEvents(true)
+                    .build();
+
+            String code = new VersionContextGenerator(jfrConfig).generateImpl(schema, "v1", protoMappings).toString();
+
+            assertThat(code).contains("import io.alnovis.protowrapper.runtime.WrapperEvents;");
+            assertThat(code).contains(
+                    "WrapperEvents.ParseEvent jfrEvent = WrapperEvents.ENABLED ? WrapperEvents.beginParse() : null");
+            assertThat(code).contains("Money result = new MoneyV1(Common.Money.parseFrom(bytes))");
+            assertThat(code).contains("WrapperEvents.commitParse(jfrEvent, \"Money\", \"v1\", bytes.length)");
+        }
+    }
 }
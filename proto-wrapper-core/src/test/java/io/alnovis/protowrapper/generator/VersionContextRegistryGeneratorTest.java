@@ -0,0 +1,224 @@
+package io.alnovis.protowrapper.generator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import io.alnovis.protowrapper.model.MergedMessage;
+import io.alnovis.protowrapper.model.MergedSchema;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for VersionContextRegistryGenerator and the runtime resources written with it.
+ *
+ * @since 2.4.0
+ */
+@DisplayName("VersionContextRegistryGenerator Tests")
+class VersionContextRegistryGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private GeneratorConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = GeneratorConfig.builder()
+                .outputDirectory(tempDir.resolve("java"))
+                .resourcesOutputDirectory(tempDir.resolve("resources"))
+                .apiPackage("org.example.api")
+                .implPackagePattern("org.example.{version}")
+                .generateVersionContextRegistry(true)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Registry class")
+    class RegistryClassTests {
+
+        @Test
+        @DisplayName("implements ContextRegistry and resolves contexts with a switch")
+        void generatesSwitchLookup() {
+            String code = new VersionContextRegistryGenerator(config, List.of("v1", "v2")).generate().toString();
+
+            assertThat(code).contains("public final class VersionContextRegistry implements ContextRegistry<VersionContext>");
+            assertThat(code).contains("public static final VersionContextRegistry INSTANCE = new VersionContextRegistry()");
+            assertThat(code).contains("switch (versionId)");
+            assertThat(code).contains("case \"v1\":");
+            assertThat(code).contains("return VersionContextV1.INSTANCE;");
+            assertThat(code).contains("return VersionContextV2.INSTANCE;");
+            assertThat(code).contains("return \"org.example.api\"");
+            assertThat(code).doesNotContain("Class.forName");
+            assertThat(code).doesNotContain("java.lang.reflect");
+        }
+
+        @Test
+        @DisplayName("uses ProtocolVersions constants as case labels when enabled")
+        void usesProtocolVersionsConstants() {
+            GeneratorConfig pvConfig = GeneratorConfig.builder()
+                    .outputDirectory(tempDir)
+                    .apiPackage("org.example.api")
+                    .generateProtocolVersions(true)
+                    .build();
+
+            String code = new VersionContextRegistryGenerator(pvConfig, List.of("v1", "v2")).generate().toString();
+
+            assertThat(code).contains("case ProtocolVersions.V1:");
+            assertThat(code).contains("case ProtocolVersions.V2:");
+        }
+    }
+
+    @Nested
+    @DisplayName("Runtime resources")
+    class RuntimeResourcesTests {
+
+        @Test
+        @DisplayName("writes ServiceLoader descriptor and reachability metadata")
+        void writesResources() throws Exception {
+            List<Path> written = new RuntimeResourcesGenerator(config).generateAndWrite();
+
+            Path service = tempDir.resolve("resources").resolve(RuntimeResourcesGenerator.CONTEXT_REGISTRY_SERVICE);
+            Path metadata = tempDir.resolve("resources/META-INF/native-image/io.alnovis.protowrapper/org.example.api")
+                    .resolve(RuntimeResourcesGenerator.REACHABILITY_METADATA_FILE);
+
+            assertThat(written).containsExactly(service, metadata);
+            assertThat(Files.readString(service)).isEqualTo("org.example.api.VersionContextRegistry\n");
+            assertThat(Files.readString(metadata))
+                    .contains("\"type\": \"org.example.api.VersionContextRegistry\"")
+                    .contains("\"name\": \"<init>\"")
+                    .contains("\"glob\": \"META-INF/services/io.alnovis.protowrapper.runtime.ContextRegistry\"");
+        }
+
+        @Test
+        @DisplayName("keeps providers written by other executions")
+        void mergesServiceDescriptor() throws Exception {
+            Path service = tempDir.resolve("resources").resolve(RuntimeResourcesGenerator.CONTEXT_REGISTRY_SERVICE);
+            Files.createDirectories(service.getParent());
+            Files.writeString(service, "# providers\norg.other.api.VersionContextRegistry\n");
+
+            new RuntimeResourcesGenerator(config).generateAndWrite();
+            new RuntimeResourcesGenerator(config).generateAndWrite();
+
+            assertThat(Files.readAllLines(service)).containsExactly(
+                    "org.other.api.VersionContextRegistry",
+                    "org.example.api.VersionContextRegistry");
+        }
+
+        @Test
+        @DisplayName("writes nothing without a resources directory")
+        void skipsWithoutResourcesDirectory() throws Exception {
+            GeneratorConfig noResources = GeneratorConfig.builder()
+                    .outputDirectory(tempDir)
+                    .apiPackage("org.example.api")
+                    .generateVersionContextRegistry(true)
+                    .build();
+
+            assertThat(new RuntimeResourcesGenerator(noResources).generateAndWrite()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Native-image metadata")
+    class NativeImageMetadataTests {
+
+        private MergedSchema schema;
+
+        @BeforeEach
+        void setUp() {
+            schema = new MergedSchema(List.of("v1", "v2"));
+            MergedMessage order = new MergedMessage("Order");
+            order.addVersion("v1");
+            order.addVersion("v2");
+            MergedMessage item = new MergedMessage("Item");
+            item.addVersion("v2");
+            order.addNestedMessage(item);
+            schema.addMessage(order);
+
+            MergedMessage refund = new MergedMessage("Refund");
+            refund.addVersion("v2");
+            schema.addMessage(refund);
+        }
+
+        private GeneratorConfig nativeConfig(boolean registry) {
+            return GeneratorConfig.builder()
+                    .outputDirectory(tempDir.resolve("java"))
+                    .resourcesOutputDirectory(tempDir.resolve("resources"))
+                    .apiPackage("org.example.api")
+                    .implPackagePattern("org.example.{version}")
+                    .generateBuilders(true)
+                    .generateVersionContextRegistry(registry)
+                    .generateNativeImageMetadata(true)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("registers reflective lookups of generated code and Spring providers")
+        void registersReflectiveMembers() {
+            String metadata = new RuntimeResourcesGenerator(nativeConfig(false), schema).buildReachabilityMetadata();
+
+            assertThat(metadata)
+                    .contains("\"type\": \"org.example.api.VersionContext\"")
+                    .contains("\"name\": \"forVersionId\"")
+                    .contains("\"type\": \"org.example.v1.VersionContextV1\"")
+                    .contains("\"name\": \"INSTANCE\"")
+                    .contains("\"name\": \"parsePartialOrderFromBytes\"")
+                    .contains("\"name\": \"parsePartialRefundFromBytes\"")
+                    .contains("\"type\": \"org.example.v1.OrderV1\"")
+                    .contains("\"type\": \"org.example.v2.OrderV2$Item\"")
+                    .contains("\"name\": \"getTypedProto\"")
+                    .doesNotContain("org.example.v1.OrderV1$Item")
+                    .doesNotContain("RefundV1")
+                    .doesNotContain("\"resources\"");
+        }
+
+        @Test
+        @DisplayName("registers impl classes without VersionContext generation")
+        void registersImplClassesWithoutVersionContext() throws Exception {
+            GeneratorConfig config = GeneratorConfig.builder()
+                    .outputDirectory(tempDir.resolve("java"))
+                    .resourcesOutputDirectory(tempDir.resolve("resources"))
+                    .apiPackage("org.example.api")
+                    .implPackagePattern("org.example.{version}")
+                    .generateBuilders(true)
+                    .generateVersionContext(false)
+                    .generateVersionContextRegistry(true)
+                    .generateNativeImageMetadata(true)
+                    .build();
+
+            List<Path> written = new RuntimeResourcesGenerator(config, schema).generateAndWrite();
+
+            Path dir = tempDir.resolve("resources/META-INF/native-image/io.alnovis.protowrapper/org.example.api");
+            assertThat(written).containsExactly(
+                    dir.resolve(RuntimeResourcesGenerator.REACHABILITY_METADATA_FILE),
+                    dir.resolve(RuntimeResourcesGenerator.REFLECT_CONFIG_FILE));
+            assertThat(Files.readString(dir.resolve(RuntimeResourcesGenerator.REFLECT_CONFIG_FILE)))
+                    .contains("\"name\": \"org.example.v1.OrderV1\"")
+                    .contains("\"name\": \"getTypedProto\"")
+                    .doesNotContain("VersionContext");
+        }
+
+        @Test
+        @DisplayName("writes legacy reflect-config.json and resource-config.json")
+        void writesLegacyFiles() throws Exception {
+            List<Path> written = new RuntimeResourcesGenerator(nativeConfig(true), schema).generateAndWrite();
+
+            Path dir = tempDir.resolve("resources/META-INF/native-image/io.alnovis.protowrapper/org.example.api");
+            assertThat(written).contains(
+                    dir.resolve(RuntimeResourcesGenerator.REACHABILITY_METADATA_FILE),
+                    dir.resolve(RuntimeResourcesGenerator.REFLECT_CONFIG_FILE),
+                    dir.resolve(RuntimeResourcesGenerator.RESOURCE_CONFIG_FILE));
+            assertThat(Files.readString(dir.resolve(RuntimeResourcesGenerator.REFLECT_CONFIG_FILE)))
+                    .startsWith("[")
+                    .contains("\"name\": \"org.example.api.VersionContextRegistry\"")
+                    .contains("\"name\": \"org.example.v2.VersionContextV2\"");
+            assertThat(Files.readString(dir.resolve(RuntimeResourcesGenerator.RESOURCE_CONFIG_FILE)))
+                    .contains("\"pattern\": \"\\\\QMETA-INF/services/io.alnovis.protowrapper.runtime.ContextRegistry\\\\E\"");
+        }
+    }
+}
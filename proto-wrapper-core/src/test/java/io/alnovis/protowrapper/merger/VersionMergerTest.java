@@ -6,8 +6,11 @@ import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
 import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
 import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label;
 import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type;
+import io.alnovis.protowrapper.PluginLogger;
 import io.alnovis.protowrapper.analyzer.ProtoAnalyzer.VersionSchema;
 import io.alnovis.protowrapper.model.EnumInfo;
+import io.alnovis.protowrapper.model.FieldInfo;
+import io.alnovis.protowrapper.model.MergeStats;
 import io.alnovis.protowrapper.model.MessageInfo;
 import io.alnovis.protowrapper.model.MergedSchema;
 import io.alnovis.protowrapper.model.MergedEnum;
@@ -16,8 +19,10 @@ import io.alnovis.protowrapper.model.MergedMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -393,6 +398,60 @@ class VersionMergerTest {
         assertThat(config.isFieldExcluded("Data", "otherField")).isFalse();
     }
 
+    @Test
+    void shouldProduceSameSchemaAndLogWhenMergingInParallel() {
+        List<VersionSchema> schemas = new ArrayList<>();
+        for (String version : List.of("v1", "v2", "v3")) {
+            VersionSchema schema = createVersionSchema(version);
+            for (int i = 0; i < 50; i++) {
+                Type type = (i % 3 == 0 && version.equals("v2")) ? Type.TYPE_INT64 : Type.TYPE_INT32;
+                schema.addMessage(createSimpleMessage("Message" + i, "value", type));
+                schema.addEnum(createEnum("Enum" + i, "UNKNOWN", 0, "VALUE_" + version.toUpperCase(), 1));
+            }
+            schemas.add(schema);
+        }
+
+        List<String> sequentialLog = new ArrayList<>();
+        MergedSchema sequential = new VersionMerger(new VersionMerger.MergerConfig(),
+                PluginLogger.fromConsumer(sequentialLog::add)).merge(schemas);
+
+        List<String> parallelLog = Collections.synchronizedList(new ArrayList<>());
+        MergedSchema parallel = new VersionMerger(new VersionMerger.MergerConfig().setParallelMerge(true),
+                PluginLogger.fromConsumer(parallelLog::add)).merge(schemas);
+
+        assertThat(parallel.getMessages()).extracting(MergedMessage::getName)
+                .containsExactlyElementsOf(sequential.getMessages().stream().map(MergedMessage::getName).toList());
+        assertThat(parallel.getEnums()).extracting(MergedEnum::getName)
+                .containsExactlyElementsOf(sequential.getEnums().stream().map(MergedEnum::getName).toList());
+        assertThat(parallel.getMessage("Message3").orElseThrow().getFields().get(0).getJavaType()).isEqualTo("long");
+        assertThat(parallelLog).isNotEmpty().containsExactlyElementsOf(sequentialLog);
+    }
+
+    @Test
+    void shouldShareIdenticalFieldDefinitionsAcrossVersions() {
+        VersionSchema v1 = createVersionSchema("v1");
+        v1.addMessage(createSimpleMessage("Order", "amount", Type.TYPE_INT32));
+        VersionSchema v2 = createVersionSchema("v2");
+        v2.addMessage(createSimpleMessage("Order", "amount", Type.TYPE_INT32));
+        VersionSchema v3 = createVersionSchema("v3");
+        v3.addMessage(createSimpleMessage("Order", "amount", Type.TYPE_INT64));
+
+        MergedSchema result = merger.merge(List.of(v1, v2, v3));
+
+        MergedField amount = result.getMessage("Order").orElseThrow().getFields().get(0);
+        FieldInfo v1Field = amount.getVersionFields().get("v1");
+        assertThat(amount.getVersionFields().get("v2")).isSameAs(v1Field);
+        assertThat(amount.getVersionFields().get("v3")).isNotSameAs(v1Field);
+        assertThat(amount.getVersionFields().get("v3").getProtoName()).isSameAs(v1Field.getProtoName());
+        assertThat(amount.getTypesPerVersion().get("v2")).isSameAs(amount.getTypesPerVersion().get("v1"));
+
+        MergeStats stats = result.getMergeStats().orElseThrow();
+        assertThat(stats.fieldInfoCount()).isEqualTo(2);
+        assertThat(stats.sharedFieldInfos()).isEqualTo(1);
+        assertThat(stats.estimatedHeapBytes()).isPositive();
+        assertThat(stats.format()).contains("1 shared field definitions");
+    }
+
     // Helper methods
 
     private VersionSchema createVersionSchema(String version) {
@@ -1,5 +1,7 @@
 package io.alnovis.protowrapper.model;
 
+import com.google.protobuf.DescriptorProtos.EnumDescriptorProto;
+import com.google.protobuf.DescriptorProtos.EnumValueDescriptorProto;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
@@ -120,4 +122,34 @@ class EnumInfoTest {
 
         assertThat(enumInfo.getValueNames()).containsExactly("ACTIVE", "INACTIVE");
     }
+
+    @Test
+    void shouldHaveEqualContentHashForEqualDescriptors() {
+        EnumInfo enum1 = new EnumInfo(statusProto("ACTIVE", 1), "pkg", "v1/status.proto");
+        EnumInfo enum2 = new EnumInfo(statusProto("ACTIVE", 1), "pkg", "v2/status.proto");
+        EnumInfo changed = new EnumInfo(statusProto("ACTIVE", 2), "pkg", "v2/status.proto");
+
+        assertThat(enum1.getContentHash()).isNotZero().isEqualTo(enum2.getContentHash());
+        assertThat(enum1.hasSameContent(enum2)).isTrue();
+        assertThat(enum1.hasSameContent(changed)).isFalse();
+        assertThat(enum1.isEquivalentTo(changed)).isFalse();
+    }
+
+    @Test
+    void shouldNotHaveContentHashWithoutDescriptor() {
+        EnumInfo enum1 = new EnumInfo("Status", Collections.singletonList(new EnumInfo.EnumValue("ACTIVE", 1)));
+        EnumInfo enum2 = new EnumInfo("Status", Collections.singletonList(new EnumInfo.EnumValue("ACTIVE", 1)));
+
+        assertThat(enum1.getContentHash()).isZero();
+        assertThat(enum1.hasSameContent(enum2)).isFalse();
+        assertThat(enum1.isEquivalentTo(enum2)).isTrue();
+    }
+
+    private static EnumDescriptorProto statusProto(String valueName, int number) {
+        return EnumDescriptorProto.newBuilder()
+                .setName("Status")
+                .addValue(EnumValueDescriptorProto.newBuilder().setName("UNKNOWN").setNumber(0))
+                .addValue(EnumValueDescriptorProto.newBuilder().setName(valueName).setNumber(number))
+                .build();
+    }
 }
@@ -14,6 +14,7 @@ import java.util.Arrays;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class MergedSchemaTest {
 
@@ -498,6 +499,70 @@ class MergedSchemaTest {
         assertThat(schema.hasVersionSyntax("v1")).isTrue();
     }
 
+    // Freeze tests
+
+    @Test
+    void freeze_shouldPrecomputeFieldViews() {
+        MergedMessage message = new MergedMessage("Request");
+        message.addVersion("v1");
+        message.addVersion("v2");
+        FieldInfo nameInfo = createFieldInfo("name", 2, Type.TYPE_STRING);
+        message.addField(MergedField.builder().addVersionField("v2", nameInfo).build());
+        FieldInfo idInfo = createFieldInfo("id", 1, Type.TYPE_INT64);
+        message.addField(MergedField.builder()
+                .addVersionField("v1", idInfo)
+                .addVersionField("v2", idInfo)
+                .build());
+        schema.addMessage(message);
+
+        schema.freeze();
+
+        assertThat(message.isFrozen()).isTrue();
+        assertThat(message.getFieldsSorted()).extracting(MergedField::getName).containsExactly("id", "name");
+        assertThat(message.getFieldsSorted()).isSameAs(message.getFieldsSorted());
+        assertThat(message.getCommonFields()).extracting(MergedField::getName).containsExactly("id");
+        assertThat(message.getFieldsForVersion("v1")).extracting(MergedField::getName).containsExactly("id");
+        assertThat(message.getFieldsForVersion("v2")).extracting(MergedField::getName).containsExactly("id", "name");
+        assertThat(message.getFieldsForVersion("v3")).isEmpty();
+    }
+
+    @Test
+    void freeze_shouldIndexMessagesByPathAndVersion() {
+        MergedMessage order = new MergedMessage("Order");
+        order.addVersion("v1");
+        order.addVersion("v2");
+        MergedMessage item = new MergedMessage("Item");
+        item.addVersion("v1");
+        order.addNestedMessage(item);
+        MergedMessage detail = new MergedMessage("Detail");
+        item.addNestedMessage(detail);
+        schema.addMessage(order);
+        MergedMessage refund = new MergedMessage("Refund");
+        refund.addVersion("v2");
+        schema.addMessage(refund);
+
+        schema.freeze();
+
+        assertThat(schema.findMessageByPath("Order")).containsSame(order);
+        assertThat(schema.findMessageByPath("Order.Item.Detail")).containsSame(detail);
+        assertThat(schema.findMessageByPath("Order.Missing")).isEmpty();
+        assertThat(schema.getMessagesForVersion("v1")).containsExactly(order);
+        assertThat(schema.getMessagesForVersion("v2")).containsExactly(order, refund);
+        assertThat(detail.isFrozen()).isTrue();
+    }
+
+    @Test
+    void freeze_shouldRejectMutation() {
+        MergedMessage message = new MergedMessage("Request");
+        schema.addMessage(message);
+        schema.freeze();
+
+        assertThatThrownBy(() -> schema.addMessage(new MergedMessage("Other")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> message.addVersion("v1"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
     // Helper methods
 
     private FieldInfo createFieldInfo(String name, int number, Type type) {
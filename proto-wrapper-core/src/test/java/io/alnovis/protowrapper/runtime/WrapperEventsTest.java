@@ -0,0 +1,62 @@
+package io.alnovis.protowrapper.runtime;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WrapperEvents Tests")
+class WrapperEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("is disabled unless the system property is set")
+    void disabledByDefault() {
+        assertThat(WrapperEvents.ENABLED).isEqualTo(Boolean.getBoolean(WrapperEvents.ENABLED_PROPERTY));
+    }
+
+    @Test
+    @DisplayName("commits events with payload to an active recording")
+    void commitsEvents() throws Exception {
+        Path file = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(WrapperEvents.ParseEvent.class).withThreshold(java.time.Duration.ZERO);
+            recording.enable(WrapperEvents.ConvertEvent.class).withThreshold(java.time.Duration.ZERO);
+            recording.enable(WrapperEvents.SerializeEvent.class).withThreshold(java.time.Duration.ZERO);
+            recording.enable(WrapperEvents.BuildEvent.class).withThreshold(java.time.Duration.ZERO);
+            recording.start();
+
+            WrapperEvents.commitParse(WrapperEvents.beginParse(), "Order", "v1", 10);
+            WrapperEvents.commitConvert(WrapperEvents.beginConvert(), "Order", "v1", "v2", 20);
+            WrapperEvents.commitSerialize(WrapperEvents.beginSerialize(), "Order", "v2", 30);
+            WrapperEvents.commitBuild(WrapperEvents.beginBuild(), "Order", "v2");
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        assertThat(events).extracting(e -> e.getEventType().getName()).containsExactlyInAnyOrder(
+                "io.alnovis.protowrapper.Parse",
+                "io.alnovis.protowrapper.Convert",
+                "io.alnovis.protowrapper.Serialize",
+                "io.alnovis.protowrapper.Build");
+        RecordedEvent convert = events.stream()
+                .filter(e -> e.getEventType().getName().equals("io.alnovis.protowrapper.Convert"))
+                .findFirst().orElseThrow();
+        assertThat(convert.getString("message")).isEqualTo("Order");
+        assertThat(convert.getString("sourceVersion")).isEqualTo("v1");
+        assertThat(convert.getString("targetVersion")).isEqualTo("v2");
+        assertThat(convert.getInt("size")).isEqualTo(20);
+    }
+}
@@ -0,0 +1,62 @@
+package io.alnovis.protowrapper.runtime;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WrapperToString Tests")
+class WrapperToStringTest {
+
+    private static DescriptorProto message(int fieldCount) {
+        DescriptorProto.Builder builder = DescriptorProto.newBuilder().setName("Order");
+        for (int i = 1; i <= fieldCount; i++) {
+            builder.addField(FieldDescriptorProto.newBuilder().setName("f" + i).setNumber(i));
+        }
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("prints all fields on a single line without limits")
+    void printsAllFields() {
+        String text = WrapperToString.format("Order", "v1", message(2), 0, 0);
+
+        assertThat(text).isEqualTo(
+                "Order[version=v1] name: \"Order\", field { name: \"f1\" number: 1 }, field { name: \"f2\" number: 2 }");
+    }
+
+    @Test
+    @DisplayName("omits the version for nested wrappers")
+    void omitsVersion() {
+        assertThat(WrapperToString.format("Item", null, message(0), 0, 0))
+                .isEqualTo("Item name: \"Order\"");
+    }
+
+    @Test
+    @DisplayName("stops at maxLength and appends the truncation marker")
+    void truncatesByLength() {
+        String text = WrapperToString.format("Order", "v1", message(10_000), 40, 0);
+
+        assertThat(text).startsWith("Order[version=v1] name: \"Order\"");
+        assertThat(text).endsWith(WrapperToString.TRUNCATED);
+        assertThat(text.length()).isLessThanOrEqualTo("Order[version=v1] ".length() + 40 + WrapperToString.TRUNCATED.length());
+    }
+
+    @Test
+    @DisplayName("stops at maxFields counting repeated elements individually")
+    void truncatesByFieldCount() {
+        String text = WrapperToString.format("Order", "v1", message(5), 0, 3);
+
+        assertThat(text).isEqualTo("Order[version=v1] name: \"Order\", field { name: \"f1\" number: 1 }, "
+                + "field { name: \"f2\" number: 2 }" + WrapperToString.TRUNCATED);
+    }
+
+    @Test
+    @DisplayName("does not truncate when the message fits the limits")
+    void noTruncationWhenWithinLimits() {
+        assertThat(WrapperToString.format("Order", "v1", message(1), 1000, 2))
+                .isEqualTo("Order[version=v1] name: \"Order\", field { name: \"f1\" number: 1 }");
+    }
+}
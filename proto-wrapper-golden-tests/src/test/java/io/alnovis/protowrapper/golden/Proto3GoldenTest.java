@@ -9,6 +9,8 @@ import io.alnovis.protowrapper.golden.proto3.wrapper.api.AllFieldTypes;
 import io.alnovis.protowrapper.golden.proto3.wrapper.api.NestedMessage;
 import io.alnovis.protowrapper.golden.proto3.wrapper.api.TestEnum;
 import io.alnovis.protowrapper.golden.proto3.wrapper.api.VersionContext;
+import io.alnovis.protowrapper.golden.proto3.wrapper.api.VersionContextRegistry;
+import io.alnovis.protowrapper.runtime.ContextRegistry;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -556,4 +558,76 @@ class Proto3GoldenTest {
             assertThat(msgV1.getRepeatedInt32()).isEqualTo(msgV2.getRepeatedInt32());
         }
     }
+
+    @Nested
+    @DisplayName("Cached Message Wrappers (cacheMessageWrappers=true)")
+    class CachedMessageWrappers {
+
+        @ParameterizedTest(name = "Version {0}")
+        @MethodSource("io.alnovis.protowrapper.golden.Proto3GoldenTest#allVersions")
+        @DisplayName("singular message - repeated get returns the same wrapper")
+        void singularMessage_repeatedGet_returnsSameInstance(VersionContext ctx) {
+            AllFieldTypes msg = ctx.newAllFieldTypesBuilder()
+                .setSingularMessage(ctx.newNestedMessageBuilder().setId(42).build())
+                .setOptionalMessage(ctx.newNestedMessageBuilder().setId(7).build())
+                .build();
+
+            assertThat(msg.getSingularMessage()).isSameAs(msg.getSingularMessage());
+            assertThat(msg.getOptionalMessage()).isSameAs(msg.getOptionalMessage());
+            assertThat(msg.getSingularMessage().getId()).isEqualTo(42);
+        }
+
+        @ParameterizedTest(name = "Version {0}")
+        @MethodSource("io.alnovis.protowrapper.golden.Proto3GoldenTest#allVersions")
+        @DisplayName("singular message - unset default instance is cached too")
+        void singularMessage_unset_returnsSameDefaultInstance(VersionContext ctx) {
+            AllFieldTypes msg = ctx.newAllFieldTypesBuilder().build();
+
+            assertThat(msg.getSingularMessage()).isSameAs(msg.getSingularMessage());
+            assertThat(msg.hasSingularMessage()).isFalse();
+        }
+
+        @ParameterizedTest(name = "Version {0}")
+        @MethodSource("io.alnovis.protowrapper.golden.Proto3GoldenTest#allVersions")
+        @DisplayName("cache is per instance - modified copy sees the new value")
+        void cache_isPerInstance(VersionContext ctx) {
+            AllFieldTypes msg = ctx.newAllFieldTypesBuilder()
+                .setSingularMessage(ctx.newNestedMessageBuilder().setId(1).build())
+                .build();
+            NestedMessage original = msg.getSingularMessage();
+
+            AllFieldTypes modified = msg.toBuilder()
+                .setSingularMessage(ctx.newNestedMessageBuilder().setId(2).build())
+                .build();
+
+            assertThat(modified.getSingularMessage().getId()).isEqualTo(2);
+            assertThat(msg.getSingularMessage()).isSameAs(original);
+            assertThat(original.getId()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("VersionContext Registry")
+    class Registry {
+
+        @Test
+        @DisplayName("registry resolves the same contexts as VersionContext")
+        void registry_resolvesSameContexts() {
+            VersionContextRegistry registry = VersionContextRegistry.INSTANCE;
+
+            assertThat(registry.supportedVersions()).isEqualTo(VersionContext.SUPPORTED_VERSIONS);
+            assertThat(registry.get("v1")).isSameAs(VersionContext.forVersionId("v1"));
+            assertThat(registry.get("v2")).isSameAs(VersionContext.forVersionId("v2"));
+            assertThat(registry.getDefault()).isSameAs(VersionContext.getDefault());
+            assertThat(registry.find("v99")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("registry is published as ServiceLoader provider")
+        void registry_discoveredViaServiceLoader() {
+            assertThat(ContextRegistry.load("io.alnovis.protowrapper.golden.proto3.wrapper.api"))
+                .get()
+                .isInstanceOf(VersionContextRegistry.class);
+        }
+    }
 }
@@ -0,0 +1,64 @@
+package io.alnovis.protowrapper.gradle
+
+import org.gradle.api.DefaultTask
+import org.gradle.api.GradleException
+import org.gradle.api.file.ConfigurableFileCollection
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.provider.ListProperty
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.OutputFile
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
+import org.gradle.api.tasks.TaskAction
+import io.alnovis.protowrapper.generator.ClassListGenerator
+
+/**
+ * Gradle task that writes an AppCDS class list covering all generated wrapper classes.
+ *
+ * Lists every compiled class in the configured packages, including nested impl and
+ * builder classes. The list can be used to create a Class Data Sharing archive:
+ * ```
+ * java -Xshare:dump -XX:SharedClassListFile=build/proto-wrapper.classlist \
+ *      -XX:SharedArchiveFile=app.jsa -cp app.jar
+ * ```
+ *
+ * The plugin registers this task as `protoWrapperClassList` for the main source set,
+ * listing the `basePackage` of the extension.
+ *
+ * @since 2.4.0
+ */
+abstract class ClassListTask : DefaultTask() {
+
+    /**
+     * Directories containing the compiled classes.
+     */
+    @get:InputFiles
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    abstract val classesDirectories: ConfigurableFileCollection
+
+    /**
+     * Packages to list; subpackages are included.
+     */
+    @get:Input
+    abstract val packages: ListProperty<String>
+
+    /**
+     * Class list file to write.
+     */
+    @get:OutputFile
+    abstract val classListFile: RegularFileProperty
+
+    @TaskAction
+    fun writeClassList() {
+        val listedPackages = packages.get()
+        if (listedPackages.isEmpty()) {
+            throw GradleException("No packages configured for the class list. Set protoWrapper.basePackage.")
+        }
+
+        val file = classListFile.get().asFile
+        val count = ClassListGenerator(listedPackages)
+            .generateAndWrite(classesDirectories.files.map { it.toPath() }, file.toPath())
+        logger.lifecycle("Wrote $count classes to AppCDS class list $file")
+    }
+}
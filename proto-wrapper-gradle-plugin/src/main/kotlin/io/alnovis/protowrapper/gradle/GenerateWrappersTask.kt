@@ -71,6 +71,14 @@ abstract class GenerateWrappersTask : DefaultTask() {
     @get:OutputDirectory
     abstract val outputDirectory: DirectoryProperty
 
+    /**
+     * Output directory for generated runtime resources (ServiceLoader descriptors,
+     * GraalVM native-image metadata).
+     * @since 2.4.0
+     */
+    @get:OutputDirectory
+    abstract val resourcesOutputDirectory: DirectoryProperty
+
     /**
      * Directory for temporary files such as protobuf descriptors.
      * Not tracked for up-to-date checking.
@@ -287,6 +295,7 @@ abstract class GenerateWrappersTask : DefaultTask() {
     /**
      * Enable parallel generation for improved build performance.
      * When enabled, wrapper classes are generated in parallel using multiple threads.
+     * Since 2.4.0 this also merges version schemas in parallel (with identical output).
      * Default: false
      * @since 2.1.0
      */
@@ -375,6 +384,91 @@ abstract class GenerateWrappersTask : DefaultTask() {
     @get:Input
     abstract val language: Property<String>
 
+    /**
+     * Whether to emit JDK Flight Recorder events from generated code.
+     * When enabled, parsing from bytes, asVersion conversion, toBytes and
+     * builder build() report events through WrapperEvents. Recording is
+     * switched on at runtime with -Dprotowrapper.jfr.enabled=true.
+     *
+     * Default: false
+     * @since 2.4.0
+     */
+    @get:Input
+    abstract val generateJfrEvents: Property<Boolean>
+
+    /**
+     * Whether to generate VersionContextRegistry, a reflection-free registry of all
+     * VersionContext implementations. The registry is published as a ServiceLoader
+     * provider with GraalVM reachability metadata in resourcesOutputDirectory,
+     * and is used by the Spring Boot starter when present.
+     * Requires proto-wrapper-core on the runtime classpath.
+     *
+     * Default: false
+     * @since 2.4.0
+     */
+    @get:Input
+    abstract val generateVersionContextRegistry: Property<Boolean>
+
+    /**
+     * Whether to generate GraalVM native-image metadata (reachability-metadata.json and
+     * the legacy reflect-config.json) into resourcesOutputDirectory. Registers the members
+     * generated code and the Spring Boot starter providers access reflectively.
+     *
+     * Default: false
+     * @since 2.4.0
+     */
+    @get:Input
+    abstract val generateNativeImageMetadata: Property<Boolean>
+
+    /**
+     * Whether getters of singular message fields cache the child wrapper per
+     * parent instance (racy single-check), so repeated navigation allocates nothing.
+     *
+     * Default: false
+     * @since 2.4.0
+     */
+    @get:Input
+    abstract val cacheMessageWrappers: Property<Boolean>
+
+    /**
+     * Whether getters cache values converted from the proto representation per wrapper
+     * instance, e.g. the String decoded from a bytes version of a STRING_BYTES conflict.
+     *
+     * Default: false
+     * @since 2.4.0
+     */
+    @get:Input
+    abstract val cacheConvertedValues: Property<Boolean>
+
+    /**
+     * Whether Struct, Value and ListValue getters return lazy read-only views
+     * (StructConverter.asMap/asObject/asList) instead of mutable copies.
+     * With cacheConvertedValues the view is also cached per wrapper.
+     *
+     * Default: false
+     * @since 2.4.0
+     */
+    @get:Input
+    abstract val lazyStructViews: Property<Boolean>
+
+    /**
+     * Maximum number of proto characters printed by generated toString().
+     *
+     * Default: 0 (no limit, full text format)
+     * @since 2.4.0
+     */
+    @get:Input
+    abstract val toStringMaxLength: Property<Int>
+
+    /**
+     * Maximum number of field values printed by generated toString().
+     *
+     * Default: 0 (no limit)
+     * @since 2.4.0
+     */
+    @get:Input
+    abstract val toStringMaxFields: Property<Int>
+
     // ============ Internal State ============
 
     private lateinit var protocExecutor: ProtocExecutor
@@ -446,10 +540,12 @@ abstract class GenerateWrappersTask : DefaultTask() {
                 mergerConfig.setFieldMappings(mappings)
                 pluginLogger.info("Using ${mappings.size} field mapping(s)")
             }
+            mergerConfig.setParallelMerge(parallelGeneration.get())
             val merger = VersionMerger(mergerConfig, pluginLogger)
             val mergedSchema = merger.merge(schemas)
 
             pluginLogger.info("Merged schema: ${mergedSchema.messages.size} messages, ${mergedSchema.enums.size} enums")
+            mergedSchema.mergeStats.ifPresent { pluginLogger.info("Merge memory: ${it.format()}") }
             logConflictStatistics(mergedSchema)
 
             val generatorConfig = buildGeneratorConfig()
@@ -754,6 +850,26 @@ abstract class GenerateWrappersTask : DefaultTask() {
             .validationAnnotationStyle(validationAnnotationStyle.get())
             // Schema metadata (since 2.3.1)
             .generateSchemaMetadata(generateSchemaMetadata.get())
+            // JFR events (since 2.4.0)
+            .generateJfrEvents(generateJfrEvents.get())
+            // VersionContext registry (since 2.4.0)
+            .generateVersionContextRegistry(generateVersionContextRegistry.get())
+            // GraalVM native-image metadata (since 2.4.0)
+            .generateNativeImageMetadata(generateNativeImageMetadata.get())
+            // Child wrapper and converted value caching (since 2.4.0)
+            .cacheMessageWrappers(cacheMessageWrappers.get())
+            .cacheConvertedValues(cacheConvertedValues.get())
+            .lazyStructViews(lazyStructViews.get())
+            // Bounded toString() (since 2.4.0)
+            .toStringMaxLength(toStringMaxLength.get())
+            .toStringMaxFields(toStringMaxFields.get())
+            .resourcesOutputDirectory(
+                if (generateVersionContextRegistry.get() || generateNativeImageMetadata.get()) {
+                    resourcesOutputDirectory.get().asFile.toPath()
+                } else {
+                    null
+                }
+            )
 
         includeMessages.orNull?.forEach { msg ->
             builder.includeMessage(msg)
@@ -922,12 +1038,8 @@ abstract class GenerateWrappersTask : DefaultTask() {
 
         // Generate SchemaDiff for consecutive version pairs
         if (schemas.size > 1) {
-            val diffEngine = SchemaDiffEngine()
-            for (i in 0 until schemas.size - 1) {
-                val v1 = schemas[i]
-                val v2 = schemas[i + 1]
-
-                val diff = diffEngine.compare(v1, v2)
+            val diffEngine = SchemaDiffEngine().setParallel(config.isParallelGeneration)
+            for (diff in diffEngine.compareAdjacent(schemas)) {
                 val diffGenerator = SchemaDiffGenerator(config, diff)
                 val path = diffGenerator.generateAndWrite()
                 pluginLogger.debug("Generated schema diff: $path")
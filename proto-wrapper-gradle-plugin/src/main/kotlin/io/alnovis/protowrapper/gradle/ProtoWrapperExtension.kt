@@ -4,8 +4,10 @@ import org.gradle.api.Action
 import org.gradle.api.NamedDomainObjectContainer
 import org.gradle.api.Project
 import org.gradle.api.file.DirectoryProperty
+import org.gradle.api.file.RegularFileProperty
 import org.gradle.api.provider.ListProperty
 import org.gradle.api.provider.Property
+import io.alnovis.protowrapper.generator.ClassListGenerator
 import io.alnovis.protowrapper.model.FieldMapping
 
 abstract class ProtoWrapperExtension(private val project: Project) {
@@ -13,6 +15,7 @@ abstract class ProtoWrapperExtension(private val project: Project) {
     // Directories
     abstract val protoRoot: DirectoryProperty
     abstract val outputDirectory: DirectoryProperty
+    abstract val resourcesOutputDirectory: DirectoryProperty
     abstract val tempDirectory: DirectoryProperty
 
     // Packages
@@ -101,6 +104,7 @@ abstract class ProtoWrapperExtension(private val project: Project) {
     /**
      * Enable parallel generation for improved build performance.
      * When enabled, wrapper classes are generated in parallel using multiple threads.
+     * Since 2.4.0 this also merges version schemas in parallel (with identical output).
      * Default: false
      * @since 2.1.0
      */
@@ -192,6 +196,94 @@ abstract class ProtoWrapperExtension(private val project: Project) {
      */
     abstract val language: Property<String>
 
+    /**
+     * Whether to emit JDK Flight Recorder events from generated code.
+     * When enabled, parsing from bytes, asVersion conversion, toBytes and
+     * builder build() report events through WrapperEvents. Recording is
+     * switched on at runtime with -Dprotowrapper.jfr.enabled=true.
+     *
+     * Default: false
+     * @since 2.4.0
+     */
+    abstract val generateJfrEvents: Property<Boolean>
+
+    /**
+     * Whether to generate VersionContextRegistry, a reflection-free registry of all
+     * VersionContext implementations. The registry is published as a ServiceLoader
+     * provider with GraalVM reachability metadata in resourcesOutputDirectory,
+     * and is used by the Spring Boot starter when present.
+     * Requires proto-wrapper-core on the runtime classpath.
+     *
+     * Default: false
+     * @since 2.4.0
+     */
+    abstract val generateVersionContextRegistry: Property<Boolean>
+
+    /**
+     * Whether to generate GraalVM native-image metadata (reachability-metadata.json and
+     * the legacy reflect-config.json) into resourcesOutputDirectory. Registers the members
+     * generated code and the Spring Boot starter providers access reflectively.
+     *
+     * Default: false
+     * @since 2.4.0
+     */
+    abstract val generateNativeImageMetadata: Property<Boolean>
+
+    /**
+     * Whether getters of singular message fields cache the child wrapper per
+     * parent instance (racy single-check), so repeated navigation allocates nothing.
+     *
+     * Default: false
+     * @since 2.4.0
+     */
+    abstract val cacheMessageWrappers: Property<Boolean>
+
+    /**
+     * Whether getters cache values converted from the proto representation per wrapper
+     * instance, e.g. the String decoded from a bytes version of a STRING_BYTES conflict.
+     *
+     * Default: false
+     * @since 2.4.0
+     */
+    abstract val cacheConvertedValues: Property<Boolean>
+
+    /**
+     * Whether Struct, Value and ListValue getters return lazy read-only views
+     * (StructConverter.asMap/asObject/asList) instead of mutable copies.
+     * With cacheConvertedValues the view is also cached per wrapper.
+     *
+     * Default: false
+     * @since 2.4.0
+     */
+    abstract val lazyStructViews: Property<Boolean>
+
+    /**
+     * Maximum number of proto characters printed by generated toString().
+     * When set (or toStringMaxFields is set), toString() prints single-line text
+     * format through WrapperToString and stops at the limit.
+     *
+     * Default: 0 (no limit, full text format)
+     * @since 2.4.0
+     */
+    abstract val toStringMaxLength: Property<Int>
+
+    /**
+     * Maximum number of field values printed by generated toString(); each element
+     * of a repeated field counts as one.
+     *
+     * Default: 0 (no limit)
+     * @since 2.4.0
+     */
+    abstract val toStringMaxFields: Property<Int>
+
+    /**
+     * AppCDS class list written by the protoWrapperClassList task.
+     *
+     * Default: build/proto-wrapper.classlist
+     * @since 2.4.0
+     */
+    abstract val classListFile: RegularFileProperty
+
     /**
      * Add a name-based field mapping.
      *
@@ -228,6 +320,9 @@ abstract class ProtoWrapperExtension(private val project: Project) {
         outputDirectory.convention(
             project.layout.buildDirectory.dir("generated/sources/proto-wrapper/main/java")
         )
+        resourcesOutputDirectory.convention(
+            project.layout.buildDirectory.dir("generated/resources/proto-wrapper/main")
+        )
         tempDirectory.convention(
             project.layout.buildDirectory.dir("proto-wrapper-tmp")
         )
@@ -259,5 +354,22 @@ abstract class ProtoWrapperExtension(private val project: Project) {
         generateSchemaMetadata.convention(false)
         // Target language (since 2.4.0)
         language.convention("java")
+        // JFR events (since 2.4.0)
+        generateJfrEvents.convention(false)
+        // VersionContext registry (since 2.4.0)
+        generateVersionContextRegistry.convention(false)
+        // GraalVM native-image metadata (since 2.4.0)
+        generateNativeImageMetadata.convention(false)
+        // Child wrapper and converted value caching (since 2.4.0)
+        cacheMessageWrappers.convention(false)
+        cacheConvertedValues.convention(false)
+        lazyStructViews.convention(false)
+        // Bounded toString() (since 2.4.0)
+        toStringMaxLength.convention(0)
+        toStringMaxFields.convention(0)
+        // AppCDS class list (since 2.4.0)
+        classListFile.convention(
+            project.layout.buildDirectory.file(ClassListGenerator.DEFAULT_FILE_NAME)
+        )
     }
 }
@@ -29,6 +29,7 @@ class ProtoWrapperPlugin : Plugin<Project> {
             // Bind task parameters to extension
             task.protoRoot.set(extension.protoRoot)
             task.outputDirectory.set(extension.outputDirectory)
+            task.resourcesOutputDirectory.set(extension.resourcesOutputDirectory)
             task.tempDirectory.set(extension.tempDirectory)
             task.basePackage.set(extension.basePackage)
             task.apiPackage.set(extension.apiPackage)
@@ -77,21 +78,53 @@ class ProtoWrapperPlugin : Plugin<Project> {
             // Target language (since 2.4.0)
             task.language.set(extension.language)
 
+            // JFR events (since 2.4.0)
+            task.generateJfrEvents.set(extension.generateJfrEvents)
+
+            // VersionContext registry (since 2.4.0)
+            task.generateVersionContextRegistry.set(extension.generateVersionContextRegistry)
+
+            // GraalVM native-image metadata (since 2.4.0)
+            task.generateNativeImageMetadata.set(extension.generateNativeImageMetadata)
+
+            // Child wrapper and converted value caching (since 2.4.0)
+            task.cacheMessageWrappers.set(extension.cacheMessageWrappers)
+            task.cacheConvertedValues.set(extension.cacheConvertedValues)
+            task.lazyStructViews.set(extension.lazyStructViews)
+
+            // Bounded toString() (since 2.4.0)
+            task.toStringMaxLength.set(extension.toStringMaxLength)
+            task.toStringMaxFields.set(extension.toStringMaxFields)
+
             // Pass versions via provider
             task.versions.set(project.provider { extension.versions.toList() })
         }
 
         // Integration with Java plugin
         project.plugins.withType(JavaPlugin::class.java) {
-            // Add generated sources to main source set
-            project.extensions.getByType(
+            // Add generated sources and runtime resources to main source set
+            val mainSourceSet = project.extensions.getByType(
                 org.gradle.api.plugins.JavaPluginExtension::class.java
-            ).sourceSets.getByName("main").java.srcDir(extension.outputDirectory)
+            ).sourceSets.getByName("main")
+            mainSourceSet.java.srcDir(extension.outputDirectory)
+            mainSourceSet.resources.srcDir(extension.resourcesOutputDirectory)
 
-            // compileJava depends on generation
+            // compileJava and processResources depend on generation
             project.tasks.named("compileJava") {
                 it.dependsOn(generateTask)
             }
+            project.tasks.named("processResources") {
+                it.dependsOn(generateTask)
+            }
+
+            // AppCDS class list of compiled wrappers (since 2.4.0)
+            project.tasks.register("protoWrapperClassList", ClassListTask::class.java) { task ->
+                task.group = "proto-wrapper"
+                task.description = "Writes an AppCDS class list of the compiled wrapper classes"
+                task.classesDirectories.from(mainSourceSet.output.classesDirs)
+                task.packages.set(extension.basePackage.map { listOf(it) }.orElse(emptyList()))
+                task.classListFile.set(extension.classListFile)
+            }
         }
     }
 }
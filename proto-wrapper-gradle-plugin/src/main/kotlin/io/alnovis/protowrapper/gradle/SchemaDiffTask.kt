@@ -18,6 +18,8 @@ import io.alnovis.protowrapper.diff.SchemaDiff
 import io.alnovis.protowrapper.diff.formatter.DiffFormatter
 import io.alnovis.protowrapper.diff.formatter.JsonDiffFormatter
 import io.alnovis.protowrapper.diff.formatter.MarkdownDiffFormatter
+import io.alnovis.protowrapper.diff.formatter.NdjsonDiffFormatter
+import io.alnovis.protowrapper.diff.formatter.ProtobufDiffEncoder
 import io.alnovis.protowrapper.diff.formatter.TextDiffFormatter
 import io.alnovis.protowrapper.model.FieldMapping
 import java.io.File
@@ -71,8 +73,8 @@ abstract class SchemaDiffTask : DefaultTask() {
     abstract val v2Name: Property<String>
 
     /**
-     * Output format: text, json, or markdown.
-     * Defaults to "text".
+     * Output format: text, json, markdown, ndjson, or proto.
+     * The binary "proto" format requires [outputFile]. Defaults to "text".
      */
     @get:Input
     @get:Optional
@@ -171,12 +173,14 @@ abstract class SchemaDiffTask : DefaultTask() {
             pluginLogger.info("Comparing schemas...")
             val diff = SchemaDiff.compare(v1Schema, v2Schema, mappings)
 
-            val output = formatOutput(diff)
-
             if (outputFile.isPresent) {
-                writeToFile(output)
+                writeToFile(diff)
+            } else if (isBinaryFormat()) {
+                throw GradleException("Format '${getOutputFormat()}' is binary and requires outputFile")
             } else {
-                pluginLogger.info("\n$output")
+                val output = StringBuilder("\n")
+                writeOutput(diff, output)
+                pluginLogger.info(output.toString())
             }
 
             logSummary(diff)
@@ -253,12 +257,12 @@ abstract class SchemaDiffTask : DefaultTask() {
         return schema
     }
 
-    private fun formatOutput(diff: SchemaDiff): String {
+    private fun writeOutput(diff: SchemaDiff, out: Appendable) {
         val formatter = createFormatter()
-        return if (isBreakingOnly()) {
-            formatter.formatBreakingOnly(diff)
+        if (isBreakingOnly()) {
+            formatter.formatBreakingOnly(diff, out)
         } else {
-            formatter.format(diff)
+            formatter.format(diff, out)
         }
     }
 
@@ -266,18 +270,28 @@ abstract class SchemaDiffTask : DefaultTask() {
         return when (getOutputFormat().lowercase()) {
             "json" -> JsonDiffFormatter()
             "markdown", "md" -> MarkdownDiffFormatter()
+            "ndjson", "jsonl" -> NdjsonDiffFormatter()
             else -> TextDiffFormatter()
         }
     }
 
-    private fun writeToFile(output: String) {
+    private fun isBinaryFormat(): Boolean = getOutputFormat().lowercase() in setOf("proto", "protobuf")
+
+    private fun writeToFile(diff: SchemaDiff) {
         val file = outputFile.get().asFile
         file.parentFile?.let { parent ->
             if (!parent.exists() && !parent.mkdirs()) {
                 throw GradleException("Failed to create output directory: $parent")
             }
         }
-        file.writeText(output)
+        if (isBinaryFormat()) {
+            val encoder = ProtobufDiffEncoder()
+            file.outputStream().buffered().use {
+                if (isBreakingOnly()) encoder.writeBreakingOnlyTo(diff, it) else encoder.writeTo(diff, it)
+            }
+        } else {
+            file.bufferedWriter().use { writeOutput(diff, it) }
+        }
         pluginLogger.info("Report written to: ${file.absolutePath}")
     }
 
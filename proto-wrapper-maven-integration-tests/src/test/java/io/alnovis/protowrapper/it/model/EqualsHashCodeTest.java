@@ -202,6 +202,35 @@ public class EqualsHashCodeTest {
             assertEquals(money1.hashCode(), money2.hashCode(),
                     "Equal objects must have the same hashCode (hashCode contract)");
         }
+
+        @Test
+        @DisplayName("hashCode keeps the Objects.hash(versionId, proto) value")
+        void hashCodeMatchesObjectsHash() {
+            io.alnovis.protowrapper.it.proto.v1.Common.Money proto =
+                    io.alnovis.protowrapper.it.proto.v1.Common.Money.newBuilder()
+                            .setAmount(1000)
+                            .setCurrency("USD")
+                            .build();
+
+            Money money = VersionContext.forVersionId("v1").wrapMoney(proto);
+
+            assertEquals(java.util.Objects.hash("v1", proto), money.hashCode());
+            assertEquals(java.util.Objects.hash("v1", proto), money.hashCode(), "Cached value must be the same");
+        }
+
+        @Test
+        @DisplayName("Different content with computed hashes should not be equal")
+        void differentHashesNotEqual() {
+            VersionContext ctx = VersionContext.forVersionId("v1");
+
+            Money money1 = ctx.newMoneyBuilder().setAmount(100).setCurrency("Test").build();
+            Money money2 = ctx.newMoneyBuilder().setAmount(200).setCurrency("Test").build();
+            money1.hashCode();
+            money2.hashCode();
+
+            assertNotEquals(money1, money2);
+            assertNotEquals(money2, money1);
+        }
     }
 
     @Nested
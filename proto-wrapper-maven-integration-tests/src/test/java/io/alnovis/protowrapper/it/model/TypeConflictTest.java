@@ -710,6 +710,77 @@ class TypeConflictTest {
             assertThat(report2.getChecksum()).isEqualTo("bytes-checksum");
             assertThat(report2.getChecksumBytes()).isEqualTo(checksumBytes);
         }
+
+        @Test
+        @DisplayName("V2 ByteString getter returns the proto value without copying")
+        void v2ByteStringGetterReturnsProtoValue() {
+            ByteString checksum = ByteString.copyFromUtf8("checksum123");
+            io.alnovis.protowrapper.it.proto.v2.Telemetry.TelemetryReport proto =
+                    io.alnovis.protowrapper.it.proto.v2.Telemetry.TelemetryReport.newBuilder()
+                    .setReportNumber("RPT-002")
+                    .setReading(createMinimalV2SensorReading())
+                    .setChecksum(checksum)
+                    .setGeneratedAt(createV2Date(2024, 7, 20))
+                    .build();
+
+            TelemetryReport report = new io.alnovis.protowrapper.it.model.v2.TelemetryReport(proto);
+
+            assertThat(report.getChecksumByteString()).isSameAs(proto.getChecksum());
+            assertThat(report.getChecksumByteString().asReadOnlyByteBuffer().remaining()).isEqualTo(11);
+        }
+
+        @Test
+        @DisplayName("V1 ByteString getter returns the UTF-8 encoding of the string")
+        void v1ByteStringGetterEncodesString() {
+            Telemetry.TelemetryReport proto = Telemetry.TelemetryReport.newBuilder()
+                    .setReportNumber("RPT-001")
+                    .setReading(createMinimalV1SensorReading())
+                    .setChecksum("контроль")
+                    .setGeneratedAt(1704067200000L)
+                    .build();
+
+            TelemetryReport report = new io.alnovis.protowrapper.it.model.v1.TelemetryReport(proto);
+
+            assertThat(report.getChecksumByteString()).isEqualTo(ByteString.copyFromUtf8("контроль"));
+            assertThat(report.getChecksumByteString()).isSameAs(report.getChecksumByteString());
+        }
+
+        @Test
+        @DisplayName("V2 decoded string is cached per wrapper (cacheConvertedValues=true)")
+        void v2DecodedStringCachedPerWrapper() {
+            io.alnovis.protowrapper.it.proto.v2.Telemetry.TelemetryReport proto =
+                    io.alnovis.protowrapper.it.proto.v2.Telemetry.TelemetryReport.newBuilder()
+                    .setReportNumber("RPT-002")
+                    .setReading(createMinimalV2SensorReading())
+                    .setChecksum(ByteString.copyFromUtf8("checksum123"))
+                    .setGeneratedAt(createV2Date(2024, 7, 20))
+                    .build();
+
+            TelemetryReport report = new io.alnovis.protowrapper.it.model.v2.TelemetryReport(proto);
+
+            assertThat(report.getChecksum()).isEqualTo("checksum123");
+            assertThat(report.getChecksum()).isSameAs(report.getChecksum());
+            // byte[] view is still a defensive copy
+            assertThat(report.getChecksumBytes()).isNotSameAs(report.getChecksumBytes());
+        }
+
+        @Test
+        @DisplayName("unset checksum returns empty values from all views")
+        void unsetChecksumReturnsNull() {
+            io.alnovis.protowrapper.it.proto.v2.Telemetry.TelemetryReport proto =
+                    io.alnovis.protowrapper.it.proto.v2.Telemetry.TelemetryReport.newBuilder()
+                    .setReportNumber("RPT-002")
+                    .setReading(createMinimalV2SensorReading())
+                    .setGeneratedAt(createV2Date(2024, 7, 20))
+                    .build();
+
+            TelemetryReport report = new io.alnovis.protowrapper.it.model.v2.TelemetryReport(proto);
+
+            assertThat(report.hasChecksum()).isFalse();
+            assertThat(report.getChecksum()).isEmpty();
+            assertThat(report.getChecksumBytes()).isEmpty();
+            assertThat(report.getChecksumByteString()).isSameAs(ByteString.EMPTY);
+        }
     }
 
     // ==================== NESTED PRIMITIVE_MESSAGE Conflicts ====================
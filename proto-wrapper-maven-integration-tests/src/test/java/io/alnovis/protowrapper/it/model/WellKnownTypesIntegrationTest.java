@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.within;
 
 /**
@@ -1060,4 +1061,145 @@ class WellKnownTypesIntegrationTest {
             assertThat(v1Again.getTimeout()).isEqualTo(timeout);
         }
     }
+
+    // ==================== Converted Value Caching ====================
+
+    @Nested
+    @DisplayName("Converted Value Caching Tests (cacheConvertedValues=true, lazyStructViews=true)")
+    class ConvertedValueCachingTests {
+
+        @Test
+        @DisplayName("Timestamp and Duration are converted once per wrapper")
+        void temporalValuesCached() {
+            Wellknown.TimestampMessage proto = Wellknown.TimestampMessage.newBuilder()
+                    .setId("CC-001")
+                    .setCreatedAt(Timestamp.newBuilder().setSeconds(1704067200L).setNanos(1).build())
+                    .setTimeout(Duration.newBuilder().setSeconds(30).build())
+                    .build();
+
+            TimestampMessage msg = new io.alnovis.protowrapper.it.model.v1.TimestampMessage(proto);
+
+            assertThat(msg.getCreatedAt()).isEqualTo(Instant.ofEpochSecond(1704067200L, 1));
+            assertThat(msg.getCreatedAt()).isSameAs(msg.getCreatedAt());
+            assertThat(msg.getTimeout()).isSameAs(msg.getTimeout());
+        }
+
+        @Test
+        @DisplayName("Unset Timestamp stays null")
+        void unsetTimestampStaysNull() {
+            Wellknown.TimestampMessage proto = Wellknown.TimestampMessage.newBuilder()
+                    .setId("CC-002")
+                    .build();
+
+            TimestampMessage msg = new io.alnovis.protowrapper.it.model.v1.TimestampMessage(proto);
+
+            assertThat(msg.getCreatedAt()).isNull();
+            assertThat(msg.getCreatedAt()).isNull();
+        }
+
+        @Test
+        @DisplayName("Repeated Timestamp list is cached and unmodifiable")
+        void repeatedTimestampsCachedAndUnmodifiable() {
+            Wellknown.RepeatedWktMessage proto = Wellknown.RepeatedWktMessage.newBuilder()
+                    .setId("CC-003")
+                    .addTimestamps(Timestamp.newBuilder().setSeconds(1704067200L).build())
+                    .build();
+
+            RepeatedWktMessage msg = new io.alnovis.protowrapper.it.model.v1.RepeatedWktMessage(proto);
+            List<Instant> timestamps = msg.getTimestamps();
+
+            assertThat(msg.getTimestamps()).isSameAs(timestamps);
+            assertThat(timestamps).isUnmodifiable();
+        }
+
+        @Test
+        @DisplayName("Struct is returned as a cached read-only view")
+        void structReturnedAsCachedView() {
+            Struct metadata = Struct.newBuilder()
+                    .putFields("name", Value.newBuilder().setStringValue("test").build())
+                    .putFields("count", Value.newBuilder().setNumberValue(3).build())
+                    .build();
+            Wellknown.StructMessage proto = Wellknown.StructMessage.newBuilder()
+                    .setId("CC-004")
+                    .setMetadata(metadata)
+                    .build();
+
+            StructMessage msg = new io.alnovis.protowrapper.it.model.v1.StructMessage(proto);
+            Map<String, Object> view = msg.getMetadata();
+
+            assertThat(view).isInstanceOf(StructConverter.StructView.class);
+            assertThat(msg.getMetadata()).isSameAs(view);
+            assertThat(view).isEqualTo(StructConverter.toMap(metadata));
+            assertThatThrownBy(() -> view.put("name", "changed"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> view.remove("name"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThat(((StructConverter.StructView) view).getStruct()).isSameAs(metadata);
+        }
+
+        @Test
+        @DisplayName("Nested Struct and ListValue views are created once and not copied")
+        void nestedViewsCached() {
+            Struct nested = Struct.newBuilder()
+                    .putFields("nestedKey", Value.newBuilder().setStringValue("nestedValue").build())
+                    .build();
+            ListValue array = ListValue.newBuilder()
+                    .addValues(Value.newBuilder().setNumberValue(1).build())
+                    .addValues(Value.newBuilder().setStructValue(nested).build())
+                    .build();
+            Struct metadata = Struct.newBuilder()
+                    .putFields("nested", Value.newBuilder().setStructValue(nested).build())
+                    .putFields("array", Value.newBuilder().setListValue(array).build())
+                    .build();
+            Wellknown.StructMessage proto = Wellknown.StructMessage.newBuilder()
+                    .setId("CC-005")
+                    .setMetadata(metadata)
+                    .build();
+
+            StructMessage msg = new io.alnovis.protowrapper.it.model.v1.StructMessage(proto);
+
+            Object nestedView = msg.getMetadata().get("nested");
+            assertThat(nestedView).isInstanceOf(StructConverter.StructView.class);
+            assertThat(msg.getMetadata().get("nested")).isSameAs(nestedView);
+
+            @SuppressWarnings("unchecked")
+            List<Object> arrayView = (List<Object>) msg.getMetadata().get("array");
+            assertThat(arrayView).isInstanceOf(StructConverter.ListValueView.class);
+            assertThat(arrayView.get(0)).isEqualTo(1.0);
+            assertThat(arrayView.get(1)).isSameAs(arrayView.get(1));
+            assertThat(arrayView.get(1)).isEqualTo(Map.of("nestedKey", "nestedValue"));
+            assertThat(((StructConverter.ListValueView) arrayView).getListValue()).isSameAs(array);
+        }
+
+        @Test
+        @DisplayName("Views round-trip through the builder without copying")
+        void viewRoundTripReusesProto() {
+            Struct metadata = Struct.newBuilder()
+                    .putFields("key", Value.newBuilder().setBoolValue(true).build())
+                    .build();
+            ListValue tags = ListValue.newBuilder()
+                    .addValues(Value.newBuilder().setStringValue("a").build())
+                    .build();
+            Wellknown.StructMessage proto = Wellknown.StructMessage.newBuilder()
+                    .setId("CC-006")
+                    .setMetadata(metadata)
+                    .setTags(tags)
+                    .build();
+
+            StructMessage msg = new io.alnovis.protowrapper.it.model.v1.StructMessage(proto);
+
+            assertThat(StructConverter.toStruct(msg.getMetadata())).isSameAs(metadata);
+            assertThat(StructConverter.toListValue(msg.getTags())).isSameAs(tags);
+
+            io.alnovis.protowrapper.it.model.v1.StructMessage copy =
+                    (io.alnovis.protowrapper.it.model.v1.StructMessage) io.alnovis.protowrapper.it.model.v1.StructMessage.newBuilder()
+                    .setId("CC-007")
+                    .setMetadata(msg.getMetadata())
+                    .setTags(msg.getTags())
+                    .build();
+            Wellknown.StructMessage copyProto = copy.getTypedProto();
+            assertThat(copyProto.getMetadata()).isEqualTo(metadata);
+            assertThat(copyProto.getTags()).isEqualTo(tags);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package io.alnovis.protowrapper.mojo;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import io.alnovis.protowrapper.generator.ClassListGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maven goal that writes an AppCDS class list covering all generated wrapper classes.
+ *
+ * <p>Runs after compilation and lists every compiled class in the wrapper packages,
+ * including nested impl and builder classes. The list can be used to create a
+ * Class Data Sharing archive, which removes most of the class loading cost of
+ * hundreds of wrapper classes at startup.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>
+ * &lt;execution&gt;
+ *     &lt;goals&gt;
+ *         &lt;goal&gt;generate&lt;/goal&gt;
+ *         &lt;goal&gt;class-list&lt;/goal&gt;
+ *     &lt;/goals&gt;
+ * &lt;/execution&gt;
+ *
+ * java -Xshare:dump -XX:SharedClassListFile=target/proto-wrapper.classlist \
+ *      -XX:SharedArchiveFile=app.jsa -cp app.jar
+ * </pre>
+ *
+ * @since 2.4.0
+ */
+@Mojo(name = "class-list", defaultPhase = LifecyclePhase.PROCESS_CLASSES)
+public class ClassListMojo extends AbstractMojo {
+
+    /**
+     * Base package of the generated code. All classes in this package and its
+     * subpackages (api, impl, version packages) are listed.
+     */
+    @Parameter
+    private String basePackage;
+
+    /**
+     * Additional packages to list, e.g. the protoc-generated classes.
+     */
+    @Parameter
+    private List<String> packages;
+
+    /**
+     * Directory containing the compiled classes.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}")
+    private File classesDirectory;
+
+    /**
+     * Class list file to write.
+     */
+    @Parameter(property = "proto-wrapper.classListFile",
+            defaultValue = "${project.build.directory}/" + ClassListGenerator.DEFAULT_FILE_NAME)
+    private File classListFile;
+
+    /**
+     * Skip class list generation.
+     */
+    @Parameter(property = "proto-wrapper.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("Proto Wrapper class list skipped");
+            return;
+        }
+
+        List<String> listedPackages = new ArrayList<>();
+        if (basePackage != null && !basePackage.isEmpty()) {
+            listedPackages.add(basePackage);
+        }
+        if (packages != null) {
+            listedPackages.addAll(packages);
+        }
+        if (listedPackages.isEmpty()) {
+            throw new MojoExecutionException("Either basePackage or packages must be specified");
+        }
+
+        try {
+            int count = new ClassListGenerator(listedPackages)
+                    .generateAndWrite(classesDirectory.toPath(), classListFile.toPath());
+            getLog().info("Wrote " + count + " classes to AppCDS class list " + classListFile);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to write class list", e);
+        }
+    }
+}
@@ -12,12 +12,17 @@ import io.alnovis.protowrapper.diff.SchemaDiff;
 import io.alnovis.protowrapper.diff.formatter.DiffFormatter;
 import io.alnovis.protowrapper.diff.formatter.JsonDiffFormatter;
 import io.alnovis.protowrapper.diff.formatter.MarkdownDiffFormatter;
+import io.alnovis.protowrapper.diff.formatter.NdjsonDiffFormatter;
+import io.alnovis.protowrapper.diff.formatter.ProtobufDiffEncoder;
 import io.alnovis.protowrapper.diff.formatter.TextDiffFormatter;
 import io.alnovis.protowrapper.diff.model.BreakingChange;
 import io.alnovis.protowrapper.model.FieldMapping;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -77,7 +82,8 @@ public class DiffMojo extends AbstractMojo {
     private String v2Name;
 
     /**
-     * Output format: text, json, or markdown.
+     * Output format: text, json, markdown, ndjson, or proto.
+     * The binary {@code proto} format requires {@code output}.
      */
     @Parameter(property = "format", defaultValue = "text")
     private String outputFormat;
@@ -179,14 +185,15 @@ public class DiffMojo extends AbstractMojo {
             getLog().info("Comparing schemas...");
             SchemaDiff diff = SchemaDiff.compare(v1Schema, v2Schema, mappings);
 
-            // Format output
-            String output = formatOutput(diff);
-
-            // Write or display output
+            // Stream to the output file, or display output
             if (outputFile != null) {
-                writeToFile(output);
+                writeToFile(diff);
+            } else if (isBinaryFormat()) {
+                throw new MojoExecutionException("Format '" + outputFormat + "' is binary and requires an output file");
             } else {
-                getLog().info("\n" + output);
+                StringBuilder output = new StringBuilder("\n");
+                writeOutput(diff, output);
+                getLog().info(output);
             }
 
             // Log summary
@@ -306,15 +313,16 @@ public class DiffMojo extends AbstractMojo {
     }
 
     /**
-     * Formats the diff output according to the selected format.
+     * Writes the diff output in the selected format.
      */
-    private String formatOutput(SchemaDiff diff) {
+    private void writeOutput(SchemaDiff diff, Appendable out) throws IOException {
         DiffFormatter formatter = createFormatter();
 
         if (breakingOnly) {
-            return formatter.formatBreakingOnly(diff);
+            formatter.formatBreakingOnly(diff, out);
+        } else {
+            formatter.format(diff, out);
         }
-        return formatter.format(diff);
     }
 
     /**
@@ -324,14 +332,23 @@ public class DiffMojo extends AbstractMojo {
         return switch (outputFormat.toLowerCase()) {
             case "json" -> new JsonDiffFormatter();
             case "markdown", "md" -> new MarkdownDiffFormatter();
+            case "ndjson", "jsonl" -> new NdjsonDiffFormatter();
             default -> new TextDiffFormatter();
         };
     }
 
     /**
-     * Writes output to a file.
+     * Whether the selected format is the binary protobuf encoding.
+     */
+    private boolean isBinaryFormat() {
+        String format = outputFormat.toLowerCase();
+        return format.equals("proto") || format.equals("protobuf");
+    }
+
+    /**
+     * Streams the formatted output to a file.
      */
-    private void writeToFile(String output) throws MojoExecutionException {
+    private void writeToFile(SchemaDiff diff) throws MojoExecutionException {
         try {
             // Create parent directories if needed
             File parent = outputFile.getParentFile();
@@ -339,7 +356,20 @@ public class DiffMojo extends AbstractMojo {
                 throw new MojoExecutionException("Failed to create output directory: " + parent);
             }
 
-            Files.writeString(outputFile.toPath(), output);
+            if (isBinaryFormat()) {
+                ProtobufDiffEncoder encoder = new ProtobufDiffEncoder();
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(outputFile.toPath()))) {
+                    if (breakingOnly) {
+                        encoder.writeBreakingOnlyTo(diff, out);
+                    } else {
+                        encoder.writeTo(diff, out);
+                    }
+                }
+            } else {
+                try (Writer writer = Files.newBufferedWriter(outputFile.toPath())) {
+                    writeOutput(diff, writer);
+                }
+            }
             getLog().info("Report written to: " + outputFile.getAbsolutePath());
         } catch (IOException e) {
             throw new MojoExecutionException("Failed to write output file: " + outputFile, e);
@@ -1,5 +1,6 @@
 package io.alnovis.protowrapper.mojo;
 
+import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -81,6 +82,16 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter(defaultValue = "${project.build.directory}/generated-sources/proto-wrapper")
     private File outputDirectory;
 
+    /**
+     * Output directory for generated runtime resources (ServiceLoader descriptors,
+     * GraalVM native-image metadata). Added to the project resources when
+     * resources are generated.
+     *
+     * @since 2.4.0
+     */
+    @Parameter(defaultValue = "${project.build.directory}/generated-resources/proto-wrapper")
+    private File resourcesOutputDirectory;
+
     /**
      * Directory for temporary files (descriptors).
      */
@@ -327,6 +338,7 @@ public class GenerateMojo extends AbstractMojo {
     /**
      * Enable parallel generation for improved build performance.
      * When enabled, wrapper classes are generated in parallel using multiple threads.
+     * Since 2.4.0 this also merges version schemas in parallel (with identical output).
      * Default: false
      *
      * @since 2.1.0
@@ -394,6 +406,96 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter(property = "proto-wrapper.language", defaultValue = "java")
     private String language;
 
+    /**
+     * Whether to emit JDK Flight Recorder events from generated code.
+     * When enabled, parsing from bytes, asVersion conversion, toBytes and
+     * builder build() report events through WrapperEvents. Recording is
+     * switched on at runtime with -Dprotowrapper.jfr.enabled=true.
+     * Default: false
+     *
+     * @since 2.4.0
+     */
+    @Parameter(property = "proto-wrapper.generateJfrEvents", defaultValue = "false")
+    private boolean generateJfrEvents;
+
+    /**
+     * Whether to generate VersionContextRegistry, a reflection-free registry of all
+     * VersionContext implementations. The registry is published as a ServiceLoader
+     * provider with GraalVM reachability metadata in resourcesOutputDirectory,
+     * and is used by the Spring Boot starter when present.
+     * Requires proto-wrapper-core on the runtime classpath.
+     * Default: false
+     *
+     * @since 2.4.0
+     */
+    @Parameter(property = "proto-wrapper.generateVersionContextRegistry", defaultValue = "false")
+    private boolean generateVersionContextRegistry;
+
+    /**
+     * Whether to generate GraalVM native-image metadata (reachability-metadata.json and
+     * the legacy reflect-config.json) into resourcesOutputDirectory. Registers the members
+     * generated code and the Spring Boot starter providers access reflectively.
+     * Default: false
+     *
+     * @since 2.4.0
+     */
+    @Parameter(property = "proto-wrapper.generateNativeImageMetadata", defaultValue = "false")
+    private boolean generateNativeImageMetadata;
+
+    /**
+     * Whether getters of singular message fields cache the child wrapper per
+     * parent instance. The wrapper is created on first access and reused afterwards
+     * (racy single-check), so repeated navigation allocates nothing.
+     * Default: false
+     *
+     * @since 2.4.0
+     */
+    @Parameter(property = "proto-wrapper.cacheMessageWrappers", defaultValue = "false")
+    private boolean cacheMessageWrappers;
+
+    /**
+     * Whether getters cache values converted from the proto representation per
+     * wrapper instance, e.g. the String decoded from a bytes version of a
+     * STRING_BYTES conflict field.
+     * Default: false
+     *
+     * @since 2.4.0
+     */
+    @Parameter(property = "proto-wrapper.cacheConvertedValues", defaultValue = "false")
+    private boolean cacheConvertedValues;
+
+    /**
+     * Whether Struct, Value and ListValue getters return lazy read-only views
+     * (StructConverter.asMap/asObject/asList) instead of mutable copies.
+     * With cacheConvertedValues the view is also cached per wrapper.
+     * Default: false
+     *
+     * @since 2.4.0
+     */
+    @Parameter(property = "proto-wrapper.lazyStructViews", defaultValue = "false")
+    private boolean lazyStructViews;
+
+    /**
+     * Maximum number of proto characters printed by generated toString().
+     * When set (or toStringMaxFields is set), toString() prints single-line text
+     * format through WrapperToString and stops at the limit.
+     * Default: 0 (no limit, full text format)
+     *
+     * @since 2.4.0
+     */
+    @Parameter(property = "proto-wrapper.toStringMaxLength", defaultValue = "0")
+    private int toStringMaxLength;
+
+    /**
+     * Maximum number of field values printed by generated toString(); each element
+     * of a repeated field counts as one.
+     * Default: 0 (no limit)
+     *
+     * @since 2.4.0
+     */
+    @Parameter(property = "proto-wrapper.toStringMaxFields", defaultValue = "0")
+    private int toStringMaxFields;
+
     /**
      * Maven project.
      */
@@ -452,11 +554,13 @@ public class GenerateMojo extends AbstractMojo {
                 mergerConfig.setFieldMappings(fieldMappings);
                 getLog().info("Using " + fieldMappings.size() + " field mapping(s)");
             }
+            mergerConfig.setParallelMerge(parallelGeneration);
             VersionMerger merger = new VersionMerger(mergerConfig, MavenLogger.from(getLog()));
             MergedSchema mergedSchema = merger.merge(schemas);
 
             getLog().info("Merged schema: " + mergedSchema.getMessages().size() + " messages, " +
                     mergedSchema.getEnums().size() + " enums");
+            mergedSchema.getMergeStats().ifPresent(stats -> getLog().info("Merge memory: " + stats.format()));
 
             // Log conflict statistics
             logConflictStatistics(mergedSchema);
@@ -498,6 +602,11 @@ public class GenerateMojo extends AbstractMojo {
             // Add generated sources to compile path
             project.addCompileSourceRoot(outputDirectory.getAbsolutePath());
 
+            // Add generated runtime resources to the classpath
+            if (isGenerateRuntimeResources()) {
+                addResourcesDirectory();
+            }
+
         } catch (IOException e) {
             throw new MojoExecutionException("Failed to generate code", e);
         }
@@ -706,7 +815,21 @@ public class GenerateMojo extends AbstractMojo {
                 .generateValidationAnnotations(generateValidationAnnotations)
                 .validationAnnotationStyle(validationAnnotationStyle)
                 // Schema metadata (since 2.3.0)
-                .generateSchemaMetadata(generateSchemaMetadata);
+                .generateSchemaMetadata(generateSchemaMetadata)
+                // JFR events (since 2.4.0)
+                .generateJfrEvents(generateJfrEvents)
+                // VersionContext registry (since 2.4.0)
+                .generateVersionContextRegistry(generateVersionContextRegistry)
+                // GraalVM native-image metadata (since 2.4.0)
+                .generateNativeImageMetadata(generateNativeImageMetadata)
+                // Child wrapper and converted value caching (since 2.4.0)
+                .cacheMessageWrappers(cacheMessageWrappers)
+                .cacheConvertedValues(cacheConvertedValues)
+                .lazyStructViews(lazyStructViews)
+                // Bounded toString() (since 2.4.0)
+                .toStringMaxLength(toStringMaxLength)
+                .toStringMaxFields(toStringMaxFields)
+                .resourcesOutputDirectory(isGenerateRuntimeResources() ? resourcesOutputDirectory.toPath() : null);
 
         if (includeMessages != null) {
             for (String msg : includeMessages) {
@@ -723,6 +846,27 @@ public class GenerateMojo extends AbstractMojo {
         return builder.build();
     }
 
+    /**
+     * Check if any option producing runtime resources is enabled.
+     */
+    private boolean isGenerateRuntimeResources() {
+        return generateVersionContextRegistry || generateNativeImageMetadata;
+    }
+
+    /**
+     * Register resourcesOutputDirectory as a project resource (once per directory).
+     */
+    private void addResourcesDirectory() {
+        String directory = resourcesOutputDirectory.getAbsolutePath();
+        boolean registered = project.getResources().stream()
+                .anyMatch(resource -> directory.equals(resource.getDirectory()));
+        if (!registered) {
+            Resource resource = new Resource();
+            resource.setDirectory(directory);
+            project.addResource(resource);
+        }
+    }
+
     /**
      * Get proto class name for a message.
      * Used by GenerationOrchestrator via method reference.
@@ -880,12 +1024,8 @@ public class GenerateMojo extends AbstractMojo {
 
         // Generate SchemaDiff for consecutive version pairs
         if (schemas.size() > 1) {
-            SchemaDiffEngine diffEngine = new SchemaDiffEngine();
-            for (int i = 0; i < schemas.size() - 1; i++) {
-                VersionSchema v1 = schemas.get(i);
-                VersionSchema v2 = schemas.get(i + 1);
-
-                SchemaDiff diff = diffEngine.compare(v1, v2);
+            SchemaDiffEngine diffEngine = new SchemaDiffEngine().setParallel(config.isParallelGeneration());
+            for (SchemaDiff diff : diffEngine.compareAdjacent(schemas)) {
                 SchemaDiffGenerator diffGenerator = new SchemaDiffGenerator(config, diff);
                 Path path = diffGenerator.generateAndWrite();
                 getLog().debug("Generated schema diff: " + path);
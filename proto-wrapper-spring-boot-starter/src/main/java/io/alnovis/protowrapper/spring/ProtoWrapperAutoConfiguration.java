@@ -1,6 +1,8 @@
 package io.alnovis.protowrapper.spring;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
@@ -9,12 +11,18 @@ import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.Ordered;
 import org.springframework.web.context.annotation.RequestScope;
+import io.alnovis.protowrapper.runtime.ContextRegistry;
 import io.alnovis.protowrapper.spring.context.FactoryBasedVersionContextProvider;
 import io.alnovis.protowrapper.spring.context.ReflectiveVersionContextProvider;
+import io.alnovis.protowrapper.spring.context.RegistryVersionContextProvider;
 import io.alnovis.protowrapper.spring.context.RequestScopedVersionContext;
 import io.alnovis.protowrapper.spring.context.VersionContextProvider;
+import io.alnovis.protowrapper.spring.metrics.ProtoWrapperMetrics;
 import io.alnovis.protowrapper.spring.web.ProtoWrapperExceptionHandler;
 import io.alnovis.protowrapper.spring.web.VersionContextRequestFilter;
+import io.alnovis.protowrapper.spring.web.VersionNegotiationResponseAdvice;
+
+import java.util.Optional;
 
 /**
  * Spring Boot auto-configuration for proto-wrapper.
@@ -24,9 +32,13 @@ import io.alnovis.protowrapper.spring.web.VersionContextRequestFilter;
  *   <li>{@link VersionContextProvider} - for resolving version contexts</li>
  *   <li>{@link RequestScopedVersionContext} - per-request version context holder</li>
  *   <li>{@link VersionContextRequestFilter} - extracts version from HTTP headers</li>
+ *   <li>{@link VersionNegotiationResponseAdvice} - converts responses to the negotiated version</li>
  *   <li>{@link ProtoWrapperExceptionHandler} - global exception handling</li>
  * </ul>
  *
+ * <p>Metrics are configured separately by {@link ProtoWrapperMetricsAutoConfiguration}
+ * and picked up by the filter and exception handler when present.
+ *
  * <p>Configuration example:
  * <pre>{@code
  * proto-wrapper:
@@ -48,10 +60,13 @@ public class ProtoWrapperAutoConfiguration {
     /**
      * Creates the VersionContextProvider bean.
      *
-     * <p>By default, uses {@link FactoryBasedVersionContextProvider} which delegates
-     * to the generated VersionContextFactory for type-safe access.
+     * <p>By default, uses {@link RegistryVersionContextProvider} when the generated
+     * VersionContextRegistry is published for the base package, and falls back to
+     * {@link FactoryBasedVersionContextProvider} which delegates to the generated
+     * VersionContextFactory for type-safe access.
      *
-     * <p>Set {@code proto-wrapper.provider-type=reflective} to use the legacy
+     * <p>Set {@code proto-wrapper.provider-type=registry} to require the registry, or
+     * {@code proto-wrapper.provider-type=reflective} to use the legacy
      * reflection-based provider for compatibility with older generated code.
      *
      * @param properties configuration properties
@@ -70,7 +85,19 @@ public class ProtoWrapperAutoConfiguration {
             );
         }
 
-        // Default: use factory-based provider
+        Optional<ContextRegistry<?>> registry =
+            RegistryVersionContextProvider.findRegistry(properties.getBasePackage());
+
+        if (properties.getProviderType() == ProtoWrapperProperties.ProviderType.REGISTRY) {
+            return new RegistryVersionContextProvider(registry.orElseThrow(() -> new IllegalStateException(
+                "VersionContextRegistry not found for " + properties.getBasePackage() +
+                    ". Enable generateVersionContextRegistry in the proto-wrapper plugin.")));
+        }
+
+        // Default: prefer the generated registry, fall back to factory-based provider
+        if (registry.isPresent()) {
+            return new RegistryVersionContextProvider(registry.get());
+        }
         return new FactoryBasedVersionContextProvider(properties.getBasePackage());
     }
 
@@ -97,6 +124,7 @@ public class ProtoWrapperAutoConfiguration {
      * @param requestScopedContext request-scoped context
      * @param provider version context provider
      * @param properties configuration properties
+     * @param metrics metrics recorder, if metrics are enabled
      * @return filter registration
      */
     @Bean
@@ -109,13 +137,15 @@ public class ProtoWrapperAutoConfiguration {
     public FilterRegistrationBean<VersionContextRequestFilter> versionContextFilter(
             RequestScopedVersionContext requestScopedContext,
             VersionContextProvider provider,
-            ProtoWrapperProperties properties) {
+            ProtoWrapperProperties properties,
+            ObjectProvider<ProtoWrapperMetrics> metrics) {
 
         FilterRegistrationBean<VersionContextRequestFilter> registration =
             new FilterRegistrationBean<>();
 
         registration.setFilter(
-            new VersionContextRequestFilter(requestScopedContext, provider, properties)
+            new VersionContextRequestFilter(requestScopedContext, provider, properties,
+                metrics.getIfAvailable(ProtoWrapperMetrics::noop))
         );
         registration.addUrlPatterns("/*");
         registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
@@ -124,9 +154,29 @@ public class ProtoWrapperAutoConfiguration {
         return registration;
     }
 
+    /**
+     * Creates the response advice converting wrapper bodies to the version negotiated
+     * through the {@code Accept} media type parameter.
+     *
+     * @param requestScopedContext request-scoped context
+     * @return response body advice
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnExpression(
+        "${proto-wrapper.request-scoped:true} && ${proto-wrapper.negotiation.enabled:false}"
+            + " && ${proto-wrapper.negotiation.convert-responses:true}"
+    )
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public VersionNegotiationResponseAdvice versionNegotiationResponseAdvice(
+            RequestScopedVersionContext requestScopedContext) {
+        return new VersionNegotiationResponseAdvice(requestScopedContext);
+    }
+
     /**
      * Creates the exception handler.
      *
+     * @param metrics metrics recorder, if metrics are enabled
      * @return exception handler
      */
     @Bean
@@ -137,7 +187,8 @@ public class ProtoWrapperAutoConfiguration {
         matchIfMissing = true
     )
     @ConditionalOnWebApplication
-    public ProtoWrapperExceptionHandler protoWrapperExceptionHandler() {
-        return new ProtoWrapperExceptionHandler();
+    public ProtoWrapperExceptionHandler protoWrapperExceptionHandler(
+            ObjectProvider<ProtoWrapperMetrics> metrics) {
+        return new ProtoWrapperExceptionHandler(metrics.getIfAvailable(ProtoWrapperMetrics::noop));
     }
 }
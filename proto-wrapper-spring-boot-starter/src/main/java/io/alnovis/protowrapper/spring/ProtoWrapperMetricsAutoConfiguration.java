@@ -0,0 +1,67 @@
+package io.alnovis.protowrapper.spring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import io.alnovis.protowrapper.spring.context.VersionContextProvider;
+import io.alnovis.protowrapper.spring.metrics.MicrometerProtoWrapperMetrics;
+import io.alnovis.protowrapper.spring.metrics.ProtoWrapperMetrics;
+
+/**
+ * Spring Boot auto-configuration for proto-wrapper Micrometer metrics.
+ *
+ * <p>Active when Micrometer is on the classpath, a {@link MeterRegistry} bean exists
+ * and metrics are enabled:
+ * <pre>{@code
+ * proto-wrapper:
+ *   metrics:
+ *     enabled: true
+ *     message-types:
+ *       - Order
+ *       - Customer
+ * }</pre>
+ *
+ * @see MicrometerProtoWrapperMetrics
+ */
+@AutoConfiguration(
+    after = ProtoWrapperAutoConfiguration.class,
+    afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration"
+)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(
+    prefix = "proto-wrapper.metrics",
+    name = "enabled",
+    havingValue = "true"
+)
+@ConditionalOnBean({MeterRegistry.class, VersionContextProvider.class})
+public class ProtoWrapperMetricsAutoConfiguration {
+
+    /**
+     * Creates the Micrometer-backed metrics recorder.
+     *
+     * <p>Request counters are registered for every version supported by the provider.
+     *
+     * @param registry meter registry
+     * @param provider version context provider
+     * @param properties configuration properties
+     * @return metrics recorder
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ProtoWrapperMetrics protoWrapperMetrics(
+            MeterRegistry registry,
+            VersionContextProvider provider,
+            ProtoWrapperProperties properties) {
+        ProtoWrapperProperties.Metrics metrics = properties.getMetrics();
+        return new MicrometerProtoWrapperMetrics(
+            registry,
+            provider.getSupportedVersions(),
+            metrics.getMessageTypes(),
+            metrics.isPercentileHistogram()
+        );
+    }
+}
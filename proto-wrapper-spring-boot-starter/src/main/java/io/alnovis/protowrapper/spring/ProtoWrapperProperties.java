@@ -21,6 +21,10 @@ import java.util.List;
  *   request-scoped: true
  *   exception-handling: true
  *   provider-type: factory
+ *   metrics:
+ *     enabled: true
+ *   negotiation:
+ *     enabled: true
  * }</pre>
  *
  * @see ProviderType
@@ -70,12 +74,24 @@ public class ProtoWrapperProperties {
 
     /**
      * Type of VersionContextProvider to use.
-     * FACTORY (default): Uses generated VersionContextFactory for type-safe access.
+     * FACTORY (default): Uses the generated VersionContextRegistry if present,
+     * otherwise the generated VersionContext static methods.
+     * REGISTRY: Requires the generated VersionContextRegistry.
      * REFLECTIVE: Uses reflection to discover VersionContext classes.
      * Default: FACTORY
      */
     private ProviderType providerType = ProviderType.FACTORY;
 
+    /**
+     * Micrometer metrics configuration.
+     */
+    private final Metrics metrics = new Metrics();
+
+    /**
+     * Media type version negotiation configuration.
+     */
+    private final Negotiation negotiation = new Negotiation();
+
     /**
      * Enum defining available VersionContextProvider implementations.
      */
@@ -83,9 +99,17 @@ public class ProtoWrapperProperties {
         /**
          * Uses generated VersionContextFactory.
          * Recommended: provides compile-time type safety in generated code.
+         * Prefers the generated VersionContextRegistry when it is on the classpath.
          */
         FACTORY,
 
+        /**
+         * Uses the generated VersionContextRegistry without any reflection.
+         * Fails on startup if the registry was not generated.
+         * Requires plugin option generateVersionContextRegistry=true.
+         */
+        REGISTRY,
+
         /**
          * Uses reflection to discover and instantiate VersionContext classes.
          * Fallback for compatibility with older generated code.
@@ -93,6 +117,110 @@ public class ProtoWrapperProperties {
         REFLECTIVE
     }
 
+    /**
+     * Micrometer metrics configuration.
+     */
+    public static class Metrics {
+
+        /**
+         * Enable Micrometer metrics for version resolution and wrapper traffic.
+         * Requires a MeterRegistry bean.
+         * Default: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * Message types whose parse/serialize meters are registered at startup.
+         * Meters for other message types are registered on first use.
+         */
+        private List<String> messageTypes = new ArrayList<>();
+
+        /**
+         * Publish percentile histograms for parse/serialize timers and payload sizes.
+         * Default: false
+         */
+        private boolean percentileHistogram = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getMessageTypes() {
+            return messageTypes;
+        }
+
+        public void setMessageTypes(List<String> messageTypes) {
+            this.messageTypes = messageTypes;
+        }
+
+        public boolean isPercentileHistogram() {
+            return percentileHistogram;
+        }
+
+        public void setPercentileHistogram(boolean percentileHistogram) {
+            this.percentileHistogram = percentileHistogram;
+        }
+    }
+
+    /**
+     * Media type version negotiation configuration.
+     *
+     * <p>When enabled, the version is also resolved from a media type parameter
+     * ({@code Content-Type: application/x-protobuf;version=v2}) and the response
+     * version from {@code Accept}. Wrapper response bodies are converted to the
+     * response version with {@code asVersion(VersionContext)}.
+     *
+     * @since 2.4.0
+     */
+    public static class Negotiation {
+
+        /**
+         * Enable version negotiation through media type parameters.
+         * Default: false
+         */
+        private boolean enabled = false;
+
+        /**
+         * Media type parameter carrying the version.
+         * Default: "version"
+         */
+        private String parameterName = "version";
+
+        /**
+         * Convert wrapper response bodies to the version requested in Accept.
+         * Default: true
+         */
+        private boolean convertResponses = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getParameterName() {
+            return parameterName;
+        }
+
+        public void setParameterName(String parameterName) {
+            this.parameterName = parameterName;
+        }
+
+        public boolean isConvertResponses() {
+            return convertResponses;
+        }
+
+        public void setConvertResponses(boolean convertResponses) {
+            this.convertResponses = convertResponses;
+        }
+    }
+
     // Getters and setters
 
     public String getBasePackage() {
@@ -151,6 +279,14 @@ public class ProtoWrapperProperties {
         this.providerType = providerType;
     }
 
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public Negotiation getNegotiation() {
+        return negotiation;
+    }
+
     /**
      * Validates configuration on startup.
      *
@@ -0,0 +1,95 @@
+package io.alnovis.protowrapper.spring.context;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.alnovis.protowrapper.runtime.ContextRegistry;
+import io.alnovis.protowrapper.spring.web.VersionNotSupportedException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * VersionContextProvider implementation backed by a generated VersionContextRegistry.
+ *
+ * <p>All lookups are direct calls into the generated registry, which references every
+ * {@code VersionContextVx.INSTANCE} statically. No class names are built and no
+ * reflection is used, which keeps startup fast and works under GraalVM native-image.
+ *
+ * <p>Requires the plugin option {@code generateVersionContextRegistry=true}. The registry
+ * is discovered with {@link ContextRegistry#load(String)} or can be passed directly:
+ * <pre>{@code
+ * @Bean
+ * VersionContextProvider versionContextProvider() {
+ *     return new RegistryVersionContextProvider(VersionContextRegistry.INSTANCE);
+ * }
+ * }</pre>
+ *
+ * @since 2.4.0
+ */
+public class RegistryVersionContextProvider implements VersionContextProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistryVersionContextProvider.class);
+
+    private final ContextRegistry<?> registry;
+    private final List<String> supportedVersions;
+    private final String defaultVersion;
+
+    /**
+     * Creates a new RegistryVersionContextProvider.
+     *
+     * @param registry generated VersionContextRegistry
+     */
+    public RegistryVersionContextProvider(ContextRegistry<?> registry) {
+        this.registry = Objects.requireNonNull(registry, "registry");
+        this.supportedVersions = registry.supportedVersions();
+        this.defaultVersion = registry.defaultVersion();
+
+        log.info("Initialized RegistryVersionContextProvider for {} with versions: {}, default: {}",
+                registry.getApiPackage(), supportedVersions, defaultVersion);
+    }
+
+    /**
+     * Finds the generated registry for a base package.
+     *
+     * @param basePackage base package for generated classes (without .api suffix)
+     * @return optional containing the registry, or empty if none is published
+     */
+    public static Optional<ContextRegistry<?>> findRegistry(String basePackage) {
+        return ContextRegistry.load(basePackage + ".api");
+    }
+
+    @Override
+    public Object getContext(String version) {
+        return findContext(version).orElseThrow(() ->
+                new VersionNotSupportedException(version, supportedVersions));
+    }
+
+    @Override
+    public Optional<Object> findContext(String version) {
+        if (version == null) {
+            return Optional.empty();
+        }
+        return registry.find(version).map(Object.class::cast);
+    }
+
+    @Override
+    public Object getDefaultContext() {
+        return registry.getDefault();
+    }
+
+    @Override
+    public List<String> getSupportedVersions() {
+        return supportedVersions;
+    }
+
+    @Override
+    public String getDefaultVersion() {
+        return defaultVersion;
+    }
+
+    @Override
+    public boolean isSupported(String version) {
+        return version != null && registry.isSupported(version);
+    }
+}
@@ -29,6 +29,8 @@ public class RequestScopedVersionContext {
 
     private Object context;
     private String version;
+    private Object responseContext;
+    private String responseVersion;
 
     /**
      * Get the current VersionContext.
@@ -68,6 +70,56 @@ public class RequestScopedVersionContext {
         this.version = version;
     }
 
+    /**
+     * Set the VersionContext responses of this request are written in.
+     * Called by {@link io.alnovis.protowrapper.spring.web.VersionContextRequestFilter}
+     * when the client asks for a version in {@code Accept}.
+     *
+     * @param responseContext VersionContext instance for the response
+     * @param responseVersion response version string
+     * @since 2.4.0
+     */
+    public void setResponse(Object responseContext, String responseVersion) {
+        this.responseContext = responseContext;
+        this.responseVersion = responseVersion;
+    }
+
+    /**
+     * Get the VersionContext responses are written in.
+     * Same as {@link #get()} unless the client negotiated a response version.
+     *
+     * @param <T> expected VersionContext type
+     * @return response VersionContext
+     * @throws IllegalStateException if context has not been set
+     * @since 2.4.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getResponseContext() {
+        return responseContext != null ? (T) responseContext : get();
+    }
+
+    /**
+     * Get the response version string.
+     * Same as {@link #getVersion()} unless the client negotiated a response version.
+     *
+     * @return response version string (e.g., "v1")
+     * @since 2.4.0
+     */
+    public String getResponseVersion() {
+        return responseVersion != null ? responseVersion : version;
+    }
+
+    /**
+     * Check if the client negotiated a response version in {@code Accept}.
+     * It may equal the request version; wrapper bodies of other versions are still converted to it.
+     *
+     * @return true if {@link #setResponse(Object, String)} was called for this request
+     * @since 2.4.0
+     */
+    public boolean isResponseNegotiated() {
+        return responseContext != null;
+    }
+
     /**
      * Check if context has been set.
      *
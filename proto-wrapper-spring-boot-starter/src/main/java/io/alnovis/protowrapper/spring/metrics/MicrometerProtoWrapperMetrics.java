@@ -0,0 +1,178 @@
+package io.alnovis.protowrapper.spring.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ProtoWrapperMetrics} implementation backed by Micrometer.
+ *
+ * <p>Meters for every supported version and for configured message types are
+ * registered eagerly, so recording on the request path is a map lookup followed
+ * by a meter update, without tag or builder allocation. Meters for message types
+ * not known at startup are registered once on first use.
+ *
+ * <p>Registered meters:
+ * <ul>
+ *   <li>{@code protowrapper.requests} - counter, tag {@code version}</li>
+ *   <li>{@code protowrapper.version.fallbacks} - counter, tag {@code reason}</li>
+ *   <li>{@code protowrapper.version.rejections} - counter</li>
+ *   <li>{@code protowrapper.parse} - timer, tag {@code message}</li>
+ *   <li>{@code protowrapper.serialize} - timer, tag {@code message}</li>
+ *   <li>{@code protowrapper.payload.size} - distribution summary, tags {@code message}, {@code operation}</li>
+ * </ul>
+ */
+public class MicrometerProtoWrapperMetrics implements ProtoWrapperMetrics {
+
+    /** Counter of requests per resolved version. */
+    public static final String REQUESTS = "protowrapper.requests";
+
+    /** Counter of fallbacks to the default version. */
+    public static final String FALLBACKS = "protowrapper.version.fallbacks";
+
+    /** Counter of requests rejected with an unsupported version. */
+    public static final String REJECTIONS = "protowrapper.version.rejections";
+
+    /** Timer of message parsing. */
+    public static final String PARSE = "protowrapper.parse";
+
+    /** Timer of message serialization. */
+    public static final String SERIALIZE = "protowrapper.serialize";
+
+    /** Distribution summary of payload sizes. */
+    public static final String PAYLOAD_SIZE = "protowrapper.payload.size";
+
+    private final MeterRegistry registry;
+    private final boolean publishHistogram;
+    private final Map<String, Counter> requestCounters = new ConcurrentHashMap<>();
+    private final Map<FallbackReason, Counter> fallbackCounters = new EnumMap<>(FallbackReason.class);
+    private final Counter rejectionCounter;
+    private final Map<String, MessageMeters> messageMeters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new MicrometerProtoWrapperMetrics and registers meters eagerly.
+     *
+     * @param registry meter registry
+     * @param versions supported versions to pre-register request counters for
+     * @param messageTypes message types to pre-register timers and summaries for
+     * @param publishHistogram whether timers and summaries publish percentile histograms
+     */
+    public MicrometerProtoWrapperMetrics(
+            MeterRegistry registry,
+            List<String> versions,
+            List<String> messageTypes,
+            boolean publishHistogram) {
+        this.registry = registry;
+        this.publishHistogram = publishHistogram;
+
+        for (String version : versions) {
+            requestCounters.put(version, requestCounter(version));
+        }
+        for (FallbackReason reason : FallbackReason.values()) {
+            fallbackCounters.put(reason, Counter.builder(FALLBACKS)
+                .description("Requests that fell back to the default protocol version")
+                .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                .register(registry));
+        }
+        this.rejectionCounter = Counter.builder(REJECTIONS)
+            .description("Requests rejected because of an unsupported protocol version")
+            .register(registry);
+        for (String messageType : messageTypes) {
+            messageMeters.put(messageType, new MessageMeters(messageType));
+        }
+    }
+
+    @Override
+    public void recordRequest(String version) {
+        if (version == null) {
+            return;
+        }
+        Counter counter = requestCounters.get(version);
+        if (counter == null) {
+            counter = requestCounters.computeIfAbsent(version, this::requestCounter);
+        }
+        counter.increment();
+    }
+
+    @Override
+    public void recordFallback(FallbackReason reason) {
+        fallbackCounters.get(reason).increment();
+    }
+
+    @Override
+    public void recordRejection() {
+        rejectionCounter.increment();
+    }
+
+    @Override
+    public void recordParse(String messageType, long nanos, int bytes) {
+        MessageMeters meters = metersFor(messageType);
+        meters.parseTimer.record(nanos, TimeUnit.NANOSECONDS);
+        meters.parseSize.record(bytes);
+    }
+
+    @Override
+    public void recordSerialize(String messageType, long nanos, int bytes) {
+        MessageMeters meters = metersFor(messageType);
+        meters.serializeTimer.record(nanos, TimeUnit.NANOSECONDS);
+        meters.serializeSize.record(bytes);
+    }
+
+    private MessageMeters metersFor(String messageType) {
+        MessageMeters meters = messageMeters.get(messageType);
+        if (meters == null) {
+            meters = messageMeters.computeIfAbsent(messageType, MessageMeters::new);
+        }
+        return meters;
+    }
+
+    private Counter requestCounter(String version) {
+        return Counter.builder(REQUESTS)
+            .description("Requests per resolved protocol version")
+            .tag("version", version)
+            .register(registry);
+    }
+
+    /**
+     * Pre-registered meters for a single message type.
+     */
+    private final class MessageMeters {
+        private final Timer parseTimer;
+        private final Timer serializeTimer;
+        private final DistributionSummary parseSize;
+        private final DistributionSummary serializeSize;
+
+        private MessageMeters(String messageType) {
+            this.parseTimer = timer(PARSE, "Time spent parsing wrapper messages", messageType);
+            this.serializeTimer = timer(SERIALIZE, "Time spent serializing wrapper messages", messageType);
+            this.parseSize = payloadSize(messageType, "parse");
+            this.serializeSize = payloadSize(messageType, "serialize");
+        }
+
+        private Timer timer(String name, String description, String messageType) {
+            return Timer.builder(name)
+                .description(description)
+                .tag("message", messageType)
+                .publishPercentileHistogram(publishHistogram)
+                .register(registry);
+        }
+
+        private DistributionSummary payloadSize(String messageType, String operation) {
+            return DistributionSummary.builder(PAYLOAD_SIZE)
+                .description("Payload size of wrapper messages")
+                .baseUnit("bytes")
+                .tag("message", messageType)
+                .tag("operation", operation)
+                .publishPercentileHistogram(publishHistogram)
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.alnovis.protowrapper.spring.metrics;
+
+/**
+ * Recorder for proto-wrapper traffic metrics.
+ *
+ * <p>The starter calls this interface from {@link io.alnovis.protowrapper.spring.web.VersionContextRequestFilter}
+ * and {@link io.alnovis.protowrapper.spring.web.ProtoWrapperExceptionHandler}. Application code can
+ * use it to record parse and serialize latency of wrapper messages:
+ * <pre>{@code
+ * long start = System.nanoTime();
+ * Order order = ctx.parseOrderFromBytes(bytes);
+ * metrics.recordParse("Order", System.nanoTime() - start, bytes.length);
+ * }</pre>
+ *
+ * <p>When metrics are disabled, {@link #noop()} is used and all calls are discarded.
+ *
+ * @see MicrometerProtoWrapperMetrics
+ */
+public interface ProtoWrapperMetrics {
+
+    /**
+     * Reason why the request version fell back to the default version.
+     */
+    enum FallbackReason {
+        /**
+         * Request did not specify a version.
+         */
+        MISSING,
+
+        /**
+         * Request specified a version that is not supported.
+         */
+        UNSUPPORTED
+    }
+
+    /**
+     * Record a request resolved to the given version.
+     *
+     * @param version resolved version string
+     */
+    void recordRequest(String version);
+
+    /**
+     * Record a fallback to the default version.
+     *
+     * @param reason fallback reason
+     */
+    void recordFallback(FallbackReason reason);
+
+    /**
+     * Record a request rejected because of an unsupported version.
+     */
+    void recordRejection();
+
+    /**
+     * Record parsing of a wrapper message.
+     *
+     * @param messageType message type name (e.g., "Order")
+     * @param nanos elapsed time in nanoseconds
+     * @param bytes payload size in bytes
+     */
+    void recordParse(String messageType, long nanos, int bytes);
+
+    /**
+     * Record serialization of a wrapper message.
+     *
+     * @param messageType message type name (e.g., "Order")
+     * @param nanos elapsed time in nanoseconds
+     * @param bytes payload size in bytes
+     */
+    void recordSerialize(String messageType, long nanos, int bytes);
+
+    /**
+     * Creates a no-op recorder that discards all measurements.
+     *
+     * @return a no-op recorder
+     */
+    static ProtoWrapperMetrics noop() {
+        return NoopProtoWrapperMetrics.INSTANCE;
+    }
+}
+
+/**
+ * Shared no-op implementation of {@link ProtoWrapperMetrics}.
+ */
+enum NoopProtoWrapperMetrics implements ProtoWrapperMetrics {
+    INSTANCE;
+
+    @Override
+    public void recordRequest(String version) {}
+
+    @Override
+    public void recordFallback(FallbackReason reason) {}
+
+    @Override
+    public void recordRejection() {}
+
+    @Override
+    public void recordParse(String messageType, long nanos, int bytes) {}
+
+    @Override
+    public void recordSerialize(String messageType, long nanos, int bytes) {}
+}
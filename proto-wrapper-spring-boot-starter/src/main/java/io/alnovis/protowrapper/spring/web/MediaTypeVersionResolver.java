@@ -0,0 +1,140 @@
+package io.alnovis.protowrapper.spring.web;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Resolves a protocol version from a media type parameter.
+ *
+ * <p>Works on raw {@code Content-Type} and {@code Accept} header values such as
+ * {@code application/x-protobuf;version=v2} or
+ * {@code application/x-protobuf; version="v1", application/json}. The first media
+ * range carrying the parameter wins; quality values are not considered.
+ *
+ * <p>The supported versions and the parameter name are fixed at construction time,
+ * and resolution is a single scan of the header with region comparisons against them.
+ * No regex is evaluated and nothing is allocated per call; the returned version is
+ * the canonical instance from the supported list.
+ *
+ * @since 2.4.0
+ */
+public final class MediaTypeVersionResolver {
+
+    /**
+     * Result of {@link #indexOf(String)} when no version parameter is present.
+     */
+    public static final int NOT_PRESENT = -1;
+
+    /**
+     * Result of {@link #indexOf(String)} when the version parameter names an unsupported version.
+     */
+    public static final int UNSUPPORTED = -2;
+
+    private final String parameterName;
+    private final String[] versions;
+
+    /**
+     * Creates a new MediaTypeVersionResolver.
+     *
+     * @param parameterName media type parameter carrying the version (e.g., "version")
+     * @param supportedVersions supported version identifiers
+     */
+    public MediaTypeVersionResolver(String parameterName, List<String> supportedVersions) {
+        this.parameterName = Objects.requireNonNull(parameterName, "parameterName");
+        if (parameterName.isEmpty()) {
+            throw new IllegalArgumentException("parameterName must not be empty");
+        }
+        this.versions = supportedVersions.toArray(new String[0]);
+    }
+
+    /**
+     * Resolves the version from a header value.
+     *
+     * @param headerValue raw header value, may be null
+     * @return supported version, or null if the header has no supported version parameter
+     */
+    public String resolve(String headerValue) {
+        int index = indexOf(headerValue);
+        return index >= 0 ? versions[index] : null;
+    }
+
+    /**
+     * Finds the index of the version named by the first version parameter in a header value.
+     *
+     * @param headerValue raw header value, may be null
+     * @return index into the supported versions, {@link #NOT_PRESENT} or {@link #UNSUPPORTED}
+     */
+    public int indexOf(String headerValue) {
+        if (headerValue == null) {
+            return NOT_PRESENT;
+        }
+        int length = headerValue.length();
+        int pos = 0;
+        while (pos < length) {
+            char c = headerValue.charAt(pos);
+            if (c == ';') {
+                int nameStart = skipWhitespace(headerValue, pos + 1, length);
+                int nameEnd = nameStart + parameterName.length();
+                if (headerValue.regionMatches(true, nameStart, parameterName, 0, parameterName.length())) {
+                    int eq = skipWhitespace(headerValue, nameEnd, length);
+                    if (eq < length && headerValue.charAt(eq) == '=') {
+                        return matchValue(headerValue, skipWhitespace(headerValue, eq + 1, length), length);
+                    }
+                }
+            } else if (c == '"') {
+                // Skip quoted strings so separators inside them are ignored
+                pos = headerValue.indexOf('"', pos + 1);
+                if (pos < 0) {
+                    return NOT_PRESENT;
+                }
+            }
+            pos++;
+        }
+        return NOT_PRESENT;
+    }
+
+    /**
+     * Returns the supported version at an index returned by {@link #indexOf(String)}.
+     *
+     * @param index version index
+     * @return version identifier
+     */
+    public String versionAt(int index) {
+        return versions[index];
+    }
+
+    private int matchValue(String header, int start, int length) {
+        int end;
+        if (start < length && header.charAt(start) == '"') {
+            start++;
+            end = header.indexOf('"', start);
+            if (end < 0) {
+                return UNSUPPORTED;
+            }
+        } else {
+            end = start;
+            while (end < length) {
+                char c = header.charAt(end);
+                if (c == ';' || c == ',' || c == ' ' || c == '\t') {
+                    break;
+                }
+                end++;
+            }
+        }
+        int valueLength = end - start;
+        for (int i = 0; i < versions.length; i++) {
+            String version = versions[i];
+            if (version.length() == valueLength && header.regionMatches(start, version, 0, valueLength)) {
+                return i;
+            }
+        }
+        return UNSUPPORTED;
+    }
+
+    private static int skipWhitespace(String s, int pos, int length) {
+        while (pos < length && (s.charAt(pos) == ' ' || s.charAt(pos) == '\t')) {
+            pos++;
+        }
+        return pos;
+    }
+}
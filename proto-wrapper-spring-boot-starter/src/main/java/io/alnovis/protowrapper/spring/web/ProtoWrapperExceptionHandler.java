@@ -6,6 +6,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import io.alnovis.protowrapper.spring.metrics.ProtoWrapperMetrics;
 
 import java.util.Map;
 
@@ -22,6 +23,24 @@ public class ProtoWrapperExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(ProtoWrapperExceptionHandler.class);
 
+    private final ProtoWrapperMetrics metrics;
+
+    /**
+     * Creates a new ProtoWrapperExceptionHandler without metrics.
+     */
+    public ProtoWrapperExceptionHandler() {
+        this(ProtoWrapperMetrics.noop());
+    }
+
+    /**
+     * Creates a new ProtoWrapperExceptionHandler.
+     *
+     * @param metrics metrics recorder for unsupported-version rejections
+     */
+    public ProtoWrapperExceptionHandler(ProtoWrapperMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     /**
      * Handles VersionNotSupportedException.
      *
@@ -33,6 +52,7 @@ public class ProtoWrapperExceptionHandler {
             VersionNotSupportedException ex) {
 
         log.warn("Version not supported: {}", ex.getMessage());
+        metrics.recordRejection();
 
         return ResponseEntity
             .status(HttpStatus.BAD_REQUEST)
@@ -6,11 +6,14 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.web.filter.OncePerRequestFilter;
 import io.alnovis.protowrapper.spring.ProtoWrapperProperties;
 import io.alnovis.protowrapper.spring.context.RequestScopedVersionContext;
 import io.alnovis.protowrapper.spring.context.VersionContextProvider;
+import io.alnovis.protowrapper.spring.metrics.ProtoWrapperMetrics;
+import io.alnovis.protowrapper.spring.metrics.ProtoWrapperMetrics.FallbackReason;
 
 import java.io.IOException;
 
@@ -21,8 +24,14 @@ import java.io.IOException;
  * <p>Version resolution order:
  * <ol>
  *   <li>X-Protocol-Version header (or configured header name)</li>
+ *   <li>Media type parameter of {@code Content-Type}, then {@code Accept}
+ *       (e.g., {@code application/x-protobuf;version=v2}), if negotiation is enabled</li>
  *   <li>Default version from configuration</li>
  * </ol>
+ *
+ * <p>With negotiation enabled, a supported version parameter in {@code Accept} selects the
+ * response version (see {@link RequestScopedVersionContext#getResponseVersion()}), even when it
+ * equals the request version, so handlers returning wrappers of another version are converted.
  */
 public class VersionContextRequestFilter extends OncePerRequestFilter {
 
@@ -31,9 +40,11 @@ public class VersionContextRequestFilter extends OncePerRequestFilter {
     private final RequestScopedVersionContext requestScopedContext;
     private final VersionContextProvider provider;
     private final String versionHeader;
+    private final ProtoWrapperMetrics metrics;
+    private final MediaTypeVersionResolver mediaTypeResolver;
 
     /**
-     * Creates a new VersionContextRequestFilter.
+     * Creates a new VersionContextRequestFilter without metrics.
      *
      * @param requestScopedContext request-scoped context holder
      * @param provider version context provider
@@ -43,9 +54,30 @@ public class VersionContextRequestFilter extends OncePerRequestFilter {
             RequestScopedVersionContext requestScopedContext,
             VersionContextProvider provider,
             ProtoWrapperProperties properties) {
+        this(requestScopedContext, provider, properties, ProtoWrapperMetrics.noop());
+    }
+
+    /**
+     * Creates a new VersionContextRequestFilter.
+     *
+     * @param requestScopedContext request-scoped context holder
+     * @param provider version context provider
+     * @param properties configuration properties
+     * @param metrics metrics recorder for resolved versions and fallbacks
+     */
+    public VersionContextRequestFilter(
+            RequestScopedVersionContext requestScopedContext,
+            VersionContextProvider provider,
+            ProtoWrapperProperties properties,
+            ProtoWrapperMetrics metrics) {
         this.requestScopedContext = requestScopedContext;
         this.provider = provider;
         this.versionHeader = properties.getVersionHeader();
+        this.metrics = metrics;
+        ProtoWrapperProperties.Negotiation negotiation = properties.getNegotiation();
+        this.mediaTypeResolver = negotiation.isEnabled()
+            ? new MediaTypeVersionResolver(negotiation.getParameterName(), provider.getSupportedVersions())
+            : null;
     }
 
     @Override
@@ -58,6 +90,14 @@ public class VersionContextRequestFilter extends OncePerRequestFilter {
         Object context = provider.getContext(version);
 
         requestScopedContext.set(context, version);
+        metrics.recordRequest(version);
+
+        if (mediaTypeResolver != null) {
+            String responseVersion = mediaTypeResolver.resolve(request.getHeader(HttpHeaders.ACCEPT));
+            if (responseVersion != null) {
+                requestScopedContext.setResponse(provider.getContext(responseVersion), responseVersion);
+            }
+        }
 
         if (log.isDebugEnabled()) {
             log.debug("Set VersionContext for request {}: version={}",
@@ -68,13 +108,14 @@ public class VersionContextRequestFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Extracts version from request header or falls back to default.
+     * Extracts version from request header or media type, or falls back to default.
      *
      * @param request HTTP request
      * @return version string
      */
     private String extractVersion(HttpServletRequest request) {
         String headerValue = request.getHeader(versionHeader);
+        boolean unsupported = false;
 
         if (headerValue != null && !headerValue.isBlank()) {
             String version = headerValue.trim();
@@ -83,8 +124,25 @@ public class VersionContextRequestFilter extends OncePerRequestFilter {
             }
             log.warn("Unsupported version '{}' in header {}, falling back to default",
                 version, versionHeader);
+            unsupported = true;
         }
 
+        if (mediaTypeResolver != null) {
+            int index = mediaTypeResolver.indexOf(request.getHeader(HttpHeaders.CONTENT_TYPE));
+            if (index == MediaTypeVersionResolver.NOT_PRESENT) {
+                index = mediaTypeResolver.indexOf(request.getHeader(HttpHeaders.ACCEPT));
+            }
+            if (index >= 0) {
+                return mediaTypeResolver.versionAt(index);
+            }
+            if (index == MediaTypeVersionResolver.UNSUPPORTED && !unsupported) {
+                log.warn("Unsupported version in media type parameter, falling back to default");
+                unsupported = true;
+            }
+        }
+
+        metrics.recordFallback(unsupported ? FallbackReason.UNSUPPORTED : FallbackReason.MISSING);
+
         // Fallback to default
         return provider.getDefaultVersion();
     }
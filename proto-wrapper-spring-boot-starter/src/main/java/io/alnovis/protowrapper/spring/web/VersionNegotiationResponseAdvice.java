@@ -0,0 +1,75 @@
+package io.alnovis.protowrapper.spring.web;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import io.alnovis.protowrapper.spring.context.RequestScopedVersionContext;
+
+/**
+ * Converts wrapper response bodies to the version the client negotiated.
+ *
+ * <p>When the client sends {@code Accept: application/x-protobuf;version=v1} to an endpoint
+ * that produces v2 wrappers, the body is converted with {@code asVersion(VersionContext)}
+ * before it is written, so a single endpoint can serve several client versions:
+ * <pre>{@code
+ * @GetMapping("/orders/{id}")
+ * public Order getOrder(@PathVariable String id) {
+ *     return orderService.find(id); // converted to the Accept version
+ * }
+ * }</pre>
+ *
+ * <p>Only handler methods declared to return a generated wrapper type (directly or as
+ * {@code ResponseEntity<T>}) are advised. Bodies are converted only if the client sent a
+ * version in {@code Accept} and the body's {@code getWrapperVersionId()} differs from it; bodies
+ * already in the response version are written unchanged.
+ *
+ * @see RequestScopedVersionContext#getResponseVersion()
+ * @since 2.4.0
+ */
+@ControllerAdvice
+public class VersionNegotiationResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final RequestScopedVersionContext requestScopedContext;
+    private final WrapperVersionConverter converter;
+
+    /**
+     * Creates a new VersionNegotiationResponseAdvice.
+     *
+     * @param requestScopedContext request-scoped context holder
+     */
+    public VersionNegotiationResponseAdvice(RequestScopedVersionContext requestScopedContext) {
+        this.requestScopedContext = requestScopedContext;
+        this.converter = new WrapperVersionConverter();
+    }
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        Class<?> bodyType = returnType.getParameterType();
+        if (HttpEntity.class.isAssignableFrom(bodyType)) {
+            bodyType = ResolvableType.forMethodParameter(returnType).as(HttpEntity.class).resolveGeneric(0);
+        }
+        return bodyType != null && converter.isWrapper(bodyType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request,
+                                  @NonNull ServerHttpResponse response) {
+        if (body == null || !requestScopedContext.isResponseNegotiated()) {
+            return body;
+        }
+        return converter.convert(body, requestScopedContext.getResponseContext(),
+            requestScopedContext.getResponseVersion());
+    }
+}
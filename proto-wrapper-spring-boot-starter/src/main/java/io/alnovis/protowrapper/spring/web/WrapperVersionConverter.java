@@ -0,0 +1,119 @@
+package io.alnovis.protowrapper.spring.web;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Converts generated wrappers to another protocol version with {@code asVersion(VersionContext)}.
+ *
+ * <p>The starter does not know the generated types, so the {@code getWrapperVersionId()} and
+ * {@code asVersion(VersionContext)} methods are looked up once per wrapper class and cached as
+ * method handles. Every later conversion is a direct call into the generated
+ * {@code asVersion}, without serialization round-trips through the target class.
+ *
+ * <p>Objects that are not generated wrappers are returned unchanged.
+ *
+ * @since 2.4.0
+ */
+public final class WrapperVersionConverter {
+
+    private static final MethodType VERSION_ID_TYPE = MethodType.methodType(String.class, Object.class);
+    private static final MethodType AS_VERSION_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+
+    private static final ClassValue<Adapter> ADAPTERS = new ClassValue<>() {
+        @Override
+        protected Adapter computeValue(Class<?> type) {
+            return Adapter.resolve(type);
+        }
+    };
+
+    /**
+     * Converts a wrapper to the target version.
+     *
+     * @param body object to convert, may be null
+     * @param targetContext generated VersionContext of the target version
+     * @param targetVersion target version identifier
+     * @return converted wrapper, or {@code body} if it is not a wrapper or already in the target version
+     */
+    public Object convert(Object body, Object targetContext, String targetVersion) {
+        if (body == null || targetContext == null) {
+            return body;
+        }
+        Adapter adapter = ADAPTERS.get(body.getClass());
+        if (adapter == Adapter.NONE || !adapter.contextType.isInstance(targetContext)) {
+            return body;
+        }
+        try {
+            if (targetVersion != null && targetVersion.equals((String) adapter.versionId.invokeExact(body))) {
+                return body;
+            }
+            return (Object) adapter.asVersion.invokeExact(body, targetContext);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to convert " + body.getClass().getName()
+                + " to version " + targetVersion, e);
+        }
+    }
+
+    /**
+     * Checks if a class is a generated wrapper supported by this converter.
+     *
+     * @param type class to check
+     * @return true if instances can be converted
+     */
+    public boolean isWrapper(Class<?> type) {
+        return ADAPTERS.get(type) != Adapter.NONE;
+    }
+
+    private static final class Adapter {
+
+        static final Adapter NONE = new Adapter(null, null, null);
+
+        final Class<?> contextType;
+        final MethodHandle versionId;
+        final MethodHandle asVersion;
+
+        private Adapter(Class<?> contextType, MethodHandle versionId, MethodHandle asVersion) {
+            this.contextType = contextType;
+            this.versionId = versionId;
+            this.asVersion = asVersion;
+        }
+
+        static Adapter resolve(Class<?> type) {
+            if (!Modifier.isPublic(type.getModifiers())) {
+                return NONE;
+            }
+            try {
+                Method versionIdMethod = type.getMethod("getWrapperVersionId");
+                if (versionIdMethod.getReturnType() != String.class) {
+                    return NONE;
+                }
+                for (Method method : type.getMethods()) {
+                    if (!method.getName().equals("asVersion") || method.getParameterCount() != 1 || method.isBridge()) {
+                        continue;
+                    }
+                    Class<?> parameterType = method.getParameterTypes()[0];
+                    // asVersion(Class) and asVersion(String) are the other overloads
+                    if (parameterType.isInterface()) {
+                        // Resolve against the wrapper class itself: the declaring class may be non-public
+                        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                        MethodHandle versionId = lookup.findVirtual(type, "getWrapperVersionId",
+                            MethodType.methodType(String.class));
+                        MethodHandle asVersion = lookup.findVirtual(type, "asVersion",
+                            MethodType.methodType(method.getReturnType(), parameterType));
+                        return new Adapter(parameterType,
+                            versionId.asType(VERSION_ID_TYPE),
+                            asVersion.asType(AS_VERSION_TYPE));
+                    }
+                }
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // Not a generated wrapper
+            }
+            return NONE;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.alnovis.protowrapper.spring.context;
+
+import org.junit.jupiter.api.Test;
+import io.alnovis.protowrapper.runtime.ContextRegistry;
+import io.alnovis.protowrapper.spring.mock.api.VersionContextRegistry;
+import io.alnovis.protowrapper.spring.mock.v1.VersionContextV1;
+import io.alnovis.protowrapper.spring.mock.v2.VersionContextV2;
+import io.alnovis.protowrapper.spring.web.VersionNotSupportedException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegistryVersionContextProviderTest {
+
+    private static final String BASE_PACKAGE = "io.alnovis.protowrapper.spring.mock";
+
+    private final RegistryVersionContextProvider provider =
+        new RegistryVersionContextProvider(new VersionContextRegistry());
+
+    @Test
+    void constructor_shouldTakeVersionsFromRegistry() {
+        assertEquals(List.of("v1", "v2"), provider.getSupportedVersions());
+        assertEquals("v2", provider.getDefaultVersion());
+    }
+
+    @Test
+    void getContext_shouldReturnCorrectVersionContext() {
+        assertInstanceOf(VersionContextV1.class, provider.getContext("v1"));
+        assertInstanceOf(VersionContextV2.class, provider.getContext("v2"));
+    }
+
+    @Test
+    void getContext_shouldThrowForUnsupportedVersion() {
+        VersionNotSupportedException exception = assertThrows(VersionNotSupportedException.class, () ->
+            provider.getContext("v99"));
+
+        assertEquals("v99", exception.getRequestedVersion());
+    }
+
+    @Test
+    void findContext_shouldReturnEmptyForNullOrUnsupportedVersion() {
+        assertEquals(Optional.empty(), provider.findContext(null));
+        assertEquals(Optional.empty(), provider.findContext("v99"));
+        assertTrue(provider.findContext("v1").isPresent());
+    }
+
+    @Test
+    void getDefaultContext_shouldReturnDefaultVersionContext() {
+        assertInstanceOf(VersionContextV2.class, provider.getDefaultContext());
+    }
+
+    @Test
+    void isSupported_shouldDelegateToRegistry() {
+        assertTrue(provider.isSupported("v1"));
+        assertFalse(provider.isSupported("v3"));
+        assertFalse(provider.isSupported(null));
+    }
+
+    @Test
+    void findRegistry_shouldDiscoverRegistryViaServiceLoader() {
+        Optional<ContextRegistry<?>> registry = RegistryVersionContextProvider.findRegistry(BASE_PACKAGE);
+
+        assertTrue(registry.isPresent());
+        assertInstanceOf(VersionContextRegistry.class, registry.get());
+    }
+
+    @Test
+    void findRegistry_shouldReturnEmptyForUnknownPackage() {
+        assertTrue(RegistryVersionContextProvider.findRegistry("com.nonexistent").isEmpty());
+    }
+}
@@ -0,0 +1,127 @@
+package io.alnovis.protowrapper.spring.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import io.alnovis.protowrapper.spring.metrics.ProtoWrapperMetrics.FallbackReason;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerProtoWrapperMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private MicrometerProtoWrapperMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MicrometerProtoWrapperMetrics(registry, List.of("v1", "v2"), List.of("Order"), false);
+    }
+
+    @Test
+    void constructor_shouldPreRegisterMetersForVersionsAndMessageTypes() {
+        assertNotNull(registry.find(MicrometerProtoWrapperMetrics.REQUESTS).tag("version", "v1").counter());
+        assertNotNull(registry.find(MicrometerProtoWrapperMetrics.REQUESTS).tag("version", "v2").counter());
+        assertNotNull(registry.find(MicrometerProtoWrapperMetrics.FALLBACKS).tag("reason", "missing").counter());
+        assertNotNull(registry.find(MicrometerProtoWrapperMetrics.FALLBACKS).tag("reason", "unsupported").counter());
+        assertNotNull(registry.find(MicrometerProtoWrapperMetrics.REJECTIONS).counter());
+        assertNotNull(registry.find(MicrometerProtoWrapperMetrics.PARSE).tag("message", "Order").timer());
+        assertNotNull(registry.find(MicrometerProtoWrapperMetrics.SERIALIZE).tag("message", "Order").timer());
+    }
+
+    @Test
+    void constructor_shouldUseLocaleIndependentReasonTags() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            SimpleMeterRegistry turkishRegistry = new SimpleMeterRegistry();
+            new MicrometerProtoWrapperMetrics(turkishRegistry, List.of("v1"), List.of(), false);
+
+            assertNotNull(turkishRegistry.find(MicrometerProtoWrapperMetrics.FALLBACKS).tag("reason", "missing").counter());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void recordRequest_shouldIncrementVersionCounter() {
+        metrics.recordRequest("v2");
+        metrics.recordRequest("v2");
+        metrics.recordRequest("v1");
+
+        assertEquals(2.0, registry.get(MicrometerProtoWrapperMetrics.REQUESTS).tag("version", "v2").counter().count());
+        assertEquals(1.0, registry.get(MicrometerProtoWrapperMetrics.REQUESTS).tag("version", "v1").counter().count());
+    }
+
+    @Test
+    void recordRequest_shouldRegisterUnknownVersionOnFirstUse() {
+        metrics.recordRequest("v3");
+
+        assertEquals(1.0, registry.get(MicrometerProtoWrapperMetrics.REQUESTS).tag("version", "v3").counter().count());
+    }
+
+    @Test
+    void recordRequest_shouldIgnoreNullVersion() {
+        assertDoesNotThrow(() -> metrics.recordRequest(null));
+    }
+
+    @Test
+    void recordFallback_shouldIncrementReasonCounter() {
+        metrics.recordFallback(FallbackReason.UNSUPPORTED);
+
+        assertEquals(1.0, registry.get(MicrometerProtoWrapperMetrics.FALLBACKS).tag("reason", "unsupported").counter().count());
+        assertEquals(0.0, registry.get(MicrometerProtoWrapperMetrics.FALLBACKS).tag("reason", "missing").counter().count());
+    }
+
+    @Test
+    void recordRejection_shouldIncrementCounter() {
+        metrics.recordRejection();
+
+        assertEquals(1.0, registry.get(MicrometerProtoWrapperMetrics.REJECTIONS).counter().count());
+    }
+
+    @Test
+    void recordParse_shouldRecordLatencyAndPayloadSize() {
+        metrics.recordParse("Order", TimeUnit.MILLISECONDS.toNanos(5), 128);
+
+        Timer timer = registry.get(MicrometerProtoWrapperMetrics.PARSE).tag("message", "Order").timer();
+        DistributionSummary size = registry.get(MicrometerProtoWrapperMetrics.PAYLOAD_SIZE)
+            .tag("message", "Order").tag("operation", "parse").summary();
+
+        assertEquals(1, timer.count());
+        assertEquals(5.0, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(128.0, size.totalAmount());
+    }
+
+    @Test
+    void recordSerialize_shouldRegisterMessageTypeOnFirstUse() {
+        metrics.recordSerialize("Customer", 1_000, 64);
+
+        Timer timer = registry.get(MicrometerProtoWrapperMetrics.SERIALIZE).tag("message", "Customer").timer();
+        DistributionSummary size = registry.get(MicrometerProtoWrapperMetrics.PAYLOAD_SIZE)
+            .tag("message", "Customer").tag("operation", "serialize").summary();
+
+        assertEquals(1, timer.count());
+        assertEquals(64.0, size.totalAmount());
+    }
+
+    @Test
+    void noop_shouldDiscardAllMeasurements() {
+        ProtoWrapperMetrics noop = ProtoWrapperMetrics.noop();
+
+        assertDoesNotThrow(() -> {
+            noop.recordRequest("v1");
+            noop.recordFallback(FallbackReason.MISSING);
+            noop.recordRejection();
+            noop.recordParse("Order", 1, 1);
+            noop.recordSerialize("Order", 1, 1);
+        });
+        assertSame(noop, ProtoWrapperMetrics.noop());
+    }
+}
@@ -0,0 +1,47 @@
+package io.alnovis.protowrapper.spring.mock.api;
+
+import io.alnovis.protowrapper.runtime.ContextRegistry;
+import io.alnovis.protowrapper.spring.mock.v1.VersionContextV1;
+import io.alnovis.protowrapper.spring.mock.v2.VersionContextV2;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mock generated VersionContextRegistry used in tests.
+ */
+public final class VersionContextRegistry implements ContextRegistry<Object> {
+
+    private static final VersionContextV1 V1 = new VersionContextV1();
+    private static final VersionContextV2 V2 = new VersionContextV2();
+
+    @Override
+    public String getApiPackage() {
+        return "io.alnovis.protowrapper.spring.mock.api";
+    }
+
+    @Override
+    public List<String> supportedVersions() {
+        return List.of("v1", "v2");
+    }
+
+    @Override
+    public String defaultVersion() {
+        return "v2";
+    }
+
+    @Override
+    public Optional<Object> find(String versionId) {
+        if (versionId == null) {
+            return Optional.empty();
+        }
+        switch (versionId) {
+            case "v1":
+                return Optional.of(V1);
+            case "v2":
+                return Optional.of(V2);
+            default:
+                return Optional.empty();
+        }
+    }
+}
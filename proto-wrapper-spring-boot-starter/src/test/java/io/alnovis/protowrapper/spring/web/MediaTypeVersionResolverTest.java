@@ -0,0 +1,58 @@
+package io.alnovis.protowrapper.spring.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MediaTypeVersionResolverTest {
+
+    private final MediaTypeVersionResolver resolver =
+        new MediaTypeVersionResolver("version", List.of("v1", "v2", "v10"));
+
+    @Test
+    void resolve_shouldReadVersionParameter() {
+        assertEquals("v2", resolver.resolve("application/x-protobuf;version=v2"));
+        assertEquals("v1", resolver.resolve("application/x-protobuf; version=v1"));
+        assertEquals("v10", resolver.resolve("application/x-protobuf;charset=utf-8;version=v10"));
+    }
+
+    @Test
+    void resolve_shouldReturnCanonicalInstance() {
+        String headerValue = "application/x-protobuf;version=" + new String("v2");
+        assertSame(resolver.versionAt(1), resolver.resolve(headerValue));
+    }
+
+    @Test
+    void resolve_shouldHandleQuotesWhitespaceAndCase() {
+        assertEquals("v1", resolver.resolve("application/x-protobuf;version=\"v1\""));
+        assertEquals("v2", resolver.resolve("application/x-protobuf ; Version = v2 ; q=0.9"));
+    }
+
+    @Test
+    void resolve_shouldUseFirstMediaRangeWithParameter() {
+        assertEquals("v1", resolver.resolve("application/json, application/x-protobuf;version=v1, */*;version=v2"));
+    }
+
+    @Test
+    void resolve_shouldNotMatchVersionPrefix() {
+        assertEquals(MediaTypeVersionResolver.UNSUPPORTED, resolver.indexOf("application/x-protobuf;version=v1-beta"));
+        assertEquals(MediaTypeVersionResolver.UNSUPPORTED, resolver.indexOf("application/x-protobuf;version=v"));
+    }
+
+    @Test
+    void indexOf_shouldDistinguishMissingAndUnsupported() {
+        assertEquals(MediaTypeVersionResolver.NOT_PRESENT, resolver.indexOf(null));
+        assertEquals(MediaTypeVersionResolver.NOT_PRESENT, resolver.indexOf("application/x-protobuf"));
+        assertEquals(MediaTypeVersionResolver.NOT_PRESENT, resolver.indexOf("application/x-protobuf;versions=v1"));
+        assertEquals(MediaTypeVersionResolver.NOT_PRESENT, resolver.indexOf("text/plain;name=\"a;version=v1\""));
+        assertEquals(MediaTypeVersionResolver.UNSUPPORTED, resolver.indexOf("application/x-protobuf;version=v99"));
+        assertEquals(1, resolver.indexOf("application/x-protobuf;version=v2"));
+    }
+
+    @Test
+    void constructor_shouldRejectEmptyParameterName() {
+        assertThrows(IllegalArgumentException.class, () -> new MediaTypeVersionResolver("", List.of("v1")));
+    }
+}
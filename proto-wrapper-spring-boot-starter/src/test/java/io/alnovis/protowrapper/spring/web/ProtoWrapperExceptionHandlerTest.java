@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import io.alnovis.protowrapper.spring.metrics.MicrometerProtoWrapperMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.util.Arrays;
 import java.util.List;
@@ -89,4 +91,15 @@ class ProtoWrapperExceptionHandlerTest {
 
         assertThrows(IllegalStateException.class, () -> handler.handleIllegalState(ex));
     }
+
+    @Test
+    void handleVersionNotSupported_shouldRecordRejection() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        handler = new ProtoWrapperExceptionHandler(
+            new MicrometerProtoWrapperMetrics(registry, List.of("v1", "v2"), List.of(), false));
+
+        handler.handleVersionNotSupported(new VersionNotSupportedException("v3", List.of("v1", "v2")));
+
+        assertEquals(1.0, registry.get(MicrometerProtoWrapperMetrics.REJECTIONS).counter().count());
+    }
 }
@@ -11,6 +11,8 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import io.alnovis.protowrapper.spring.ProtoWrapperProperties;
 import io.alnovis.protowrapper.spring.context.RequestScopedVersionContext;
 import io.alnovis.protowrapper.spring.context.VersionContextProvider;
+import io.alnovis.protowrapper.spring.metrics.MicrometerProtoWrapperMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.io.IOException;
 import java.util.List;
@@ -171,4 +173,107 @@ class VersionContextRequestFilterTest {
 
         assertEquals(1, filterChain.getCallCount());
     }
+
+    @Test
+    void doFilterInternal_shouldRecordResolvedVersionAndFallbacks() throws ServletException, IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        filter = new VersionContextRequestFilter(requestScopedContext, provider, properties,
+            new MicrometerProtoWrapperMetrics(registry, List.of("v1", "v2"), List.of(), false));
+
+        MockHttpServletRequest v2Request = new MockHttpServletRequest();
+        v2Request.addHeader("X-Protocol-Version", "v2");
+        filter.doFilterInternal(v2Request, new MockHttpServletResponse(), filterChain);
+
+        MockHttpServletRequest unsupportedRequest = new MockHttpServletRequest();
+        unsupportedRequest.addHeader("X-Protocol-Version", "v99");
+        filter.doFilterInternal(unsupportedRequest, new MockHttpServletResponse(), filterChain);
+
+        filter.doFilterInternal(new MockHttpServletRequest(), new MockHttpServletResponse(), filterChain);
+
+        assertEquals(1.0, registry.get(MicrometerProtoWrapperMetrics.REQUESTS).tag("version", "v2").counter().count());
+        assertEquals(2.0, registry.get(MicrometerProtoWrapperMetrics.REQUESTS).tag("version", "v1").counter().count());
+        assertEquals(1.0, registry.get(MicrometerProtoWrapperMetrics.FALLBACKS).tag("reason", "unsupported").counter().count());
+        assertEquals(1.0, registry.get(MicrometerProtoWrapperMetrics.FALLBACKS).tag("reason", "missing").counter().count());
+    }
+
+    private VersionContextRequestFilter negotiatingFilter() {
+        properties.getNegotiation().setEnabled(true);
+        return new VersionContextRequestFilter(requestScopedContext, provider, properties);
+    }
+
+    @Test
+    void doFilterInternal_shouldIgnoreMediaTypeWhenNegotiationDisabled() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Content-Type", "application/x-protobuf;version=v2");
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), filterChain);
+
+        assertEquals("v1", requestScopedContext.getVersion());
+    }
+
+    @Test
+    void doFilterInternal_shouldResolveVersionFromContentType() throws ServletException, IOException {
+        filter = negotiatingFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Content-Type", "application/x-protobuf;version=v2");
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), filterChain);
+
+        assertEquals("v2", requestScopedContext.getVersion());
+        assertSame(provider.getV2Context(), requestScopedContext.get());
+        assertEquals("v2", requestScopedContext.getResponseVersion());
+    }
+
+    @Test
+    void doFilterInternal_shouldPreferHeaderOverMediaType() throws ServletException, IOException {
+        filter = negotiatingFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Protocol-Version", "v1");
+        request.addHeader("Content-Type", "application/x-protobuf;version=v2");
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), filterChain);
+
+        assertEquals("v1", requestScopedContext.getVersion());
+    }
+
+    @Test
+    void doFilterInternal_shouldResolveResponseVersionFromAccept() throws ServletException, IOException {
+        filter = negotiatingFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Content-Type", "application/x-protobuf;version=v2");
+        request.addHeader("Accept", "application/x-protobuf;version=v1");
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), filterChain);
+
+        assertEquals("v2", requestScopedContext.getVersion());
+        assertEquals("v1", requestScopedContext.getResponseVersion());
+        assertSame(provider.getV1Context(), requestScopedContext.getResponseContext());
+    }
+
+    @Test
+    void doFilterInternal_shouldUseAcceptVersionWithoutContentType() throws ServletException, IOException {
+        filter = negotiatingFilter();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept", "application/x-protobuf;version=v2");
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), filterChain);
+
+        assertEquals("v2", requestScopedContext.getVersion());
+        assertEquals("v2", requestScopedContext.getResponseVersion());
+    }
+
+    @Test
+    void doFilterInternal_shouldRecordUnsupportedMediaTypeVersion() throws ServletException, IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        properties.getNegotiation().setEnabled(true);
+        filter = new VersionContextRequestFilter(requestScopedContext, provider, properties,
+            new MicrometerProtoWrapperMetrics(registry, List.of("v1", "v2"), List.of(), false));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Content-Type", "application/x-protobuf;version=v99");
+
+        filter.doFilterInternal(request, new MockHttpServletResponse(), filterChain);
+
+        assertEquals("v1", requestScopedContext.getVersion());
+        assertEquals(1.0, registry.get(MicrometerProtoWrapperMetrics.FALLBACKS).tag("reason", "unsupported").counter().count());
+    }
 }
@@ -0,0 +1,168 @@
+package io.alnovis.protowrapper.spring.web;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import io.alnovis.protowrapper.spring.ProtoWrapperProperties;
+import io.alnovis.protowrapper.spring.context.RequestScopedVersionContext;
+import io.alnovis.protowrapper.spring.web.WrapperVersionConverterTest.TestContext;
+import io.alnovis.protowrapper.spring.web.WrapperVersionConverterTest.TestMessage;
+import io.alnovis.protowrapper.spring.web.WrapperVersionConverterTest.TestMessageImpl;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionNegotiationResponseAdviceTest {
+
+    private RequestScopedVersionContext requestScopedContext;
+    private VersionNegotiationResponseAdvice advice;
+
+    /** Handler methods used as return types. */
+    static class TestController {
+        public TestMessage wrapper() {
+            return null;
+        }
+
+        public ResponseEntity<TestMessage> wrapperEntity() {
+            return null;
+        }
+
+        public String text() {
+            return null;
+        }
+
+        public ResponseEntity<String> textEntity() {
+            return null;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        requestScopedContext = new RequestScopedVersionContext();
+        advice = new VersionNegotiationResponseAdvice(requestScopedContext);
+    }
+
+    private static MethodParameter returnType(String methodName) throws NoSuchMethodException {
+        return new MethodParameter(TestController.class.getMethod(methodName), -1);
+    }
+
+    private static TestContext context(String version) {
+        return () -> version;
+    }
+
+    private Object write(Object body) throws NoSuchMethodException {
+        return advice.beforeBodyWrite(body, returnType("wrapper"), MediaType.APPLICATION_OCTET_STREAM,
+            StringHttpMessageConverter.class,
+            new ServletServerHttpRequest(new MockHttpServletRequest()),
+            new ServletServerHttpResponse(new MockHttpServletResponse()));
+    }
+
+    @Test
+    void supports_shouldAcceptWrapperReturnTypes() throws NoSuchMethodException {
+        assertTrue(advice.supports(returnType("wrapper"), StringHttpMessageConverter.class));
+        assertTrue(advice.supports(returnType("wrapperEntity"), StringHttpMessageConverter.class));
+    }
+
+    @Test
+    void supports_shouldRejectOtherReturnTypes() throws NoSuchMethodException {
+        assertFalse(advice.supports(returnType("text"), StringHttpMessageConverter.class));
+        assertFalse(advice.supports(returnType("textEntity"), StringHttpMessageConverter.class));
+    }
+
+    @Test
+    void beforeBodyWrite_shouldConvertToNegotiatedVersion() throws NoSuchMethodException {
+        requestScopedContext.set(context("v2"), "v2");
+        requestScopedContext.setResponse(context("v1"), "v1");
+        TestMessageImpl body = new TestMessageImpl("v2");
+
+        Object written = write(body);
+
+        assertEquals("v1", ((TestMessage) written).getWrapperVersionId());
+        assertEquals(1, body.conversions);
+    }
+
+    @Test
+    void beforeBodyWrite_shouldNotConvertWithoutNegotiatedVersion() throws NoSuchMethodException {
+        // Client sent no version in Accept: the body keeps its own version
+        requestScopedContext.set(context("v1"), "v1");
+        TestMessageImpl body = new TestMessageImpl("v2");
+
+        assertSame(body, write(body));
+        assertEquals(0, body.conversions);
+    }
+
+    @Test
+    void beforeBodyWrite_shouldNotConvertBodyAlreadyInResponseVersion() throws NoSuchMethodException {
+        requestScopedContext.set(context("v2"), "v2");
+        requestScopedContext.setResponse(context("v1"), "v1");
+        TestMessageImpl body = new TestMessageImpl("v1");
+
+        assertSame(body, write(body));
+        assertEquals(0, body.conversions);
+    }
+
+    /** Runs the negotiating filter for {@code request}, then writes {@code body} through the advice. */
+    private Object filterAndWrite(MockHttpServletRequest request, Object body)
+            throws ServletException, IOException, NoSuchMethodException {
+        ProtoWrapperProperties properties = new ProtoWrapperProperties();
+        properties.getNegotiation().setEnabled(true);
+        VersionContextRequestFilterTest.TestVersionContextProvider provider =
+            new VersionContextRequestFilterTest.TestVersionContextProvider() {
+                @Override
+                public Object getContext(String version) {
+                    return context(version);
+                }
+            };
+        new VersionContextRequestFilter(requestScopedContext, provider, properties)
+            .doFilterInternal(request, new MockHttpServletResponse(), (req, res) -> { });
+        return write(body);
+    }
+
+    @Test
+    void filterAndAdvice_shouldConvertToAcceptVersionWhenOnlyAcceptIsSent()
+            throws ServletException, IOException, NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/1");
+        request.addHeader("Accept", "application/x-protobuf;version=v1");
+        TestMessageImpl body = new TestMessageImpl("v2");
+
+        Object written = filterAndWrite(request, body);
+
+        assertEquals("v1", requestScopedContext.getVersion());
+        assertEquals("v1", ((TestMessage) written).getWrapperVersionId());
+        assertEquals(1, body.conversions);
+    }
+
+    @Test
+    void filterAndAdvice_shouldConvertStoredWrapperToRequestedVersion()
+            throws ServletException, IOException, NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/1");
+        request.addHeader("X-Protocol-Version", "v2");
+        request.addHeader("Accept", "application/x-protobuf;version=v2");
+        TestMessageImpl body = new TestMessageImpl("v1");
+
+        Object written = filterAndWrite(request, body);
+
+        assertEquals("v2", ((TestMessage) written).getWrapperVersionId());
+        assertEquals(1, body.conversions);
+    }
+
+    @Test
+    void filterAndAdvice_shouldNotConvertWithoutAcceptVersion()
+            throws ServletException, IOException, NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/1");
+        request.addHeader("X-Protocol-Version", "v1");
+        TestMessageImpl body = new TestMessageImpl("v2");
+
+        assertSame(body, filterAndWrite(request, body));
+        assertEquals(0, body.conversions);
+    }
+}
@@ -0,0 +1,96 @@
+package io.alnovis.protowrapper.spring.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WrapperVersionConverterTest {
+
+    private final WrapperVersionConverter converter = new WrapperVersionConverter();
+
+    /** Mimics the generated VersionContext interface. */
+    public interface TestContext {
+        String getVersionId();
+    }
+
+    /** Mimics a generated message interface. */
+    public interface TestMessage {
+        String getWrapperVersionId();
+
+        TestMessage asVersion(TestContext targetContext);
+
+        TestMessage asVersion(String targetVersionId);
+
+        <T extends TestMessage> T asVersion(Class<T> versionClass);
+    }
+
+    /** Mimics a generated impl class. */
+    public static class TestMessageImpl implements TestMessage {
+        private final String version;
+        int conversions;
+
+        public TestMessageImpl(String version) {
+            this.version = version;
+        }
+
+        @Override
+        public String getWrapperVersionId() {
+            return version;
+        }
+
+        @Override
+        public TestMessage asVersion(TestContext targetContext) {
+            conversions++;
+            return new TestMessageImpl(targetContext.getVersionId());
+        }
+
+        @Override
+        public TestMessage asVersion(String targetVersionId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends TestMessage> T asVersion(Class<T> versionClass) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static TestContext context(String version) {
+        return () -> version;
+    }
+
+    @Test
+    void convert_shouldCallAsVersionWithTargetContext() {
+        TestMessageImpl v2 = new TestMessageImpl("v2");
+
+        Object converted = converter.convert(v2, context("v1"), "v1");
+
+        assertEquals("v1", ((TestMessage) converted).getWrapperVersionId());
+        assertEquals(1, v2.conversions);
+    }
+
+    @Test
+    void convert_shouldSkipWrapperInTargetVersion() {
+        TestMessageImpl v1 = new TestMessageImpl("v1");
+
+        assertSame(v1, converter.convert(v1, context("v1"), "v1"));
+        assertEquals(0, v1.conversions);
+    }
+
+    @Test
+    void convert_shouldReturnNonWrappersUnchanged() {
+        String body = "plain";
+
+        assertSame(body, converter.convert(body, context("v1"), "v1"));
+        assertFalse(converter.isWrapper(String.class));
+        assertTrue(converter.isWrapper(TestMessageImpl.class));
+    }
+
+    @Test
+    void convert_shouldIgnoreContextOfOtherApi() {
+        TestMessageImpl v2 = new TestMessageImpl("v2");
+
+        assertSame(v2, converter.convert(v2, new Object(), "v1"));
+        assertNull(converter.convert(null, context("v1"), "v1"));
+    }
+}
@@ -0,0 +1,176 @@
+#!/usr/bin/env python3
+"""Compare two JMH JSON result files and report regressions.
+
+Usage:
+    python3 tools/compare-benchmarks.py [OPTIONS] BASELINE CURRENT
+    python3 tools/compare-benchmarks.py --normalize RESULTS
+
+Arguments:
+    BASELINE  JMH result file of the reference run
+              (e.g., proto-wrapper-benchmarks/baseline/wrapper-2.3.2.json)
+    CURRENT   JMH result file of the new run (java -jar benchmarks.jar -rf json -rff current.json)
+
+Options:
+    -t, --threshold PCT  Report changes above this percentage as regressions/improvements (default: 10)
+    -f, --fail           Exit with status 1 if any benchmark regressed
+    --normalize          Rewrite RESULTS in place without machine-specific fields
+                         (JVM path and arguments), before committing it as a baseline
+    -h, --help           Show this help message
+
+Benchmarks are matched by name and parameters. Scores are compared as-is, so both
+files must use the same mode and time unit (avgt, ns/op for the bundled benchmarks).
+
+A change above the threshold only counts as a regression (or improvement) when the
+difference also exceeds the combined JMH error intervals (scoreError of both runs);
+otherwise it is reported as "noise". Use several forks (the bundled benchmarks run 3)
+so that the error intervals are meaningful.
+"""
+
+import json
+import math
+import sys
+
+DEFAULT_THRESHOLD = 10.0
+
+# Modes where a higher score is better
+HIGHER_IS_BETTER = {"thrpt"}
+
+# Fields that depend on the machine the benchmarks ran on
+MACHINE_SPECIFIC_FIELDS = ("jvm", "jvmArgs")
+
+
+def load_results(path: str):
+    with open(path) as f:
+        data = json.load(f)
+
+    results = {}
+    for entry in data:
+        params = entry.get("params") or {}
+        key = entry["benchmark"]
+        if params:
+            key += "[" + ",".join(f"{k}={params[k]}" for k in sorted(params)) + "]"
+        metric = entry["primaryMetric"]
+        error = metric.get("scoreError")
+        # JMH writes "NaN" when there are too few iterations to estimate an error
+        if not isinstance(error, (int, float)) or math.isnan(error):
+            error = 0.0
+        results[key] = {
+            "mode": entry["mode"],
+            "score": metric["score"],
+            "error": error,
+            "unit": metric["scoreUnit"],
+        }
+    return results
+
+
+def normalize(path: str):
+    with open(path) as f:
+        data = json.load(f)
+    for entry in data:
+        for field in MACHINE_SPECIFIC_FIELDS:
+            entry.pop(field, None)
+    with open(path, "w") as f:
+        json.dump(data, f, indent=4)
+        f.write("\n")
+
+
+def shorten_name(key: str) -> str:
+    # io.alnovis.protowrapper.benchmarks.ParseBenchmark.toBytes[...] -> ParseBenchmark.toBytes[...]
+    name, sep, params = key.partition("[")
+    parts = name.split(".")
+    return ".".join(parts[-2:]) + sep + params
+
+
+def compare(baseline, current, threshold):
+    rows = []
+    for key in sorted(set(baseline) | set(current)):
+        base = baseline.get(key)
+        curr = current.get(key)
+        if base is None or curr is None:
+            rows.append((key, base, curr, None, "added" if base is None else "removed"))
+            continue
+        if base["score"] == 0:
+            rows.append((key, base, curr, None, "n/a"))
+            continue
+
+        change = (curr["score"] - base["score"]) / base["score"] * 100.0
+        if curr["mode"] in HIGHER_IS_BETTER:
+            change = -change
+        significant = abs(curr["score"] - base["score"]) > base["error"] + curr["error"]
+
+        if abs(change) <= threshold:
+            status = ""
+        elif not significant:
+            status = "noise"
+        elif change > 0:
+            status = "REGRESSION"
+        else:
+            status = "improved"
+        rows.append((key, base, curr, change, status))
+    return rows
+
+
+def print_rows(rows):
+    width = max((len(shorten_name(row[0])) for row in rows), default=10)
+    print(f"{'Benchmark':<{width}}  {'Baseline':>22}  {'Current':>22}  {'Change':>8}  Status")
+    for key, base, curr, change, status in rows:
+        base_score = format_score(base)
+        curr_score = format_score(curr)
+        change_str = f"{change:+.1f}%" if change is not None else "-"
+        print(f"{shorten_name(key):<{width}}  {base_score:>22}  {curr_score:>22}  {change_str:>8}  {status}")
+
+
+def format_score(result):
+    if result is None:
+        return "-"
+    return f"{result['score']:.3f} ± {result['error']:.3f}"
+
+
+def main():
+    args = sys.argv[1:]
+    threshold = DEFAULT_THRESHOLD
+    fail = False
+    normalize_only = False
+    files = []
+
+    i = 0
+    while i < len(args):
+        arg = args[i]
+        if arg in ("-h", "--help"):
+            print(__doc__)
+            sys.exit(0)
+        elif arg in ("-t", "--threshold"):
+            i += 1
+            threshold = float(args[i])
+        elif arg in ("-f", "--fail"):
+            fail = True
+        elif arg == "--normalize":
+            normalize_only = True
+        else:
+            files.append(arg)
+        i += 1
+
+    if normalize_only:
+        if len(files) != 1:
+            print(__doc__)
+            sys.exit(2)
+        normalize(files[0])
+        return
+
+    if len(files) != 2:
+        print(__doc__)
+        sys.exit(2)
+
+    rows = compare(load_results(files[0]), load_results(files[1]), threshold)
+    print_rows(rows)
+
+    regressions = sum(1 for row in rows if row[4] == "REGRESSION")
+    noise = sum(1 for row in rows if row[4] == "noise")
+    print(f"\n{len(rows)} benchmarks, {regressions} regression(s) above {threshold:g}% "
+          f"outside the error intervals, {noise} change(s) within noise")
+    if fail and regressions:
+        sys.exit(1)
+
+
+if __name__ == "__main__":
+    main()